@@ -0,0 +1,165 @@
+package barley.wire.wirebarley.benchmark;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import java.io.IOException;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.openjdk.jmh.annotations.AuxCounters;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * 플랫폼 스레드 / 가상 스레드 모드의 이체·잔액 조회 엔드포인트 비교
+ * 실행 중인 애플리케이션에 동시 요청을 보내 처리량과 응답 시간 분포를 측정합니다. 같은 DB 상태에서 모드만 바꿔 두 번 실행합니다.
+ * <pre>
+ * WIREBARLEY_VIRTUAL_THREADS=false ./gradlew bootRun   # 또는 true
+ * ./gradlew jmh --args="EndpointBenchmark -t 200 -p baseUrl=http://localhost:6060 -p pairs=10"
+ * </pre>
+ * 계좌 쌍(pairs)이 적을수록 같은 계좌 행 락을 기다리는 요청이 많아집니다.
+ * 5xx 응답은 측정을 중단하고, 그 외 2xx가 아닌 응답(한도 초과 등)은 Throughput 결과에 rejected로 따로 집계합니다.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode({ Mode.Throughput, Mode.SampleTime })
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 2, time = 10)
+@Measurement(iterations = 3, time = 20)
+@Threads(200)
+@Fork(1)
+public class EndpointBenchmark {
+
+    private static final String INITIAL_DEPOSIT = "100000000";
+    // 일일 이체 한도(300만원)에 걸리지 않도록 최소 금액으로 이체
+    private static final String TRANSFER_AMOUNT = "1";
+
+    @Param({ "http://localhost:6060" })
+    private String baseUrl;
+
+    @Param({ "10" })
+    private int pairs;
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+    private final AtomicInteger nextPair = new AtomicInteger();
+    private HttpClient client;
+    private List<long[]> accountPairs;
+
+    @Setup(Level.Trial)
+    public void setUp() throws Exception {
+        client = HttpClient.newBuilder()
+                .connectTimeout(Duration.ofSeconds(5))
+                .build();
+        String runId = Long.toString(System.currentTimeMillis(), 36);
+        accountPairs = new ArrayList<>(pairs);
+        for (int i = 0; i < pairs; i++) {
+            long from = createAccount("BENCH-" + runId + "-" + i + "-A");
+            long to = createAccount("BENCH-" + runId + "-" + i + "-B");
+            send(post("/api/v1/accounts/" + from + "/deposit", "{\"amount\":" + INITIAL_DEPOSIT + "}"));
+            accountPairs.add(new long[] { from, to });
+        }
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        client.close();
+    }
+
+    /**
+     * 벤치마크 스레드마다 계좌 쌍 하나를 배정 (스레드 수가 쌍보다 많으면 같은 쌍을 나눠 사용)
+     */
+    @State(Scope.Thread)
+    public static class AssignedPair {
+
+        private long fromAccountId;
+        private long toAccountId;
+
+        @Setup(Level.Trial)
+        public void assign(EndpointBenchmark benchmark) {
+            long[] pair = benchmark.accountPairs.get(
+                    benchmark.nextPair.getAndIncrement() % benchmark.accountPairs.size());
+            fromAccountId = pair[0];
+            toAccountId = pair[1];
+        }
+    }
+
+    /**
+     * 스레드별 응답 건수 (Throughput 결과에 보조 지표 ok/rejected로 출력)
+     * 빠르게 실패한 요청이 처리량에 섞이지 않도록 2xx와 그 외 응답을 나눠 셉니다.
+     */
+    @State(Scope.Thread)
+    @AuxCounters(AuxCounters.Type.EVENTS)
+    public static class Responses {
+
+        public long ok;
+        public long rejected;
+
+        @Setup(Level.Iteration)
+        public void reset() {
+            ok = 0;
+            rejected = 0;
+        }
+
+        int record(int statusCode) {
+            if (statusCode >= 200 && statusCode < 300) {
+                ok++;
+            } else {
+                rejected++;
+            }
+            return statusCode;
+        }
+    }
+
+    @Benchmark
+    public int transfer(AssignedPair pair, Responses responses) throws Exception {
+        return responses.record(send(post("/api/v1/transfers", "{\"fromAccountId\":" + pair.fromAccountId
+                + ",\"toAccountId\":" + pair.toAccountId + ",\"amount\":" + TRANSFER_AMOUNT + "}")));
+    }
+
+    @Benchmark
+    public int balance(AssignedPair pair, Responses responses) throws Exception {
+        URI uri = URI.create(baseUrl + "/api/v1/accounts/" + pair.fromAccountId + "/balance");
+        return responses.record(send(HttpRequest.newBuilder(uri).GET().build()));
+    }
+
+    private long createAccount(String accountNumber) throws Exception {
+        HttpResponse<String> response = client.send(post("/api/v1/accounts",
+                "{\"accountNumber\":\"" + accountNumber + "\",\"ownerName\":\"bench\"}"),
+                HttpResponse.BodyHandlers.ofString());
+        if (response.statusCode() != 201) {
+            throw new IllegalStateException("계좌 생성 실패: " + response.statusCode() + " " + response.body());
+        }
+        return objectMapper.readTree(response.body()).get("id").asLong();
+    }
+
+    private HttpRequest post(String path, String json) {
+        return HttpRequest.newBuilder(URI.create(baseUrl + path))
+                .header("Content-Type", "application/json")
+                .POST(HttpRequest.BodyPublishers.ofString(json))
+                .build();
+    }
+
+    private int send(HttpRequest request) throws IOException, InterruptedException {
+        HttpResponse<Void> response = client.send(request, HttpResponse.BodyHandlers.discarding());
+        if (response.statusCode() >= 500) {
+            throw new IllegalStateException("서버 오류: " + response.statusCode() + " " + request.uri());
+        }
+        return response.statusCode();
+    }
+}
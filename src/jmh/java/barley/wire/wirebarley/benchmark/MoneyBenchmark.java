@@ -0,0 +1,85 @@
+package barley.wire.wirebarley.benchmark;
+
+import barley.wire.wirebarley.common.constants.TransferConstants;
+import barley.wire.wirebarley.common.util.MoneyUtils;
+import barley.wire.wirebarley.domain.account.Currency;
+import barley.wire.wirebarley.domain.account.Money;
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+/**
+ * 송금 수수료·환전·한도 계산 비교 (MoneyUtils BigDecimal vs Money long)
+ * 할당량은 GC 프로파일러로 확인합니다: ./gradlew jmh --args="MoneyBenchmark -prof gc"
+ * (gc.alloc.rate.norm 이 연산당 할당 바이트)
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class MoneyBenchmark {
+
+    private static final BigDecimal DAILY_LIMIT = TransferConstants.DAILY_TRANSFER_LIMIT;
+    private static final Money DAILY_LIMIT_MONEY = Money.of(DAILY_LIMIT, Currency.KRW);
+
+    @Param({ "1234.56" })
+    private String amount;
+
+    @Param({ "1333.333333" })
+    private String rate;
+
+    private BigDecimal amountDecimal;
+    private BigDecimal rateDecimal;
+    private Money amountMoney;
+    private Money.Rate rateMoney;
+
+    @Setup
+    public void setUp() {
+        amountDecimal = new BigDecimal(amount);
+        rateDecimal = new BigDecimal(rate);
+        amountMoney = Money.of(amountDecimal, Currency.USD);
+        rateMoney = Money.Rate.of(rateDecimal);
+    }
+
+    @Benchmark
+    public void bigDecimal(Blackhole bh) {
+        BigDecimal transferFee = MoneyUtils.calculateTransferFee(amountDecimal, Currency.USD);
+        BigDecimal total = MoneyUtils.calculateTotalWithdraw(amountDecimal, transferFee, Currency.USD);
+        BigDecimal converted = MoneyUtils.scale(amountDecimal.multiply(rateDecimal), Currency.KRW);
+        BigDecimal exchangeFee = MoneyUtils.calculateExchangeFee(converted, Currency.KRW);
+        BigDecimal deposit = MoneyUtils.calculateFinalConverted(converted, exchangeFee, Currency.KRW);
+        BigDecimal totalInKRW = amountDecimal.multiply(rateDecimal).setScale(0, RoundingMode.UP);
+
+        bh.consume(total);
+        bh.consume(deposit);
+        bh.consume(totalInKRW.compareTo(DAILY_LIMIT) > 0);
+    }
+
+    @Benchmark
+    public void money(Blackhole bh) {
+        Money transferFee = amountMoney.multiply(TransferConstants.TRANSFER_FEE, RoundingMode.UP);
+        Money total = amountMoney.add(transferFee);
+        Money converted = amountMoney.convert(rateMoney, Currency.KRW, RoundingMode.HALF_UP);
+        Money exchangeFee = converted.multiply(TransferConstants.EXCHANGE_FEE, RoundingMode.UP);
+        Money deposit = converted.subtract(exchangeFee);
+        Money totalInKRW = amountMoney.convert(rateMoney, Currency.KRW, RoundingMode.UP);
+
+        bh.consume(total.minorUnits());
+        bh.consume(deposit.minorUnits());
+        bh.consume(totalInKRW.isGreaterThan(DAILY_LIMIT_MONEY));
+    }
+}
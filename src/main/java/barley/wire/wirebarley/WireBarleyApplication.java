@@ -2,8 +2,10 @@ package barley.wire.wirebarley;
 
 import org.springframework.boot.SpringApplication;
 import org.springframework.boot.autoconfigure.SpringBootApplication;
+import org.springframework.boot.context.properties.ConfigurationPropertiesScan;
 
 @SpringBootApplication
+@ConfigurationPropertiesScan
 public class WireBarleyApplication {
 
     public static void main(String[] args) {
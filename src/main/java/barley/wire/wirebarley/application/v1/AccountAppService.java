@@ -1,19 +1,26 @@
 package barley.wire.wirebarley.application.v1;
 
 import barley.wire.wirebarley.domain.account.Account;
+import barley.wire.wirebarley.domain.account.AccountBalance;
 import barley.wire.wirebarley.domain.transaction.Transaction;
+import barley.wire.wirebarley.domain.transaction.TransactionCursor;
 import barley.wire.wirebarley.domain.transaction.TransactionType;
 import barley.wire.wirebarley.common.event.TransactionEvent;
+import barley.wire.wirebarley.infrastructure.aop.OptimisticRetry;
+import barley.wire.wirebarley.infrastructure.config.BalanceProperties;
 import barley.wire.wirebarley.infrastructure.repository.TransactionRepository;
 import barley.wire.wirebarley.presentation.dto.request.CreateAccountRequest;
 import barley.wire.wirebarley.presentation.dto.response.AccountResponse;
 import barley.wire.wirebarley.presentation.dto.response.BalanceResponse;
+import barley.wire.wirebarley.presentation.dto.response.BalanceStripesResponse;
 import barley.wire.wirebarley.presentation.dto.response.TransactionListResponse;
 import barley.wire.wirebarley.presentation.dto.response.TransactionResponse;
+import barley.wire.wirebarley.presentation.dto.response.TransactionSliceResponse;
 import barley.wire.wirebarley.infrastructure.service.AccountService;
 import barley.wire.wirebarley.common.validator.AccountValidator;
 
 import java.math.BigDecimal;
+import java.util.List;
 
 import lombok.RequiredArgsConstructor;
 import org.springframework.context.ApplicationEventPublisher;
@@ -30,6 +37,7 @@ public class AccountAppService {
     private final TransactionRepository transactionRepository;
     private final AccountValidator accountValidator;
     private final ApplicationEventPublisher eventPublisher;
+    private final BalanceProperties balanceProperties;
 
     @Transactional
     public AccountResponse createAccount(CreateAccountRequest request) {
@@ -47,31 +55,64 @@ public class AccountAppService {
         accountService.delete(account);
     }
 
+    @OptimisticRetry
     @Transactional
     public BalanceResponse deposit(Long accountId, BigDecimal amount) {
         accountValidator.validateAmount(amount);
-        Account account = accountService.getAccountWithLock(accountId);
+        if (balanceProperties.isAtomicUpdate()) {
+            AccountBalance balance = accountService.credit(accountId, amount);
+            accountValidator.validateCurrencyScale(amount, balance.currency());
+            publishTransactionEvent(balance, TransactionType.DEPOSIT, amount);
+
+            return BalanceResponse.from(balance);
+        }
+
+        Account account = getAccountForUpdate(accountId);
+        accountValidator.validateCurrencyScale(amount, account.getCurrency());
 
         account.deposit(amount);
-        publishTransactionEvent(account, TransactionType.DEPOSIT, amount);
+        publishTransactionEvent(AccountBalance.from(account), TransactionType.DEPOSIT, amount);
 
         return BalanceResponse.from(account);
     }
 
+    @OptimisticRetry
     @Transactional
     public BalanceResponse withdraw(Long accountId, BigDecimal amount) {
         accountValidator.validateAmount(amount);
-        Account account = accountService.getAccountWithLock(accountId);
+        if (balanceProperties.isAtomicUpdate()) {
+            // 잔액 검증은 UPDATE 조건으로 대체, 한도 검증은 행 락 확보 이후 수행 (초과 시 롤백)
+            AccountBalance balance = accountService.debit(accountId, amount, "잔액이 부족합니다");
+            accountValidator.validateCurrencyScale(amount, balance.currency());
+            accountValidator.checkWithdrawLimit(balance.accountId(), balance.currency(), amount);
+            publishTransactionEvent(balance, TransactionType.WITHDRAW, amount);
+
+            return BalanceResponse.from(balance);
+        }
+
+        Account account = getAccountForUpdate(accountId);
 
+        accountValidator.validateCurrencyScale(amount, account.getCurrency());
         accountValidator.checkWithdrawLimit(account, amount);
         accountValidator.validateBalance(account, amount, "잔액이 부족합니다");
 
         account.withdraw(amount);
-        publishTransactionEvent(account, TransactionType.WITHDRAW, amount);
+        publishTransactionEvent(AccountBalance.from(account), TransactionType.WITHDRAW, amount);
 
         return BalanceResponse.from(account);
     }
 
+    /**
+     * 핫 계좌의 하위 잔액 행 개수 변경 (운영자용, 0이면 일반 계좌로 전환)
+     * 계좌 락을 획득한 뒤 기존 하위 잔액을 계좌 잔액으로 통합하고 행을 다시 생성합니다.
+     */
+    @Transactional
+    public BalanceStripesResponse changeBalanceStripes(Long accountId, int stripes) {
+        Account account = accountService.changeBalanceStripes(accountId, stripes);
+
+        return BalanceStripesResponse.from(account);
+    }
+
     public BalanceResponse getBalance(Long accountId) {
         Account account = accountService.getAccount(accountId);
 
@@ -95,14 +136,36 @@ public class AccountAppService {
         return TransactionListResponse.from(dtoPage);
     }
 
-    private void publishTransactionEvent(Account account, TransactionType type, BigDecimal amount) {
+    /**
+     * 거래 내역 커서 조회 (최신순)
+     * 전체 건수를 세지 않고 size + 1건만 조회하여 다음 목록 존재 여부를 판단합니다.
+     */
+    public TransactionSliceResponse getTransactionSlice(Long accountId, String cursor, int size) {
+        accountValidator.validateAccountExistence(accountId);
+
+        int limit = Math.min(Math.max(size, 1), TransactionSliceResponse.MAX_SIZE);
+        List<Transaction> rows = transactionRepository.findSlice(accountId, TransactionCursor.decode(cursor),
+                limit + 1);
+
+        return TransactionSliceResponse.of(rows, limit);
+    }
+
+    // OPTIMISTIC 모드는 락 없이 조회하고 커밋 시 @Version으로 충돌을 감지
+    private Account getAccountForUpdate(Long accountId) {
+        if (balanceProperties.isOptimistic()) {
+            return accountService.getAccount(accountId);
+        }
+        return accountService.getAccountWithLock(accountId);
+    }
+
+    private void publishTransactionEvent(AccountBalance balance, TransactionType type, BigDecimal amount) {
         TransactionEvent event = TransactionEvent.builder()
-                .accountId(account.getId())
+                .accountId(balance.accountId())
                 .type(type)
                 .amount(amount)
                 .fee(BigDecimal.ZERO)
-                .currency(account.getCurrency())
-                .balanceSnapshot(account.getBalance())
+                .currency(balance.currency())
+                .balanceSnapshot(balance.balance())
                 .build();
 
         eventPublisher.publishEvent(event);
@@ -0,0 +1,130 @@
+package barley.wire.wirebarley.application.v1;
+
+import barley.wire.wirebarley.common.util.TimeUtil;
+import barley.wire.wirebarley.common.validator.AccountValidator;
+import barley.wire.wirebarley.domain.transaction.Transaction;
+import barley.wire.wirebarley.domain.transaction.TransactionType;
+import barley.wire.wirebarley.infrastructure.repository.TransactionRepository;
+import barley.wire.wirebarley.presentation.dto.request.TransactionExportFormat;
+import barley.wire.wirebarley.presentation.dto.response.TransactionResponse;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.persistence.EntityManager;
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.UncheckedIOException;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.Iterator;
+import java.util.stream.Stream;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+
+/**
+ * 거래 내역 내보내기 (NDJSON / CSV 스트리밍)
+ * 스트리밍 조회로 읽은 거래 내역을 한 건씩 응답에 기록하므로 내역 규모와 관계없이 메모리 사용량이 일정합니다.
+ */
+@Service
+@Slf4j
+public class TransactionExportAppService {
+
+    private static final String CSV_HEADER = "id,type,amount,currency,fee,balanceSnapshot,relatedAccountId,createdAt";
+    private static final int WRITE_BUFFER_SIZE = 64 * 1024;
+
+    private final TransactionRepository transactionRepository;
+    private final AccountValidator accountValidator;
+    private final EntityManager entityManager;
+    private final ObjectMapper objectMapper;
+    private final TransactionTemplate readOnlyTransactionTemplate;
+
+    public TransactionExportAppService(TransactionRepository transactionRepository, AccountValidator accountValidator,
+            EntityManager entityManager, ObjectMapper objectMapper, PlatformTransactionManager transactionManager) {
+        this.transactionRepository = transactionRepository;
+        this.accountValidator = accountValidator;
+        this.entityManager = entityManager;
+        this.objectMapper = objectMapper;
+        this.readOnlyTransactionTemplate = new TransactionTemplate(transactionManager);
+        this.readOnlyTransactionTemplate.setReadOnly(true);
+    }
+
+    /**
+     * 계좌 존재 여부를 먼저 확인한 뒤, 응답 스트림에 기록할 작업을 반환
+     * 실제 조회는 비동기 응답 스레드에서 별도의 읽기 전용 트랜잭션으로 실행됩니다.
+     *
+     * @param from 조회 시작일 (포함, null이면 제한 없음)
+     * @param to   조회 종료일 (포함, null이면 오늘)
+     * @param type 거래 유형 (null이면 전체)
+     */
+    public StreamingResponseBody export(Long accountId, LocalDate from, LocalDate to, TransactionType type,
+            TransactionExportFormat format) {
+        accountValidator.validateAccountExistence(accountId);
+
+        LocalDateTime fromDateTime = (from != null ? from : LocalDate.EPOCH).atStartOfDay();
+        LocalDateTime toDateTime = (to != null ? to : TimeUtil.nowDate()).plusDays(1).atStartOfDay();
+
+        return outputStream -> readOnlyTransactionTemplate.executeWithoutResult(status -> {
+            try (Stream<Transaction> transactions = transactionRepository.streamForExport(accountId, fromDateTime,
+                    toDateTime, type)) {
+                long count = write(transactions, format, outputStream);
+                log.info("거래 내역 내보내기 완료 - accountId: {}, format: {}, count: {}", accountId, format, count);
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+        });
+    }
+
+    long write(Stream<Transaction> transactions, TransactionExportFormat format, OutputStream outputStream)
+            throws IOException {
+        Writer writer = new BufferedWriter(new OutputStreamWriter(outputStream, StandardCharsets.UTF_8),
+                WRITE_BUFFER_SIZE);
+        if (format == TransactionExportFormat.CSV) {
+            writer.write(CSV_HEADER);
+            writer.write('\n');
+        }
+
+        long count = 0;
+        Iterator<Transaction> iterator = transactions.iterator();
+        while (iterator.hasNext()) {
+            Transaction transaction = iterator.next();
+            TransactionResponse row = TransactionResponse.from(transaction);
+            // 기록한 엔티티는 영속성 컨텍스트에서 제거하여 메모리 사용량을 일정하게 유지
+            entityManager.detach(transaction);
+
+            if (format == TransactionExportFormat.CSV) {
+                writeCsvRow(writer, row);
+            } else {
+                writer.write(objectMapper.writeValueAsString(row));
+            }
+            writer.write('\n');
+            count++;
+        }
+
+        writer.flush();
+        return count;
+    }
+
+    // 모든 컬럼이 숫자/열거형/일시이므로 따옴표 처리가 필요 없음
+    private void writeCsvRow(Writer writer, TransactionResponse row) throws IOException {
+        writer.write(String.valueOf(row.id()));
+        writer.write(',');
+        writer.write(row.type().name());
+        writer.write(',');
+        writer.write(row.amount().toPlainString());
+        writer.write(',');
+        writer.write(row.currency().name());
+        writer.write(',');
+        writer.write(row.fee().toPlainString());
+        writer.write(',');
+        writer.write(row.balanceSnapshot() != null ? row.balanceSnapshot().toPlainString() : "");
+        writer.write(',');
+        writer.write(row.relatedAccountId() != null ? String.valueOf(row.relatedAccountId()) : "");
+        writer.write(',');
+        writer.write(String.valueOf(row.createdAt()));
+    }
+}
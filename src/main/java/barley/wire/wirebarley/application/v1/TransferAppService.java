@@ -1,18 +1,35 @@
 package barley.wire.wirebarley.application.v1;
 
-import static barley.wire.wirebarley.common.constants.TransferConstants.TRANSFER_FEE_RATE;
+import static barley.wire.wirebarley.common.constants.TransferConstants.TRANSFER_FEE;
 
-import barley.wire.wirebarley.common.util.MoneyUtils;
+import barley.wire.wirebarley.common.event.TransactionBatchEvent;
+import barley.wire.wirebarley.common.exception.AccountNotFoundException;
+import barley.wire.wirebarley.common.exception.BaseException;
 import barley.wire.wirebarley.domain.account.Account;
+import barley.wire.wirebarley.domain.account.AccountBalance;
+import barley.wire.wirebarley.domain.account.Money;
 import barley.wire.wirebarley.domain.transaction.TransactionType;
 import barley.wire.wirebarley.common.event.TransactionEvent;
+import barley.wire.wirebarley.infrastructure.aop.OptimisticRetry;
+import barley.wire.wirebarley.infrastructure.config.BalanceProperties;
 import barley.wire.wirebarley.infrastructure.service.AccountService;
+import barley.wire.wirebarley.infrastructure.service.DailyLimitService;
 import org.springframework.data.util.Pair;
+import barley.wire.wirebarley.presentation.dto.request.BatchTransferRequest;
 import barley.wire.wirebarley.presentation.dto.request.TransferRequest;
+import barley.wire.wirebarley.presentation.dto.response.BatchTransferItemResponse;
+import barley.wire.wirebarley.presentation.dto.response.BatchTransferResponse;
 import barley.wire.wirebarley.presentation.dto.response.TransferResponse;
 import barley.wire.wirebarley.common.validator.AccountValidator;
 
 import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeSet;
 
 import lombok.RequiredArgsConstructor;
 import org.springframework.context.ApplicationEventPublisher;
@@ -26,59 +43,200 @@ public class TransferAppService {
     private final AccountService accountService;
     private final AccountValidator accountValidator;
     private final ApplicationEventPublisher eventPublisher;
+    private final BalanceProperties balanceProperties;
+    private final DailyLimitService dailyLimitService;
 
+    @OptimisticRetry
     @Transactional
     public TransferResponse transfer(TransferRequest request) {
         BigDecimal amount = request.amount();
         accountValidator.validateAmount(amount);
         accountValidator.validateTransfer(request.fromAccountId(), request.toAccountId());
 
-        // 데드락 방지를 위해 일관된 순서로 락 획득
-        Pair<Account, Account> accountPair = accountService.getAccountsWithLockOrdered(request.fromAccountId(),
-                request.toAccountId());
+        if (balanceProperties.isAtomicUpdate()) {
+            return transferAtomically(request, amount);
+        }
+
+        // 데드락 방지를 위해 일관된 순서로 락 획득 (OPTIMISTIC 모드는 락 없이 조회 후 @Version으로 충돌 감지)
+        Pair<Account, Account> accountPair = balanceProperties.isOptimistic()
+                ? accountService.getAccounts(request.fromAccountId(), request.toAccountId())
+                : accountService.getAccountsWithLockOrdered(request.fromAccountId(), request.toAccountId());
 
         Account fromAccount = accountPair.getFirst();
         Account toAccount = accountPair.getSecond();
 
         accountValidator.validateSameCurrency(fromAccount, toAccount);
+        accountValidator.validateCurrencyScale(amount, fromAccount.getCurrency());
         accountValidator.checkTransferLimit(fromAccount.getId(), amount);
 
-        BigDecimal fee = MoneyUtils.multiply(amount, TRANSFER_FEE_RATE, fromAccount.getCurrency());
-        BigDecimal totalDeduction = MoneyUtils.add(amount, fee, fromAccount.getCurrency());
+        Money principal = Money.of(amount, fromAccount.getCurrency());
+        Money transferFee = principal.multiply(TRANSFER_FEE, RoundingMode.UP);
+        BigDecimal fee = transferFee.toBigDecimal();
+        BigDecimal totalDeduction = principal.add(transferFee).toBigDecimal();
 
         accountValidator.validateBalance(fromAccount, totalDeduction, "이체를 위한 잔액이 부족합니다");
 
         fromAccount.withdraw(totalDeduction);
-        toAccount.deposit(amount);
+        // 스트라이프 계좌는 계좌 행 대신 하위 잔액 행에 입금
+        if (accountService.isStripeCredit(toAccount)) {
+            accountService.creditStripe(toAccount, amount, fromAccount.getId());
+        } else {
+            toAccount.deposit(amount);
+        }
 
         // 거래 이벤트 발행
-        publishTransferEvents(fromAccount, toAccount, amount, fee);
+        publishTransferEvents(AccountBalance.from(fromAccount), AccountBalance.from(toAccount), amount, fee);
+
+        return TransferResponse.of(fromAccount, toAccount, amount, fee);
+    }
+
+    /**
+     * 잔액 조건부 단일 UPDATE로 이체 (ATOMIC_UPDATE 모드)
+     * 통화 확인은 락 없이 조회하고, 잔액 검증은 UPDATE 조건으로 대체합니다.
+     */
+    private TransferResponse transferAtomically(TransferRequest request, BigDecimal amount) {
+        Pair<Account, Account> accountPair = accountService.getAccounts(request.fromAccountId(),
+                request.toAccountId());
+
+        Account fromAccount = accountPair.getFirst();
+        Account toAccount = accountPair.getSecond();
+
+        accountValidator.validateSameCurrency(fromAccount, toAccount);
+        accountValidator.validateCurrencyScale(amount, fromAccount.getCurrency());
+
+        Money principal = Money.of(amount, fromAccount.getCurrency());
+        Money transferFee = principal.multiply(TRANSFER_FEE, RoundingMode.UP);
+        BigDecimal fee = transferFee.toBigDecimal();
+        BigDecimal totalDeduction = principal.add(transferFee).toBigDecimal();
+
+        Pair<AccountBalance, AccountBalance> balancePair = accountService.transferAtomically(fromAccount.getId(),
+                toAccount.getId(), totalDeduction, amount, "이체를 위한 잔액이 부족합니다");
+
+        AccountBalance fromBalance = balancePair.getFirst();
+        AccountBalance toBalance = balancePair.getSecond();
+
+        // 행 락 확보 이후 한도 검증 (초과 시 롤백)
+        accountValidator.checkTransferLimit(fromBalance.accountId(), fromBalance.currency(), amount);
+
+        publishTransferEvents(fromBalance, toBalance, amount, fee);
+
+        return TransferResponse.of(fromBalance, toBalance, amount, fee);
+    }
+
+    /**
+     * 여러 건의 이체를 하나의 트랜잭션으로 처리 (정산 등 대량 지급용)
+     * 전체 계좌 ID 합집합을 오름차순으로 한 번에 락 획득한 뒤 요청 순서대로 적용하며,
+     * 실패한 건은 잔액을 변경하지 않고 건별 결과로 반환합니다.
+     * 거래 내역은 배치 이벤트로 모아 JDBC 배치로 저장합니다.
+     */
+    @Transactional
+    public BatchTransferResponse transferBatch(BatchTransferRequest request) {
+        List<TransferRequest> transfers = request.transfers();
+
+        Set<Long> accountIds = new TreeSet<>();
+        transfers.forEach(transfer -> {
+            accountIds.add(transfer.fromAccountId());
+            accountIds.add(transfer.toAccountId());
+        });
+        Map<Long, Account> accounts = accountService.getAccountsWithLockOrdered(accountIds);
+
+        // 일괄 처리 중 누적되는 출금 계좌별 오늘 이체 금액 (계좌당 1회만 조회)
+        Map<Long, BigDecimal> todayTransferred = new HashMap<>();
+        List<TransactionEvent> events = new ArrayList<>();
+        List<BatchTransferItemResponse> results = new ArrayList<>(transfers.size());
+
+        for (int index = 0; index < transfers.size(); index++) {
+            TransferRequest transfer = transfers.get(index);
+            try {
+                TransferResponse response = transferLocked(transfer, accounts, todayTransferred, events);
+                results.add(BatchTransferItemResponse.success(index, response));
+            } catch (BaseException e) {
+                results.add(BatchTransferItemResponse.failure(index, transfer, e));
+            }
+        }
+
+        if (!events.isEmpty()) {
+            eventPublisher.publishEvent(new TransactionBatchEvent(events));
+        }
+
+        return BatchTransferResponse.from(results);
+    }
+
+    // 락을 보유한 계좌로 단건 이체 적용 (검증 실패 시 잔액 변경 없이 예외)
+    private TransferResponse transferLocked(TransferRequest transfer, Map<Long, Account> accounts,
+            Map<Long, BigDecimal> todayTransferred, List<TransactionEvent> events) {
+        BigDecimal amount = transfer.amount();
+        accountValidator.validateAmount(amount);
+        accountValidator.validateTransfer(transfer.fromAccountId(), transfer.toAccountId());
+
+        Account fromAccount = getLockedAccount(accounts, transfer.fromAccountId());
+        Account toAccount = getLockedAccount(accounts, transfer.toAccountId());
+
+        accountValidator.validateSameCurrency(fromAccount, toAccount);
+        accountValidator.validateCurrencyScale(amount, fromAccount.getCurrency());
+
+        BigDecimal transferred = todayTransferred.computeIfAbsent(fromAccount.getId(),
+                accountId -> dailyLimitService.getTodayUsage(accountId, TransactionType.TRANSFER_OUT));
+        accountValidator.validateTransferLimit(fromAccount.getCurrency(), transferred.add(amount));
+
+        Money principal = Money.of(amount, fromAccount.getCurrency());
+        Money transferFee = principal.multiply(TRANSFER_FEE, RoundingMode.UP);
+        BigDecimal fee = transferFee.toBigDecimal();
+        BigDecimal totalDeduction = principal.add(transferFee).toBigDecimal();
+
+        accountValidator.validateBalance(fromAccount, totalDeduction, "이체를 위한 잔액이 부족합니다");
+
+        fromAccount.withdraw(totalDeduction);
+        if (accountService.isStripeCredit(toAccount)) {
+            accountService.creditStripe(toAccount, amount, fromAccount.getId());
+        } else {
+            toAccount.deposit(amount);
+        }
+
+        todayTransferred.put(fromAccount.getId(), transferred.add(amount));
+        events.addAll(buildTransferEvents(AccountBalance.from(fromAccount), AccountBalance.from(toAccount), amount,
+                fee));
 
         return TransferResponse.of(fromAccount, toAccount, amount, fee);
     }
 
-    private void publishTransferEvents(Account fromAccount, Account toAccount, BigDecimal amount, BigDecimal fee) {
+    private Account getLockedAccount(Map<Long, Account> accounts, Long accountId) {
+        Account account = accounts.get(accountId);
+        if (account == null) {
+            throw new AccountNotFoundException("계좌번호를 찾을 수 없습니다: " + accountId);
+        }
+        return account;
+    }
+
+    private void publishTransferEvents(AccountBalance fromBalance, AccountBalance toBalance, BigDecimal amount,
+            BigDecimal fee) {
+        // 출금/입금 거래 내역을 하나의 배치로 저장
+        eventPublisher.publishEvent(new TransactionBatchEvent(buildTransferEvents(fromBalance, toBalance, amount,
+                fee)));
+    }
+
+    private List<TransactionEvent> buildTransferEvents(AccountBalance fromBalance, AccountBalance toBalance,
+            BigDecimal amount, BigDecimal fee) {
         TransactionEvent outEvent = TransactionEvent.builder()
-                .accountId(fromAccount.getId())
+                .accountId(fromBalance.accountId())
                 .type(TransactionType.TRANSFER_OUT)
                 .amount(amount)
                 .fee(fee)
-                .currency(fromAccount.getCurrency())
-                .balanceSnapshot(fromAccount.getBalance())
-                .relatedAccountId(toAccount.getId())
+                .currency(fromBalance.currency())
+                .balanceSnapshot(fromBalance.balance())
+                .relatedAccountId(toBalance.accountId())
                 .build();
 
         TransactionEvent inEvent = TransactionEvent.builder()
-                .accountId(toAccount.getId())
+                .accountId(toBalance.accountId())
                 .type(TransactionType.TRANSFER_IN)
                 .amount(amount)
                 .fee(BigDecimal.ZERO)
-                .currency(toAccount.getCurrency())
-                .balanceSnapshot(toAccount.getBalance())
-                .relatedAccountId(fromAccount.getId())
+                .currency(toBalance.currency())
+                .balanceSnapshot(toBalance.balance())
+                .relatedAccountId(fromBalance.accountId())
                 .build();
 
-        eventPublisher.publishEvent(outEvent);
-        eventPublisher.publishEvent(inEvent);
+        return List.of(outEvent, inEvent);
     }
 }
@@ -1,20 +1,25 @@
 package barley.wire.wirebarley.application.v2;
 
 import barley.wire.wirebarley.domain.account.Account;
+import barley.wire.wirebarley.domain.account.AccountBalance;
 import barley.wire.wirebarley.domain.account.Currency;
 import barley.wire.wirebarley.domain.transaction.Transaction;
+import barley.wire.wirebarley.domain.transaction.TransactionCursor;
 import barley.wire.wirebarley.domain.transaction.TransactionType;
 import barley.wire.wirebarley.common.event.TransactionEvent;
+import barley.wire.wirebarley.infrastructure.config.BalanceProperties;
 import barley.wire.wirebarley.infrastructure.repository.TransactionRepository;
 import barley.wire.wirebarley.presentation.dto.request.CreateGlobalAccountRequest;
 import barley.wire.wirebarley.presentation.dto.response.AccountResponse;
 import barley.wire.wirebarley.presentation.dto.response.BalanceResponse;
 import barley.wire.wirebarley.presentation.dto.response.TransactionListResponse;
 import barley.wire.wirebarley.presentation.dto.response.TransactionResponse;
+import barley.wire.wirebarley.presentation.dto.response.TransactionSliceResponse;
 import barley.wire.wirebarley.infrastructure.service.AccountService;
 import barley.wire.wirebarley.common.validator.AccountValidator;
 
 import java.math.BigDecimal;
+import java.util.List;
 
 import lombok.RequiredArgsConstructor;
 import org.springframework.context.ApplicationEventPublisher;
@@ -31,6 +36,7 @@ public class GlobalAccountAppService {
     private final TransactionRepository transactionRepository;
     private final AccountValidator accountValidator;
     private final ApplicationEventPublisher eventPublisher;
+    private final BalanceProperties balanceProperties;
 
     @Transactional
     public AccountResponse createGlobalAccount(CreateGlobalAccountRequest request) {
@@ -51,10 +57,19 @@ public class GlobalAccountAppService {
     @Transactional
     public BalanceResponse globalDeposit(Long accountId, BigDecimal amount) {
         accountValidator.validateAmount(amount);
+        if (balanceProperties.isAtomicUpdate()) {
+            AccountBalance balance = accountService.credit(accountId, amount);
+            accountValidator.validateCurrencyScale(amount, balance.currency());
+            publishTransactionEvent(balance, TransactionType.DEPOSIT, amount, balance.currency());
+
+            return BalanceResponse.from(balance);
+        }
+
         Account account = accountService.getAccountWithLock(accountId);
+        accountValidator.validateCurrencyScale(amount, account.getCurrency());
 
         account.deposit(amount);
-        publishTransactionEvent(account, TransactionType.DEPOSIT, amount, account.getCurrency());
+        publishTransactionEvent(AccountBalance.from(account), TransactionType.DEPOSIT, amount, account.getCurrency());
 
         return BalanceResponse.from(account);
     }
@@ -62,13 +77,24 @@ public class GlobalAccountAppService {
     @Transactional
     public BalanceResponse withdraw(Long accountId, BigDecimal amount) {
         accountValidator.validateAmount(amount);
+        if (balanceProperties.isAtomicUpdate()) {
+            // 잔액 검증은 UPDATE 조건으로 대체, 한도 검증은 행 락 확보 이후 수행 (초과 시 롤백)
+            AccountBalance balance = accountService.debit(accountId, amount, "잔액이 부족합니다");
+            accountValidator.validateCurrencyScale(amount, balance.currency());
+            accountValidator.checkWithdrawLimit(balance.accountId(), balance.currency(), amount);
+            publishTransactionEvent(balance, TransactionType.WITHDRAW, amount, balance.currency());
+
+            return BalanceResponse.from(balance);
+        }
+
         Account account = accountService.getAccountWithLock(accountId);
 
+        accountValidator.validateCurrencyScale(amount, account.getCurrency());
         accountValidator.checkWithdrawLimit(account, amount);
         accountValidator.validateBalance(account, amount, "잔액이 부족합니다");
 
         account.withdraw(amount);
-        publishTransactionEvent(account, TransactionType.WITHDRAW, amount, account.getCurrency());
+        publishTransactionEvent(AccountBalance.from(account), TransactionType.WITHDRAW, amount, account.getCurrency());
 
         return BalanceResponse.from(account);
     }
@@ -97,14 +123,29 @@ public class GlobalAccountAppService {
                 dtoPage.getTotalElements(), dtoPage.getTotalPages());
     }
 
-    private void publishTransactionEvent(Account account, TransactionType type, BigDecimal amount, Currency currency) {
+    /**
+     * 거래 내역 커서 조회 (최신순)
+     * 전체 건수를 세지 않고 size + 1건만 조회하여 다음 목록 존재 여부를 판단합니다.
+     */
+    public TransactionSliceResponse getTransactionSlice(Long accountId, String cursor, int size) {
+        accountValidator.validateAccountExistence(accountId);
+
+        int limit = Math.min(Math.max(size, 1), TransactionSliceResponse.MAX_SIZE);
+        List<Transaction> rows = transactionRepository.findSlice(accountId, TransactionCursor.decode(cursor),
+                limit + 1);
+
+        return TransactionSliceResponse.of(rows, limit);
+    }
+
+    private void publishTransactionEvent(AccountBalance balance, TransactionType type, BigDecimal amount,
+            Currency currency) {
         TransactionEvent event = TransactionEvent.builder()
-                .accountId(account.getId())
+                .accountId(balance.accountId())
                 .type(type)
                 .amount(amount)
                 .fee(BigDecimal.ZERO)
                 .currency(currency)
-                .balanceSnapshot(account.getBalance())
+                .balanceSnapshot(balance.balance())
                 .build();
 
         eventPublisher.publishEvent(event);
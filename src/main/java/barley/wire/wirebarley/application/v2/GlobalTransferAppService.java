@@ -1,20 +1,23 @@
 package barley.wire.wirebarley.application.v2;
 
-import static barley.wire.wirebarley.common.constants.TransferConstants.EXCHANGE_FEE_RATE;
-import static barley.wire.wirebarley.common.constants.TransferConstants.TRANSFER_FEE_RATE;
-
+import barley.wire.wirebarley.common.event.TransactionBatchEvent;
 import barley.wire.wirebarley.common.event.TransactionEvent;
-import barley.wire.wirebarley.common.util.MoneyUtils;
+import barley.wire.wirebarley.common.exception.InvalidQuoteException;
 import barley.wire.wirebarley.common.validator.AccountValidator;
 import barley.wire.wirebarley.domain.account.Account;
+import barley.wire.wirebarley.domain.exchange.ExchangeQuote;
+import barley.wire.wirebarley.domain.exchange.TransferPricing;
 import barley.wire.wirebarley.domain.transaction.TransactionType;
-import barley.wire.wirebarley.infrastructure.aop.Idempotent;
 import barley.wire.wirebarley.infrastructure.service.AccountService;
+import barley.wire.wirebarley.infrastructure.service.ExchangeQuoteService;
 import barley.wire.wirebarley.infrastructure.service.ExchangeRateService;
+import barley.wire.wirebarley.presentation.dto.request.GlobalTransferQuoteRequest;
 import barley.wire.wirebarley.presentation.dto.request.GlobalTransferRequest;
+import barley.wire.wirebarley.presentation.dto.response.GlobalTransferQuoteResponse;
 import barley.wire.wirebarley.presentation.dto.response.GlobalTransferResponse;
 
 import java.math.BigDecimal;
+import java.util.List;
 
 import io.swagger.v3.oas.annotations.Operation;
 import lombok.RequiredArgsConstructor;
@@ -29,10 +32,10 @@ public class GlobalTransferAppService {
 
     private final AccountService accountService;
     private final ExchangeRateService exchangeRateService;
+    private final ExchangeQuoteService exchangeQuoteService;
     private final AccountValidator accountValidator;
     private final ApplicationEventPublisher eventPublisher;
 
-    @Idempotent(required = false)
     @Transactional
     @Operation(summary = "글로벌 송금 (자동 환전)", description = "다른 통화 계좌 간 자동 환전 송금을 실행합니다. (수수료: 이체 1% + 다른 통화 환전 0.5%, 한도(KRW기준) : 이체한도 100만원, 입금한도 300만원 적용)")
     public GlobalTransferResponse globalTransfer(GlobalTransferRequest request) {
@@ -41,34 +44,36 @@ public class GlobalTransferAppService {
         accountValidator.validateAmount(amount);
         accountValidator.validateTransfer(request.fromAccountId(), request.toAccountId());
 
-        // 2. 계좌 조회 및 락 획득 (데드락 방지)
+        // 2. 견적 사용 처리 (견적 송금은 락 구간에서 환율을 조회하지 않음)
+        ExchangeQuote quote = request.quoteId() == null
+                ? null
+                : exchangeQuoteService.useQuote(request.quoteId(), request.fromAccountId(), request.toAccountId(),
+                        amount);
+
+        // 3. 계좌 조회 및 락 획득 (데드락 방지)
         Pair<Account, Account> accountPair = accountService.getAccountsWithLockOrdered(request.fromAccountId(),
                 request.toAccountId());
 
         Account fromAccount = accountPair.getFirst();
         Account toAccount = accountPair.getSecond();
+        accountValidator.validateCurrencyScale(amount, fromAccount.getCurrency());
 
-        // 3. 환율 정보 조회 및 환전 금액 계산
-        BigDecimal exchangeRate = exchangeRateService.getExchangeRate(fromAccount.getCurrency(),
-                toAccount.getCurrency());
-        BigDecimal convertedAmount = calculateConvertedAmount(amount, fromAccount, toAccount);
-
-        // 4. 환전 수수료 계산 및 최종 입금 금액 산출
-        BigDecimal exchangeFee = calculateExchangeFee(fromAccount, toAccount, convertedAmount);
-        BigDecimal finalConvertedAmount = MoneyUtils.subtract(convertedAmount, exchangeFee,
-                toAccount.getCurrency());
+        // 4. 환전 금액 및 수수료 계산 (견적이 없으면 현재 환율 1회 조회)
+        TransferPricing pricing = quote != null
+                ? quotedPricing(quote, fromAccount, toAccount)
+                : TransferPricing.of(amount, fromAccount.getCurrency(), toAccount.getCurrency(),
+                        exchangeRateService.getExchangeRate(fromAccount.getCurrency(), toAccount.getCurrency()));
+        BigDecimal finalConvertedAmount = pricing.depositAmount();
+        BigDecimal transferFee = pricing.transferFee();
+        BigDecimal totalAmountToWithdraw = pricing.totalWithdrawAmount();
 
-        // 5. 이체 수수료 계산 (출금 통화 기준)
-        BigDecimal transferFee = MoneyUtils.multiply(amount, TRANSFER_FEE_RATE, fromAccount.getCurrency());
-        BigDecimal totalAmountToWithdraw = MoneyUtils.add(amount, transferFee, fromAccount.getCurrency());
+        // 5. 실행 가능 여부 검증 (잔액, 한도)
+        validateExecution(fromAccount, amount, totalAmountToWithdraw, quote != null ? quote.getKrwRate() : null);
 
-        // 6. 실행 가능 여부 검증 (잔액, 한도)
-        validateExecution(fromAccount, amount, totalAmountToWithdraw);
-
-        // 7. 계좌 잔액 업데이트 (출금/입금)
+        // 6. 계좌 잔액 업데이트 (출금/입금)
         executeTransfer(fromAccount, toAccount, totalAmountToWithdraw, finalConvertedAmount);
 
-        // 8. 거래 이벤트 발행
+        // 7. 거래 이벤트 발행
         publishTransferEvents(fromAccount, toAccount, amount, finalConvertedAmount, transferFee);
 
         return GlobalTransferResponse.builder()
@@ -78,43 +83,61 @@ public class GlobalTransferAppService {
                 .fromCurrency(fromAccount.getCurrency())
                 .convertedAmount(finalConvertedAmount)
                 .toCurrency(toAccount.getCurrency())
-                .exchangeRate(exchangeRate)
+                .exchangeRate(pricing.exchangeRate())
                 .fee(transferFee)
                 .fromBalance(fromAccount.getBalance())
                 .toBalance(toAccount.getBalance())
                 .build();
     }
 
-    // 환전 된 금액을 계산하고 소수점을 정리합니다.
-    private BigDecimal calculateConvertedAmount(BigDecimal amount, Account fromAccount, Account toAccount) {
-        BigDecimal convertedAmount = exchangeRateService.convertAmount(amount, fromAccount.getCurrency(),
-                toAccount.getCurrency());
-        return MoneyUtils.scale(convertedAmount, toAccount.getCurrency());
+    /**
+     * 환율 견적 생성
+     * 계좌 락 없이 현재 환율과 수수료를 계산해 고정하고, 송금 요청에 견적 ID를 전달하면 견적 금액 그대로 송금합니다.
+     */
+    @Transactional
+    @Operation(summary = "글로벌 송금 환율 견적", description = "현재 환율과 수수료를 고정한 견적을 생성합니다. 견적은 유효 시간 내 1회 송금에 사용할 수 있습니다.")
+    public GlobalTransferQuoteResponse quote(GlobalTransferQuoteRequest request) {
+        accountValidator.validateAmount(request.amount());
+        accountValidator.validateTransfer(request.fromAccountId(), request.toAccountId());
+
+        Pair<Account, Account> accountPair = accountService.getAccounts(request.fromAccountId(),
+                request.toAccountId());
+        accountValidator.validateCurrencyScale(request.amount(), accountPair.getFirst().getCurrency());
+        ExchangeQuote quote = exchangeQuoteService.createQuote(accountPair.getFirst(), accountPair.getSecond(),
+                request.amount());
+
+        return GlobalTransferQuoteResponse.from(quote);
     }
 
-    // 환전 수수료를 계산합니다. 동일 통화일 경우 수수료는 0원입니다.
-    private BigDecimal calculateExchangeFee(Account fromAccount, Account toAccount, BigDecimal convertedAmount) {
-        if (fromAccount.getCurrency() == toAccount.getCurrency()) {
-            return BigDecimal.ZERO;
+    // 견적 금액을 사용합니다. 계좌 통화가 견적과 다르면 견적을 사용할 수 없습니다.
+    private TransferPricing quotedPricing(ExchangeQuote quote, Account fromAccount, Account toAccount) {
+        if (quote.getFromCurrency() != fromAccount.getCurrency() || quote.getToCurrency() != toAccount.getCurrency()) {
+            throw new InvalidQuoteException("견적의 통화가 계좌 통화와 일치하지 않습니다: " + quote.getId());
         }
-        return MoneyUtils.multiply(convertedAmount, EXCHANGE_FEE_RATE, toAccount.getCurrency());
+        return quote.toPricing();
     }
 
-    // 한도와 잔액을 검증합니다.
-    private void validateExecution(Account fromAccount, BigDecimal amount, BigDecimal totalAmountToWithdraw) {
+    // 한도와 잔액을 검증합니다. 견적 송금은 견적 시점의 원화 환율로 한도를 환산합니다.
+    private void validateExecution(Account fromAccount, BigDecimal amount, BigDecimal totalAmountToWithdraw,
+            BigDecimal krwRate) {
         // 잔액 확인 (출금 통화 기준)
         accountValidator.validateBalance(fromAccount, totalAmountToWithdraw, "수수료를 포함한 잔액이 부족합니다");
 
         // 출금 계좌 한도 확인 (이체 한도 + 출금 한도) - KRW 기준
-        accountValidator.checkGlobalTransferLimit(fromAccount.getId(), amount);
-        accountValidator.checkWithdrawLimit(fromAccount, totalAmountToWithdraw);
+        accountValidator.checkGlobalTransferLimit(fromAccount, amount, krwRate);
+        accountValidator.checkWithdrawLimit(fromAccount, totalAmountToWithdraw, krwRate);
     }
 
     // 실제 계좌의 잔액 변경
     private void executeTransfer(Account fromAccount, Account toAccount, BigDecimal withdrawAmount,
             BigDecimal depositAmount) {
         fromAccount.withdraw(withdrawAmount);
-        toAccount.deposit(depositAmount);
+        // 스트라이프 계좌는 계좌 행 대신 하위 잔액 행에 입금
+        if (accountService.isStripeCredit(toAccount)) {
+            accountService.creditStripe(toAccount, depositAmount, fromAccount.getId());
+        } else {
+            toAccount.deposit(depositAmount);
+        }
     }
 
     // 트랜잭션 이벤트 발행
@@ -140,7 +163,7 @@ public class GlobalTransferAppService {
                 .relatedAccountId(fromAccount.getId())
                 .build();
 
-        eventPublisher.publishEvent(outEvent);
-        eventPublisher.publishEvent(inEvent);
+        // 출금/입금 거래 내역을 하나의 배치로 저장
+        eventPublisher.publishEvent(new TransactionBatchEvent(List.of(outEvent, inEvent)));
     }
 }
@@ -10,6 +10,7 @@ public final class IdempotencyConstants {
     private IdempotencyConstants() {
     }
 
+    public static final String IDEMPOTENCY_KEY_HEADER = "Idempotency-Key";
     public static final int TTL_MINUTES = 10;
     public static final Duration DEFAULT_TTL = Duration.ofMinutes(TTL_MINUTES);
 }
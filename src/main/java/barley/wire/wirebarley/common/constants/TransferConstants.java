@@ -1,5 +1,6 @@
 package barley.wire.wirebarley.common.constants;
 
+import barley.wire.wirebarley.domain.account.Money;
 import java.math.BigDecimal;
 
 /**
@@ -13,6 +14,10 @@ public final class TransferConstants {
     // 수수료율
     public static final BigDecimal TRANSFER_FEE_RATE = new BigDecimal("0.01"); // 1%
     public static final BigDecimal EXCHANGE_FEE_RATE = new BigDecimal("0.005"); // 0.5%
+
+    // 수수료율 고정소수점 표현 (Money 연산용)
+    public static final Money.Rate TRANSFER_FEE = Money.Rate.of(TRANSFER_FEE_RATE);
+    public static final Money.Rate EXCHANGE_FEE = Money.Rate.of(EXCHANGE_FEE_RATE);
  
     // 일일 한도
     public static final BigDecimal DAILY_WITHDRAW_LIMIT = new BigDecimal("1000000"); // 100만원
@@ -0,0 +1,10 @@
+package barley.wire.wirebarley.common.event;
+
+import java.util.List;
+
+/**
+ * 하나의 비즈니스 작업에서 발생한 거래 이벤트 묶음
+ * 거래 내역을 JDBC 배치로 한 번에 저장하기 위해 사용합니다.
+ */
+public record TransactionBatchEvent(List<TransactionEvent> events) {
+}
@@ -1,7 +1,16 @@
 package barley.wire.wirebarley.common.event;
 
 import barley.wire.wirebarley.domain.transaction.Transaction;
+import barley.wire.wirebarley.domain.transaction.TransactionOutbox;
+import barley.wire.wirebarley.domain.transaction.TransactionType;
+import barley.wire.wirebarley.infrastructure.config.JournalProperties;
+import barley.wire.wirebarley.infrastructure.repository.TransactionOutboxRepository;
 import barley.wire.wirebarley.infrastructure.repository.TransactionRepository;
+import barley.wire.wirebarley.infrastructure.service.DailyLimitService;
+import java.math.BigDecimal;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.context.event.EventListener;
@@ -15,6 +24,9 @@ import org.springframework.transaction.annotation.Transactional;
 public class TransactionEventListener {
 
     private final TransactionRepository transactionRepository;
+    private final TransactionOutboxRepository outboxRepository;
+    private final JournalProperties journalProperties;
+    private final DailyLimitService dailyLimitService;
 
     @EventListener
     @Transactional(propagation = Propagation.MANDATORY)
@@ -22,9 +34,47 @@ public class TransactionEventListener {
         log.info("Transaction 이벤트 저장됨 - Account: {}, Type: {}, Amount: {}", event.accountId(), event.type(),
                 event.amount());
 
-        Transaction transaction = new Transaction(event.accountId(), event.type(), event.amount(), event.fee(),
-                event.balanceSnapshot(), event.relatedAccountId(), event.currency());
+        record(List.of(event));
+    }
+
+    /**
+     * 하나의 비즈니스 작업에서 발생한 거래 이벤트를 한 번에 저장
+     * 모든 거래 내역을 영속화한 뒤 한도 누적치를 갱신하므로 INSERT가 하나의 JDBC 배치로 전송됩니다.
+     */
+    @EventListener
+    @Transactional(propagation = Propagation.MANDATORY)
+    public void handleTransactionBatchEvent(TransactionBatchEvent batchEvent) {
+        if (batchEvent.events().isEmpty()) {
+            return;
+        }
+
+        record(batchEvent.events());
+
+        log.info("Transaction 배치 이벤트 저장됨 - Count: {}", batchEvent.events().size());
+    }
+
+    private void record(List<TransactionEvent> events) {
+        if (journalProperties.isOutbox()) {
+            // 인덱스 없는 아웃박스에만 추가하고 transactions 저장은 드레이너에 위임
+            outboxRepository.saveAll(events.stream()
+                    .map(event -> new TransactionOutbox(event.accountId(), event.type(), event.amount(), event.fee(),
+                            event.balanceSnapshot(), event.relatedAccountId(), event.currency()))
+                    .toList());
+        } else {
+            transactionRepository.saveAll(events.stream()
+                    .map(event -> new Transaction(event.accountId(), event.type(), event.amount(), event.fee(),
+                            event.balanceSnapshot(), event.relatedAccountId(), event.currency()))
+                    .toList());
+        }
+
+        // 잔액 변경과 같은 트랜잭션에서 일일 한도 누적치 갱신 (계좌/거래유형별 합산)
+        Map<UsageKey, BigDecimal> usages = new LinkedHashMap<>();
+        for (TransactionEvent event : events) {
+            usages.merge(new UsageKey(event.accountId(), event.type()), event.amount(), BigDecimal::add);
+        }
+        usages.forEach((key, amount) -> dailyLimitService.accumulate(key.accountId(), key.type(), amount));
+    }
 
-        transactionRepository.save(transaction);
+    private record UsageKey(Long accountId, TransactionType type) {
     }
 }
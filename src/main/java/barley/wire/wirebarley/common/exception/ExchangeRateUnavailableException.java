@@ -0,0 +1,9 @@
+package barley.wire.wirebarley.common.exception;
+
+public class ExchangeRateUnavailableException extends BaseException {
+    private static final String ERROR_CODE = "EXCHANGE_RATE_UNAVAILABLE";
+
+    public ExchangeRateUnavailableException(String message) {
+        super(ERROR_CODE, message);
+    }
+}
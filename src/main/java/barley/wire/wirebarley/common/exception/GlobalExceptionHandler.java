@@ -10,6 +10,7 @@ import java.time.LocalDateTime;
 
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.orm.ObjectOptimisticLockingFailureException;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.validation.FieldError;
@@ -32,13 +33,17 @@ public class GlobalExceptionHandler {
         HttpStatus status;
         if (ex instanceof AccountNotFoundException) {
             status = HttpStatus.NOT_FOUND;
-        } else if (ex instanceof InvalidAmountException || ex instanceof MissingIdempotencyKeyException) {
+        } else if (ex instanceof InvalidAmountException || ex instanceof InvalidCursorException
+                || ex instanceof InvalidQuoteException) {
             status = HttpStatus.BAD_REQUEST;
         } else if (ex instanceof InsufficientBalanceException || ex instanceof DuplicateAccountException
-                || ex instanceof DuplicateIdempotencyKeyException) {
+                || ex instanceof DuplicateIdempotencyKeyException || ex instanceof QuoteExpiredException
+                || ex instanceof IdempotencyInProgressException) {
             status = HttpStatus.CONFLICT;
         } else if (ex instanceof LimitExceededException) {
             status = HttpStatus.UNPROCESSABLE_ENTITY;
+        } else if (ex instanceof ExchangeRateUnavailableException) {
+            status = HttpStatus.SERVICE_UNAVAILABLE;
         } else {
             status = HttpStatus.INTERNAL_SERVER_ERROR;
         }
@@ -62,10 +67,10 @@ public class GlobalExceptionHandler {
     }
 
     /**
-     * 낙관적 락 충돌 처리
+     * 낙관적 락 충돌 처리 (OPTIMISTIC 모드 재시도 한도 초과 포함)
      */
-    @ExceptionHandler(OptimisticLockException.class)
-    public ResponseEntity<ErrorResponse> handleOptimisticLock(OptimisticLockException ex) {
+    @ExceptionHandler({ OptimisticLockException.class, ObjectOptimisticLockingFailureException.class })
+    public ResponseEntity<ErrorResponse> handleOptimisticLock(Exception ex) {
         log.warn("낙관적 락 예외 발생", ex);
         ErrorResponse error = new ErrorResponse("CONCURRENT_MODIFICATION", "동시에 수정되었습니다. 다시 시도해주세요",
                 LocalDateTime.now());
@@ -0,0 +1,16 @@
+package barley.wire.wirebarley.common.exception;
+
+import org.springframework.http.HttpStatus;
+
+/**
+ * 동일한 멱등성 키의 요청이 아직 처리 중일 때 발생하는 예외 (대기 시간 초과 또는 다른 서버에서 처리 중)
+ */
+public class IdempotencyInProgressException extends BaseException {
+    public IdempotencyInProgressException(String message) {
+        super("IDEMPOTENCY_IN_PROGRESS", message);
+    }
+
+    public HttpStatus getStatus() {
+        return HttpStatus.CONFLICT;
+    }
+}
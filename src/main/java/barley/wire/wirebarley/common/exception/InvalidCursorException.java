@@ -0,0 +1,9 @@
+package barley.wire.wirebarley.common.exception;
+
+public class InvalidCursorException extends BaseException {
+    private static final String ERROR_CODE = "INVALID_CURSOR";
+
+    public InvalidCursorException(String message) {
+        super(ERROR_CODE, message);
+    }
+}
@@ -0,0 +1,9 @@
+package barley.wire.wirebarley.common.exception;
+
+public class InvalidQuoteException extends BaseException {
+    private static final String ERROR_CODE = "INVALID_QUOTE";
+
+    public InvalidQuoteException(String message) {
+        super(ERROR_CODE, message);
+    }
+}
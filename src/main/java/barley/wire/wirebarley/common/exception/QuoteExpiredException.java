@@ -0,0 +1,9 @@
+package barley.wire.wirebarley.common.exception;
+
+public class QuoteExpiredException extends BaseException {
+    private static final String ERROR_CODE = "QUOTE_EXPIRED";
+
+    public QuoteExpiredException(String message) {
+        super(ERROR_CODE, message);
+    }
+}
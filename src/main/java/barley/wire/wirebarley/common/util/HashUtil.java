@@ -1,18 +1,20 @@
 package barley.wire.wirebarley.common.util;
 
-import lombok.extern.slf4j.Slf4j;
-
 import java.nio.charset.StandardCharsets;
 import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
 
 /**
  * 해시 계산 유틸리티 클래스
  * SHA-256 알고리즘을 사용하여 문자열의 해시값을 생성합니다.
+ * MessageDigest는 스레드별로 재사용하고, 16진수 변환은 문자 테이블로 처리합니다.
+ * 스레드별 재사용은 플랫폼 스레드 풀에서만 효과가 있으며, 요청마다 새 가상 스레드를 쓰는 모드에서는 요청마다 새로 생성됩니다.
  */
-@Slf4j
 public class HashUtil {
 
     private static final String ALGORITHM = "SHA-256";
+    private static final char[] HEX_DIGITS = "0123456789abcdef".toCharArray();
+    private static final ThreadLocal<MessageDigest> SHA256 = ThreadLocal.withInitial(HashUtil::newDigest);
 
     private HashUtil() {
         // 유틸리티 클래스, 인스턴스 생성 방지
@@ -22,21 +24,34 @@ public class HashUtil {
      * 주어진 문자열의 SHA-256 해시값을 16진수 문자열로 반환
      *
      * @param input 해시를 계산할 입력 문자열
-     * @return 16진수 형식의 해시값, 실패 시 null
+     * @return 16진수 형식의 해시값 (입력이 null이면 null)
+     * @throws IllegalStateException SHA-256 알고리즘을 사용할 수 없는 경우
      */
     public static String calculateSHA256(String input) {
         if (input == null) {
             return null;
         }
+        return calculateSHA256(input.getBytes(StandardCharsets.UTF_8));
+    }
 
-        try {
-            MessageDigest digest = MessageDigest.getInstance(ALGORITHM);
-            byte[] hash = digest.digest(input.getBytes(StandardCharsets.UTF_8));
-            return bytesToHex(hash);
-        } catch (Exception e) {
-            log.warn("SHA-256 해시 계산 실패", e);
-            return null;
-        }
+    /**
+     * 주어진 바이트 배열의 SHA-256 해시값을 16진수 문자열로 반환
+     *
+     * @param input 해시를 계산할 바이트 배열
+     * @return 16진수 형식의 해시값
+     */
+    public static String calculateSHA256(byte[] input) {
+        return bytesToHex(sha256().digest(input));
+    }
+
+    /**
+     * 현재 스레드의 SHA-256 MessageDigest (초기화된 상태로 반환, 다른 스레드와 공유 금지)
+     * 스트림으로 나눠 입력할 때 사용하며, digest() 호출 시 다시 초기화됩니다.
+     */
+    public static MessageDigest sha256() {
+        MessageDigest digest = SHA256.get();
+        digest.reset();
+        return digest;
     }
 
     /**
@@ -45,15 +60,22 @@ public class HashUtil {
      * @param bytes 변환할 바이트 배열
      * @return 16진수 문자열
      */
-    private static String bytesToHex(byte[] bytes) {
-        StringBuilder hexString = new StringBuilder();
-        for (byte b : bytes) {
-            String hex = Integer.toHexString(0xff & b);
-            if (hex.length() == 1) {
-                hexString.append('0');
-            }
-            hexString.append(hex);
+    public static String bytesToHex(byte[] bytes) {
+        char[] hex = new char[bytes.length * 2];
+        for (int i = 0; i < bytes.length; i++) {
+            int value = bytes[i] & 0xff;
+            hex[i * 2] = HEX_DIGITS[value >>> 4];
+            hex[i * 2 + 1] = HEX_DIGITS[value & 0x0f];
+        }
+        return new String(hex);
+    }
+
+    private static MessageDigest newDigest() {
+        try {
+            return MessageDigest.getInstance(ALGORITHM);
+        } catch (NoSuchAlgorithmException e) {
+            // SHA-256은 모든 JRE에서 지원해야 하는 알고리즘
+            throw new IllegalStateException("SHA-256 알고리즘을 사용할 수 없습니다.", e);
         }
-        return hexString.toString();
     }
 }
@@ -15,6 +15,11 @@ public class MoneyUtils {
     private static final int KRW_SCALE = 0; // 원화는 소수점 없음
     private static final int DEFAULT_SCALE = 2; // USD, JPY, EUR는 소수점 2자리
 
+    /**
+     * SQL에서 currency 컬럼 기준으로 DECIMAL 금액을 최소 단위로 바꿀 때 곱하는 값 (getScale과 일치해야 함)
+     */
+    public static final String MINOR_UNIT_FACTOR_SQL = "CASE currency WHEN 'KRW' THEN 1 ELSE 100 END";
+
     private MoneyUtils() {
 
     }
@@ -9,13 +9,15 @@ import barley.wire.wirebarley.common.exception.InvalidAmountException;
 import barley.wire.wirebarley.common.exception.LimitExceededException;
 import barley.wire.wirebarley.common.exception.InsufficientBalanceException;
 import barley.wire.wirebarley.common.exception.DuplicateAccountException;
-import barley.wire.wirebarley.common.util.TimeUtil;
-import barley.wire.wirebarley.infrastructure.repository.TransactionRepository;
 import barley.wire.wirebarley.infrastructure.service.AccountService;
+import barley.wire.wirebarley.infrastructure.service.DailyLimitService;
 import barley.wire.wirebarley.infrastructure.service.ExchangeRateService;
+import barley.wire.wirebarley.common.util.MoneyUtils;
 import barley.wire.wirebarley.domain.account.Currency;
+import barley.wire.wirebarley.domain.account.Money;
 
 import java.math.BigDecimal;
+import java.math.RoundingMode;
 
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Component;
@@ -24,7 +26,10 @@ import org.springframework.stereotype.Component;
 @RequiredArgsConstructor
 public class AccountValidator {
 
-    private final TransactionRepository transactionRepository;
+    private static final Money WITHDRAW_LIMIT = Money.of(DAILY_WITHDRAW_LIMIT, Currency.KRW);
+    private static final Money TRANSFER_LIMIT = Money.of(DAILY_TRANSFER_LIMIT, Currency.KRW);
+
+    private final DailyLimitService dailyLimitService;
     private final AccountService accountService;
     private final ExchangeRateService exchangeRateService;
 
@@ -34,58 +39,81 @@ public class AccountValidator {
         }
     }
 
+    /**
+     * 금액이 통화의 소수점 자릿수 이내인지 검증
+     * 최소 단위 미만 금액은 한도·출금·입금 계산에서 서로 다르게 반올림되므로 받지 않습니다. (예: KRW 0.4원)
+     */
+    public void validateCurrencyScale(BigDecimal amount, Currency currency) {
+        int scale = MoneyUtils.getScale(currency);
+        if (amount.stripTrailingZeros().scale() > scale) {
+            throw new InvalidAmountException(
+                    String.format("%s 금액은 소수점 %d자리까지 입력할 수 있습니다: %s", currency, scale, amount.toPlainString()));
+        }
+    }
+
     public void checkWithdrawLimit(Account account, BigDecimal amount) {
+        checkWithdrawLimit(account.getId(), account.getCurrency(), amount);
+    }
+
+    /**
+     * 견적 시점에 고정한 원화 환율로 출금 한도 확인 (null이면 현재 환율 조회)
+     */
+    public void checkWithdrawLimit(Account account, BigDecimal amount, BigDecimal krwRate) {
+        checkWithdrawLimit(account.getId(), account.getCurrency(), amount, krwRate);
+    }
+
+    public void checkWithdrawLimit(Long accountId, Currency currency, BigDecimal amount) {
+        checkWithdrawLimit(accountId, currency, amount, null);
+    }
+
+    private void checkWithdrawLimit(Long accountId, Currency currency, BigDecimal amount, BigDecimal krwRate) {
 
         // 오늘 이미 출금한 금액 합산 (해당 계좌의 통화 기준)
-        BigDecimal dailyWithdrawn = transactionRepository.sumAmountByAccountIdAndTypeAndCreatedAtAfter(account.getId(),
-                TransactionType.WITHDRAW, TimeUtil.atStartOfDay());
+        BigDecimal dailyWithdrawn = dailyLimitService.getTodayUsage(accountId, TransactionType.WITHDRAW);
 
         // 합계 및 현재 요청 금액을 KRW로 환산하여 한도 체크
-        BigDecimal totalWithdrawnInAccountCurrency = dailyWithdrawn.add(amount);
-        BigDecimal totalWithdrawnInKRW = totalWithdrawnInAccountCurrency;
-
-        if (account.getCurrency() != Currency.KRW) {
-            totalWithdrawnInKRW = exchangeRateService.convertAmount(totalWithdrawnInAccountCurrency,
-                    account.getCurrency(), Currency.KRW);
-        }
+        Money totalWithdrawnInKRW = toKRW(Money.of(dailyWithdrawn, currency).add(Money.of(amount, currency)),
+                krwRate);
 
-        if (totalWithdrawnInKRW.compareTo(DAILY_WITHDRAW_LIMIT) > 0) {
+        if (totalWithdrawnInKRW.isGreaterThan(WITHDRAW_LIMIT)) {
             throw new LimitExceededException("일일 출금 한도를 초과했습니다 (한도: 100만원)");
         }
     }
 
     public void checkTransferLimit(Long accountId, BigDecimal amount) {
         Account account = accountService.getAccount(accountId);
-        BigDecimal dailyTransferred = transactionRepository.sumAmountByAccountIdAndTypeAndCreatedAtAfter(accountId,
-                TransactionType.TRANSFER_OUT, TimeUtil.atStartOfDay());
+        checkTransferLimit(accountId, account.getCurrency(), amount);
+    }
 
-        BigDecimal totalInAccountCurrency = dailyTransferred.add(amount);
-        BigDecimal totalInKRW = totalInAccountCurrency;
+    public void checkTransferLimit(Long accountId, Currency currency, BigDecimal amount) {
+        BigDecimal dailyTransferred = dailyLimitService.getTodayUsage(accountId, TransactionType.TRANSFER_OUT);
 
-        if (account.getCurrency() != Currency.KRW) {
-            totalInKRW = exchangeRateService.convertAmount(totalInAccountCurrency,
-                    account.getCurrency(), Currency.KRW);
-        }
+        validateTransferLimit(currency, dailyTransferred.add(amount));
+    }
+
+    /**
+     * 오늘 누적 이체 금액(이번 요청 포함)이 한도 이내인지 검증
+     * 일괄 이체처럼 누적 금액을 호출 측에서 관리하는 경우 사용합니다.
+     */
+    public void validateTransferLimit(Currency currency, BigDecimal totalInAccountCurrency) {
+        Money totalInKRW = toKRW(Money.of(totalInAccountCurrency, currency));
 
-        if (totalInKRW.compareTo(DAILY_TRANSFER_LIMIT) > 0) {
+        if (totalInKRW.isGreaterThan(TRANSFER_LIMIT)) {
             throw new LimitExceededException("일일 이체 한도를 초과했습니다 (한도: 300만원)");
         }
     }
 
-    public void checkGlobalTransferLimit(Long accountId, BigDecimal amount) {
-        Account account = accountService.getAccount(accountId);
-        BigDecimal dailyTransferred = transactionRepository.sumAmountByAccountIdAndTypeAndCreatedAtAfter(accountId,
-                TransactionType.TRANSFER_OUT, TimeUtil.atStartOfDay());
-
-        BigDecimal totalInAccountCurrency = dailyTransferred.add(amount);
-        BigDecimal totalInKRW = totalInAccountCurrency;
+    /**
+     * 해외 송금 한도 확인
+     * 견적 송금은 견적 시점에 고정한 원화 환율(krwRate)로 환산하고, null이면 현재 환율을 조회합니다.
+     */
+    public void checkGlobalTransferLimit(Account account, BigDecimal amount, BigDecimal krwRate) {
+        BigDecimal dailyTransferred = dailyLimitService.getTodayUsage(account.getId(), TransactionType.TRANSFER_OUT);
 
-        if (account.getCurrency() != Currency.KRW) {
-            totalInKRW = exchangeRateService.convertAmount(totalInAccountCurrency,
-                    account.getCurrency(), Currency.KRW);
-        }
+        Money totalInKRW = toKRW(Money.of(dailyTransferred, account.getCurrency())
+                .add(Money.of(amount, account.getCurrency())), krwRate);
 
-        if (totalInKRW.compareTo(DAILY_TRANSFER_LIMIT) > 0) {
+        if (totalInKRW.isGreaterThan(TRANSFER_LIMIT)) {
             throw new LimitExceededException("일일 해외 송금 한도를 초과했습니다 (한도: 300만원)");
         }
     }
@@ -119,4 +147,19 @@ public class AccountValidator {
                             fromAccount.getCurrency(), toAccount.getCurrency()));
         }
     }
+
+    // 한도 초과 여부만 판단하므로 원 단위 올림 (환산 전 금액 기준 비교와 결과가 같음)
+    private Money toKRW(Money amount) {
+        return toKRW(amount, null);
+    }
+
+    private Money toKRW(Money amount, BigDecimal krwRate) {
+        if (amount.currency() == Currency.KRW) {
+            return amount;
+        }
+        if (krwRate != null) {
+            return amount.convert(Money.Rate.of(krwRate), Currency.KRW, RoundingMode.UP);
+        }
+        return exchangeRateService.convertAmount(amount, Currency.KRW, RoundingMode.UP);
+    }
 }
@@ -35,10 +35,27 @@ public class Account {
     @Getter
     private Currency currency;
 
+    // 스트라이프 계좌는 이체 입금이 하위 잔액 행에 분산되므로 기준 잔액만 보관
+    // 최소 단위 컬럼이 없는 백필 전 행에서만 잔액 기준으로 사용
     @Column(nullable = false)
-    @Getter
     private BigDecimal balance;
 
+    // 기준 잔액의 최소 단위 금액 (잔액 기준 컬럼, DECIMAL 컬럼과 이중 기록, 백필 전 기존 행은 null)
+    @Column(name = "balance_minor")
+    private Long balanceMinor;
+
+    // 하위 잔액 행 개수 (0이면 일반 계좌)
+    @Column(name = "balance_stripes", nullable = false)
+    private int balanceStripes;
+
+    // 락 없이 조회한 하위 잔액 합계 (저장되지 않음)
+    @Transient
+    private BigDecimal stripedBalance = BigDecimal.ZERO;
+
+    // 락으로 조회한 경우 하위 잔액 합계를 반영하지 않음 (출금 전 통합 완료)
+    @Transient
+    private boolean lockedForUpdate;
+
     @Version
     private Long version;
 
@@ -63,18 +80,62 @@ public class Account {
         this.accountNumber = accountNumber;
         this.ownerName = ownerName;
         this.currency = currency;
-        this.balance = BigDecimal.ZERO;
+        changeBalance(BigDecimal.ZERO);
+    }
+
+    /**
+     * 기준 잔액과 하위 잔액 합계를 더한 단일 잔액
+     */
+    public BigDecimal getBalance() {
+        BigDecimal baseBalance = getBaseBalance();
+        return stripedBalance.signum() == 0 ? baseBalance : baseBalance.add(stripedBalance);
+    }
+
+    public boolean isStriped() {
+        return this.balanceStripes > 0;
+    }
+
+    public void applyStripedBalance(BigDecimal stripedBalance) {
+        if (!this.lockedForUpdate) {
+            this.stripedBalance = stripedBalance;
+        }
+    }
+
+    // 하위 잔액 행에 입금한 금액을 응답/스냅샷 잔액에 반영
+    public void addStripedCredit(BigDecimal amount) {
+        this.stripedBalance = this.stripedBalance.add(amount);
+    }
+
+    public void markLockedForUpdate() {
+        this.lockedForUpdate = true;
+        this.stripedBalance = BigDecimal.ZERO;
+    }
+
+    public void changeBalanceStripes(int balanceStripes) {
+        this.balanceStripes = balanceStripes;
     }
 
     public void deposit(BigDecimal amount) {
-        this.balance = this.balance.add(amount);
+        changeBalance(getBaseBalance().add(amount));
     }
 
+    // 락 없이 조회한 스트라이프 계좌는 하위 잔액까지 포함해 검증하며, 기준 잔액은 통합 전까지 음수가 될 수 있음
     public void withdraw(BigDecimal amount) {
-        if (this.balance.compareTo(amount) < 0) {
+        if (getBalance().compareTo(amount) < 0) {
             throw new IllegalStateException("잔액이 부족합니다");
         }
-        this.balance = this.balance.subtract(amount);
+        changeBalance(getBaseBalance().subtract(amount));
+    }
+
+    // 최소 단위 금액이 기록된 행은 해당 값을 기준 잔액으로 사용 (조회 시 필드를 변경하지 않으므로 로딩만으로 UPDATE가 생기지 않음)
+    private BigDecimal getBaseBalance() {
+        return balanceMinor == null ? balance : Money.ofMinor(balanceMinor, currency).toBigDecimal();
+    }
+
+    // DECIMAL 컬럼과 최소 단위 컬럼에 같은 잔액을 기록 (백필되지 않은 행도 변경 시 함께 채워짐)
+    private void changeBalance(BigDecimal balance) {
+        this.balance = balance;
+        this.balanceMinor = Money.of(balance, currency).minorUnits();
     }
 
     public boolean isDeleted() {
@@ -0,0 +1,27 @@
+package barley.wire.wirebarley.domain.account;
+
+import java.math.BigDecimal;
+
+/**
+ * 잔액 변경 직후의 계좌 잔액 스냅샷
+ * 엔티티를 로딩하지 않는 잔액 변경 경로에서 응답/거래 이벤트 생성에 사용합니다.
+ */
+public record AccountBalance(
+        Long accountId,
+        Currency currency,
+        BigDecimal balance,
+        Long version) {
+
+    /**
+     * 최소 단위 잔액이 기록된 행은 해당 값을, 백필 전 행은 DECIMAL 잔액을 사용 (잔액 조회 쿼리용)
+     */
+    public AccountBalance(Long accountId, Currency currency, BigDecimal balance, Long balanceMinor, Long version) {
+        this(accountId, currency, balanceMinor == null ? balance : Money.ofMinor(balanceMinor, currency).toBigDecimal(),
+                version);
+    }
+
+    public static AccountBalance from(Account account) {
+        return new AccountBalance(account.getId(), account.getCurrency(), account.getBalance(),
+                account.getVersion());
+    }
+}
@@ -0,0 +1,39 @@
+package barley.wire.wirebarley.domain.account;
+
+import jakarta.persistence.*;
+import java.math.BigDecimal;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+/**
+ * 스트라이프 계좌의 하위 잔액 행
+ * 이체 입금은 계좌 행 대신 하위 잔액 행 중 하나에 누적되며, 출금 전에 계좌 잔액으로 통합됩니다.
+ */
+@Entity
+@Table(name = "account_balance_stripes", uniqueConstraints = {
+        @UniqueConstraint(name = "uk_account_balance_stripe", columnNames = { "account_id", "stripe_no" })
+})
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+public class AccountBalanceStripe {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(name = "account_id", nullable = false)
+    private Long accountId;
+
+    @Column(name = "stripe_no", nullable = false)
+    private int stripeNo;
+
+    @Column(nullable = false)
+    private BigDecimal balance;
+
+    public AccountBalanceStripe(Long accountId, int stripeNo) {
+        this.accountId = accountId;
+        this.stripeNo = stripeNo;
+        this.balance = BigDecimal.ZERO;
+    }
+}
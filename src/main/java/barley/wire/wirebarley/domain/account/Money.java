@@ -0,0 +1,193 @@
+package barley.wire.wirebarley.domain.account;
+
+import barley.wire.wirebarley.common.util.MoneyUtils;
+import java.math.BigDecimal;
+import java.math.MathContext;
+import java.math.RoundingMode;
+import java.util.Objects;
+
+/**
+ * 통화별 최소 단위(minor unit) 정수로 표현한 금액
+ * 소수점 자릿수는 {@link MoneyUtils#getScale(Currency)}를 따르며 (KRW 1원, 그 외 0.01 단위),
+ * 연산은 long 범위에서 오버플로를 검사하고 BigDecimal 없이 수행합니다.
+ * 반올림 규칙은 MoneyUtils와 같습니다. (금액 정규화·환전 HALF_UP, 수수료 UP)
+ */
+public final class Money implements Comparable<Money> {
+
+    private static final long[] POWERS_OF_TEN = {
+            1L, 10L, 100L, 1_000L, 10_000L, 100_000L, 1_000_000L, 10_000_000L, 100_000_000L, 1_000_000_000L,
+            10_000_000_000L, 100_000_000_000L, 1_000_000_000_000L, 10_000_000_000_000L, 100_000_000_000_000L,
+            1_000_000_000_000_000L, 10_000_000_000_000_000L, 100_000_000_000_000_000L,
+            1_000_000_000_000_000_000L };
+
+    private final long minorUnits;
+    private final Currency currency;
+
+    private Money(long minorUnits, Currency currency) {
+        this.minorUnits = minorUnits;
+        this.currency = Objects.requireNonNull(currency, "currency");
+    }
+
+    public static Money ofMinor(long minorUnits, Currency currency) {
+        return new Money(minorUnits, currency);
+    }
+
+    public static Money zero(Currency currency) {
+        return new Money(0L, currency);
+    }
+
+    /**
+     * BigDecimal 금액을 통화 소수점 자릿수로 반올림(HALF_UP)하여 변환
+     *
+     * @throws ArithmeticException 최소 단위 금액이 long 범위를 벗어나는 경우
+     */
+    public static Money of(BigDecimal amount, Currency currency) {
+        int scale = MoneyUtils.getScale(currency);
+        return new Money(amount.setScale(scale, RoundingMode.HALF_UP).unscaledValue().longValueExact(), currency);
+    }
+
+    public long minorUnits() {
+        return minorUnits;
+    }
+
+    public Currency currency() {
+        return currency;
+    }
+
+    public int signum() {
+        return Long.signum(minorUnits);
+    }
+
+    public Money add(Money other) {
+        requireSameCurrency(other);
+        return new Money(Math.addExact(minorUnits, other.minorUnits), currency);
+    }
+
+    public Money subtract(Money other) {
+        requireSameCurrency(other);
+        return new Money(Math.subtractExact(minorUnits, other.minorUnits), currency);
+    }
+
+    /**
+     * 같은 통화로 배율 적용 (수수료 계산 시 RoundingMode.UP)
+     */
+    public Money multiply(Rate rate, RoundingMode roundingMode) {
+        return convert(rate, currency, roundingMode);
+    }
+
+    /**
+     * 환율을 적용하여 다른 통화 금액으로 환전 (대상 통화 소수점 자릿수로 반올림)
+     */
+    public Money convert(Rate rate, Currency targetCurrency, RoundingMode roundingMode) {
+        int sourceScale = MoneyUtils.getScale(currency);
+        int targetScale = MoneyUtils.getScale(targetCurrency);
+        return new Money(scaleProduct(minorUnits, rate.units(), sourceScale + rate.scale() - targetScale, roundingMode),
+                targetCurrency);
+    }
+
+    public boolean isGreaterThan(Money other) {
+        return compareTo(other) > 0;
+    }
+
+    public BigDecimal toBigDecimal() {
+        return BigDecimal.valueOf(minorUnits, MoneyUtils.getScale(currency));
+    }
+
+    @Override
+    public int compareTo(Money other) {
+        requireSameCurrency(other);
+        return Long.compare(minorUnits, other.minorUnits);
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) {
+            return true;
+        }
+        return o instanceof Money other && minorUnits == other.minorUnits && currency == other.currency;
+    }
+
+    @Override
+    public int hashCode() {
+        return Long.hashCode(minorUnits) * 31 + currency.hashCode();
+    }
+
+    @Override
+    public String toString() {
+        return toBigDecimal().toPlainString() + " " + currency;
+    }
+
+    private void requireSameCurrency(Money other) {
+        if (currency != other.currency) {
+            throw new IllegalArgumentException("통화가 다른 금액은 연산할 수 없습니다: " + currency + ", " + other.currency);
+        }
+    }
+
+    /**
+     * value × factor 를 10^shift 로 나눈 값 (shift가 음수면 곱함)
+     * 곱셈이 long 범위를 넘는 경우에만 BigDecimal로 계산합니다.
+     */
+    static long scaleProduct(long value, long factor, int shift, RoundingMode roundingMode) {
+        try {
+            long product = Math.multiplyExact(value, factor);
+            if (shift <= 0) {
+                return Math.multiplyExact(product, powerOfTen(-shift));
+            }
+            return divide(product, powerOfTen(shift), roundingMode);
+        } catch (ArithmeticException e) {
+            return BigDecimal.valueOf(value).multiply(BigDecimal.valueOf(factor))
+                    .movePointLeft(shift)
+                    .setScale(0, roundingMode)
+                    .longValueExact();
+        }
+    }
+
+    private static long powerOfTen(int exponent) {
+        if (exponent >= POWERS_OF_TEN.length) {
+            throw new ArithmeticException("10^" + exponent + " exceeds long range");
+        }
+        return POWERS_OF_TEN[exponent];
+    }
+
+    // 부호를 고려한 정수 나눗셈 반올림 (UP/HALF_UP은 0에서 멀어지는 방향)
+    private static long divide(long dividend, long divisor, RoundingMode roundingMode) {
+        long quotient = dividend / divisor;
+        long remainder = dividend % divisor;
+        if (remainder == 0) {
+            return quotient;
+        }
+
+        long increment = dividend < 0 ? -1 : 1;
+        return switch (roundingMode) {
+            case UP -> quotient + increment;
+            case DOWN -> quotient;
+            case HALF_UP -> Math.abs(remainder) >= divisor - Math.abs(remainder) ? quotient + increment : quotient;
+            default -> throw new IllegalArgumentException("지원하지 않는 반올림 방식입니다: " + roundingMode);
+        };
+    }
+
+    /**
+     * 고정소수점 배율 (환율, 수수료율)
+     * units × 10^-scale 로 해석하며, 요청마다 BigDecimal에서 변환하지 않도록 상수나 견적에 보관해 재사용합니다.
+     */
+    public record Rate(long units, int scale) {
+
+        // long에 담을 수 있는 최대 유효 자릿수
+        private static final MathContext LONG_PRECISION = new MathContext(18, RoundingMode.HALF_UP);
+
+        public Rate {
+            if (scale < 0 || scale >= POWERS_OF_TEN.length) {
+                throw new IllegalArgumentException("scale must be between 0 and 18: " + scale);
+            }
+        }
+
+        public static Rate of(BigDecimal rate) {
+            BigDecimal normalized = (rate.precision() > LONG_PRECISION.getPrecision() ? rate.round(LONG_PRECISION) : rate)
+                    .stripTrailingZeros();
+            if (normalized.scale() < 0) {
+                normalized = normalized.setScale(0);
+            }
+            return new Rate(normalized.unscaledValue().longValueExact(), normalized.scale());
+        }
+    }
+}
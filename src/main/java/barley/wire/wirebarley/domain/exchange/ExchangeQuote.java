@@ -0,0 +1,133 @@
+package barley.wire.wirebarley.domain.exchange;
+
+import barley.wire.wirebarley.common.util.TimeUtil;
+import barley.wire.wirebarley.domain.account.Currency;
+import jakarta.persistence.*;
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.time.LocalDateTime;
+import java.util.UUID;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import org.springframework.data.domain.Persistable;
+
+/**
+ * 글로벌 송금 환율 견적
+ * 견적 시점의 환율과 수수료를 고정하며, 만료 전 한 번만 송금에 사용할 수 있습니다.
+ */
+@Entity
+@Table(name = "exchange_quotes")
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+public class ExchangeQuote implements Persistable<String> {
+
+    // 메모리/DB 어느 쪽에서 읽어도 같은 금액이 나오도록 환율을 저장 스케일로 맞춘 뒤 계산
+    private static final int RATE_SCALE = 10;
+
+    @Id
+    @Column(length = 36)
+    private String id;
+
+    @Column(nullable = false)
+    private Long fromAccountId;
+
+    @Column(nullable = false)
+    private Long toAccountId;
+
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false)
+    private Currency fromCurrency;
+
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false)
+    private Currency toCurrency;
+
+    @Column(nullable = false, precision = 19, scale = 4)
+    private BigDecimal amount;
+
+    @Column(nullable = false, precision = 19, scale = RATE_SCALE)
+    private BigDecimal exchangeRate;
+
+    // 출금 통화 -> 원화 환율 (일일 한도 환산용, 컬럼 추가 전 견적은 null)
+    @Column(precision = 19, scale = RATE_SCALE)
+    private BigDecimal krwRate;
+
+    @Column(nullable = false, precision = 19, scale = 4)
+    private BigDecimal convertedAmount;
+
+    @Column(nullable = false, precision = 19, scale = 4)
+    private BigDecimal exchangeFee;
+
+    @Column(nullable = false, precision = 19, scale = 4)
+    private BigDecimal depositAmount;
+
+    @Column(nullable = false, precision = 19, scale = 4)
+    private BigDecimal transferFee;
+
+    @Column(nullable = false, precision = 19, scale = 4)
+    private BigDecimal totalWithdrawAmount;
+
+    @Column(nullable = false)
+    private LocalDateTime createdAt;
+
+    @Column(nullable = false)
+    private LocalDateTime expiresAt;
+
+    private LocalDateTime usedAt;
+
+    // 견적 ID를 직접 할당하므로 저장 시 merge(SELECT) 대신 바로 INSERT 하도록 신규 여부를 관리
+    @Transient
+    @Getter(AccessLevel.NONE)
+    private boolean newQuote = true;
+
+    public ExchangeQuote(Long fromAccountId, Long toAccountId, Currency fromCurrency, Currency toCurrency,
+            BigDecimal amount, BigDecimal exchangeRate, BigDecimal krwRate, LocalDateTime expiresAt) {
+        TransferPricing pricing = TransferPricing.of(amount, fromCurrency, toCurrency,
+                exchangeRate.setScale(RATE_SCALE, RoundingMode.HALF_UP));
+
+        this.id = UUID.randomUUID().toString();
+        this.fromAccountId = fromAccountId;
+        this.toAccountId = toAccountId;
+        this.fromCurrency = fromCurrency;
+        this.toCurrency = toCurrency;
+        this.amount = amount;
+        this.exchangeRate = pricing.exchangeRate();
+        this.krwRate = krwRate.setScale(RATE_SCALE, RoundingMode.HALF_UP);
+        this.convertedAmount = pricing.convertedAmount();
+        this.exchangeFee = pricing.exchangeFee();
+        this.depositAmount = pricing.depositAmount();
+        this.transferFee = pricing.transferFee();
+        this.totalWithdrawAmount = pricing.totalWithdrawAmount();
+        this.createdAt = TimeUtil.nowDateTime();
+        this.expiresAt = expiresAt;
+    }
+
+    @Override
+    public boolean isNew() {
+        return newQuote;
+    }
+
+    @PostLoad
+    @PostPersist
+    void markPersisted() {
+        this.newQuote = false;
+    }
+
+    public boolean isExpired() {
+        return TimeUtil.nowDateTime().isAfter(expiresAt);
+    }
+
+    /**
+     * 요청한 송금과 견적 조건(계좌, 금액)이 일치하는지 확인
+     */
+    public boolean matches(Long fromAccountId, Long toAccountId, BigDecimal amount) {
+        return this.fromAccountId.equals(fromAccountId) && this.toAccountId.equals(toAccountId)
+                && this.amount.compareTo(amount) == 0;
+    }
+
+    public TransferPricing toPricing() {
+        return new TransferPricing(fromCurrency, toCurrency, amount, exchangeRate, convertedAmount, exchangeFee,
+                depositAmount, transferFee, totalWithdrawAmount);
+    }
+}
@@ -19,8 +19,10 @@ import java.time.LocalDateTime;
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
 public class ExchangeRate {
 
+    // 환율 스냅샷을 배치 INSERT 할 수 있도록 pooled 시퀀스 사용 (100개 단위 할당)
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "exchange_rate_id_generator")
+    @SequenceGenerator(name = "exchange_rate_id_generator", sequenceName = "exchange_rates_seq", allocationSize = 100)
     private Long id;
 
     @Enumerated(EnumType.STRING)
@@ -0,0 +1,116 @@
+package barley.wire.wirebarley.domain.exchange;
+
+import barley.wire.wirebarley.domain.account.Currency;
+import java.math.BigDecimal;
+import java.math.MathContext;
+import java.math.RoundingMode;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 전체 통화 쌍 환율 매트릭스 (불변)
+ * 통화 ordinal로 색인한 2차원 배열이라 조회 시 락이나 객체 생성이 없습니다.
+ * 직접 환율이 없는 통화 쌍은 KRW 교차 환율(from → KRW → to)로 계산합니다.
+ */
+public final class ExchangeRateMatrix {
+
+    private static final Currency[] CURRENCIES = Currency.values();
+    private static final Currency PIVOT = Currency.KRW;
+    // exchange_rates.rate 컬럼 소수점 자리수
+    private static final int RATE_SCALE = 6;
+
+    public static final ExchangeRateMatrix EMPTY = new ExchangeRateMatrix(
+            new BigDecimal[CURRENCIES.length][CURRENCIES.length], null);
+
+    private final BigDecimal[][] rates;
+    private final LocalDateTime asOf;
+
+    private ExchangeRateMatrix(BigDecimal[][] rates, LocalDateTime asOf) {
+        this.rates = rates;
+        this.asOf = asOf;
+    }
+
+    /**
+     * @param directRates 기준 통화별 직접 환율 (기준 통화 → 대상 통화 → 환율)
+     * @param asOf        스냅샷 기준 시각
+     */
+    public static ExchangeRateMatrix of(Map<Currency, Map<Currency, BigDecimal>> directRates, LocalDateTime asOf) {
+        BigDecimal[][] rates = new BigDecimal[CURRENCIES.length][CURRENCIES.length];
+        directRates.forEach((from, row) -> row.forEach((to, rate) -> {
+            if (rate != null && rate.signum() > 0) {
+                rates[from.ordinal()][to.ordinal()] = rate;
+            }
+        }));
+
+        for (Currency currency : CURRENCIES) {
+            rates[currency.ordinal()][currency.ordinal()] = BigDecimal.ONE;
+        }
+
+        // 교차 환율은 반올림된 다른 교차 환율이 아닌 직접 환율로만 계산
+        BigDecimal[][] direct = new BigDecimal[CURRENCIES.length][];
+        for (int i = 0; i < CURRENCIES.length; i++) {
+            direct[i] = rates[i].clone();
+        }
+
+        for (Currency from : CURRENCIES) {
+            for (Currency to : CURRENCIES) {
+                if (rates[from.ordinal()][to.ordinal()] == null) {
+                    rates[from.ordinal()][to.ordinal()] = crossRate(direct, from, to);
+                }
+            }
+        }
+        return new ExchangeRateMatrix(rates, asOf);
+    }
+
+    /**
+     * @return 환율 (직접/교차 환율 모두 없으면 null)
+     */
+    public BigDecimal getRate(Currency from, Currency to) {
+        return rates[from.ordinal()][to.ordinal()];
+    }
+
+    public boolean isEmpty() {
+        return asOf == null;
+    }
+
+    public LocalDateTime getAsOf() {
+        return asOf;
+    }
+
+    /**
+     * 스냅샷 저장용 환율 목록 (같은 통화 쌍 제외)
+     */
+    public List<ExchangeRate> toExchangeRates() {
+        List<ExchangeRate> exchangeRates = new ArrayList<>();
+        for (Currency from : CURRENCIES) {
+            for (Currency to : CURRENCIES) {
+                BigDecimal rate = getRate(from, to);
+                if (from != to && rate != null) {
+                    exchangeRates.add(new ExchangeRate(from, to, rate));
+                }
+            }
+        }
+        return exchangeRates;
+    }
+
+    private static BigDecimal crossRate(BigDecimal[][] rates, Currency from, Currency to) {
+        BigDecimal toPivot = pivotRate(rates, from, PIVOT);
+        BigDecimal fromPivot = pivotRate(rates, PIVOT, to);
+        if (toPivot == null || fromPivot == null) {
+            return null;
+        }
+        return toPivot.multiply(fromPivot, MathContext.DECIMAL64).setScale(RATE_SCALE, RoundingMode.HALF_UP);
+    }
+
+    // 직접 환율이 없으면 역방향 환율의 역수 사용
+    private static BigDecimal pivotRate(BigDecimal[][] rates, Currency from, Currency to) {
+        BigDecimal direct = rates[from.ordinal()][to.ordinal()];
+        if (direct != null) {
+            return direct;
+        }
+        BigDecimal inverse = rates[to.ordinal()][from.ordinal()];
+        return inverse != null ? BigDecimal.ONE.divide(inverse, MathContext.DECIMAL64) : null;
+    }
+}
@@ -0,0 +1,49 @@
+package barley.wire.wirebarley.domain.exchange;
+
+import static barley.wire.wirebarley.common.constants.TransferConstants.EXCHANGE_FEE;
+import static barley.wire.wirebarley.common.constants.TransferConstants.TRANSFER_FEE;
+
+import barley.wire.wirebarley.domain.account.Currency;
+import barley.wire.wirebarley.domain.account.Money;
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+
+/**
+ * 글로벌 송금 금액 계산 결과
+ * 하나의 환율로 환전 금액, 환전 수수료(입금 통화), 이체 수수료(출금 통화)를 한 번에 계산합니다.
+ * 계산은 {@link Money} 최소 단위 정수로 수행하고, 결과만 BigDecimal로 변환합니다.
+ *
+ * @param convertedAmount     환전 금액 (수수료 차감 전)
+ * @param depositAmount       환전 수수료를 차감한 최종 입금 금액
+ * @param totalWithdrawAmount 이체 수수료를 포함한 총 출금 금액
+ */
+public record TransferPricing(
+        Currency fromCurrency,
+        Currency toCurrency,
+        BigDecimal amount,
+        BigDecimal exchangeRate,
+        BigDecimal convertedAmount,
+        BigDecimal exchangeFee,
+        BigDecimal depositAmount,
+        BigDecimal transferFee,
+        BigDecimal totalWithdrawAmount) {
+
+    public static TransferPricing of(BigDecimal amount, Currency fromCurrency, Currency toCurrency,
+            BigDecimal exchangeRate) {
+        Money principal = Money.of(amount, fromCurrency);
+        Money convertedAmount = principal.convert(Money.Rate.of(exchangeRate), toCurrency, RoundingMode.HALF_UP);
+
+        // 동일 통화일 경우 환전 수수료는 0원
+        Money exchangeFee = fromCurrency == toCurrency
+                ? Money.zero(toCurrency)
+                : convertedAmount.multiply(EXCHANGE_FEE, RoundingMode.UP);
+        Money depositAmount = convertedAmount.subtract(exchangeFee);
+
+        Money transferFee = principal.multiply(TRANSFER_FEE, RoundingMode.UP);
+        Money totalWithdrawAmount = principal.add(transferFee);
+
+        return new TransferPricing(fromCurrency, toCurrency, amount, exchangeRate, convertedAmount.toBigDecimal(),
+                exchangeFee.toBigDecimal(), depositAmount.toBigDecimal(), transferFee.toBigDecimal(),
+                totalWithdrawAmount.toBigDecimal());
+    }
+}
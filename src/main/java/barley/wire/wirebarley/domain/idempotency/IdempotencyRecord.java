@@ -4,7 +4,13 @@ import jakarta.persistence.*;
 import lombok.AccessLevel;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
 import java.time.LocalDateTime;
+import java.util.zip.GZIPInputStream;
 import barley.wire.wirebarley.common.util.TimeUtil;
 
 @Entity
@@ -28,10 +34,25 @@ public class IdempotencyRecord {
     @Column(length = 64)
     private String requestBodyHash;
 
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false, length = 20)
+    private IdempotencyStatus status;
+
+    // 이전 형식(JSON 텍스트) 응답, 신규 레코드는 responsePayload에 저장
     @Column(columnDefinition = "TEXT")
     private String responseBody;
 
-    @Column(nullable = false)
+    // gzip 압축된 응답 본문
+    @Column(columnDefinition = "MEDIUMBLOB")
+    private byte[] responsePayload;
+
+    @Column(length = 100)
+    private String responseContentType;
+
+    @Column(columnDefinition = "TEXT")
+    private String responseHeaders;
+
+    // 처리 중(IN_PROGRESS)인 레코드는 응답 코드가 없음
     private Integer responseStatus;
 
     @Column(nullable = false)
@@ -41,17 +62,53 @@ public class IdempotencyRecord {
     private LocalDateTime expiresAt;
 
     public IdempotencyRecord(String idempotencyKey, String requestPath, String requestBodyHash,
-            String responseBody, Integer responseStatus, LocalDateTime expiresAt) {
+            IdempotencyResponse response, LocalDateTime expiresAt) {
         this.idempotencyKey = idempotencyKey;
         this.requestPath = requestPath;
         this.requestBodyHash = requestBodyHash;
-        this.responseBody = responseBody;
-        this.responseStatus = responseStatus;
         this.createdAt = TimeUtil.nowDateTime();
-        this.expiresAt = expiresAt;
+        complete(response, expiresAt);
     }
 
     public boolean isExpired() {
         return TimeUtil.nowDateTime().isAfter(expiresAt);
     }
+
+    public boolean isCompleted() {
+        return this.status == IdempotencyStatus.COMPLETED;
+    }
+
+    /**
+     * 선점한 키의 처리 결과 기록
+     */
+    public void complete(IdempotencyResponse response, LocalDateTime expiresAt) {
+        this.status = IdempotencyStatus.COMPLETED;
+        this.responsePayload = response.payload();
+        this.responseContentType = response.contentType();
+        this.responseHeaders = response.headers();
+        this.responseStatus = response.status();
+        this.expiresAt = expiresAt;
+    }
+
+    /**
+     * 압축 저장된 응답 여부 (이전 형식 레코드는 false)
+     */
+    public boolean isCompressed() {
+        return this.responsePayload != null;
+    }
+
+    /**
+     * 응답 본문 스트림 (압축 저장된 응답은 읽으면서 압축 해제)
+     */
+    public InputStream openResponseBody() {
+        if (responsePayload == null) {
+            byte[] legacy = responseBody != null ? responseBody.getBytes(StandardCharsets.UTF_8) : new byte[0];
+            return new ByteArrayInputStream(legacy);
+        }
+        try {
+            return new GZIPInputStream(new ByteArrayInputStream(responsePayload));
+        } catch (IOException e) {
+            throw new UncheckedIOException("멱등성 응답 압축 해제에 실패했습니다.", e);
+        }
+    }
 }
@@ -0,0 +1,12 @@
+package barley.wire.wirebarley.domain.idempotency;
+
+/**
+ * 멱등성 키로 저장하는 HTTP 응답 (재처리 시 그대로 다시 응답)
+ *
+ * @param status      상태 코드
+ * @param contentType Content-Type (없으면 null)
+ * @param headers     그 밖의 응답 헤더, "이름: 값" 한 줄에 하나 (없으면 null)
+ * @param payload     gzip 압축된 응답 본문
+ */
+public record IdempotencyResponse(int status, String contentType, String headers, byte[] payload) {
+}
@@ -0,0 +1,6 @@
+package barley.wire.wirebarley.domain.idempotency;
+
+public enum IdempotencyStatus {
+    IN_PROGRESS, // 키 선점 후 처리 중 (응답 없음)
+    COMPLETED // 처리 완료 (응답 보관)
+}
@@ -0,0 +1,43 @@
+package barley.wire.wirebarley.domain.limit;
+
+import barley.wire.wirebarley.domain.transaction.TransactionType;
+import jakarta.persistence.*;
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+/**
+ * 계좌별 일일 한도 누적 금액
+ * 출금/이체 발생 시 잔액 변경과 같은 트랜잭션에서 누적되며, 한도 검증 시 단건 조회로 사용됩니다.
+ */
+@Entity
+@Table(name = "daily_limit_usages", uniqueConstraints = {
+        @UniqueConstraint(name = "uk_daily_limit_usage", columnNames = { "account_id", "usage_date", "type" })
+})
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+public class DailyLimitUsage {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(name = "account_id", nullable = false)
+    private Long accountId;
+
+    @Column(name = "usage_date", nullable = false)
+    private LocalDate usageDate;
+
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false, length = 20)
+    private TransactionType type;
+
+    @Column(nullable = false)
+    private BigDecimal amount;
+
+    @Column(name = "updated_at", nullable = false, insertable = false, updatable = false)
+    private LocalDateTime updatedAt;
+}
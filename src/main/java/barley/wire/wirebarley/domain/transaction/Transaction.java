@@ -1,6 +1,7 @@
 package barley.wire.wirebarley.domain.transaction;
 
 import barley.wire.wirebarley.domain.account.Currency;
+import barley.wire.wirebarley.domain.account.Money;
 import barley.wire.wirebarley.common.util.TimeUtil;
 import jakarta.persistence.*;
 import java.math.BigDecimal;
@@ -14,9 +15,11 @@ import lombok.NoArgsConstructor;
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
 public class Transaction {
 
+    // INSERT 전에 ID를 할당받아 JDBC 배치 INSERT가 가능하도록 pooled 시퀀스 사용 (100개 단위 할당)
     @Getter
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "transaction_id_generator")
+    @SequenceGenerator(name = "transaction_id_generator", sequenceName = "transactions_seq", allocationSize = 100)
     private Long id;
 
     @Column(nullable = false)
@@ -27,23 +30,30 @@ public class Transaction {
     @Column(nullable = false, length = 20)
     private TransactionType type;
 
-    @Getter
     @Column(nullable = false)
     private BigDecimal amount;
 
-    @Getter
+    @Column(name = "amount_minor")
+    private Long amountMinor;
+
     @Column(nullable = false)
     private BigDecimal fee;
 
+    @Column(name = "fee_minor")
+    private Long feeMinor;
+
     @Enumerated(EnumType.STRING)
     @Column(nullable = false, length = 10)
     @Getter
     private Currency currency;
 
-    @Getter
     @Column(name = "balance_snapshot")
     private BigDecimal balanceSnapshot;
 
+    // 금액 컬럼의 최소 단위 값 (DECIMAL 컬럼과 이중 기록, 백필 전 기존 행은 null)
+    @Column(name = "balance_snapshot_minor")
+    private Long balanceSnapshotMinor;
+
     @Getter
     @Column(name = "related_account_id")
     private Long relatedAccountId;
@@ -52,9 +62,16 @@ public class Transaction {
     @Column(name = "created_at", nullable = false, updatable = false)
     private LocalDateTime createdAt;
 
+    // 아웃박스에서 옮겨진 경우 원본 아웃박스 ID (중복 저장 방지)
+    @Getter
+    @Column(name = "outbox_id", unique = true)
+    private Long outboxId;
+
     @PrePersist
     public void prePersist() {
-        createdAt = TimeUtil.nowDateTime();
+        if (createdAt == null) {
+            createdAt = TimeUtil.nowDateTime();
+        }
     }
 
     public Transaction(Long accountId, TransactionType type, BigDecimal amount, BigDecimal fee,
@@ -66,5 +83,40 @@ public class Transaction {
         this.balanceSnapshot = balanceSnapshot;
         this.relatedAccountId = relatedAccountId;
         this.currency = currency;
+        this.amountMinor = toMinor(amount);
+        this.feeMinor = toMinor(fee);
+        this.balanceSnapshotMinor = toMinor(balanceSnapshot);
+    }
+
+    /**
+     * 아웃박스 레코드를 거래 내역으로 변환 (거래 발생 시각 유지)
+     */
+    public static Transaction from(TransactionOutbox outbox) {
+        Transaction transaction = new Transaction(outbox.getAccountId(), outbox.getType(), outbox.getAmount(),
+                outbox.getFee(), outbox.getBalanceSnapshot(), outbox.getRelatedAccountId(), outbox.getCurrency());
+        transaction.createdAt = outbox.getCreatedAt();
+        transaction.outboxId = outbox.getId();
+        return transaction;
+    }
+
+    // 최소 단위 금액이 기록된 행은 해당 값을 사용 (조회 시 필드를 변경하지 않아 거래 내역 행이 다시 기록되지 않음)
+    public BigDecimal getAmount() {
+        return fromMinor(amountMinor, amount);
+    }
+
+    public BigDecimal getFee() {
+        return fromMinor(feeMinor, fee);
+    }
+
+    public BigDecimal getBalanceSnapshot() {
+        return fromMinor(balanceSnapshotMinor, balanceSnapshot);
+    }
+
+    private Long toMinor(BigDecimal value) {
+        return value == null ? null : Money.of(value, currency).minorUnits();
+    }
+
+    private BigDecimal fromMinor(Long minorUnits, BigDecimal value) {
+        return minorUnits == null ? value : Money.ofMinor(minorUnits, currency).toBigDecimal();
     }
 }
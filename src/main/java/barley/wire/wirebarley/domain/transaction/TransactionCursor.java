@@ -0,0 +1,43 @@
+package barley.wire.wirebarley.domain.transaction;
+
+import barley.wire.wirebarley.common.exception.InvalidCursorException;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeParseException;
+import java.util.Base64;
+
+/**
+ * 거래 내역 커서 (마지막으로 조회한 거래의 발생 시각, ID)
+ * 클라이언트에는 Base64 URL-safe 문자열로 전달하며, (account_id, created_at) 인덱스를 커서 위치부터 바로 탐색합니다.
+ */
+public record TransactionCursor(LocalDateTime createdAt, Long id) {
+
+    private static final String DELIMITER = "_";
+
+    public static TransactionCursor from(Transaction transaction) {
+        return new TransactionCursor(transaction.getCreatedAt(), transaction.getId());
+    }
+
+    /**
+     * @return 커서 문자열이 비어 있으면 null (첫 페이지)
+     */
+    public static TransactionCursor decode(String cursor) {
+        if (cursor == null || cursor.isBlank()) {
+            return null;
+        }
+
+        try {
+            String decoded = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8);
+            int delimiterIndex = decoded.lastIndexOf(DELIMITER);
+            return new TransactionCursor(LocalDateTime.parse(decoded.substring(0, delimiterIndex)),
+                    Long.parseLong(decoded.substring(delimiterIndex + 1)));
+        } catch (IllegalArgumentException | IndexOutOfBoundsException | DateTimeParseException e) {
+            throw new InvalidCursorException("유효하지 않은 커서입니다: " + cursor);
+        }
+    }
+
+    public String encode() {
+        String raw = createdAt + DELIMITER + id;
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+}
@@ -0,0 +1,69 @@
+package barley.wire.wirebarley.domain.transaction;
+
+import barley.wire.wirebarley.common.util.TimeUtil;
+import barley.wire.wirebarley.domain.account.Currency;
+import jakarta.persistence.*;
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+/**
+ * 거래 내역 아웃박스 레코드
+ * 비즈니스 트랜잭션에서 추가되고, 드레이너가 ID 순서대로 transactions 행으로 옮긴 뒤 삭제합니다.
+ */
+@Entity
+@Table(name = "transaction_outbox")
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+public class TransactionOutbox {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "transaction_outbox_id_generator")
+    @SequenceGenerator(name = "transaction_outbox_id_generator", sequenceName = "transaction_outbox_seq",
+            allocationSize = 100)
+    private Long id;
+
+    @Column(name = "account_id", nullable = false)
+    private Long accountId;
+
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false, length = 20)
+    private TransactionType type;
+
+    @Column(nullable = false)
+    private BigDecimal amount;
+
+    @Column(nullable = false)
+    private BigDecimal fee;
+
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false, length = 10)
+    private Currency currency;
+
+    @Column(name = "balance_snapshot")
+    private BigDecimal balanceSnapshot;
+
+    @Column(name = "related_account_id")
+    private Long relatedAccountId;
+
+    @Column(name = "created_at", nullable = false, updatable = false)
+    private LocalDateTime createdAt;
+
+    @PrePersist
+    public void prePersist() {
+        createdAt = TimeUtil.nowDateTime();
+    }
+
+    public TransactionOutbox(Long accountId, TransactionType type, BigDecimal amount, BigDecimal fee,
+            BigDecimal balanceSnapshot, Long relatedAccountId, Currency currency) {
+        this.accountId = accountId;
+        this.type = type;
+        this.amount = amount;
+        this.fee = fee;
+        this.balanceSnapshot = balanceSnapshot;
+        this.relatedAccountId = relatedAccountId;
+        this.currency = currency;
+    }
+}
@@ -1,16 +1,15 @@
 package barley.wire.wirebarley.infrastructure.aop;
 
-import static barley.wire.wirebarley.common.constants.IdempotencyConstants.TTL_MINUTES;
-
 import java.lang.annotation.ElementType;
 import java.lang.annotation.Retention;
 import java.lang.annotation.RetentionPolicy;
 import java.lang.annotation.Target;
 
+/**
+ * OPTIMISTIC 잔액 변경 모드에서 @Version 충돌 시 트랜잭션 단위로 재시도
+ * 트랜잭션 바깥에서 실행되어야 하므로 @Transactional 메서드에 함께 선언합니다.
+ */
 @Target(ElementType.METHOD)
 @Retention(RetentionPolicy.RUNTIME)
-public @interface Idempotent {
-    int ttl() default TTL_MINUTES;
-
-    boolean required() default true;
+public @interface OptimisticRetry {
 }
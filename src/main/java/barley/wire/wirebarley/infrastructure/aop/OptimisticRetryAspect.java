@@ -0,0 +1,83 @@
+package barley.wire.wirebarley.infrastructure.aop;
+
+import barley.wire.wirebarley.infrastructure.config.BalanceProperties;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.persistence.OptimisticLockException;
+import java.util.concurrent.ThreadLocalRandom;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.aspectj.lang.ProceedingJoinPoint;
+import org.aspectj.lang.annotation.Around;
+import org.aspectj.lang.annotation.Aspect;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.dao.OptimisticLockingFailureException;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+/**
+ * 낙관적 락 충돌 재시도 AOP 컴포넌트
+ * 트랜잭션 어드바이저보다 먼저 실행되어 매 시도마다 새로운 트랜잭션에서 재실행합니다.
+ */
+@Aspect
+@Component
+@Order(Ordered.HIGHEST_PRECEDENCE)
+@RequiredArgsConstructor
+@Slf4j
+public class OptimisticRetryAspect {
+
+    private static final String METRIC_PREFIX = "wirebarley.balance.optimistic";
+
+    private final BalanceProperties balanceProperties;
+    private final MeterRegistry meterRegistry;
+
+    @Around("@annotation(optimisticRetry)")
+    public Object retryOnConflict(ProceedingJoinPoint joinPoint, OptimisticRetry optimisticRetry) throws Throwable {
+        // 이미 트랜잭션 안에서 호출된 경우 재시도해도 같은 트랜잭션이므로 바깥으로 위임
+        if (!balanceProperties.isOptimistic() || TransactionSynchronizationManager.isActualTransactionActive()) {
+            return joinPoint.proceed();
+        }
+
+        BalanceProperties.Retry retry = balanceProperties.retry();
+        String method = joinPoint.getSignature().toShortString();
+        int attempt = 1;
+
+        while (true) {
+            try {
+                Object result = joinPoint.proceed();
+                meterRegistry.summary(METRIC_PREFIX + ".attempts", "method", method).record(attempt);
+                return result;
+            } catch (OptimisticLockingFailureException | OptimisticLockException e) {
+                meterRegistry.counter(METRIC_PREFIX + ".conflicts", "method", method).increment();
+
+                if (attempt >= retry.maxAttempts()) {
+                    meterRegistry.counter(METRIC_PREFIX + ".exhausted", "method", method).increment();
+                    log.warn("낙관적 락 재시도 한도 초과 - method: {}, attempts: {}", method, attempt);
+                    throw e;
+                }
+
+                meterRegistry.counter(METRIC_PREFIX + ".retries", "method", method).increment();
+                log.debug("낙관적 락 충돌 재시도 - method: {}, attempt: {}", method, attempt);
+
+                backoff(attempt, retry, e);
+                attempt++;
+            }
+        }
+    }
+
+    // 지수 증가 대기 시간의 절반 ~ 전체 구간에서 무작위 대기 (동시 재시도 분산)
+    private void backoff(int attempt, BalanceProperties.Retry retry, RuntimeException cause) {
+        long base = retry.initialBackoff().toMillis() << Math.min(attempt - 1, 16);
+        long delay = Math.min(base, retry.maxBackoff().toMillis());
+        if (delay <= 0) {
+            return;
+        }
+
+        try {
+            Thread.sleep(ThreadLocalRandom.current().nextLong(delay / 2, delay + 1));
+        } catch (InterruptedException ie) {
+            Thread.currentThread().interrupt();
+            throw cause;
+        }
+    }
+}
@@ -0,0 +1,188 @@
+package barley.wire.wirebarley.infrastructure.client;
+
+import barley.wire.wirebarley.domain.account.Currency;
+import barley.wire.wirebarley.infrastructure.config.ExchangeRateProperties;
+import barley.wire.wirebarley.presentation.dto.response.ExchangeRateApiResponse;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicInteger;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.stereotype.Component;
+
+/**
+ * 외부 환율 API 호출 조율
+ * 우선순위 순으로 API를 호출하되, 응답이 hedgeDelay 안에 오지 않거나 실패하면 다음 API에 추가 요청을 보내고
+ * 가장 먼저 도착한 정상 응답을 사용합니다. 전체 대기는 deadline으로 제한하며, 연속 실패한 API는 서킷 브레이커로 건너뜁니다.
+ */
+@Component
+@Slf4j
+public class ExchangeRateFetcher {
+
+    private static final String METRIC_PREFIX = "wirebarley.exchange-rate.provider";
+
+    private final List<Provider> providers;
+    private final ExchangeRateProperties.Provider properties;
+    private final MeterRegistry meterRegistry;
+    private final Executor executor;
+
+    public ExchangeRateFetcher(List<ExchangeRateApi> exchangeRateApis, ExchangeRateProperties exchangeRateProperties,
+            MeterRegistry meterRegistry, @Qualifier("exchangeRateFetchExecutor") Executor executor) {
+        this.properties = exchangeRateProperties.provider();
+        this.meterRegistry = meterRegistry;
+        this.executor = executor;
+
+        List<Provider> registered = new ArrayList<>();
+        for (int i = 0; i < exchangeRateApis.size(); i++) {
+            ExchangeRateApi api = exchangeRateApis.get(i);
+            String name = providerName(api, i);
+            registered.add(new Provider(name, api,
+                    new ProviderCircuitBreaker(properties.circuitBreaker(), System::nanoTime),
+                    Timer.builder(METRIC_PREFIX + ".latency")
+                            .tag("provider", name)
+                            .publishPercentileHistogram()
+                            .register(meterRegistry)));
+        }
+        this.providers = List.copyOf(registered);
+    }
+
+    /**
+     * 기준 통화의 전체 환율 조회
+     *
+     * @return 대상 통화별 환율 (모든 API 실패, 차단 또는 제한 시간 초과 시 빈 Map)
+     */
+    public Map<Currency, BigDecimal> fetchRates(Currency baseCurrency) {
+        Race race = new Race(baseCurrency);
+        race.launchNext();
+
+        try {
+            return race.winner.get(properties.deadline().toMillis(), TimeUnit.MILLISECONDS);
+        } catch (TimeoutException e) {
+            meterRegistry.counter(METRIC_PREFIX + ".deadline-exceeded").increment();
+            log.warn("환율 API 제한 시간 초과 - base: {}, deadline: {}", baseCurrency, properties.deadline());
+        } catch (ExecutionException e) {
+            log.warn("환율 API 조회 실패 - base: {}: {}", baseCurrency, e.getMessage());
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        // 늦게 도착한 응답은 무시
+        race.winner.complete(Map.of());
+        return Map.of();
+    }
+
+    /**
+     * 기준 통화 1회 조회의 진행 상태 (먼저 도착한 정상 응답이 winner)
+     */
+    private final class Race {
+
+        private final Currency baseCurrency;
+        private final CompletableFuture<Map<Currency, BigDecimal>> winner = new CompletableFuture<>();
+        private final AtomicInteger launched = new AtomicInteger();
+        private final AtomicInteger finished = new AtomicInteger();
+
+        private Race(Currency baseCurrency) {
+            this.baseCurrency = baseCurrency;
+        }
+
+        // 차단되지 않은 다음 우선순위 API 호출 (모두 소진하면 빈 결과로 종료)
+        private void launchNext() {
+            int index;
+            while (!winner.isDone() && (index = launched.getAndIncrement()) < providers.size()) {
+                Provider provider = providers.get(index);
+                if (provider.circuitBreaker().tryAcquire()) {
+                    call(provider);
+                    scheduleHedge();
+                    return;
+                }
+                meterRegistry.counter(METRIC_PREFIX + ".skipped", "provider", provider.name()).increment();
+                onFinished();
+            }
+        }
+
+        // 대기 후 호출 제출만 하므로 지연 스레드에서 바로 실행 (조회 스레드 풀이 가득 차도 hedge가 유실되지 않음)
+        private void scheduleHedge() {
+            if (launched.get() < providers.size()) {
+                CompletableFuture.runAsync(this::launchNext, CompletableFuture.delayedExecutor(
+                        properties.hedgeDelay().toMillis(), TimeUnit.MILLISECONDS, Runnable::run));
+            }
+        }
+
+        private void call(Provider provider) {
+            Timer.Sample sample = Timer.start(meterRegistry);
+            submit(provider)
+                    .whenComplete((rates, error) -> {
+                        sample.stop(provider.latency());
+                        if (error == null && !rates.isEmpty()) {
+                            provider.circuitBreaker().onSuccess();
+                            winner.complete(rates);
+                            return;
+                        }
+
+                        provider.circuitBreaker().onFailure();
+                        log.warn("API {} failed for base {}: {}", provider.name(), baseCurrency,
+                                error != null ? error.getMessage() : "empty response");
+                        onFinished();
+                        // 실패 시 hedge 대기 없이 다음 API 호출
+                        launchNext();
+                    });
+        }
+
+        // 조회 스레드 풀이 가득 차 거부되면 해당 API 호출 실패로 처리
+        private CompletableFuture<Map<Currency, BigDecimal>> submit(Provider provider) {
+            try {
+                return CompletableFuture.supplyAsync(() -> fetchFromApi(provider.api(), baseCurrency), executor);
+            } catch (RejectedExecutionException e) {
+                meterRegistry.counter(METRIC_PREFIX + ".rejected", "provider", provider.name()).increment();
+                return CompletableFuture.failedFuture(e);
+            }
+        }
+
+        private void onFinished() {
+            if (finished.incrementAndGet() >= providers.size()) {
+                winner.complete(Map.of());
+            }
+        }
+    }
+
+    // 지원 통화만 추출
+    private static Map<Currency, BigDecimal> fetchFromApi(ExchangeRateApi client, Currency baseCurrency) {
+        ExchangeRateApiResponse response = client.getExchangeRates(baseCurrency.name());
+
+        Map<Currency, BigDecimal> rates = new EnumMap<>(Currency.class);
+        if (response == null || response.rates() == null) {
+            return rates;
+        }
+
+        for (Currency currency : Currency.values()) {
+            BigDecimal rate = response.rates().get(currency.name());
+            if (currency != baseCurrency && rate != null) {
+                rates.put(currency, rate);
+            }
+        }
+        return rates;
+    }
+
+    // Feign 프록시는 구현 클래스 이름이 없으므로 클라이언트 인터페이스 이름 사용
+    private static String providerName(ExchangeRateApi api, int index) {
+        return Arrays.stream(api.getClass().getInterfaces())
+                .filter(type -> type != ExchangeRateApi.class && ExchangeRateApi.class.isAssignableFrom(type))
+                .findFirst()
+                .map(Class::getSimpleName)
+                .orElse("provider-" + index);
+    }
+
+    private record Provider(String name, ExchangeRateApi api, ProviderCircuitBreaker circuitBreaker, Timer latency) {
+    }
+}
@@ -0,0 +1,63 @@
+package barley.wire.wirebarley.infrastructure.client;
+
+import barley.wire.wirebarley.infrastructure.config.ExchangeRateProperties;
+import java.util.function.LongSupplier;
+
+/**
+ * 환율 API별 서킷 브레이커
+ * 연속 실패가 기준 횟수에 도달하면 일정 시간 호출을 차단하고, 이후 시험 호출 1건의 결과로 복구 여부를 결정합니다.
+ */
+final class ProviderCircuitBreaker {
+
+    private enum State {
+        CLOSED, OPEN, HALF_OPEN
+    }
+
+    private final boolean enabled;
+    private final int failureThreshold;
+    private final long openNanos;
+    private final LongSupplier nanoClock;
+
+    private State state = State.CLOSED;
+    private int consecutiveFailures;
+    private long openedAt;
+
+    ProviderCircuitBreaker(ExchangeRateProperties.CircuitBreaker properties, LongSupplier nanoClock) {
+        this.enabled = properties.enabled();
+        this.failureThreshold = properties.failureThreshold();
+        this.openNanos = properties.openDuration().toNanos();
+        this.nanoClock = nanoClock;
+    }
+
+    /**
+     * @return 호출 가능 여부 (차단 시간이 지난 경우 시험 호출 1건만 허용)
+     */
+    synchronized boolean tryAcquire() {
+        if (!enabled || state == State.CLOSED) {
+            return true;
+        }
+        if (state == State.OPEN && nanoClock.getAsLong() - openedAt >= openNanos) {
+            state = State.HALF_OPEN;
+            return true;
+        }
+        return false;
+    }
+
+    synchronized void onSuccess() {
+        state = State.CLOSED;
+        consecutiveFailures = 0;
+    }
+
+    synchronized void onFailure() {
+        consecutiveFailures++;
+        if (state == State.HALF_OPEN || consecutiveFailures >= failureThreshold) {
+            state = State.OPEN;
+            openedAt = nanoClock.getAsLong();
+            consecutiveFailures = 0;
+        }
+    }
+
+    synchronized boolean isOpen() {
+        return state != State.CLOSED;
+    }
+}
@@ -1,7 +1,10 @@
 package barley.wire.wirebarley.infrastructure.config;
 
+import org.springframework.boot.autoconfigure.condition.ConditionalOnThreading;
+import org.springframework.boot.autoconfigure.thread.Threading;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.core.task.SimpleAsyncTaskExecutor;
 import org.springframework.scheduling.annotation.EnableAsync;
 import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
 
@@ -16,6 +19,7 @@ import java.util.concurrent.Executor;
 public class AsyncConfig {
 
     @Bean(name = "taskExecutor")
+    @ConditionalOnThreading(Threading.PLATFORM)
     public Executor asyncExecutor() {
         ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
         executor.setCorePoolSize(2);
@@ -27,4 +31,32 @@ public class AsyncConfig {
         executor.initialize();
         return executor;
     }
+
+    /**
+     * 가상 스레드 모드의 비동기 Executor (작업마다 가상 스레드 생성, 종료 시 실행 중인 작업을 최대 60초 대기)
+     */
+    @Bean(name = "taskExecutor")
+    @ConditionalOnThreading(Threading.VIRTUAL)
+    public Executor virtualThreadAsyncExecutor() {
+        SimpleAsyncTaskExecutor executor = new SimpleAsyncTaskExecutor("async-event-");
+        executor.setVirtualThreads(true);
+        executor.setTaskTerminationTimeout(60_000);
+        return executor;
+    }
+
+    /**
+     * 외부 환율 API 호출 전용 Executor
+     * 제공자 호출량을 제한하기 위해 가상 스레드 모드에서도 고정 크기 풀을 사용합니다.
+     * 호출 스레드(계좌 락 보유)가 제한 시간까지만 기다리고, 늦은 응답은 이 풀에서 마무리됩니다.
+     */
+    @Bean(name = "exchangeRateFetchExecutor")
+    public Executor exchangeRateFetchExecutor() {
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(4);
+        executor.setMaxPoolSize(8);
+        executor.setQueueCapacity(50);
+        executor.setThreadNamePrefix("exchange-rate-");
+        executor.initialize();
+        return executor;
+    }
 }
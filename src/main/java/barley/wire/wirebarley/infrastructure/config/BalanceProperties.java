@@ -0,0 +1,58 @@
+package barley.wire.wirebarley.infrastructure.config;
+
+import java.time.Duration;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+/**
+ * 잔액 변경 방식 설정
+ * 핫 계좌 처리량 비교를 위해 잔액 변경 전략을 프로퍼티로 선택합니다.
+ *
+ * @param mode     잔액 변경 방식 (wirebarley.balance.mode)
+ * @param retry    OPTIMISTIC 모드의 충돌 재시도 설정
+ * @param striping 핫 계좌 잔액 스트라이핑 설정
+ */
+@ConfigurationProperties(prefix = "wirebarley.balance")
+public record BalanceProperties(
+        @DefaultValue("PESSIMISTIC") Mode mode,
+        @DefaultValue Retry retry,
+        @DefaultValue Striping striping) {
+
+    public enum Mode {
+        // SELECT ... FOR UPDATE 후 엔티티 변경 (기본값)
+        PESSIMISTIC,
+        // 잔액 조건부 단일 UPDATE, 영향받은 행 수로 성공 여부 판단
+        ATOMIC_UPDATE,
+        // 락 없이 조회 후 @Version 충돌 시 재시도
+        OPTIMISTIC
+    }
+
+    /**
+     * @param maxAttempts    최대 시도 횟수 (최초 실행 포함)
+     * @param initialBackoff 첫 재시도 대기 시간 (시도마다 2배 증가, jitter 적용)
+     * @param maxBackoff     재시도 대기 시간 상한
+     */
+    public record Retry(
+            @DefaultValue("3") int maxAttempts,
+            @DefaultValue("10ms") Duration initialBackoff,
+            @DefaultValue("200ms") Duration maxBackoff) {
+    }
+
+    /**
+     * @param enabled 스트라이프 계좌 처리 활성화 (계좌 락 획득 전 스트라이프 여부 확인 조회와 한도 누적 금액 잠금 읽기가 추가됨)
+     */
+    public record Striping(@DefaultValue("false") boolean enabled) {
+    }
+
+    public boolean isAtomicUpdate() {
+        return mode == Mode.ATOMIC_UPDATE;
+    }
+
+    public boolean isOptimistic() {
+        return mode == Mode.OPTIMISTIC;
+    }
+
+    public boolean isStripingEnabled() {
+        return striping.enabled();
+    }
+}
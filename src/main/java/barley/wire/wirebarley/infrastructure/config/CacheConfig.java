@@ -1,9 +1,45 @@
 package barley.wire.wirebarley.infrastructure.config;
 
+import barley.wire.wirebarley.domain.account.Currency;
+import barley.wire.wirebarley.infrastructure.service.ExchangeRateLoader;
+import com.github.benmanes.caffeine.cache.CacheLoader;
+import org.springframework.beans.factory.ObjectProvider;
 import org.springframework.cache.annotation.EnableCaching;
+import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 
+/**
+ * 캐시 설정
+ * Caffeine 캐시의 만료/갱신 정책은 spring.cache.caffeine.spec에서 지정합니다.
+ */
 @Configuration
 @EnableCaching
 public class CacheConfig {
+
+    /**
+     * 환율 캐시 로더 (키: {from}_{to})
+     * 미스 시에는 DB → 외부 API 순으로 조회하고, refreshAfterWrite 갱신은 외부 API에서 새 환율을 가져옵니다.
+     * 갱신이 실패하면 Caffeine이 기존 값을 유지하므로 만료 전까지는 마지막 환율로 응답합니다.
+     */
+    @Bean
+    public CacheLoader<Object, Object> exchangeRateCacheLoader(ObjectProvider<ExchangeRateLoader> exchangeRateLoader) {
+        return new CacheLoader<>() {
+            @Override
+            public Object load(Object key) {
+                Currency[] pair = parsePair(key);
+                return exchangeRateLoader.getObject().fetchRate(pair[0], pair[1]);
+            }
+
+            @Override
+            public Object reload(Object key, Object oldValue) {
+                Currency[] pair = parsePair(key);
+                return exchangeRateLoader.getObject().refreshRate(pair[0], pair[1]);
+            }
+        };
+    }
+
+    private static Currency[] parsePair(Object key) {
+        String[] currencies = key.toString().split("_");
+        return new Currency[] { Currency.valueOf(currencies[0]), Currency.valueOf(currencies[1]) };
+    }
 }
@@ -0,0 +1,25 @@
+package barley.wire.wirebarley.infrastructure.config;
+
+import barley.wire.wirebarley.infrastructure.eventlog.SegmentedEventLog;
+import java.io.IOException;
+import java.nio.file.Path;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * 로컬 이벤트 로그 설정 (wirebarley.event-log.enabled=true일 때만 등록)
+ */
+@Configuration
+@ConditionalOnProperty(prefix = "wirebarley.event-log", name = "enabled", havingValue = "true")
+public class EventLogConfig {
+
+    /**
+     * 멱등성 레코드 기록 대기 이벤트 로그
+     */
+    @Bean(destroyMethod = "close")
+    public SegmentedEventLog idempotencyEventLog(EventLogProperties properties) throws IOException {
+        return SegmentedEventLog.open(Path.of(properties.directory(), "idempotency"),
+                properties.segmentSize().toBytes());
+    }
+}
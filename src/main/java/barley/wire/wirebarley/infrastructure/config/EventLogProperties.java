@@ -0,0 +1,19 @@
+package barley.wire.wirebarley.infrastructure.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+import org.springframework.util.unit.DataSize;
+
+/**
+ * 로컬 이벤트 로그 설정 (커밋 후 비동기 작업을 파일에 먼저 기록하여 프로세스 종료 시에도 유실 방지)
+ *
+ * @param enabled     이벤트 로그 사용 여부
+ * @param directory   세그먼트 파일을 저장할 디렉터리 (로그별 하위 디렉터리 사용, 서버마다 로컬 디스크 사용)
+ * @param segmentSize 세그먼트 파일 최대 크기 (초과 시 새 세그먼트로 교체하고, 처리 완료된 세그먼트는 삭제)
+ */
+@ConfigurationProperties(prefix = "wirebarley.event-log")
+public record EventLogProperties(
+        @DefaultValue("false") boolean enabled,
+        @DefaultValue("data/event-log") String directory,
+        @DefaultValue("64MB") DataSize segmentSize) {
+}
@@ -0,0 +1,63 @@
+package barley.wire.wirebarley.infrastructure.config;
+
+import java.time.Duration;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+/**
+ * 환율 조회 설정
+ *
+ * @param refresh     환율 매트릭스 주기 갱신 설정
+ * @param loadTimeout 같은 통화 쌍을 먼저 조회 중인 요청의 결과를 기다리는 최대 시간
+ * @param provider    외부 환율 API 호출 설정
+ * @param quote       글로벌 송금 환율 견적 설정
+ */
+@ConfigurationProperties(prefix = "wirebarley.exchange-rate")
+public record ExchangeRateProperties(
+        @DefaultValue Refresh refresh,
+        @DefaultValue("3s") Duration loadTimeout,
+        @DefaultValue Provider provider,
+        @DefaultValue Quote quote) {
+
+    /**
+     * @param enabled  주기 갱신 활성화
+     * @param interval 갱신 간격 (이전 갱신 종료 기준)
+     * @param maxAge   매트릭스 최대 사용 기간 (기준 시각이 이보다 오래되면 단일 통화 쌍 조회로 위임)
+     */
+    public record Refresh(
+            @DefaultValue("true") boolean enabled,
+            @DefaultValue("10m") Duration interval,
+            @DefaultValue("30m") Duration maxAge) {
+    }
+
+    /**
+     * @param deadline       기준 통화 1회 조회의 전체 제한 시간 (초과 시 빈 결과로 DB 폴백)
+     * @param hedgeDelay     응답이 없을 때 다음 우선순위 API에 추가 요청을 보내기까지의 대기 시간
+     * @param circuitBreaker API별 서킷 브레이커 설정
+     */
+    public record Provider(
+            @DefaultValue("2s") Duration deadline,
+            @DefaultValue("300ms") Duration hedgeDelay,
+            @DefaultValue CircuitBreaker circuitBreaker) {
+    }
+
+    /**
+     * @param enabled          서킷 브레이커 활성화
+     * @param failureThreshold 연속 실패 시 호출을 차단하는 횟수
+     * @param openDuration     차단 후 시험 호출을 허용하기까지의 시간
+     */
+    public record CircuitBreaker(
+            @DefaultValue("true") boolean enabled,
+            @DefaultValue("5") int failureThreshold,
+            @DefaultValue("30s") Duration openDuration) {
+    }
+
+    /**
+     * @param ttl     견적 유효 시간 (만료 후에는 새 견적 필요)
+     * @param maxSize 메모리에 보관하는 최대 견적 수 (초과분은 DB에서 조회)
+     */
+    public record Quote(
+            @DefaultValue("30s") Duration ttl,
+            @DefaultValue("10000") long maxSize) {
+    }
+}
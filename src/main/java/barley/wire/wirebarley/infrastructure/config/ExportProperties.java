@@ -0,0 +1,15 @@
+package barley.wire.wirebarley.infrastructure.config;
+
+import java.time.Duration;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+/**
+ * 거래 내역 내보내기 설정
+ *
+ * @param timeout 내보내기 응답(비동기 스트리밍) 제한 시간 (다른 비동기 응답에는 적용하지 않음)
+ */
+@ConfigurationProperties(prefix = "wirebarley.export")
+public record ExportProperties(
+        @DefaultValue("10m") Duration timeout) {
+}
@@ -0,0 +1,52 @@
+package barley.wire.wirebarley.infrastructure.config;
+
+import java.time.Duration;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+/**
+ * 멱등성 레코드 저장소 설정
+ *
+ * @param memory      idempotency_records 앞단의 메모리 저장소 설정
+ * @param reservation 실행 전 키 선점(IN_PROGRESS) 설정
+ * @param writer      처리 결과를 idempotency_records에 모아 쓰는 비동기 기록기 설정
+ */
+@ConfigurationProperties(prefix = "wirebarley.idempotency")
+public record IdempotencyProperties(
+        @DefaultValue Memory memory,
+        @DefaultValue Reservation reservation,
+        @DefaultValue Writer writer) {
+
+    /**
+     * 최근 처리한 멱등성 키의 요청 해시와 응답을 보관하여, 짧은 간격의 재시도는 DB 조회 없이 응답합니다.
+     *
+     * @param maxSize 보관 개수 상한 (초과 시 오래 사용되지 않은 키부터 제거)
+     * @param ttl     보관 기간 (이후에는 DB에서 조회)
+     */
+    public record Memory(
+            @DefaultValue("10000") long maxSize,
+            @DefaultValue("1m") Duration ttl) {
+    }
+
+    /**
+     * @param waitTimeout 같은 키로 먼저 처리 중인 요청의 완료를 기다리는 최대 시간 (초과 시 409)
+     * @param timeout     선점 유지 시간 (처리 중 서버가 종료된 경우 이후 다른 요청이 다시 선점)
+     */
+    public record Reservation(
+            @DefaultValue("5s") Duration waitTimeout,
+            @DefaultValue("30s") Duration timeout) {
+    }
+
+    /**
+     * @param capacity      대기열 크기
+     * @param batchSize     다중 행 INSERT 1회 최대 건수 (대기열에 이만큼 쌓이면 즉시 기록)
+     * @param flushInterval 배치가 차지 않아도 기록하는 최대 대기 시간
+     * @param offerTimeout  대기열이 가득 찼을 때 자리가 나기를 기다리는 시간 (초과 시 요청 스레드에서 직접 기록)
+     */
+    public record Writer(
+            @DefaultValue("10000") int capacity,
+            @DefaultValue("200") int batchSize,
+            @DefaultValue("50ms") Duration flushInterval,
+            @DefaultValue("10ms") Duration offerTimeout) {
+    }
+}
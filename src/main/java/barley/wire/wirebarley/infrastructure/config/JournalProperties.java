@@ -0,0 +1,37 @@
+package barley.wire.wirebarley.infrastructure.config;
+
+import java.time.Duration;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+/**
+ * 거래 내역(저널) 기록 방식 설정
+ *
+ * @param mode   저널 기록 방식 (wirebarley.journal.mode)
+ * @param outbox OUTBOX 모드의 드레이너 설정
+ */
+@ConfigurationProperties(prefix = "wirebarley.journal")
+public record JournalProperties(
+        @DefaultValue("DIRECT") Mode mode,
+        @DefaultValue Outbox outbox) {
+
+    public enum Mode {
+        // 비즈니스 트랜잭션에서 transactions 행을 직접 저장 (기본값)
+        DIRECT,
+        // 비즈니스 트랜잭션은 아웃박스에 추가하고, 드레이너가 비동기로 transactions 행을 저장
+        OUTBOX
+    }
+
+    /**
+     * @param batchSize    드레이너 1회 처리 건수
+     * @param pollInterval 드레이너 실행 간격 (이전 실행 종료 기준)
+     */
+    public record Outbox(
+            @DefaultValue("500") int batchSize,
+            @DefaultValue("200ms") Duration pollInterval) {
+    }
+
+    public boolean isOutbox() {
+        return mode == Mode.OUTBOX;
+    }
+}
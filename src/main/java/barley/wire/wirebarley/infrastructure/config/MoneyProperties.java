@@ -0,0 +1,25 @@
+package barley.wire.wirebarley.infrastructure.config;
+
+import java.time.Duration;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+/**
+ * 금액 저장 방식 전환 설정
+ *
+ * @param backfill 기존 행의 최소 단위 금액 컬럼 백필 설정
+ */
+@ConfigurationProperties(prefix = "wirebarley.money")
+public record MoneyProperties(@DefaultValue Backfill backfill) {
+
+    /**
+     * @param enabled   백필 실행 여부
+     * @param batchSize 1회 UPDATE가 처리하는 ID 구간 크기
+     * @param interval  백필 실행 간격 (이전 실행 종료 기준)
+     */
+    public record Backfill(
+            @DefaultValue("true") boolean enabled,
+            @DefaultValue("1000") int batchSize,
+            @DefaultValue("1s") Duration interval) {
+    }
+}
@@ -0,0 +1,27 @@
+package barley.wire.wirebarley.infrastructure.config;
+
+import java.time.Duration;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+/**
+ * 만료 데이터 정리(보존 기간) 설정
+ *
+ * @param enabled              정리 작업 실행 여부
+ * @param interval             정리 작업 실행 간격 (이전 실행 종료 기준)
+ * @param batchSize            DELETE 1회 삭제 건수 상한 (인덱스 범위를 작게 나눠 락 범위 제한)
+ * @param maxBatchesPerRun     1회 실행에서 테이블별 최대 DELETE 횟수
+ * @param batchPause           DELETE 사이 대기 시간
+ * @param maxPoolUsage         커넥션 풀 사용률이 이 값을 넘거나 커넥션 대기 스레드가 있으면 정리를 멈추고 다음 주기로 미룸
+ * @param exchangeRateHistory  환율 이력 보존 기간 (통화 쌍별 최신 환율은 항상 유지)
+ */
+@ConfigurationProperties(prefix = "wirebarley.retention")
+public record RetentionProperties(
+        @DefaultValue("false") boolean enabled,
+        @DefaultValue("1m") Duration interval,
+        @DefaultValue("500") int batchSize,
+        @DefaultValue("100") int maxBatchesPerRun,
+        @DefaultValue("20ms") Duration batchPause,
+        @DefaultValue("0.7") double maxPoolUsage,
+        @DefaultValue("7d") Duration exchangeRateHistory) {
+}
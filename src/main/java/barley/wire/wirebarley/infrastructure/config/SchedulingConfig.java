@@ -0,0 +1,13 @@
+package barley.wire.wirebarley.infrastructure.config;
+
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.annotation.EnableScheduling;
+
+/**
+ * 스케줄링 설정
+ * 아웃박스 드레이너 등 주기 작업 실행을 위한 설정
+ */
+@Configuration
+@EnableScheduling
+public class SchedulingConfig {
+}
@@ -0,0 +1,45 @@
+package barley.wire.wirebarley.infrastructure.config;
+
+import barley.wire.wirebarley.infrastructure.thread.DatabasePermitDataSource;
+import barley.wire.wirebarley.infrastructure.thread.VirtualThreadPinningMonitor;
+import com.zaxxer.hikari.HikariDataSource;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnThreading;
+import org.springframework.boot.autoconfigure.thread.Threading;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * 가상 스레드 모드 안전장치 (spring.threads.virtual.enabled=true일 때만 등록)
+ * Tomcat 요청 처리 스레드는 Spring Boot가 가상 스레드로 전환하며, 여기서는 DB 동시 작업 한도와 고정(pinning) 감지를 추가합니다.
+ */
+@Configuration
+@ConditionalOnThreading(Threading.VIRTUAL)
+public class VirtualThreadConfig {
+
+    /**
+     * 커넥션 풀을 DB 동시 작업 한도 DataSource로 감쌈 (허가 수 = 풀 최대 크기)
+     */
+    @Bean
+    static BeanPostProcessor databasePermitDataSourcePostProcessor(
+            ObjectProvider<VirtualThreadProperties> properties, ObjectProvider<MeterRegistry> meterRegistry) {
+        return new BeanPostProcessor() {
+            @Override
+            public Object postProcessAfterInitialization(Object bean, String beanName) {
+                if (bean instanceof HikariDataSource hikariDataSource) {
+                    return new DatabasePermitDataSource(hikariDataSource, hikariDataSource.getMaximumPoolSize(),
+                            properties.getObject().dbPermitTimeout(), meterRegistry.getObject());
+                }
+                return bean;
+            }
+        };
+    }
+
+    @Bean
+    public VirtualThreadPinningMonitor virtualThreadPinningMonitor(VirtualThreadProperties properties,
+            MeterRegistry meterRegistry) {
+        return new VirtualThreadPinningMonitor(properties.pinnedThreshold(), meterRegistry);
+    }
+}
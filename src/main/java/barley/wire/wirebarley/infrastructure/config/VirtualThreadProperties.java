@@ -0,0 +1,17 @@
+package barley.wire.wirebarley.infrastructure.config;
+
+import java.time.Duration;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+/**
+ * 가상 스레드 모드(spring.threads.virtual.enabled=true) 안전장치 설정
+ *
+ * @param dbPermitTimeout  DB 동시 작업 한도(커넥션 풀 크기)에 도달했을 때 자리가 나기를 기다리는 최대 시간 (초과 시 커넥션 획득 실패)
+ * @param pinnedThreshold  이 시간 이상 캐리어 스레드에 고정(pinning)된 가상 스레드를 기록
+ */
+@ConfigurationProperties(prefix = "wirebarley.virtual-threads")
+public record VirtualThreadProperties(
+        @DefaultValue("5s") Duration dbPermitTimeout,
+        @DefaultValue("20ms") Duration pinnedThreshold) {
+}
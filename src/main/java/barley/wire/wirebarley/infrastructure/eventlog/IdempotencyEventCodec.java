@@ -0,0 +1,98 @@
+package barley.wire.wirebarley.infrastructure.eventlog;
+
+import barley.wire.wirebarley.common.event.IdempotencyRecordedEvent;
+import barley.wire.wirebarley.domain.idempotency.IdempotencyResponse;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+
+/**
+ * 이벤트 로그에 기록하는 멱등성 레코드 저장 이벤트의 이진 형식
+ * [버전][기록 시각(epoch ms)][키][경로][요청 해시][상태 코드][Content-Type][헤더][응답 바이트], 문자열은 길이(-1은 null) + UTF-8
+ */
+public final class IdempotencyEventCodec {
+
+    private static final byte VERSION = 1;
+    private static final int NULL_LENGTH = -1;
+
+    private IdempotencyEventCodec() {
+        // 유틸리티 클래스, 인스턴스 생성 방지
+    }
+
+    /**
+     * 이벤트 로그에서 읽은 이벤트
+     *
+     * @param recordedAtMillis 이벤트 로그에 기록한 시각 (epoch ms, 재처리 시 만료 여부 판단)
+     */
+    public record LoggedEvent(long recordedAtMillis, IdempotencyRecordedEvent event) {
+    }
+
+    public static byte[] encode(IdempotencyRecordedEvent event, long recordedAtMillis) {
+        IdempotencyResponse response = event.response();
+        ByteArrayOutputStream buffer = new ByteArrayOutputStream(128 + response.payload().length);
+        try (DataOutputStream out = new DataOutputStream(buffer)) {
+            out.writeByte(VERSION);
+            out.writeLong(recordedAtMillis);
+            writeString(out, event.idempotencyKey());
+            writeString(out, event.requestPath());
+            writeString(out, event.requestBodyHash());
+            out.writeInt(response.status());
+            writeString(out, response.contentType());
+            writeString(out, response.headers());
+            out.writeInt(response.payload().length);
+            out.write(response.payload());
+        } catch (IOException e) {
+            // 메모리 스트림이므로 발생하지 않음
+            throw new UncheckedIOException(e);
+        }
+        return buffer.toByteArray();
+    }
+
+    /**
+     * @throws IOException 알 수 없는 버전이거나 형식이 맞지 않는 경우
+     */
+    public static LoggedEvent decode(byte[] bytes) throws IOException {
+        try (DataInputStream in = new DataInputStream(new ByteArrayInputStream(bytes))) {
+            byte version = in.readByte();
+            if (version != VERSION) {
+                throw new IOException("지원하지 않는 이벤트 로그 형식입니다. version=" + version);
+            }
+            long recordedAtMillis = in.readLong();
+            String key = readString(in);
+            String path = readString(in);
+            String hash = readString(in);
+            int status = in.readInt();
+            String contentType = readString(in);
+            String headers = readString(in);
+            byte[] payload = new byte[in.readInt()];
+            in.readFully(payload);
+
+            IdempotencyResponse response = new IdempotencyResponse(status, contentType, headers, payload);
+            return new LoggedEvent(recordedAtMillis, new IdempotencyRecordedEvent(key, path, hash, response));
+        }
+    }
+
+    private static void writeString(DataOutputStream out, String value) throws IOException {
+        if (value == null) {
+            out.writeInt(NULL_LENGTH);
+            return;
+        }
+        byte[] bytes = value.getBytes(StandardCharsets.UTF_8);
+        out.writeInt(bytes.length);
+        out.write(bytes);
+    }
+
+    private static String readString(DataInputStream in) throws IOException {
+        int length = in.readInt();
+        if (length == NULL_LENGTH) {
+            return null;
+        }
+        byte[] bytes = new byte[length];
+        in.readFully(bytes);
+        return new String(bytes, StandardCharsets.UTF_8);
+    }
+}
@@ -0,0 +1,343 @@
+package barley.wire.wirebarley.infrastructure.eventlog;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.ClosedChannelException;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentNavigableMap;
+import java.util.concurrent.ConcurrentSkipListMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.Condition;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.ObjLongConsumer;
+import java.util.stream.Stream;
+import java.util.zip.CRC32;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 로컬 세그먼트 추가 전용 로그
+ * 커밋 후 비동기로 처리할 작업을 파일에 먼저 기록하여, 처리 전에 프로세스가 종료되어도 다음 기동 시 다시 처리할 수 있도록 합니다.
+ * <ul>
+ *     <li>항목 형식: [본문 길이 4바이트][CRC32 4바이트][본문], 세그먼트 파일 이름은 첫 항목의 순번</li>
+ *     <li>그룹 커밋: 추가는 fsync가 끝난 뒤 반환하며, 동시에 추가된 항목은 먼저 도착한 스레드의 fsync 한 번으로 함께 영구화</li>
+ *     <li>정리: 모든 항목이 처리 완료(acknowledge)된 이전 세그먼트는 파일째 삭제</li>
+ *     <li>복구: 기동 시 남아 있는 항목을 재처리 대상으로 제공하며, 기록 중 종료되어 잘린 마지막 항목은 잘라냄</li>
+ * </ul>
+ * 처리 완료 여부는 메모리에서 세그먼트 단위로만 관리하므로, 재기동 시 이미 처리한 항목이 다시 전달될 수 있습니다 (최소 1회 전달).
+ */
+@Slf4j
+public class SegmentedEventLog implements Closeable {
+
+    private static final int HEADER_SIZE = Integer.BYTES * 2;
+    private static final String SEGMENT_SUFFIX = ".log";
+
+    private final Path directory;
+    private final long segmentSize;
+    private final ConcurrentNavigableMap<Long, Segment> segments = new ConcurrentSkipListMap<>();
+    // 기동 시 남아 있던 항목의 다음 순번 (이보다 작은 순번이 재처리 대상)
+    private final long recoveredUntil;
+
+    // 파일 I/O 중에 보유하므로 synchronized 대신 사용 (가상 스레드가 캐리어 스레드에 고정되지 않도록)
+    private final ReentrantLock appendLock = new ReentrantLock();
+    private Segment active;
+    private long nextSequence;
+    private long writtenSequence = -1;
+
+    private final ReentrantLock syncLock = new ReentrantLock();
+    private final Condition synced = syncLock.newCondition();
+    private long durableSequence = -1;
+    private boolean syncing;
+
+    private SegmentedEventLog(Path directory, long segmentSize) throws IOException {
+        this.directory = directory;
+        this.segmentSize = segmentSize;
+        Files.createDirectories(directory);
+        this.recoveredUntil = recover();
+        appendLock.lock();
+        try {
+            this.nextSequence = recoveredUntil;
+            this.writtenSequence = recoveredUntil - 1;
+            roll();
+        } finally {
+            appendLock.unlock();
+        }
+        this.durableSequence = recoveredUntil - 1;
+    }
+
+    /**
+     * 디렉터리의 세그먼트를 복구하고 새 세그먼트에 이어서 기록하는 로그 생성
+     *
+     * @param directory   세그먼트 파일 디렉터리 (로그마다 별도 디렉터리 사용)
+     * @param segmentSize 세그먼트 파일 최대 크기
+     */
+    public static SegmentedEventLog open(Path directory, long segmentSize) throws IOException {
+        return new SegmentedEventLog(directory, segmentSize);
+    }
+
+    /**
+     * 항목 추가 (디스크에 영구화된 뒤 반환)
+     *
+     * @return 처리 완료 시 {@link #acknowledge(long)}에 전달할 순번
+     */
+    public long append(byte[] payload) throws IOException {
+        int entrySize = HEADER_SIZE + payload.length;
+        CRC32 crc = new CRC32();
+        crc.update(payload);
+        ByteBuffer buffer = ByteBuffer.allocate(entrySize)
+                .putInt(payload.length)
+                .putInt((int) crc.getValue())
+                .put(payload)
+                .flip();
+
+        long sequence;
+        appendLock.lock();
+        try {
+            if (active.size > 0 && active.size + entrySize > segmentSize) {
+                roll();
+            }
+            while (buffer.hasRemaining()) {
+                active.size += active.channel.write(buffer, active.size);
+            }
+            active.outstanding.incrementAndGet();
+            sequence = nextSequence++;
+            writtenSequence = sequence;
+        } finally {
+            appendLock.unlock();
+        }
+        awaitDurable(sequence);
+        return sequence;
+    }
+
+    /**
+     * 항목 처리 완료 (항목마다 한 번만 호출, 세그먼트의 모든 항목이 완료되면 세그먼트 삭제)
+     */
+    public void acknowledge(long sequence) {
+        Map.Entry<Long, Segment> entry = segments.floorEntry(sequence);
+        if (entry == null) {
+            return;
+        }
+        Segment segment = entry.getValue();
+        if (segment.outstanding.decrementAndGet() == 0 && segment.sealed) {
+            delete(segment);
+        }
+    }
+
+    /**
+     * 기동 시 남아 있던 항목을 순번 순으로 전달 (처리 후 각 순번을 {@link #acknowledge(long)}로 완료 처리)
+     */
+    public void replay(ObjLongConsumer<byte[]> handler) throws IOException {
+        for (Segment segment : segments.headMap(recoveredUntil).values()) {
+            scan(segment.channel, segment.baseSequence, handler);
+        }
+    }
+
+    /**
+     * 남아 있는 세그먼트 수 (처리 완료되지 않은 항목이 있는 세그먼트와 현재 기록 중인 세그먼트)
+     */
+    public int segmentCount() {
+        return segments.size();
+    }
+
+    @Override
+    public void close() throws IOException {
+        appendLock.lock();
+        try {
+            active.channel.force(false);
+            for (Segment segment : segments.values()) {
+                segment.channel.close();
+            }
+        } finally {
+            appendLock.unlock();
+        }
+    }
+
+    /**
+     * 그룹 커밋: fsync 중인 스레드가 없으면 직접 fsync하고, 있으면 끝나기를 기다린 뒤 자신의 항목이 포함되었는지 확인
+     */
+    private void awaitDurable(long sequence) throws IOException {
+        syncLock.lock();
+        try {
+            while (durableSequence < sequence) {
+                if (syncing) {
+                    synced.awaitUninterruptibly();
+                    continue;
+                }
+                syncing = true;
+                long target;
+                Segment segment;
+                appendLock.lock();
+                try {
+                    target = writtenSequence;
+                    segment = active;
+                } finally {
+                    appendLock.unlock();
+                }
+                syncLock.unlock();
+                try {
+                    segment.channel.force(false);
+                } catch (ClosedChannelException e) {
+                    // 세그먼트 교체 시 이미 fsync된 뒤 정리된 세그먼트
+                } finally {
+                    syncLock.lock();
+                    syncing = false;
+                    synced.signalAll();
+                }
+                durableSequence = Math.max(durableSequence, target);
+            }
+        } finally {
+            syncLock.unlock();
+        }
+    }
+
+    // appendLock 보유 상태에서 호출
+    private void roll() throws IOException {
+        Segment previous = active;
+        if (previous != null) {
+            // 이전 세그먼트의 항목은 교체 시점에 영구화 (이후 그룹 커밋은 새 세그먼트만 fsync)
+            previous.channel.force(false);
+        }
+        Path file = directory.resolve(String.format("%020d%s", nextSequence, SEGMENT_SUFFIX));
+        FileChannel channel = FileChannel.open(file,
+                StandardOpenOption.CREATE_NEW, StandardOpenOption.READ, StandardOpenOption.WRITE);
+        syncDirectory();
+        active = new Segment(nextSequence, file, channel);
+        segments.put(active.baseSequence, active);
+
+        if (previous != null) {
+            previous.sealed = true;
+            if (previous.outstanding.get() == 0) {
+                delete(previous);
+            }
+        }
+    }
+
+    /**
+     * 남아 있는 세그먼트를 검증하여 순번 순으로 등록 (모두 처리 완료 전까지 유지)
+     *
+     * @return 복구한 마지막 항목의 다음 순번
+     */
+    private long recover() throws IOException {
+        List<Path> files;
+        try (Stream<Path> list = Files.list(directory)) {
+            files = list.filter(file -> file.getFileName().toString().endsWith(SEGMENT_SUFFIX))
+                    .sorted()
+                    .toList();
+        }
+
+        long next = 0;
+        for (Path file : files) {
+            long baseSequence = Long.parseLong(file.getFileName().toString().replace(SEGMENT_SUFFIX, ""));
+            FileChannel channel = FileChannel.open(file, StandardOpenOption.READ, StandardOpenOption.WRITE);
+            ScanResult result = scan(channel, baseSequence, null);
+            if (channel.size() > result.validSize()) {
+                log.warn("이벤트 로그 세그먼트의 손상된 끝부분 제거. file={}, validSize={}, size={}",
+                        file, result.validSize(), channel.size());
+                channel.truncate(result.validSize());
+                channel.force(true);
+            }
+            if (result.count() == 0) {
+                channel.close();
+                Files.delete(file);
+                continue;
+            }
+            Segment segment = new Segment(baseSequence, file, channel);
+            segment.size = result.validSize();
+            segment.outstanding.set(result.count());
+            segment.sealed = true;
+            segments.put(baseSequence, segment);
+            next = baseSequence + result.count();
+        }
+        if (next > 0) {
+            log.info("이벤트 로그 복구 - 재처리 대상 {}건. directory={}", next - segments.firstKey(), directory);
+        }
+        return next;
+    }
+
+    /**
+     * 세그먼트의 유효한 항목을 순서대로 읽음 (길이가 맞지 않거나 CRC가 다른 항목에서 중단)
+     */
+    private static ScanResult scan(FileChannel channel, long baseSequence, ObjLongConsumer<byte[]> handler) throws IOException {
+        ByteBuffer header = ByteBuffer.allocate(HEADER_SIZE);
+        long position = 0;
+        long count = 0;
+        long size = channel.size();
+        while (position + HEADER_SIZE <= size) {
+            header.clear();
+            readFully(channel, header, position);
+            int length = header.getInt(0);
+            int checksum = header.getInt(Integer.BYTES);
+            if (length < 0 || position + HEADER_SIZE + length > size) {
+                break;
+            }
+            ByteBuffer payload = ByteBuffer.allocate(length);
+            readFully(channel, payload, position + HEADER_SIZE);
+            CRC32 crc = new CRC32();
+            crc.update(payload.array());
+            if ((int) crc.getValue() != checksum) {
+                break;
+            }
+            if (handler != null) {
+                handler.accept(payload.array(), baseSequence + count);
+            }
+            position += HEADER_SIZE + length;
+            count++;
+        }
+        return new ScanResult(count, position);
+    }
+
+    private static void readFully(FileChannel channel, ByteBuffer buffer, long position) throws IOException {
+        while (buffer.hasRemaining()) {
+            if (channel.read(buffer, position + buffer.position()) < 0) {
+                throw new IOException("이벤트 로그 세그먼트를 끝까지 읽지 못했습니다.");
+            }
+        }
+    }
+
+    // 새 세그먼트 파일 생성을 디렉터리 항목까지 영구화 (지원하지 않는 파일 시스템은 무시)
+    private void syncDirectory() {
+        try (FileChannel dir = FileChannel.open(directory, StandardOpenOption.READ)) {
+            dir.force(true);
+        } catch (IOException e) {
+            log.debug("이벤트 로그 디렉터리 fsync 미지원. directory={}", directory);
+        }
+    }
+
+    private void delete(Segment segment) {
+        if (!segments.remove(segment.baseSequence, segment)) {
+            return;
+        }
+        try {
+            segment.channel.close();
+            Files.deleteIfExists(segment.file);
+        } catch (IOException e) {
+            log.warn("처리 완료된 이벤트 로그 세그먼트 삭제 실패. file={}", segment.file, e);
+        }
+    }
+
+    private record ScanResult(long count, long validSize) {
+    }
+
+    private static final class Segment {
+
+        private final long baseSequence;
+        private final Path file;
+        private final FileChannel channel;
+        // 처리 완료되지 않은 항목 수
+        private final AtomicLong outstanding = new AtomicLong();
+        // 더 이상 항목을 추가하지 않는 세그먼트 (처리 완료 시 삭제 대상)
+        private volatile boolean sealed;
+        private long size;
+
+        private Segment(long baseSequence, Path file, FileChannel channel) {
+            this.baseSequence = baseSequence;
+            this.file = file;
+            this.channel = channel;
+        }
+    }
+}
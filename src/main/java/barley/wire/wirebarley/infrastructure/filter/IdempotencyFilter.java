@@ -0,0 +1,285 @@
+package barley.wire.wirebarley.infrastructure.filter;
+
+import static barley.wire.wirebarley.common.constants.IdempotencyConstants.IDEMPOTENCY_KEY_HEADER;
+
+import barley.wire.wirebarley.common.event.IdempotencyRecordedEvent;
+import barley.wire.wirebarley.common.exception.BaseException;
+import barley.wire.wirebarley.common.exception.DuplicateIdempotencyKeyException;
+import barley.wire.wirebarley.common.exception.IdempotencyInProgressException;
+import barley.wire.wirebarley.domain.idempotency.IdempotencyRecord;
+import barley.wire.wirebarley.domain.idempotency.IdempotencyResponse;
+import barley.wire.wirebarley.infrastructure.service.IdempotencyService;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.List;
+import java.util.Locale;
+import java.util.Optional;
+import java.util.Set;
+import java.util.TreeSet;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.MediaType;
+import org.springframework.http.server.PathContainer;
+import org.springframework.stereotype.Component;
+import org.springframework.web.filter.OncePerRequestFilter;
+import org.springframework.web.servlet.HandlerExceptionResolver;
+import org.springframework.web.util.ContentCachingResponseWrapper;
+import org.springframework.web.util.pattern.PathPattern;
+import org.springframework.web.util.pattern.PathPatternParser;
+
+/**
+ * HTTP 멱등성 필터
+ * Idempotency-Key 헤더가 있는 입금·출금·이체 요청을 실행 전에 키로 선점하고, 성공(2xx) 응답의 상태 코드·헤더·본문 바이트를 저장합니다.
+ * 같은 키의 재요청은 디스패치, 요청 검증, 서비스 호출 없이 저장된 응답을 그대로 다시 씁니다.
+ * 같은 키를 다른 경로나 다른 본문의 요청에 사용하면 실행하지 않고 충돌로 응답합니다.
+ * 실패 응답이나 예외는 저장하지 않고 선점을 해제하여 같은 키로 다시 요청할 수 있습니다.
+ * 요청 본문 지문은 {@link IdempotencyFingerprintFilter}가 먼저 계산합니다.
+ */
+@Component
+@Order(Ordered.HIGHEST_PRECEDENCE + 20)
+@Slf4j
+public class IdempotencyFilter extends OncePerRequestFilter {
+
+    public static final String REPLAYED_HEADER = "Idempotent-Replayed";
+
+    private static final List<PathPattern> IDEMPOTENT_PATHS = List.of(
+            "/api/v1/transfers",
+            "/api/v1/accounts/{accountId}/deposit",
+            "/api/v1/accounts/{accountId}/withdraw",
+            "/api/v2/global-accounts/{accountId}/deposit",
+            "/api/v2/global-accounts/{accountId}/withdraw",
+            "/api/v2/global-transfers",
+            "/api/v3/global-transfers")
+            .stream()
+            .map(PathPatternParser.defaultInstance::parse)
+            .toList();
+
+    // 저장하지 않는 헤더 (Content-Type은 별도 컬럼, 나머지는 응답마다 컨테이너가 새로 기록)
+    private static final Set<String> EXCLUDED_HEADERS = caseInsensitive(
+            HttpHeaders.CONTENT_TYPE, HttpHeaders.CONTENT_LENGTH, HttpHeaders.CONTENT_ENCODING,
+            HttpHeaders.TRANSFER_ENCODING, HttpHeaders.DATE, HttpHeaders.CONNECTION, HttpHeaders.SET_COOKIE);
+
+    private static final String GZIP = "gzip";
+
+    private final IdempotencyService idempotencyService;
+    private final ApplicationEventPublisher eventPublisher;
+    private final HandlerExceptionResolver exceptionResolver;
+
+    public IdempotencyFilter(IdempotencyService idempotencyService, ApplicationEventPublisher eventPublisher,
+            @Qualifier("handlerExceptionResolver") HandlerExceptionResolver exceptionResolver) {
+        this.idempotencyService = idempotencyService;
+        this.eventPublisher = eventPublisher;
+        this.exceptionResolver = exceptionResolver;
+    }
+
+    @Override
+    protected boolean shouldNotFilter(HttpServletRequest request) {
+        String key = request.getHeader(IDEMPOTENCY_KEY_HEADER);
+        if (key == null || key.isBlank() || !HttpMethod.POST.matches(request.getMethod())) {
+            return true;
+        }
+        PathContainer path = PathContainer.parsePath(pathWithinApplication(request));
+        return IDEMPOTENT_PATHS.stream().noneMatch(pattern -> pattern.matches(path));
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain)
+            throws ServletException, IOException {
+        String key = request.getHeader(IDEMPOTENCY_KEY_HEADER);
+        String path = pathWithinApplication(request);
+        String requestHash = (String) request.getAttribute(IdempotencyFingerprintFilter.FINGERPRINT_ATTRIBUTE);
+
+        Optional<IdempotencyRecord> recorded;
+        try {
+            recorded = reserveOrFind(key, path, requestHash);
+        } catch (BaseException e) {
+            // 컨트롤러 예외와 같은 형식(GlobalExceptionHandler)으로 응답
+            exceptionResolver.resolveException(request, response, null, e);
+            return;
+        }
+
+        if (recorded.isPresent()) {
+            log.debug("멱등성 요청 재처리 - 저장된 응답 반환. key={}, path={}", key, path);
+            replay(recorded.get(), request, response);
+            return;
+        }
+
+        ContentCachingResponseWrapper responseWrapper = new ContentCachingResponseWrapper(response);
+        try {
+            filterChain.doFilter(request, responseWrapper);
+        } catch (IOException | ServletException | RuntimeException e) {
+            idempotencyService.release(key);
+            throw e;
+        }
+
+        if (isSuccessful(responseWrapper.getStatus())) {
+            record(key, path, requestHash, responseWrapper);
+        } else {
+            idempotencyService.release(key);
+        }
+        responseWrapper.copyBodyToResponse();
+    }
+
+    /**
+     * 기존 기록이 없으면 실행 전에 키 선점, 같은 키의 요청이 먼저 처리 중이면 완료를 기다린 뒤 다시 조회
+     *
+     * @return 재처리할 완료 레코드 (비어 있으면 키를 선점한 상태)
+     */
+    private Optional<IdempotencyRecord> reserveOrFind(String key, String path, String requestHash) {
+        Optional<IdempotencyRecord> recordOpt = idempotencyService.findByKey(key);
+        if (recordOpt.isEmpty() && !idempotencyService.tryReserve(key, path, requestHash)) {
+            if (!idempotencyService.awaitInFlight(key)) {
+                throw new IdempotencyInProgressException("동일한 멱등성 키의 요청이 처리 중입니다. 잠시 후 다시 시도해 주세요.");
+            }
+            recordOpt = idempotencyService.findByKey(key);
+            // 먼저 처리하던 요청이 실패하여 선점이 해제된 경우
+            if (recordOpt.isEmpty() && !idempotencyService.tryReserve(key, path, requestHash)) {
+                throw new IdempotencyInProgressException("동일한 멱등성 키의 요청이 처리 중입니다. 잠시 후 다시 시도해 주세요.");
+            }
+        }
+
+        if (recordOpt.isPresent()) {
+            IdempotencyRecord record = recordOpt.get();
+            if (!path.equals(record.getRequestPath())) {
+                log.warn("멱등성 키 중복 사용 감지 - 서로 다른 경로. key={}, 기존 경로={}, 신규 경로={}",
+                        key, record.getRequestPath(), path);
+                throw new DuplicateIdempotencyKeyException("이미 사용된 멱등성 키로 서로 다른 요청이 전달되었습니다.");
+            }
+            if (isHashMismatch(record, requestHash)) {
+                log.warn("멱등성 키 중복 사용 감지 - 서로 다른 요청 본문. key={}, path={}, 기존 해시={}, 신규 해시={}",
+                        key, path, record.getRequestBodyHash(), requestHash);
+                throw new DuplicateIdempotencyKeyException("이미 사용된 멱등성 키로 서로 다른 요청이 전달되었습니다.");
+            }
+            // 다른 서버에서 처리 중
+            if (!record.isCompleted()) {
+                throw new IdempotencyInProgressException("동일한 멱등성 키의 요청이 처리 중입니다. 잠시 후 다시 시도해 주세요.");
+            }
+        }
+        return recordOpt;
+    }
+
+    /**
+     * 저장된 응답을 역직렬화 없이 그대로 응답 (gzip을 받는 클라이언트에는 압축된 바이트를 그대로 전달)
+     */
+    private void replay(IdempotencyRecord record, HttpServletRequest request, HttpServletResponse response)
+            throws IOException {
+        response.setStatus(record.getResponseStatus());
+        if (record.getResponseHeaders() != null) {
+            record.getResponseHeaders().lines().forEach(line -> {
+                int separator = line.indexOf(':');
+                response.addHeader(line.substring(0, separator), line.substring(separator + 1).trim());
+            });
+        }
+        response.setContentType(record.getResponseContentType() != null
+                ? record.getResponseContentType()
+                : MediaType.APPLICATION_JSON_VALUE);
+        response.setHeader(REPLAYED_HEADER, "true");
+        // 같은 키의 재처리 응답도 Accept-Encoding에 따라 인코딩이 달라지므로 캐시가 구분하도록 표시
+        response.addHeader(HttpHeaders.VARY, HttpHeaders.ACCEPT_ENCODING);
+
+        if (record.isCompressed() && acceptsGzip(request.getHeader(HttpHeaders.ACCEPT_ENCODING))) {
+            response.setHeader(HttpHeaders.CONTENT_ENCODING, GZIP);
+            response.setContentLength(record.getResponsePayload().length);
+            response.getOutputStream().write(record.getResponsePayload());
+            return;
+        }
+        try (InputStream body = record.openResponseBody()) {
+            body.transferTo(response.getOutputStream());
+        }
+    }
+
+    private void record(String key, String path, String requestHash, ContentCachingResponseWrapper response) {
+        IdempotencyResponse stored = new IdempotencyResponse(
+                response.getStatus(),
+                response.getContentType(),
+                encodeHeaders(response),
+                idempotencyService.compress(response.getContentAsByteArray()));
+
+        eventPublisher.publishEvent(new IdempotencyRecordedEvent(key, path, requestHash, stored));
+    }
+
+    // "이름: 값" 한 줄에 하나, 저장할 헤더가 없으면 null
+    private static String encodeHeaders(HttpServletResponse response) {
+        StringBuilder headers = new StringBuilder();
+        for (String name : new TreeSet<>(response.getHeaderNames())) {
+            if (EXCLUDED_HEADERS.contains(name)) {
+                continue;
+            }
+            for (String value : response.getHeaders(name)) {
+                headers.append(name).append(": ").append(value).append('\n');
+            }
+        }
+        return headers.isEmpty() ? null : headers.toString();
+    }
+
+    private static boolean isHashMismatch(IdempotencyRecord record, String newHash) {
+        String oldHash = record.getRequestBodyHash();
+        if (oldHash == null || newHash == null) {
+            return false;
+        }
+        return !oldHash.equals(newHash);
+    }
+
+    private static boolean isSuccessful(int status) {
+        return status >= 200 && status < 300;
+    }
+
+    /**
+     * Accept-Encoding의 gzip(또는 *) 항목 q 값이 0보다 크면 true
+     * "gzip;q=0"은 거부이며, gzip 항목이 없으면 * 항목을 따릅니다.
+     */
+    static boolean acceptsGzip(String acceptEncoding) {
+        if (acceptEncoding == null) {
+            return false;
+        }
+        Double gzipQuality = null;
+        Double wildcardQuality = null;
+        for (String coding : acceptEncoding.split(",")) {
+            String[] params = coding.split(";");
+            String name = params[0].trim().toLowerCase(Locale.ROOT);
+            if (name.equals(GZIP) || name.equals("x-gzip")) {
+                gzipQuality = quality(params);
+            } else if (name.equals("*")) {
+                wildcardQuality = quality(params);
+            }
+        }
+        if (gzipQuality != null) {
+            return gzipQuality > 0;
+        }
+        return wildcardQuality != null && wildcardQuality > 0;
+    }
+
+    // q 값이 없으면 1, 잘못된 값은 거부(0)로 처리
+    private static double quality(String[] params) {
+        for (int i = 1; i < params.length; i++) {
+            String param = params[i].trim();
+            if (param.regionMatches(true, 0, "q=", 0, 2)) {
+                try {
+                    return Double.parseDouble(param.substring(2).trim());
+                } catch (NumberFormatException e) {
+                    return 0;
+                }
+            }
+        }
+        return 1;
+    }
+
+    private static String pathWithinApplication(HttpServletRequest request) {
+        return request.getRequestURI().substring(request.getContextPath().length());
+    }
+
+    private static Set<String> caseInsensitive(String... names) {
+        Set<String> set = new TreeSet<>(String.CASE_INSENSITIVE_ORDER);
+        set.addAll(List.of(names));
+        return set;
+    }
+}
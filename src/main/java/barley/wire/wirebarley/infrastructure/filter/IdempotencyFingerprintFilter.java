@@ -0,0 +1,222 @@
+package barley.wire.wirebarley.infrastructure.filter;
+
+import static barley.wire.wirebarley.common.constants.IdempotencyConstants.IDEMPOTENCY_KEY_HEADER;
+
+import barley.wire.wirebarley.common.util.HashUtil;
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.DeserializationFeature;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ReadListener;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.ServletInputStream;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletRequestWrapper;
+import jakarta.servlet.http.HttpServletResponse;
+import java.io.BufferedReader;
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.io.OutputStream;
+import java.io.SequenceInputStream;
+import java.nio.charset.Charset;
+import java.nio.charset.StandardCharsets;
+import java.security.DigestOutputStream;
+import java.security.MessageDigest;
+import java.util.Iterator;
+import java.util.TreeMap;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.http.MediaType;
+import org.springframework.stereotype.Component;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+/**
+ * 멱등성 요청 지문(fingerprint) 계산 필터
+ * Idempotency-Key 헤더가 있는 요청의 원본 본문을 한 번 읽어 SHA-256 지문을 계산하고 요청 속성으로 전달합니다.
+ * JSON 본문은 필드 순서·공백·숫자 표기(1000, 1000.00)와 관계없이 같은 지문이 나오도록 정규화하여 다이제스트에 바로 기록합니다.
+ * 읽은 본문은 이후 메시지 컨버터가 다시 읽을 수 있도록 요청을 감싸 전달합니다.
+ */
+@Component
+@Order(Ordered.HIGHEST_PRECEDENCE + 10)
+@Slf4j
+public class IdempotencyFingerprintFilter extends OncePerRequestFilter {
+
+    public static final String FINGERPRINT_ATTRIBUTE = IdempotencyFingerprintFilter.class.getName() + ".FINGERPRINT";
+
+    // 송금 요청 본문은 수백 바이트 수준이므로 이보다 큰 본문은 메모리에 올리지 않고 지문 없이 전달 (요청 본문 비교 생략)
+    private static final int MAX_BODY_SIZE = 64 * 1024;
+
+    private final ObjectMapper objectMapper;
+    private final JsonFactory jsonFactory;
+
+    public IdempotencyFingerprintFilter(ObjectMapper objectMapper) {
+        this.objectMapper = objectMapper.copy().enable(DeserializationFeature.USE_BIG_DECIMAL_FOR_FLOATS);
+        this.jsonFactory = objectMapper.getFactory();
+    }
+
+    @Override
+    protected boolean shouldNotFilter(HttpServletRequest request) {
+        return request.getHeader(IDEMPOTENCY_KEY_HEADER) == null || request.getContentLengthLong() > MAX_BODY_SIZE;
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain)
+            throws ServletException, IOException {
+        // 길이를 알 수 없는(chunked) 본문도 상한까지만 읽고, 상한을 넘으면 읽은 부분을 앞에 붙여 그대로 전달
+        ServletInputStream input = request.getInputStream();
+        byte[] head = input.readNBytes(MAX_BODY_SIZE + 1);
+        if (head.length > MAX_BODY_SIZE) {
+            filterChain.doFilter(new CachedBodyRequest(request, new SequenceInputStream(
+                    new ByteArrayInputStream(head), input), -1), response);
+            return;
+        }
+
+        request.setAttribute(FINGERPRINT_ATTRIBUTE, fingerprint(head, request.getContentType()));
+        filterChain.doFilter(new CachedBodyRequest(request, new ByteArrayInputStream(head), head.length), response);
+    }
+
+    /**
+     * 요청 본문 지문 (JSON이 아니거나 파싱할 수 없는 본문은 원본 바이트로 계산)
+     */
+    String fingerprint(byte[] body, String contentType) {
+        if (body.length > 0 && isJson(contentType)) {
+            try {
+                JsonNode tree = objectMapper.readTree(body);
+                MessageDigest digest = HashUtil.sha256();
+                try (JsonGenerator generator = jsonFactory.createGenerator(
+                        new DigestOutputStream(OutputStream.nullOutputStream(), digest))) {
+                    writeCanonical(generator, tree);
+                }
+                return HashUtil.bytesToHex(digest.digest());
+            } catch (IOException e) {
+                log.debug("JSON 본문 정규화 실패, 원본 바이트로 지문 계산 - {}", e.getMessage());
+            }
+        }
+        return HashUtil.calculateSHA256(body);
+    }
+
+    // 객체 필드는 이름순, 숫자는 불필요한 0을 제거한 BigDecimal 표기로 기록
+    private void writeCanonical(JsonGenerator generator, JsonNode node) throws IOException {
+        if (node.isObject()) {
+            TreeMap<String, JsonNode> fields = new TreeMap<>();
+            node.properties().forEach(field -> fields.put(field.getKey(), field.getValue()));
+            generator.writeStartObject();
+            for (var field : fields.entrySet()) {
+                generator.writeFieldName(field.getKey());
+                writeCanonical(generator, field.getValue());
+            }
+            generator.writeEndObject();
+        } else if (node.isArray()) {
+            generator.writeStartArray();
+            for (Iterator<JsonNode> elements = node.elements(); elements.hasNext();) {
+                writeCanonical(generator, elements.next());
+            }
+            generator.writeEndArray();
+        } else if (node.isNumber()) {
+            generator.writeNumber(node.decimalValue().stripTrailingZeros().toString());
+        } else if (node.isBoolean()) {
+            generator.writeBoolean(node.booleanValue());
+        } else if (node.isNull()) {
+            generator.writeNull();
+        } else {
+            generator.writeString(node.asText());
+        }
+    }
+
+    private boolean isJson(String contentType) {
+        if (contentType == null) {
+            return false;
+        }
+        try {
+            MediaType mediaType = MediaType.parseMediaType(contentType);
+            return MediaType.APPLICATION_JSON.isCompatibleWith(mediaType)
+                    || mediaType.getSubtype().endsWith("+json");
+        } catch (IllegalArgumentException e) {
+            return false;
+        }
+    }
+
+    /**
+     * 이미 읽은 본문을 다시 제공하는 요청 래퍼
+     */
+    private static class CachedBodyRequest extends HttpServletRequestWrapper {
+
+        private final InputStream source;
+        private final int contentLength;
+        private final ServletInputStream inputStream;
+
+        CachedBodyRequest(HttpServletRequest request, InputStream source, int contentLength) {
+            super(request);
+            this.source = source;
+            this.contentLength = contentLength;
+            this.inputStream = new CachedBodyInputStream();
+        }
+
+        @Override
+        public ServletInputStream getInputStream() {
+            return inputStream;
+        }
+
+        @Override
+        public BufferedReader getReader() {
+            String encoding = getCharacterEncoding();
+            Charset charset = encoding != null ? Charset.forName(encoding) : StandardCharsets.UTF_8;
+            return new BufferedReader(new InputStreamReader(inputStream, charset));
+        }
+
+        @Override
+        public int getContentLength() {
+            return contentLength >= 0 ? contentLength : super.getContentLength();
+        }
+
+        @Override
+        public long getContentLengthLong() {
+            return contentLength >= 0 ? contentLength : super.getContentLengthLong();
+        }
+
+        private class CachedBodyInputStream extends ServletInputStream {
+
+            private boolean finished;
+
+            @Override
+            public int read() throws IOException {
+                int value = source.read();
+                finished = value < 0;
+                return value;
+            }
+
+            @Override
+            public int read(byte[] b, int off, int len) throws IOException {
+                int read = source.read(b, off, len);
+                finished = read < 0;
+                return read;
+            }
+
+            @Override
+            public boolean isFinished() {
+                return finished;
+            }
+
+            @Override
+            public boolean isReady() {
+                return true;
+            }
+
+            // 본문은 항상 읽을 수 있는 상태이므로 등록 즉시 읽기 가능과 읽기 완료를 차례로 알림
+            @Override
+            public void setReadListener(ReadListener readListener) {
+                try {
+                    readListener.onDataAvailable();
+                    readListener.onAllDataRead();
+                } catch (IOException e) {
+                    readListener.onError(e);
+                }
+            }
+        }
+    }
+}
@@ -1,10 +1,9 @@
 package barley.wire.wirebarley.infrastructure.listener;
 
 import barley.wire.wirebarley.common.event.IdempotencyRecordedEvent;
+import barley.wire.wirebarley.infrastructure.service.IdempotencyRecordWriter;
 import barley.wire.wirebarley.infrastructure.service.IdempotencyService;
 import lombok.RequiredArgsConstructor;
-import lombok.extern.slf4j.Slf4j;
-import org.springframework.scheduling.annotation.Async;
 import org.springframework.stereotype.Component;
 import org.springframework.transaction.event.TransactionPhase;
 import org.springframework.transaction.event.TransactionalEventListener;
@@ -12,33 +11,34 @@ import org.springframework.transaction.event.TransactionalEventListener;
 /**
  * 멱등성 레코드 저장 이벤트 리스너
  * AFTER_COMMIT을 사용하여 메인 트랜잭션 커밋 후 처리
- * 저장 실패 시에도 메인 로직에 영향을 주지 않음
+ * 저장 실패 시에도 메인 로직에 영향을 주지 않음 (DB 기록은 {@link IdempotencyRecordWriter}가 일괄 처리)
+ * 멱등성 필터는 서비스 트랜잭션이 커밋된 뒤 이벤트를 발행하므로, 트랜잭션이 없으면 즉시 처리(fallbackExecution)
  */
 @Component
 @RequiredArgsConstructor
-@Slf4j
 public class IdempotencyEventListener {
 
     private final IdempotencyService idempotencyService;
+    private final IdempotencyRecordWriter idempotencyRecordWriter;
+
+    /**
+     * 메모리 저장소에 즉시 반영 (요청 스레드에서 실행되어 응답 전에 재시도 요청이 조회 가능)
+     */
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void rememberIdempotencyRecord(IdempotencyRecordedEvent event) {
+        idempotencyService.remember(
+            event.idempotencyKey(),
+            event.requestPath(),
+            event.requestBodyHash(),
+            event.response());
+    }
 
     /**
      * 멱등성 레코드 저장 이벤트 처리
-     * AFTER_COMMIT: 메인 트랜잭션 커밋 후 실행하여 완전히 분리
+     * AFTER_COMMIT: 메인 트랜잭션 커밋 후 기록기 대기열에 넣고, DB 기록은 기록기 스레드가 모아서 처리
      */
-    @Async
-    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
     public void handleIdempotencyRecorded(IdempotencyRecordedEvent event) {
-        try {
-            idempotencyService.saveRecord(
-                event.idempotencyKey(),
-                event.requestPath(),
-                event.requestBodyHash(),
-                event.responseBody(),
-                event.responseStatus());
-
-            log.info("멱등성 레코드 저장 성공: key={}", event.idempotencyKey());
-        } catch (Exception e) {
-            log.error("멱등성 레코드 저장 실패 (메인 로직은 성공): key={}", event.idempotencyKey(), e);
-        }
+        idempotencyRecordWriter.write(event);
     }
 }
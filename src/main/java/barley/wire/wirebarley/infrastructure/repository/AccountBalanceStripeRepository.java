@@ -0,0 +1,33 @@
+package barley.wire.wirebarley.infrastructure.repository;
+
+import barley.wire.wirebarley.domain.account.AccountBalanceStripe;
+import java.math.BigDecimal;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+public interface AccountBalanceStripeRepository extends JpaRepository<AccountBalanceStripe, Long> {
+
+    @Query("SELECT COALESCE(SUM(s.balance), 0) FROM AccountBalanceStripe s WHERE s.accountId = :accountId")
+    BigDecimal sumBalance(@Param("accountId") Long accountId);
+
+    @Query(value = "SELECT COALESCE(SUM(balance), 0) FROM account_balance_stripes "
+        + "WHERE account_id = :accountId FOR UPDATE", nativeQuery = true)
+    BigDecimal sumBalanceForUpdate(@Param("accountId") Long accountId);
+
+    @Modifying
+    @Query(value = "UPDATE account_balance_stripes SET balance = balance + :amount "
+        + "WHERE account_id = :accountId AND stripe_no = :stripeNo", nativeQuery = true)
+    int credit(@Param("accountId") Long accountId, @Param("stripeNo") int stripeNo,
+        @Param("amount") BigDecimal amount);
+
+    @Modifying
+    @Query(value = "UPDATE account_balance_stripes SET balance = 0 "
+        + "WHERE account_id = :accountId AND balance <> 0", nativeQuery = true)
+    int resetBalances(@Param("accountId") Long accountId);
+
+    @Modifying
+    @Query(value = "DELETE FROM account_balance_stripes WHERE account_id = :accountId", nativeQuery = true)
+    int deleteByAccountId(@Param("accountId") Long accountId);
+}
@@ -1,17 +1,25 @@
 package barley.wire.wirebarley.infrastructure.repository;
 
+import barley.wire.wirebarley.common.util.MoneyUtils;
 import barley.wire.wirebarley.domain.account.Account;
+import barley.wire.wirebarley.domain.account.AccountBalance;
 import jakarta.persistence.LockModeType;
 
+import java.math.BigDecimal;
 import java.util.List;
 import java.util.Optional;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 
 public interface AccountRepository extends JpaRepository<Account, Long> {
 
+    // 잔액 기준 값: 최소 단위 잔액 (백필 전 행은 DECIMAL 잔액을 환산)
+    String MINOR_BALANCE_SQL = "COALESCE(balance_minor, ROUND(balance * " + MoneyUtils.MINOR_UNIT_FACTOR_SQL + "))";
+    String MINOR_AMOUNT_SQL = "ROUND(:amount * " + MoneyUtils.MINOR_UNIT_FACTOR_SQL + ")";
+
     boolean existsByAccountNumber(String accountNumber);
 
     @Lock(LockModeType.PESSIMISTIC_WRITE)
@@ -21,4 +29,41 @@ public interface AccountRepository extends JpaRepository<Account, Long> {
     @Lock(LockModeType.PESSIMISTIC_WRITE)
     @Query("SELECT a FROM Account a WHERE a.id IN :ids ORDER BY a.id")
     List<Account> findByIdsWithLockOrdered(@Param("ids") List<Long> ids);
+
+    @Query("SELECT a FROM Account a WHERE a.id IN :ids ORDER BY a.id")
+    List<Account> findByIdsOrdered(@Param("ids") List<Long> ids);
+
+    @Query("SELECT a.id FROM Account a WHERE a.id IN :ids AND a.balanceStripes > 0")
+    List<Long> findStripedIds(@Param("ids") List<Long> ids);
+
+    // 엔티티와 같은 최소 단위 잔액으로 검증·변경하고, DECIMAL 컬럼에는 변경된 최소 단위 잔액을 이중 기록
+    // MySQL은 SET 절을 왼쪽부터 평가하므로 balance는 방금 변경한 balance_minor로 계산
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query(value = "UPDATE accounts SET balance_minor = " + MINOR_BALANCE_SQL + " - " + MINOR_AMOUNT_SQL + ", "
+        + "balance = balance_minor / " + MoneyUtils.MINOR_UNIT_FACTOR_SQL + ", version = version + 1 "
+        + "WHERE id = :id AND " + MINOR_BALANCE_SQL + " >= " + MINOR_AMOUNT_SQL + " AND deleted_at IS NULL",
+        nativeQuery = true)
+    int debitIfSufficient(@Param("id") Long id, @Param("amount") BigDecimal amount);
+
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query(value = "UPDATE accounts SET balance_minor = " + MINOR_BALANCE_SQL + " + " + MINOR_AMOUNT_SQL + ", "
+        + "balance = balance_minor / " + MoneyUtils.MINOR_UNIT_FACTOR_SQL + ", version = version + 1 "
+        + "WHERE id = :id AND deleted_at IS NULL", nativeQuery = true)
+    int credit(@Param("id") Long id, @Param("amount") BigDecimal amount);
+
+    /**
+     * 최소 단위 잔액이 없는 계좌를 ID 구간 단위로 채움 (백필)
+     */
+    @Modifying
+    @Query(value = "UPDATE accounts SET balance_minor = ROUND(balance * " + MoneyUtils.MINOR_UNIT_FACTOR_SQL + ") "
+        + "WHERE id > :afterId AND id <= :toId AND balance_minor IS NULL", nativeQuery = true)
+    int backfillMinorUnits(@Param("afterId") long afterId, @Param("toId") long toId);
+
+    // 삭제된 계좌도 백필 대상이므로 @SQLRestriction이 적용되지 않는 네이티브 쿼리로 조회
+    @Query(value = "SELECT COALESCE(MAX(id), 0) FROM accounts", nativeQuery = true)
+    long findMaxId();
+
+    @Query("SELECT new barley.wire.wirebarley.domain.account.AccountBalance("
+        + "a.id, a.currency, a.balance, a.balanceMinor, a.version) FROM Account a WHERE a.id = :id")
+    Optional<AccountBalance> findBalanceById(@Param("id") Long id);
 }
@@ -0,0 +1,61 @@
+package barley.wire.wirebarley.infrastructure.repository;
+
+import barley.wire.wirebarley.domain.limit.DailyLimitUsage;
+import barley.wire.wirebarley.domain.transaction.TransactionType;
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.Optional;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+public interface DailyLimitUsageRepository extends JpaRepository<DailyLimitUsage, Long> {
+
+    @Query("SELECT u.amount FROM DailyLimitUsage u "
+        + "WHERE u.accountId = :accountId AND u.usageDate = :usageDate AND u.type = :type")
+    Optional<BigDecimal> findAmount(@Param("accountId") Long accountId, @Param("usageDate") LocalDate usageDate,
+        @Param("type") TransactionType type);
+
+    @Modifying
+    @Query(value = "INSERT INTO daily_limit_usages (account_id, usage_date, type, amount) "
+        + "VALUES (:accountId, :usageDate, :type, 0) "
+        + "ON DUPLICATE KEY UPDATE id = id", nativeQuery = true)
+    int insertIfAbsent(@Param("accountId") Long accountId, @Param("usageDate") LocalDate usageDate,
+        @Param("type") String type);
+
+    @Query(value = "SELECT amount FROM daily_limit_usages "
+        + "WHERE account_id = :accountId AND usage_date = :usageDate AND type = :type FOR UPDATE", nativeQuery = true)
+    Optional<BigDecimal> findAmountForUpdate(@Param("accountId") Long accountId,
+        @Param("usageDate") LocalDate usageDate, @Param("type") String type);
+
+    @Modifying
+    @Query(value = "INSERT INTO daily_limit_usages (account_id, usage_date, type, amount) "
+        + "VALUES (:accountId, :usageDate, :type, :amount) "
+        + "ON DUPLICATE KEY UPDATE amount = amount + :amount", nativeQuery = true)
+    int accumulate(@Param("accountId") Long accountId, @Param("usageDate") LocalDate usageDate,
+        @Param("type") String type, @Param("amount") BigDecimal amount);
+
+    @Modifying
+    @Query(value = "DELETE FROM daily_limit_usages WHERE usage_date = :usageDate", nativeQuery = true)
+    int deleteByUsageDate(@Param("usageDate") LocalDate usageDate);
+
+    // 드레인되지 않은 아웃박스 거래도 포함 (이미 옮겨진 레코드는 outbox_id로 제외)
+    @Modifying
+    @Query(value = "INSERT INTO daily_limit_usages (account_id, usage_date, type, amount) "
+        + "SELECT s.account_id, s.usage_date, s.type, s.total FROM ("
+        + "  SELECT u.account_id, :usageDate AS usage_date, u.type, SUM(u.amount) AS total FROM ("
+        + "    SELECT account_id, type, amount FROM transactions "
+        + "    WHERE created_at >= :startOfDay AND created_at < :endOfDay "
+        + "    AND type IN ('WITHDRAW', 'TRANSFER_OUT') "
+        + "    UNION ALL "
+        + "    SELECT o.account_id, o.type, o.amount FROM transaction_outbox o "
+        + "    WHERE o.created_at >= :startOfDay AND o.created_at < :endOfDay "
+        + "    AND o.type IN ('WITHDRAW', 'TRANSFER_OUT') "
+        + "    AND NOT EXISTS (SELECT 1 FROM transactions t WHERE t.outbox_id = o.id)) u "
+        + "  GROUP BY u.account_id, u.type) s "
+        + "ON DUPLICATE KEY UPDATE amount = s.total", nativeQuery = true)
+    int rebuildFromTransactions(@Param("usageDate") LocalDate usageDate,
+        @Param("startOfDay") LocalDateTime startOfDay, @Param("endOfDay") LocalDateTime endOfDay);
+}
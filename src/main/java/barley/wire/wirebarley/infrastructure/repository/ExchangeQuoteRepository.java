@@ -0,0 +1,36 @@
+package barley.wire.wirebarley.infrastructure.repository;
+
+import barley.wire.wirebarley.domain.exchange.ExchangeQuote;
+import jakarta.persistence.LockModeType;
+import java.time.LocalDateTime;
+import java.util.Optional;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+public interface ExchangeQuoteRepository extends JpaRepository<ExchangeQuote, String> {
+
+    /**
+     * 견적을 락 조회 (일반 조회와 달리 트랜잭션의 읽기 스냅샷을 만들지 않음)
+     */
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("SELECT q FROM ExchangeQuote q WHERE q.id = :id")
+    Optional<ExchangeQuote> findByIdForUpdate(@Param("id") String id);
+
+    /**
+     * 미사용 견적을 사용 처리 (동시 사용 요청 중 하나만 1을 반환)
+     */
+    @Modifying
+    @Query("UPDATE ExchangeQuote q SET q.usedAt = :usedAt WHERE q.id = :id AND q.usedAt IS NULL")
+    int markUsed(@Param("id") String id, @Param("usedAt") LocalDateTime usedAt);
+
+    /**
+     * 만료된 견적을 만료 시각 순으로 최대 limit건 삭제 (idx_exchange_quotes_expires_at 범위 탐색)
+     */
+    @Modifying
+    @Query(value = "DELETE FROM exchange_quotes WHERE expires_at < :now ORDER BY expires_at LIMIT :limit",
+        nativeQuery = true)
+    int deleteExpired(@Param("now") LocalDateTime now, @Param("limit") int limit);
+}
@@ -2,8 +2,11 @@ package barley.wire.wirebarley.infrastructure.repository;
 
 import barley.wire.wirebarley.domain.account.Currency;
 import barley.wire.wirebarley.domain.exchange.ExchangeRate;
+import java.time.LocalDateTime;
+import java.util.List;
 import java.util.Optional;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 
@@ -13,4 +16,18 @@ public interface ExchangeRateRepository extends JpaRepository<ExchangeRate, Long
         + "ORDER BY e.createdAt DESC " + "LIMIT 1")
     Optional<ExchangeRate> findLatestRate(@Param("fromCurrency") Currency fromCurrency,
         @Param("toCurrency") Currency toCurrency);
+
+    // 통화 쌍별 가장 최근에 저장된 환율
+    @Query("SELECT e FROM ExchangeRate e WHERE e.id IN ("
+        + "SELECT MAX(e2.id) FROM ExchangeRate e2 GROUP BY e2.fromCurrency, e2.toCurrency)")
+    List<ExchangeRate> findLatestRates();
+
+    /**
+     * 통화 쌍의 기준 시각 이전 환율을 오래된 순으로 최대 limit건 삭제 (idx_currency_created 범위 탐색)
+     */
+    @Modifying
+    @Query(value = "DELETE FROM exchange_rates WHERE from_currency = :fromCurrency AND to_currency = :toCurrency "
+        + "AND created_at < :before ORDER BY created_at LIMIT :limit", nativeQuery = true)
+    int deleteOlderThan(@Param("fromCurrency") String fromCurrency, @Param("toCurrency") String toCurrency,
+        @Param("before") LocalDateTime before, @Param("limit") int limit);
 }
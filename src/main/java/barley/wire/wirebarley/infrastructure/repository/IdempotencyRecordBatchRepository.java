@@ -0,0 +1,66 @@
+package barley.wire.wirebarley.infrastructure.repository;
+
+import static barley.wire.wirebarley.common.constants.IdempotencyConstants.DEFAULT_TTL;
+
+import barley.wire.wirebarley.common.event.IdempotencyRecordedEvent;
+import barley.wire.wirebarley.common.util.TimeUtil;
+import barley.wire.wirebarley.domain.idempotency.IdempotencyResponse;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+/**
+ * 멱등성 레코드 일괄 기록
+ * idempotency_records는 IDENTITY 키라 Hibernate 배치 INSERT가 적용되지 않고, 대부분의 키는 이미 IN_PROGRESS 행으로 선점되어 있으므로
+ * 여러 건을 다중 행 INSERT ... ON DUPLICATE KEY UPDATE 한 문장으로 완료 처리합니다.
+ */
+@Repository
+@RequiredArgsConstructor
+public class IdempotencyRecordBatchRepository {
+
+    private static final String UPSERT_PREFIX = "INSERT INTO idempotency_records "
+            + "(idempotency_key, request_path, request_body_hash, status, response_status, response_content_type, "
+            + "response_headers, response_payload, created_at, expires_at) VALUES ";
+    private static final String ROW_PLACEHOLDER = "(?, ?, ?, 'COMPLETED', ?, ?, ?, ?, ?, ?)";
+    // 선점 행의 요청 경로·해시·생성 시각은 유지하고 처리 결과만 기록
+    private static final String UPSERT_SUFFIX = " AS new ON DUPLICATE KEY UPDATE status = new.status, "
+            + "response_status = new.response_status, response_content_type = new.response_content_type, "
+            + "response_headers = new.response_headers, response_payload = new.response_payload, "
+            + "expires_at = new.expires_at";
+
+    private final JdbcTemplate jdbcTemplate;
+
+    /**
+     * 처리 결과를 한 문장으로 기록 (선점 행은 완료 처리, 없는 키는 새로 저장)
+     *
+     * @param events 서로 다른 키의 처리 결과
+     */
+    public void upsertCompleted(List<IdempotencyRecordedEvent> events) {
+        if (events.isEmpty()) {
+            return;
+        }
+        LocalDateTime now = TimeUtil.nowDateTime();
+        LocalDateTime expiresAt = now.plus(DEFAULT_TTL);
+
+        List<Object> args = new ArrayList<>(events.size() * 9);
+        for (IdempotencyRecordedEvent event : events) {
+            IdempotencyResponse response = event.response();
+            args.add(event.idempotencyKey());
+            args.add(event.requestPath());
+            args.add(event.requestBodyHash());
+            args.add(response.status());
+            args.add(response.contentType());
+            args.add(response.headers());
+            args.add(response.payload());
+            args.add(now);
+            args.add(expiresAt);
+        }
+        String sql = UPSERT_PREFIX + String.join(", ", Collections.nCopies(events.size(), ROW_PLACEHOLDER))
+                + UPSERT_SUFFIX;
+        jdbcTemplate.update(sql, args.toArray());
+    }
+}
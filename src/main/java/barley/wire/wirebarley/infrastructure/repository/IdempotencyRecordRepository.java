@@ -6,8 +6,46 @@ import java.time.LocalDateTime;
 import java.util.Optional;
 
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
 public interface IdempotencyRecordRepository extends JpaRepository<IdempotencyRecord, Long> {
 
     Optional<IdempotencyRecord> findByIdempotencyKey(String idempotencyKey);
+
+    /**
+     * 키가 없을 때만 IN_PROGRESS 행으로 선점 (이미 있으면 0 반환)
+     */
+    @Modifying
+    @Query(value = "INSERT IGNORE INTO idempotency_records "
+        + "(idempotency_key, request_path, request_body_hash, status, created_at, expires_at) "
+        + "VALUES (:key, :path, :hash, 'IN_PROGRESS', :now, :expiresAt)", nativeQuery = true)
+    int insertInProgress(@Param("key") String key, @Param("path") String path, @Param("hash") String hash,
+        @Param("now") LocalDateTime now, @Param("expiresAt") LocalDateTime expiresAt);
+
+    /**
+     * 만료된 행(완료 후 TTL 경과 또는 처리 중 서버 종료)을 IN_PROGRESS로 다시 선점
+     * 이전 응답이 새 요청의 응답으로 재처리되지 않도록 저장된 응답 컬럼을 모두 비웁니다.
+     */
+    @Modifying
+    @Query(value = "UPDATE idempotency_records SET request_path = :path, request_body_hash = :hash, "
+        + "status = 'IN_PROGRESS', response_body = NULL, response_payload = NULL, response_content_type = NULL, "
+        + "response_headers = NULL, response_status = NULL, created_at = :now, "
+        + "expires_at = :expiresAt WHERE idempotency_key = :key AND expires_at < :now", nativeQuery = true)
+    int reclaimExpired(@Param("key") String key, @Param("path") String path, @Param("hash") String hash,
+        @Param("now") LocalDateTime now, @Param("expiresAt") LocalDateTime expiresAt);
+
+    @Modifying
+    @Query(value = "DELETE FROM idempotency_records WHERE idempotency_key = :key AND status = 'IN_PROGRESS'",
+        nativeQuery = true)
+    int deleteInProgress(@Param("key") String key);
+
+    /**
+     * 만료된 레코드를 만료 시각 순으로 최대 limit건 삭제 (idx_idempotency_expires_at 범위 탐색)
+     */
+    @Modifying
+    @Query(value = "DELETE FROM idempotency_records WHERE expires_at < :now ORDER BY expires_at LIMIT :limit",
+        nativeQuery = true)
+    int deleteExpired(@Param("now") LocalDateTime now, @Param("limit") int limit);
 }
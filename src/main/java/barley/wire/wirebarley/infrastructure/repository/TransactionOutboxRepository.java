@@ -0,0 +1,21 @@
+package barley.wire.wirebarley.infrastructure.repository;
+
+import barley.wire.wirebarley.domain.transaction.TransactionOutbox;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+public interface TransactionOutboxRepository extends JpaRepository<TransactionOutbox, Long> {
+
+    // SKIP LOCKED 없이 잠그므로 드레이너가 여러 개여도 배치 단위로 직렬 실행됨
+    // 풀링된 ID는 서버 간 발생 순서와 다르므로 발생 시각 순으로 배치를 자름 (idx_transaction_outbox_created_at)
+    @Query(value = "SELECT * FROM transaction_outbox ORDER BY created_at, id LIMIT :limit FOR UPDATE",
+        nativeQuery = true)
+    List<TransactionOutbox> findBatchForUpdate(@Param("limit") int limit);
+
+    @Query("SELECT MIN(o.createdAt) FROM TransactionOutbox o")
+    Optional<LocalDateTime> findOldestCreatedAt();
+}
@@ -1,21 +1,74 @@
 package barley.wire.wirebarley.infrastructure.repository;
 
+import barley.wire.wirebarley.common.util.MoneyUtils;
 import barley.wire.wirebarley.domain.transaction.Transaction;
+import barley.wire.wirebarley.domain.transaction.TransactionCursor;
 import barley.wire.wirebarley.domain.transaction.TransactionType;
-import java.math.BigDecimal;
+import jakarta.persistence.QueryHint;
 import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+import java.util.stream.Stream;
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.data.repository.query.Param;
 
 public interface TransactionRepository extends JpaRepository<Transaction, Long> {
 
     Page<Transaction> findByAccountIdOrderByCreatedAtDescIdDesc(Long accountId, Pageable pageable);
 
-    @Query("SELECT COALESCE(SUM(t.amount), 0) FROM Transaction t "
-        + "WHERE t.accountId = :accountId AND t.type = :type AND t.createdAt >= :startOfDay")
-    BigDecimal sumAmountByAccountIdAndTypeAndCreatedAtAfter(@Param("accountId") Long accountId,
-        @Param("type") TransactionType type, @Param("startOfDay") LocalDateTime startOfDay);
+    List<Transaction> findByAccountIdOrderByCreatedAtDescIdDesc(Long accountId, Limit limit);
+
+    // created_at 상한을 범위 조건으로 두어 (account_id, created_at) 인덱스를 커서 위치부터 역순 탐색
+    @Query("SELECT t FROM Transaction t WHERE t.accountId = :accountId AND t.createdAt <= :createdAt "
+        + "AND (t.createdAt < :createdAt OR t.id < :id) ORDER BY t.createdAt DESC, t.id DESC")
+    List<Transaction> findNextByAccountId(@Param("accountId") Long accountId,
+        @Param("createdAt") LocalDateTime createdAt, @Param("id") Long id, Limit limit);
+
+    /**
+     * 커서 이후의 거래 내역을 최신순으로 조회 (COUNT 쿼리 없음)
+     */
+    default List<Transaction> findSlice(Long accountId, TransactionCursor cursor, int limit) {
+        if (cursor == null) {
+            return findByAccountIdOrderByCreatedAtDescIdDesc(accountId, Limit.of(limit));
+        }
+        return findNextByAccountId(accountId, cursor.createdAt(), cursor.id(), Limit.of(limit));
+    }
+
+    /**
+     * 최소 단위 금액이 없는 거래 내역을 ID 구간 단위로 채움 (백필)
+     */
+    @Modifying
+    @Query(value = "UPDATE transactions SET amount_minor = ROUND(amount * " + MoneyUtils.MINOR_UNIT_FACTOR_SQL + "), "
+        + "fee_minor = ROUND(fee * " + MoneyUtils.MINOR_UNIT_FACTOR_SQL + "), "
+        + "balance_snapshot_minor = ROUND(balance_snapshot * " + MoneyUtils.MINOR_UNIT_FACTOR_SQL + ") "
+        + "WHERE id > :afterId AND id <= :toId AND amount_minor IS NULL", nativeQuery = true)
+    int backfillMinorUnits(@Param("afterId") long afterId, @Param("toId") long toId);
+
+    @Query("SELECT COALESCE(MAX(t.id), 0) FROM Transaction t")
+    long findMaxId();
+
+    @Query("SELECT t.outboxId FROM Transaction t WHERE t.outboxId IN :outboxIds")
+    List<Long> findOutboxIdsIn(@Param("outboxIds") Collection<Long> outboxIds);
+
+    /**
+     * 거래 내역 내보내기용 스트림 조회 (오래된 순)
+     * 이 조회에만 MySQL 드라이버의 스트리밍 fetch size(Integer.MIN_VALUE)를 지정하여 한 행씩 읽으므로 결과 전체를 메모리에 올리지 않습니다.
+     * 스트림을 닫기 전까지 같은 커넥션으로 다른 쿼리를 실행할 수 없습니다.
+     * 트랜잭션 안에서 소비해야 하며, 호출 측에서 스트림을 닫아야 합니다.
+     */
+    @QueryHints({
+        @QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "" + Integer.MIN_VALUE),
+        @QueryHint(name = HibernateHints.HINT_READ_ONLY, value = "true") })
+    @Query("SELECT t FROM Transaction t WHERE t.accountId = :accountId "
+        + "AND t.createdAt >= :from AND t.createdAt < :to AND (:type IS NULL OR t.type = :type) "
+        + "ORDER BY t.createdAt, t.id")
+    Stream<Transaction> streamForExport(@Param("accountId") Long accountId, @Param("from") LocalDateTime from,
+        @Param("to") LocalDateTime to, @Param("type") TransactionType type);
 }
@@ -0,0 +1,51 @@
+package barley.wire.wirebarley.infrastructure.scheduler;
+
+import barley.wire.wirebarley.infrastructure.thread.DatabasePermitDataSource;
+import com.zaxxer.hikari.HikariDataSource;
+import com.zaxxer.hikari.HikariPoolMXBean;
+import java.sql.SQLException;
+import javax.sql.DataSource;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+
+/**
+ * 커넥션 풀 사용량으로 DB 부하 판단
+ * 정리 작업 등 백그라운드 작업이 요청 처리와 커넥션을 다투지 않도록 실행 전에 확인합니다.
+ * 가상 스레드 모드에서는 요청이 풀 앞의 DB 동시 작업 허가(DatabasePermitDataSource)에서 기다리므로 허가 대기 수도 함께 확인합니다.
+ */
+@Component
+@Slf4j
+public class DatabaseLoadMonitor {
+
+    private final HikariDataSource hikariDataSource;
+    private final DatabasePermitDataSource permitDataSource;
+
+    public DatabaseLoadMonitor(DataSource dataSource) {
+        this.hikariDataSource = unwrap(dataSource, HikariDataSource.class);
+        this.permitDataSource = unwrap(dataSource, DatabasePermitDataSource.class);
+    }
+
+    /**
+     * 허가나 커넥션을 기다리는 스레드가 있거나, 사용 중인 커넥션 비율이 기준을 넘으면 true
+     */
+    public boolean isBusy(double maxPoolUsage) {
+        if (permitDataSource != null && permitDataSource.getWaitingThreads() > 0) {
+            return true;
+        }
+        HikariPoolMXBean pool = hikariDataSource != null ? hikariDataSource.getHikariPoolMXBean() : null;
+        if (pool == null) {
+            return false;
+        }
+        double usage = (double) pool.getActiveConnections() / hikariDataSource.getMaximumPoolSize();
+        return pool.getThreadsAwaitingConnection() > 0 || usage > maxPoolUsage;
+    }
+
+    private static <T> T unwrap(DataSource dataSource, Class<T> type) {
+        try {
+            return dataSource.isWrapperFor(type) ? dataSource.unwrap(type) : null;
+        } catch (SQLException e) {
+            log.warn("{} 정보를 확인할 수 없어 해당 DB 부하 확인을 생략합니다 - {}", type.getSimpleName(), e.getMessage());
+            return null;
+        }
+    }
+}
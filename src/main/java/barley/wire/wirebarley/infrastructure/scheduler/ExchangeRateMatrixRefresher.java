@@ -0,0 +1,32 @@
+package barley.wire.wirebarley.infrastructure.scheduler;
+
+import barley.wire.wirebarley.infrastructure.service.ExchangeRateService;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+/**
+ * 환율 매트릭스 주기 갱신
+ * 애플리케이션 시작 직후 한 번 실행된 뒤 설정된 간격마다 매트릭스를 다시 만듭니다.
+ */
+@Component
+@ConditionalOnProperty(prefix = "wirebarley.exchange-rate.refresh", name = "enabled", havingValue = "true",
+        matchIfMissing = true)
+@RequiredArgsConstructor
+@Slf4j
+public class ExchangeRateMatrixRefresher {
+
+    private final ExchangeRateService exchangeRateService;
+
+    @Scheduled(fixedDelayString = "${wirebarley.exchange-rate.refresh.interval:10m}")
+    public void refresh() {
+        try {
+            exchangeRateService.refreshMatrix();
+        } catch (RuntimeException e) {
+            // 기존 매트릭스를 유지하고 다음 주기에 재시도
+            log.warn("환율 매트릭스 갱신 실패 - {}", e.getMessage(), e);
+        }
+    }
+}
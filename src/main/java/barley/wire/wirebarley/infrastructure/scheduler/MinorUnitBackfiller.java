@@ -0,0 +1,90 @@
+package barley.wire.wirebarley.infrastructure.scheduler;
+
+import barley.wire.wirebarley.infrastructure.config.MoneyProperties;
+import barley.wire.wirebarley.infrastructure.service.MinorUnitBackfillService;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import java.util.function.LongSupplier;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+/**
+ * 최소 단위 금액 컬럼 백필 (기본 등록, wirebarley.money.backfill.enabled=false 이면 등록하지 않음)
+ * 테이블별로 ID 구간을 하나씩 처리하며, 마지막 ID에 도달하면 새로 추가된 행이 있는지만 확인합니다.
+ * 진행 위치는 메모리에만 보관하므로 재시작 시 처음부터 다시 훑지만, 채워진 행은 UPDATE 조건에서 제외됩니다.
+ */
+@Component
+@ConditionalOnProperty(prefix = "wirebarley.money.backfill", name = "enabled", havingValue = "true",
+        matchIfMissing = true)
+@Slf4j
+public class MinorUnitBackfiller {
+
+    private static final String METRIC_NAME = "wirebarley.money.backfill.rows";
+
+    private final MoneyProperties.Backfill properties;
+    private final Cursor accounts;
+    private final Cursor transactions;
+
+    public MinorUnitBackfiller(MinorUnitBackfillService backfillService, MoneyProperties moneyProperties,
+            MeterRegistry meterRegistry) {
+        this.properties = moneyProperties.backfill();
+        this.accounts = new Cursor("accounts", backfillService::getMaxAccountId, backfillService::backfillAccounts,
+                meterRegistry.counter(METRIC_NAME, "table", "accounts"));
+        this.transactions = new Cursor("transactions", backfillService::getMaxTransactionId,
+                backfillService::backfillTransactions, meterRegistry.counter(METRIC_NAME, "table", "transactions"));
+    }
+
+    @Scheduled(fixedDelayString = "${wirebarley.money.backfill.interval:1s}")
+    public void backfill() {
+        try {
+            accounts.advance(properties.batchSize());
+            transactions.advance(properties.batchSize());
+        } catch (RuntimeException e) {
+            // 진행 위치는 실패한 구간 앞에 머무르므로 다음 주기에 같은 구간부터 재시도
+            log.warn("최소 단위 금액 백필 실패 - {}", e.getMessage(), e);
+        }
+    }
+
+    @FunctionalInterface
+    private interface RangeBackfill {
+        int backfill(long afterId, long toId);
+    }
+
+    private static final class Cursor {
+
+        private final String table;
+        private final LongSupplier maxId;
+        private final RangeBackfill rangeBackfill;
+        private final Counter counter;
+        private long afterId;
+        private long targetId = -1;
+        private boolean completed;
+
+        private Cursor(String table, LongSupplier maxId, RangeBackfill rangeBackfill, Counter counter) {
+            this.table = table;
+            this.maxId = maxId;
+            this.rangeBackfill = rangeBackfill;
+            this.counter = counter;
+        }
+
+        void advance(int batchSize) {
+            if (afterId >= targetId) {
+                targetId = maxId.getAsLong();
+                if (afterId >= targetId) {
+                    if (!completed) {
+                        completed = true;
+                        log.info("최소 단위 금액 백필 완료 - table: {}, lastId: {}", table, afterId);
+                    }
+                    return;
+                }
+                completed = false;
+            }
+
+            long toId = Math.min(afterId + batchSize, targetId);
+            counter.increment(rangeBackfill.backfill(afterId, toId));
+            afterId = toId;
+        }
+    }
+}
@@ -0,0 +1,116 @@
+package barley.wire.wirebarley.infrastructure.scheduler;
+
+import barley.wire.wirebarley.common.util.TimeUtil;
+import barley.wire.wirebarley.domain.account.Currency;
+import barley.wire.wirebarley.infrastructure.config.RetentionProperties;
+import barley.wire.wirebarley.infrastructure.service.RetentionService;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import java.time.LocalDateTime;
+import java.util.function.IntUnaryOperator;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+/**
+ * 만료 데이터 정리 (wirebarley.retention.enabled=true 일 때만 등록)
+ * 만료된 멱등성 레코드와 환율 견적, 보존 기간이 지난 환율 이력을 작은 배치로 나눠 삭제합니다.
+ * 배치 사이에 대기하고, DB 커넥션 풀이 바쁘면 남은 작업을 다음 주기로 미룹니다.
+ */
+@Component
+@ConditionalOnProperty(prefix = "wirebarley.retention", name = "enabled", havingValue = "true")
+@Slf4j
+public class RetentionPurger {
+
+    private static final String METRIC_NAME = "wirebarley.retention.deleted";
+
+    private final RetentionService retentionService;
+    private final RetentionProperties properties;
+    private final DatabaseLoadMonitor databaseLoadMonitor;
+    private final DistributionSummary idempotencyDeleted;
+    private final DistributionSummary quoteDeleted;
+    private final DistributionSummary exchangeRateDeleted;
+    private boolean paused;
+
+    public RetentionPurger(RetentionService retentionService, RetentionProperties properties,
+            DatabaseLoadMonitor databaseLoadMonitor, MeterRegistry meterRegistry) {
+        this.retentionService = retentionService;
+        this.properties = properties;
+        this.databaseLoadMonitor = databaseLoadMonitor;
+        this.idempotencyDeleted = deletedPerRun(meterRegistry, "idempotency_records");
+        this.quoteDeleted = deletedPerRun(meterRegistry, "exchange_quotes");
+        this.exchangeRateDeleted = deletedPerRun(meterRegistry, "exchange_rates");
+    }
+
+    @Scheduled(fixedDelayString = "${wirebarley.retention.interval:1m}")
+    public void purge() {
+        paused = false;
+        long startedAt = System.nanoTime();
+        int idempotencyRecords = 0;
+        int quotes = 0;
+        int exchangeRates = 0;
+        try {
+            idempotencyRecords = purgeInBatches(retentionService::purgeExpiredIdempotencyRecords);
+            quotes = purgeInBatches(retentionService::purgeExpiredQuotes);
+            exchangeRates = thinExchangeRates(TimeUtil.nowDateTime().minus(properties.exchangeRateHistory()));
+        } catch (RuntimeException e) {
+            // 삭제되지 않은 행은 다음 주기에 다시 대상이 됨
+            log.warn("만료 데이터 정리 실패 - {}", e.getMessage(), e);
+        } finally {
+            idempotencyDeleted.record(idempotencyRecords);
+            quoteDeleted.record(quotes);
+            exchangeRateDeleted.record(exchangeRates);
+            log.info("만료 데이터 정리 - idempotency_records: {}, exchange_quotes: {}, exchange_rates: {}, "
+                    + "paused: {}, elapsed: {}ms", idempotencyRecords, quotes, exchangeRates, paused,
+                    (System.nanoTime() - startedAt) / 1_000_000);
+        }
+    }
+
+    private int thinExchangeRates(LocalDateTime before) {
+        int deleted = 0;
+        for (Currency from : Currency.values()) {
+            for (Currency to : Currency.values()) {
+                if (from != to) {
+                    deleted += purgeInBatches(limit -> retentionService.thinExchangeRates(from, to, before, limit));
+                }
+            }
+        }
+        return deleted;
+    }
+
+    // 배치가 가득 차지 않으면 대상이 남지 않은 것으로 보고 종료, 횟수 상한이나 DB 부하에 도달해도 종료
+    private int purgeInBatches(IntUnaryOperator deleteBatch) {
+        int total = 0;
+        for (int batch = 0; batch < properties.maxBatchesPerRun(); batch++) {
+            if (paused || databaseLoadMonitor.isBusy(properties.maxPoolUsage())) {
+                paused = true;
+                break;
+            }
+
+            int deleted = deleteBatch.applyAsInt(properties.batchSize());
+            total += deleted;
+            if (deleted < properties.batchSize()) {
+                break;
+            }
+            sleep();
+        }
+        return total;
+    }
+
+    private void sleep() {
+        try {
+            Thread.sleep(properties.batchPause().toMillis());
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            paused = true;
+        }
+    }
+
+    private static DistributionSummary deletedPerRun(MeterRegistry meterRegistry, String table) {
+        return DistributionSummary.builder(METRIC_NAME)
+                .description("정리 작업 1회 실행에서 삭제한 행 수")
+                .tag("table", table)
+                .register(meterRegistry);
+    }
+}
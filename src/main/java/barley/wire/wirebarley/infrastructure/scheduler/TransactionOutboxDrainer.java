@@ -0,0 +1,61 @@
+package barley.wire.wirebarley.infrastructure.scheduler;
+
+import barley.wire.wirebarley.infrastructure.config.JournalProperties;
+import barley.wire.wirebarley.infrastructure.service.TransactionOutboxService;
+import barley.wire.wirebarley.infrastructure.service.TransactionOutboxService.DrainResult;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.TimeGauge;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+/**
+ * 거래 내역 아웃박스 드레이너 (OUTBOX 저널 모드에서만 등록)
+ * 배치가 가득 찬 동안은 연속으로 드레인하고, 비면 다음 주기까지 대기합니다.
+ */
+@Component
+@ConditionalOnProperty(prefix = "wirebarley.journal", name = "mode", havingValue = "OUTBOX")
+@Slf4j
+public class TransactionOutboxDrainer {
+
+    private static final String METRIC_PREFIX = "wirebarley.journal.outbox";
+
+    private final TransactionOutboxService outboxService;
+    private final JournalProperties journalProperties;
+    private final Counter drainedCounter;
+    private final Counter duplicateCounter;
+    private final AtomicLong lagMillis = new AtomicLong();
+
+    public TransactionOutboxDrainer(TransactionOutboxService outboxService, JournalProperties journalProperties,
+            MeterRegistry meterRegistry) {
+        this.outboxService = outboxService;
+        this.journalProperties = journalProperties;
+        this.drainedCounter = meterRegistry.counter(METRIC_PREFIX + ".drained");
+        this.duplicateCounter = meterRegistry.counter(METRIC_PREFIX + ".duplicates");
+        TimeGauge.builder(METRIC_PREFIX + ".lag", lagMillis, TimeUnit.MILLISECONDS, AtomicLong::get)
+                .description("가장 오래된 미처리 아웃박스 레코드의 대기 시간")
+                .register(meterRegistry);
+    }
+
+    @Scheduled(fixedDelayString = "${wirebarley.journal.outbox.poll-interval:200ms}")
+    public void drain() {
+        int batchSize = journalProperties.outbox().batchSize();
+        try {
+            DrainResult result;
+            do {
+                result = outboxService.drain(batchSize);
+                drainedCounter.increment(result.drained());
+                duplicateCounter.increment(result.duplicates());
+            } while (result.total() >= batchSize);
+        } catch (RuntimeException e) {
+            // 레코드는 아웃박스에 남아 있으므로 다음 주기에 재시도
+            log.warn("아웃박스 드레인 실패 - {}", e.getMessage(), e);
+        } finally {
+            lagMillis.set(outboxService.getLag().toMillis());
+        }
+    }
+}
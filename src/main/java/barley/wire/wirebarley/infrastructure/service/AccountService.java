@@ -1,15 +1,23 @@
 package barley.wire.wirebarley.infrastructure.service;
 
 import barley.wire.wirebarley.domain.account.Account;
+import barley.wire.wirebarley.domain.account.AccountBalance;
 import barley.wire.wirebarley.common.exception.AccountNotFoundException;
+import barley.wire.wirebarley.common.exception.InsufficientBalanceException;
+import barley.wire.wirebarley.infrastructure.config.BalanceProperties;
 import barley.wire.wirebarley.infrastructure.repository.AccountRepository;
 import lombok.RequiredArgsConstructor;
 import org.springframework.data.util.Pair;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.math.BigDecimal;
 import java.util.Arrays;
+import java.util.Collection;
 import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+import java.util.stream.Collectors;
 
 @Service
 @RequiredArgsConstructor
@@ -17,6 +25,8 @@ import java.util.List;
 public class AccountService {
 
     private final AccountRepository accountRepository;
+    private final BalanceStripeService balanceStripeService;
+    private final BalanceProperties balanceProperties;
 
     @Transactional
     public Account save(Account account) {
@@ -29,13 +39,19 @@ public class AccountService {
     }
 
     public Account getAccount(Long accountId) {
-        return accountRepository.findById(accountId)
+        Account account = accountRepository.findById(accountId)
             .orElseThrow(() -> new AccountNotFoundException("계좌번호를 찾을 수 없습니다: " + accountId));
+        return withStripedBalance(account);
     }
 
+    /**
+     * 스트라이프 계좌는 락 획득 후 같은 트랜잭션에서 하위 잔액을 통합하므로 락 이후의 잔액은 기준 잔액만으로 판단합니다.
+     */
     public Account getAccountWithLock(Long accountId) {
-        return accountRepository.findByIdWithLock(accountId)
+        Account account = accountRepository.findByIdWithLock(accountId)
             .orElseThrow(() -> new AccountNotFoundException("계좌번호(LOCK)를 찾을 수 없습니다: " + accountId));
+        markLockedAndConsolidate(account);
+        return account;
     }
 
     public boolean existsByAccountNumber(String accountNumber) {
@@ -43,12 +59,206 @@ public class AccountService {
     }
 
     /**
-     * 2개 계좌를 조회할 때 데드락 방지를 위해 항상 낮은 계좌 ID를 먼저 조회하는 메서드
+     * 이체할 2개 계좌를 조회할 때 데드락 방지를 위해 항상 낮은 계좌 ID를 먼저 조회하는 메서드
+     * 입금 계좌만 스트라이프 계좌이면 입금 계좌는 락 없이 조회하고 출금 계좌만 락을 획득합니다.
+     * 출금 계좌도 스트라이프 계좌이면 하위 잔액 락이 교차하지 않도록 두 계좌 모두 락을 획득합니다.
+     * 락 순서를 정하는 스트라이프 여부 조회가 락보다 먼저 스냅샷을 만들므로, 이후 한도 누적 금액은 잠금 읽기로 조회합니다. ({@link DailyLimitService})
      */
-    public Pair<Account, Account> getAccountsWithLockOrdered(Long accountId1, Long accountId2) {
-        List<Long> ids = Arrays.asList(accountId1, accountId2);
+    public Pair<Account, Account> getAccountsWithLockOrdered(Long fromAccountId, Long toAccountId) {
+        List<Long> stripedIds = findStripedIds(fromAccountId, toAccountId);
+
+        if (stripedIds.contains(toAccountId) && !stripedIds.contains(fromAccountId)) {
+            Account fromAccount = accountRepository.findByIdWithLock(fromAccountId)
+                .orElseThrow(() -> new AccountNotFoundException("출금/송금 계좌 번호 확인이 필요합니다."));
+            markLockedAndConsolidate(fromAccount);
+            return Pair.of(fromAccount, getAccount(toAccountId));
+        }
+
+        List<Long> ids = Arrays.asList(fromAccountId, toAccountId);
         List<Account> accounts = accountRepository.findByIdsWithLockOrdered(ids);
+        accounts.forEach(this::markLockedAndConsolidate);
+
+        return toPair(accounts, fromAccountId, toAccountId);
+    }
+
+    /**
+     * 여러 계좌를 한 번의 조회로 ID 오름차순 락 획득 (일괄 이체용)
+     * 스트라이프 계좌는 락 획득 후 하위 잔액을 통합합니다.
+     *
+     * @return 계좌 ID별 계좌 (존재하지 않는 ID는 포함되지 않음)
+     */
+    public Map<Long, Account> getAccountsWithLockOrdered(Collection<Long> accountIds) {
+        List<Long> ids = accountIds.stream().distinct().sorted().toList();
+
+        List<Account> accounts = accountRepository.findByIdsWithLockOrdered(ids);
+        accounts.forEach(this::markLockedAndConsolidate);
+
+        return accounts.stream().collect(Collectors.toMap(Account::getId, Function.identity()));
+    }
+
+    /**
+     * 2개 계좌를 락 없이 조회 (통화 등 변경되지 않는 속성 확인용)
+     */
+    public Pair<Account, Account> getAccounts(Long accountId1, Long accountId2) {
+        List<Long> ids = Arrays.asList(accountId1, accountId2);
+        List<Account> accounts = accountRepository.findByIdsOrdered(ids);
+        accounts.forEach(this::withStripedBalance);
+
+        return toPair(accounts, accountId1, accountId2);
+    }
+
+    /**
+     * 잔액이 충분한 경우에만 단일 UPDATE로 출금 (ATOMIC_UPDATE 모드)
+     * 영향받은 행 수로 성공 여부를 판단하고, 변경된 잔액을 반환합니다.
+     * 스트라이핑이 활성화되면 계좌 락을 먼저 획득하고, 락을 보유한 행 기준으로 스트라이프 계좌의 하위 잔액을 통합한 뒤 출금합니다.
+     */
+    @Transactional
+    public AccountBalance debit(Long accountId, BigDecimal amount, String insufficientMessage) {
+        if (balanceProperties.isStripingEnabled()) {
+            accountRepository.findByIdWithLock(accountId).ifPresent(this::markLockedAndConsolidate);
+        }
+        return debitIfSufficient(accountId, amount, insufficientMessage);
+    }
+
+    /**
+     * 단일 UPDATE로 입금 (ATOMIC_UPDATE 모드)
+     */
+    @Transactional
+    public AccountBalance credit(Long accountId, BigDecimal amount) {
+        int updated = accountRepository.credit(accountId, amount);
+        if (updated == 0) {
+            throw new AccountNotFoundException("계좌번호를 찾을 수 없습니다: " + accountId);
+        }
+        return getBalanceSnapshot(accountId);
+    }
+
+    /**
+     * 출금/입금을 단일 UPDATE로 처리 (ATOMIC_UPDATE 모드)
+     * 데드락 방지를 위해 항상 낮은 계좌 ID부터 UPDATE 합니다.
+     * 입금 계좌가 스트라이프 계좌이면 계좌 행 대신 하위 잔액 행에 입금합니다.
+     * 출금 계좌가 스트라이프 계좌이면 두 계좌 행을 ID 순으로 락 획득한 뒤 하위 잔액을 통합합니다.
+     *
+     * @return (출금 계좌 잔액, 입금 계좌 잔액)
+     */
+    @Transactional
+    public Pair<AccountBalance, AccountBalance> transferAtomically(Long fromAccountId, Long toAccountId,
+            BigDecimal debitAmount, BigDecimal creditAmount, String insufficientMessage) {
+        List<Long> stripedIds = findStripedIds(fromAccountId, toAccountId);
+        if (stripedIds.contains(fromAccountId)) {
+            lockAndConsolidate(List.of(fromAccountId, toAccountId));
+        }
+
+        if (stripedIds.contains(toAccountId)) {
+            AccountBalance from = debitIfSufficient(fromAccountId, debitAmount, insufficientMessage);
+            return Pair.of(from, creditStripeSnapshot(toAccountId, creditAmount, fromAccountId));
+        }
+
+        if (fromAccountId < toAccountId) {
+            AccountBalance from = debitIfSufficient(fromAccountId, debitAmount, insufficientMessage);
+            AccountBalance to = credit(toAccountId, creditAmount);
+            return Pair.of(from, to);
+        }
+
+        AccountBalance to = credit(toAccountId, creditAmount);
+        AccountBalance from = debitIfSufficient(fromAccountId, debitAmount, insufficientMessage);
+        return Pair.of(from, to);
+    }
+
+    /**
+     * 이체 입금을 계좌 행 대신 하위 잔액 행에 기록할지 여부
+     * 스트라이핑이 비활성화되면 입금 계좌도 락을 획득하므로 스트라이프 계좌여도 계좌 행에 입금합니다.
+     */
+    public boolean isStripeCredit(Account toAccount) {
+        return balanceProperties.isStripingEnabled() && toAccount.isStriped();
+    }
+
+    /**
+     * 스트라이프 계좌에 이체 입금 (계좌 행 락 없음)
+     * 응답/스냅샷 잔액은 조회 시점의 하위 잔액 합계에 이번 입금액을 더한 값입니다.
+     */
+    @Transactional
+    public void creditStripe(Account toAccount, BigDecimal amount, Long sourceAccountId) {
+        balanceStripeService.credit(toAccount.getId(), toAccount.getBalanceStripes(), sourceAccountId, amount);
+        toAccount.addStripedCredit(amount);
+    }
+
+    /**
+     * 계좌의 하위 잔액 행 개수 변경 (0이면 일반 계좌로 전환)
+     * 기존 하위 잔액은 계좌 잔액으로 통합한 뒤 행을 다시 생성합니다.
+     */
+    @Transactional
+    public Account changeBalanceStripes(Long accountId, int stripes) {
+        if (stripes < 0) {
+            throw new IllegalArgumentException("하위 잔액 행 개수는 0 이상이어야 합니다: " + stripes);
+        }
+
+        Account account = accountRepository.findByIdWithLock(accountId)
+            .orElseThrow(() -> new AccountNotFoundException("계좌번호(LOCK)를 찾을 수 없습니다: " + accountId));
+        account.markLockedForUpdate();
+
+        account.deposit(balanceStripeService.restripe(accountId, stripes));
+        account.changeBalanceStripes(stripes);
+        return account;
+    }
+
+    private AccountBalance debitIfSufficient(Long accountId, BigDecimal amount, String insufficientMessage) {
+        int updated = accountRepository.debitIfSufficient(accountId, amount);
+        if (updated == 0) {
+            if (!accountRepository.existsById(accountId)) {
+                throw new AccountNotFoundException("계좌번호를 찾을 수 없습니다: " + accountId);
+            }
+            throw new InsufficientBalanceException(insufficientMessage != null ? insufficientMessage : "잔액이 부족합니다");
+        }
+        return getBalanceSnapshot(accountId);
+    }
+
+    private AccountBalance creditStripeSnapshot(Long toAccountId, BigDecimal amount, Long sourceAccountId) {
+        Account toAccount = getAccount(toAccountId);
+        creditStripe(toAccount, amount, sourceAccountId);
+        return AccountBalance.from(toAccount);
+    }
+
+    // UPDATE로 행 락을 보유한 상태이므로 조회 결과는 방금 변경한 값과 일치
+    private AccountBalance getBalanceSnapshot(Long accountId) {
+        return accountRepository.findBalanceById(accountId)
+            .orElseThrow(() -> new AccountNotFoundException("계좌번호를 찾을 수 없습니다: " + accountId));
+    }
+
+    // 락 없이 조회한 스트라이프 계좌는 하위 잔액 합계를 더해 단일 잔액으로 표시
+    private Account withStripedBalance(Account account) {
+        if (account.isStriped()) {
+            account.applyStripedBalance(balanceStripeService.getStripedBalance(account.getId()));
+        }
+        return account;
+    }
+
+    private List<Long> findStripedIds(Long... accountIds) {
+        if (!balanceProperties.isStripingEnabled()) {
+            return List.of();
+        }
+        return accountRepository.findStripedIds(Arrays.asList(accountIds));
+    }
+
+    // 계좌 행 락 이후에 하위 잔액 행을 잠가 이체 입금과 같은 락 순서를 유지 (호출 트랜잭션 안에서 처리하여 추가 커넥션 없음)
+    private void markLockedAndConsolidate(Account account) {
+        account.markLockedForUpdate();
+        if (account.isStriped()) {
+            BigDecimal pending = balanceStripeService.consolidate(account.getId());
+            if (pending.signum() != 0) {
+                account.deposit(pending);
+            }
+        }
+    }
+
+    // 단일 UPDATE 경로에서 통합이 필요한 계좌를 ID 순으로 락 획득 (통합 금액은 이후 UPDATE 전에 flush)
+    private void lockAndConsolidate(List<Long> accountIds) {
+        if (accountIds.isEmpty()) {
+            return;
+        }
+        accountRepository.findByIdsWithLockOrdered(accountIds).forEach(this::markLockedAndConsolidate);
+    }
 
+    private Pair<Account, Account> toPair(List<Account> accounts, Long accountId1, Long accountId2) {
         if (accounts.size() != 2) {
             throw new AccountNotFoundException("출금/송금 계좌 번호 확인이 필요합니다.");
         }
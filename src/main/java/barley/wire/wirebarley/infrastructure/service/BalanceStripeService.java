@@ -0,0 +1,85 @@
+package barley.wire.wirebarley.infrastructure.service;
+
+import barley.wire.wirebarley.domain.account.AccountBalanceStripe;
+import barley.wire.wirebarley.infrastructure.repository.AccountBalanceStripeRepository;
+import java.math.BigDecimal;
+import java.util.stream.IntStream;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+/**
+ * 핫 계좌 하위 잔액(스트라이프) 관리
+ * 이체 입금은 송금 계좌 기준으로 선택한 하위 잔액 행에 누적하고, 출금 전에 계좌 잔액으로 통합합니다.
+ * 하위 잔액 행은 항상 계좌 행 락 이후에 잠가 이체 입금(송금 계좌 행 → 하위 잔액 행)과 락 순서를 맞춥니다.
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+@Transactional(readOnly = true)
+public class BalanceStripeService {
+
+    // 송금 계좌 ID를 고르게 분산하기 위한 곱셈 해시 상수
+    private static final long STRIPE_HASH_MULTIPLIER = 0x9E3779B97F4A7C15L;
+
+    private final AccountBalanceStripeRepository stripeRepository;
+
+    public BigDecimal getStripedBalance(Long accountId) {
+        return stripeRepository.sumBalance(accountId);
+    }
+
+    /**
+     * 하위 잔액 행 중 하나에 입금
+     * 같은 송금 계좌는 항상 같은 행에 입금되며, 송금 계좌 락으로 이미 직렬화되어 있어 추가 경합이 없습니다.
+     */
+    @Transactional(propagation = Propagation.MANDATORY)
+    public void credit(Long accountId, int stripes, Long sourceAccountId, BigDecimal amount) {
+        int stripeNo = selectStripe(sourceAccountId, stripes);
+        if (stripeRepository.credit(accountId, stripeNo, amount) == 0) {
+            throw new IllegalStateException("하위 잔액 행을 찾을 수 없습니다: " + accountId + "#" + stripeNo);
+        }
+    }
+
+    /**
+     * 하위 잔액을 0으로 초기화하고 합계를 반환
+     * 계좌 락을 보유한 트랜잭션에서 호출하며, 반환된 금액은 호출 측이 같은 트랜잭션에서 계좌 잔액에 반영합니다.
+     *
+     * @return 계좌 잔액에 반영해야 할 하위 잔액 합계
+     */
+    @Transactional(propagation = Propagation.MANDATORY)
+    public BigDecimal consolidate(Long accountId) {
+        BigDecimal pending = stripeRepository.sumBalanceForUpdate(accountId);
+        if (pending.signum() == 0) {
+            return pending;
+        }
+
+        stripeRepository.resetBalances(accountId);
+
+        log.debug("하위 잔액 통합 - accountId: {}, amount: {}", accountId, pending);
+        return pending;
+    }
+
+    /**
+     * 하위 잔액 행 개수 변경 (0이면 일반 계좌로 전환)
+     * 계좌 락을 보유한 트랜잭션에서 호출하며, 기존 하위 잔액은 통합 금액으로 반환합니다.
+     *
+     * @return 계좌 잔액에 반영해야 할 기존 하위 잔액 합계
+     */
+    @Transactional(propagation = Propagation.MANDATORY)
+    public BigDecimal restripe(Long accountId, int stripes) {
+        BigDecimal pending = stripeRepository.sumBalanceForUpdate(accountId);
+        stripeRepository.deleteByAccountId(accountId);
+        stripeRepository.saveAll(IntStream.range(0, stripes)
+                .mapToObj(stripeNo -> new AccountBalanceStripe(accountId, stripeNo))
+                .toList());
+
+        log.info("하위 잔액 행 재구성 - accountId: {}, stripes: {}, consolidated: {}", accountId, stripes, pending);
+        return pending;
+    }
+
+    static int selectStripe(Long sourceAccountId, int stripes) {
+        return Math.floorMod(Long.hashCode(sourceAccountId * STRIPE_HASH_MULTIPLIER), stripes);
+    }
+}
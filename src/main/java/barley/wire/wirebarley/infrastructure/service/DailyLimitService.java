@@ -0,0 +1,82 @@
+package barley.wire.wirebarley.infrastructure.service;
+
+import barley.wire.wirebarley.common.util.TimeUtil;
+import barley.wire.wirebarley.domain.transaction.TransactionType;
+import barley.wire.wirebarley.infrastructure.config.BalanceProperties;
+import barley.wire.wirebarley.infrastructure.repository.DailyLimitUsageRepository;
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.EnumSet;
+import java.util.Set;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+/**
+ * 일일 한도 누적 금액 관리
+ * 계좌 락 구간에서 거래 내역 SUM 대신 누적 테이블을 단건 조회합니다.
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+@Transactional(readOnly = true)
+public class DailyLimitService {
+
+    // 한도 검증에 사용되는 거래 유형만 누적
+    private static final Set<TransactionType> TRACKED_TYPES = EnumSet.of(TransactionType.WITHDRAW,
+            TransactionType.TRANSFER_OUT);
+
+    private final DailyLimitUsageRepository dailyLimitUsageRepository;
+    private final BalanceProperties balanceProperties;
+
+    /**
+     * 오늘 누적된 거래 금액 조회 (계좌 통화 기준)
+     * ATOMIC_UPDATE 모드는 계좌를 락 없이 먼저 조회하고, 스트라이핑이 활성화되면 락 순서를 정하기 위해 스트라이프 여부를 락 없이 먼저 조회합니다.
+     * 이때 생성된 스냅샷(REPEATABLE READ)과 무관하게 최신 커밋 값을 읽기 위해 잠금 읽기를 사용합니다.
+     * 행이 없을 때의 갭 락을 피하기 위해 먼저 0원 행을 생성한 뒤 레코드 락으로 조회합니다.
+     * 그 외에는 계좌 락(또는 버전 검증) 이후의 일반 조회로 충분합니다.
+     */
+    @Transactional
+    public BigDecimal getTodayUsage(Long accountId, TransactionType type) {
+        LocalDate today = TimeUtil.nowDate();
+        if (!balanceProperties.isAtomicUpdate() && !balanceProperties.isStripingEnabled()) {
+            return dailyLimitUsageRepository.findAmount(accountId, today, type)
+                    .orElse(BigDecimal.ZERO);
+        }
+        dailyLimitUsageRepository.insertIfAbsent(accountId, today, type.name());
+
+        return dailyLimitUsageRepository.findAmountForUpdate(accountId, today, type.name())
+                .orElse(BigDecimal.ZERO);
+    }
+
+    /**
+     * 잔액 변경과 같은 트랜잭션에서 오늘 누적 금액을 증가
+     */
+    @Transactional(propagation = Propagation.MANDATORY)
+    public void accumulate(Long accountId, TransactionType type, BigDecimal amount) {
+        if (!TRACKED_TYPES.contains(type)) {
+            return;
+        }
+        dailyLimitUsageRepository.accumulate(accountId, TimeUtil.nowDate(), type.name(), amount);
+    }
+
+    /**
+     * 거래 내역 테이블 기준으로 특정 일자의 누적 금액을 재계산
+     * OUTBOX 모드에서 아직 드레인되지 않은 아웃박스 거래도 함께 합산합니다.
+     * 누적치 보정이 필요한 경우 운영 작업에서 호출합니다.
+     *
+     * @param usageDate 재계산할 일자
+     * @return 재계산된 누적 레코드 수
+     */
+    @Transactional
+    public int rebuild(LocalDate usageDate) {
+        int deleted = dailyLimitUsageRepository.deleteByUsageDate(usageDate);
+        int rebuilt = dailyLimitUsageRepository.rebuildFromTransactions(usageDate, usageDate.atStartOfDay(),
+                usageDate.plusDays(1).atStartOfDay());
+
+        log.info("일일 한도 누적치 재계산 완료 - date: {}, deleted: {}, rebuilt: {}", usageDate, deleted, rebuilt);
+        return rebuilt;
+    }
+}
@@ -0,0 +1,93 @@
+package barley.wire.wirebarley.infrastructure.service;
+
+import barley.wire.wirebarley.common.exception.InvalidQuoteException;
+import barley.wire.wirebarley.common.exception.QuoteExpiredException;
+import barley.wire.wirebarley.common.util.TimeUtil;
+import barley.wire.wirebarley.domain.account.Account;
+import barley.wire.wirebarley.domain.account.Currency;
+import barley.wire.wirebarley.domain.exchange.ExchangeQuote;
+import barley.wire.wirebarley.infrastructure.config.ExchangeRateProperties;
+import barley.wire.wirebarley.infrastructure.repository.ExchangeQuoteRepository;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import java.math.BigDecimal;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+/**
+ * 글로벌 송금 환율 견적 관리
+ * 견적은 유효 시간 동안 메모리에 보관하고 DB에도 저장하여, 메모리에서 밀려나거나 재시작된 경우에도 사용할 수 있습니다.
+ * 사용 여부는 DB 조건부 UPDATE로 판단하므로 같은 견적으로 동시에 송금해도 한 건만 처리됩니다.
+ */
+@Service
+@Slf4j
+@Transactional(readOnly = true)
+public class ExchangeQuoteService {
+
+    private final ExchangeQuoteRepository exchangeQuoteRepository;
+    private final ExchangeRateService exchangeRateService;
+    private final ExchangeRateProperties.Quote properties;
+    private final Cache<String, ExchangeQuote> quotes;
+
+    public ExchangeQuoteService(ExchangeQuoteRepository exchangeQuoteRepository,
+            ExchangeRateService exchangeRateService, ExchangeRateProperties exchangeRateProperties) {
+        this.exchangeQuoteRepository = exchangeQuoteRepository;
+        this.exchangeRateService = exchangeRateService;
+        this.properties = exchangeRateProperties.quote();
+        this.quotes = Caffeine.newBuilder()
+                .maximumSize(properties.maxSize())
+                .expireAfterWrite(properties.ttl())
+                .build();
+    }
+
+    /**
+     * 현재 환율로 견적 생성 (계좌 락 없이 호출)
+     */
+    @Transactional
+    public ExchangeQuote createQuote(Account fromAccount, Account toAccount, BigDecimal amount) {
+        BigDecimal exchangeRate = exchangeRateService.getExchangeRate(fromAccount.getCurrency(),
+                toAccount.getCurrency());
+        // 송금 시 계좌 락 안에서 환율을 조회하지 않도록 한도 계산용 원화 환율도 견적 시점에 고정
+        BigDecimal krwRate = fromAccount.getCurrency() == Currency.KRW ? BigDecimal.ONE
+                : exchangeRateService.getExchangeRate(fromAccount.getCurrency(), Currency.KRW);
+
+        ExchangeQuote quote = new ExchangeQuote(fromAccount.getId(), toAccount.getId(), fromAccount.getCurrency(),
+                toAccount.getCurrency(), amount, exchangeRate, krwRate, TimeUtil.nowDateTime().plus(properties.ttl()));
+        exchangeQuoteRepository.save(quote);
+        quotes.put(quote.getId(), quote);
+
+        log.debug("환율 견적 생성 - quoteId: {}, {} -> {}, rate: {}", quote.getId(), quote.getFromCurrency(),
+                quote.getToCurrency(), quote.getExchangeRate());
+        return quote;
+    }
+
+    /**
+     * 송금 요청과 일치하는 유효한 견적을 사용 처리
+     * 송금 트랜잭션 안에서 계좌 락보다 먼저 호출하며, 송금이 실패하면 사용 처리도 함께 롤백됩니다.
+     * 메모리에 없는 견적은 락 조회로 읽어, 이후 계좌 락을 잡은 뒤의 한도 사용액 조회가
+     * 락 대기 전에 만들어진 읽기 스냅샷(REPEATABLE READ)을 보지 않도록 합니다.
+     */
+    @Transactional(propagation = Propagation.MANDATORY)
+    public ExchangeQuote useQuote(String quoteId, Long fromAccountId, Long toAccountId, BigDecimal amount) {
+        ExchangeQuote quote = quotes.getIfPresent(quoteId);
+        if (quote == null) {
+            quote = exchangeQuoteRepository.findByIdForUpdate(quoteId)
+                    .orElseThrow(() -> new InvalidQuoteException("견적을 찾을 수 없습니다: " + quoteId));
+        }
+
+        if (!quote.matches(fromAccountId, toAccountId, amount)) {
+            throw new InvalidQuoteException("견적의 계좌 또는 금액이 요청과 일치하지 않습니다: " + quoteId);
+        }
+        if (quote.isExpired()) {
+            throw new QuoteExpiredException("견적이 만료되었습니다: " + quoteId);
+        }
+        if (exchangeQuoteRepository.markUsed(quoteId, TimeUtil.nowDateTime()) == 0) {
+            throw new QuoteExpiredException("이미 사용된 견적입니다: " + quoteId);
+        }
+
+        quotes.invalidate(quoteId);
+        return quote;
+    }
+}
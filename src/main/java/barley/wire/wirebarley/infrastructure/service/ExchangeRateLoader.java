@@ -0,0 +1,118 @@
+package barley.wire.wirebarley.infrastructure.service;
+
+import barley.wire.wirebarley.common.exception.ExchangeRateUnavailableException;
+import barley.wire.wirebarley.domain.account.Currency;
+import barley.wire.wirebarley.domain.exchange.ExchangeRate;
+import barley.wire.wirebarley.domain.exchange.ExchangeRateMatrix;
+import barley.wire.wirebarley.infrastructure.client.ExchangeRateFetcher;
+import barley.wire.wirebarley.infrastructure.repository.ExchangeRateRepository;
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.EnumMap;
+import java.util.Map;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.cache.annotation.Cacheable;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+/**
+ * 환율 데이터 적재 (외부 API / DB)
+ * 환율 매트릭스 갱신과, 매트릭스가 아직 준비되지 않았을 때의 단일 통화 쌍 조회를 담당합니다.
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class ExchangeRateLoader {
+
+    private final ExchangeRateRepository exchangeRateRepository;
+    private final ExchangeRateFetcher exchangeRateFetcher;
+
+    /** 단일 통화 쌍 환율 조회 (캐시 적용) 캐시 미스 시 fetchRate로 조회 */
+    @Cacheable(value = "exchangeRates", key = "#fromCurrency + '_' + #toCurrency")
+    @Transactional
+    public BigDecimal loadRate(Currency fromCurrency, Currency toCurrency) {
+        return fetchRate(fromCurrency, toCurrency);
+    }
+
+    /** DB 최신 환율 조회, 없으면 외부 API 호출 후 DB 저장 */
+    @Transactional
+    public BigDecimal fetchRate(Currency fromCurrency, Currency toCurrency) {
+        // 1. DB에서 최신 환율 조회
+        return exchangeRateRepository.findLatestRate(fromCurrency, toCurrency)
+                .map(ExchangeRate::getRate)
+                .orElseGet(() -> fetchAndSaveExchangeRate(fromCurrency, toCurrency));
+    }
+
+    /**
+     * 캐시 갱신용 환율 조회 (외부 API 우선)
+     * 모든 API가 실패하면 예외를 던져 캐시가 기존 값을 유지하도록 합니다.
+     */
+    @Transactional
+    public BigDecimal refreshRate(Currency fromCurrency, Currency toCurrency) {
+        BigDecimal rate = fetchRates(fromCurrency).get(toCurrency);
+        if (rate == null) {
+            throw new ExchangeRateUnavailableException("환율 갱신 실패: " + fromCurrency + "_" + toCurrency);
+        }
+
+        saveExchangeRate(fromCurrency, toCurrency, rate);
+        return rate;
+    }
+
+    /**
+     * 기준 통화의 전체 환율 조회 (API 우선순위, hedge, 제한 시간은 {@link ExchangeRateFetcher} 참고)
+     *
+     * @return 대상 통화별 환율 (모든 API 실패 시 빈 Map)
+     */
+    public Map<Currency, BigDecimal> fetchRates(Currency baseCurrency) {
+        return exchangeRateFetcher.fetchRates(baseCurrency);
+    }
+
+    /**
+     * DB에 저장된 통화 쌍별 최신 환율로 만든 매트릭스 (매트릭스 초기값)
+     * 기준 시각은 가장 오래된 행의 저장 시각이며, 저장된 환율이 없으면 빈 매트릭스를 반환합니다.
+     */
+    @Transactional(readOnly = true)
+    public ExchangeRateMatrix loadLatestMatrix() {
+        Map<Currency, Map<Currency, BigDecimal>> rates = new EnumMap<>(Currency.class);
+        LocalDateTime asOf = null;
+        for (ExchangeRate exchangeRate : exchangeRateRepository.findLatestRates()) {
+            rates.computeIfAbsent(exchangeRate.getFromCurrency(), currency -> new EnumMap<>(Currency.class))
+                    .put(exchangeRate.getToCurrency(), exchangeRate.getRate());
+            if (asOf == null || exchangeRate.getCreatedAt().isBefore(asOf)) {
+                asOf = exchangeRate.getCreatedAt();
+            }
+        }
+        return asOf == null ? ExchangeRateMatrix.EMPTY : ExchangeRateMatrix.of(rates, asOf);
+    }
+
+    /**
+     * 환율 매트릭스 스냅샷을 한 번의 배치 INSERT로 저장
+     */
+    @Transactional
+    public void saveSnapshot(ExchangeRateMatrix matrix) {
+        exchangeRateRepository.saveAll(matrix.toExchangeRates());
+    }
+
+    /**
+     * 외부 API에서 환율 조회 후 DB 저장 폴백 전략: Primary API → Secondary API → DB Cache → 1.0
+     */
+    private BigDecimal fetchAndSaveExchangeRate(Currency fromCurrency, Currency toCurrency) {
+        BigDecimal rate = fetchRates(fromCurrency).get(toCurrency);
+        if (rate != null) {
+            saveExchangeRate(fromCurrency, toCurrency, rate);
+            return rate;
+        }
+
+        log.warn("All external APIs failed, using DB cache");
+        return exchangeRateRepository.findLatestRate(fromCurrency, toCurrency)
+                .map(ExchangeRate::getRate)
+                .orElse(BigDecimal.ONE); // 최후의 수단
+    }
+
+    private void saveExchangeRate(Currency fromCurrency, Currency toCurrency, BigDecimal rate) {
+        ExchangeRate exchangeRate = new ExchangeRate(fromCurrency, toCurrency, rate);
+
+        exchangeRateRepository.save(exchangeRate);
+    }
+}
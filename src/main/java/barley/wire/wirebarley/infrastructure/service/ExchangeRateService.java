@@ -1,88 +1,167 @@
 package barley.wire.wirebarley.infrastructure.service;
 
-import barley.wire.wirebarley.infrastructure.client.ExchangeRateApi;
-
+import barley.wire.wirebarley.common.exception.ExchangeRateUnavailableException;
+import barley.wire.wirebarley.common.util.TimeUtil;
 import barley.wire.wirebarley.domain.account.Currency;
-import barley.wire.wirebarley.domain.exchange.ExchangeRate;
-import barley.wire.wirebarley.presentation.dto.response.ExchangeRateApiResponse;
-import barley.wire.wirebarley.infrastructure.repository.ExchangeRateRepository;
+import barley.wire.wirebarley.domain.account.Money;
+import barley.wire.wirebarley.domain.exchange.ExchangeRateMatrix;
+import barley.wire.wirebarley.infrastructure.config.ExchangeRateProperties;
+import io.micrometer.core.instrument.MeterRegistry;
 import java.math.BigDecimal;
-import java.util.List;
+import java.math.RoundingMode;
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
-import org.springframework.cache.annotation.Cacheable;
 import org.springframework.stereotype.Service;
-import org.springframework.transaction.annotation.Transactional;
 
 @Service
 @RequiredArgsConstructor
 @Slf4j
 public class ExchangeRateService {
 
-    private final ExchangeRateRepository exchangeRateRepository;
-    private final List<ExchangeRateApi> exchangeRateApis;
+    private static final String METRIC_PREFIX = "wirebarley.exchange-rate.load";
+    private static final String STALE_METRIC = "wirebarley.exchange-rate.matrix.stale";
 
-    /** 환율 조회 (캐시 적용 - 10분) 캐시 미스 시 외부 API 호출 후 DB 저장 */
-    @Cacheable(value = "exchangeRates", key = "#fromCurrency + '_' + #toCurrency")
-    @Transactional
-    public BigDecimal getExchangeRate(Currency fromCurrency, Currency toCurrency) {
-        log.info("Fetching exchange rate from {} to {}", fromCurrency, toCurrency);
+    private final ExchangeRateLoader exchangeRateLoader;
+    private final ExchangeRateProperties exchangeRateProperties;
+    private final MeterRegistry meterRegistry;
+
+    // 통화 쌍별 진행 중인 단일 통화 쌍 조회 (같은 쌍의 동시 요청은 하나의 조회 결과를 공유)
+    private final Map<String, CompletableFuture<BigDecimal>> inFlightLoads = new ConcurrentHashMap<>();
+
+    // 스케줄러가 통째로 교체하는 최신 환율 매트릭스 (조회 스레드는 volatile 읽기만 수행)
+    private volatile ExchangeRateMatrix matrix = ExchangeRateMatrix.EMPTY;
 
+    /**
+     * 환율 조회
+     * 계좌 락을 잡은 상태에서 호출되므로 매트릭스에서 I/O 없이 응답하고,
+     * 매트릭스가 아직 준비되지 않았거나 기준 시각이 refresh.maxAge를 넘은 경우에만 캐시/DB/외부 API로 조회합니다.
+     */
+    public BigDecimal getExchangeRate(Currency fromCurrency, Currency toCurrency) {
         // 같은 통화면 1.0 반환
         if (fromCurrency == toCurrency) {
             return BigDecimal.ONE;
         }
 
-        // 1. DB에서 최신 환율 조회
-        return exchangeRateRepository.findLatestRate(fromCurrency, toCurrency)
-                .map(ExchangeRate::getRate)
-                .orElseGet(() -> fetchAndSaveExchangeRate(fromCurrency, toCurrency));
+        ExchangeRateMatrix current = matrix;
+        BigDecimal rate = current.getRate(fromCurrency, toCurrency);
+        if (rate != null) {
+            if (!isStale(current)) {
+                return rate;
+            }
+            meterRegistry.counter(STALE_METRIC).increment();
+        }
+
+        return loadCoalesced(fromCurrency, toCurrency);
+    }
+
+    // 갱신이 계속 실패해 오래된 매트릭스는 사용하지 않음
+    private boolean isStale(ExchangeRateMatrix current) {
+        return current.getAsOf().isBefore(TimeUtil.nowDateTime().minus(exchangeRateProperties.refresh().maxAge()));
     }
 
     /**
-     * 외부 API에서 환율 조회 후 DB 저장 폴백 전략: Primary API → Secondary API → DB Cache → 1.0
+     * 같은 통화 쌍의 동시 조회를 하나로 합침 (single-flight)
+     * 먼저 들어온 요청이 캐시/DB/외부 API 조회를 수행하고, 나머지는 최대 loadTimeout 동안 그 결과를 기다립니다.
      */
-    private BigDecimal fetchAndSaveExchangeRate(Currency fromCurrency, Currency toCurrency) {
-        for (ExchangeRateApi api : exchangeRateApis) {
-            try {
-                log.info("Calling API {} for exchange rate: {} -> {}", api.getClass().getSimpleName(), fromCurrency,
-                        toCurrency);
-                BigDecimal rate = fetchFromApi(api, fromCurrency, toCurrency);
-                if (rate != null) {
-                    saveExchangeRate(fromCurrency, toCurrency, rate);
-                    return rate;
-                }
-            } catch (Exception e) {
-                log.warn("API {} failed: {}", api.getClass().getSimpleName(), e.getMessage());
-            }
+    private BigDecimal loadCoalesced(Currency fromCurrency, Currency toCurrency) {
+        String pair = fromCurrency + "_" + toCurrency;
+        CompletableFuture<BigDecimal> loading = new CompletableFuture<>();
+        CompletableFuture<BigDecimal> inFlight = inFlightLoads.putIfAbsent(pair, loading);
+
+        if (inFlight != null) {
+            meterRegistry.counter(METRIC_PREFIX + ".collapsed", "pair", pair).increment();
+            return awaitInFlight(pair, inFlight);
         }
 
-        log.warn("All external APIs failed, using DB cache");
-        return exchangeRateRepository.findLatestRate(fromCurrency, toCurrency)
-                .map(ExchangeRate::getRate)
-                .orElse(BigDecimal.ONE); // 최후의 수단
+        meterRegistry.counter(METRIC_PREFIX + ".leader", "pair", pair).increment();
+        try {
+            log.info("Fetching exchange rate from {} to {}", fromCurrency, toCurrency);
+            BigDecimal rate = exchangeRateLoader.loadRate(fromCurrency, toCurrency);
+            loading.complete(rate);
+            return rate;
+        } catch (RuntimeException e) {
+            loading.completeExceptionally(e);
+            throw e;
+        } finally {
+            inFlightLoads.remove(pair, loading);
+        }
     }
 
-    private BigDecimal fetchFromApi(ExchangeRateApi client, Currency fromCurrency, Currency toCurrency) {
-        ExchangeRateApiResponse response = client.getExchangeRates(fromCurrency.name());
+    private BigDecimal awaitInFlight(String pair, CompletableFuture<BigDecimal> inFlight) {
+        try {
+            return inFlight.get(exchangeRateProperties.loadTimeout().toMillis(), TimeUnit.MILLISECONDS);
+        } catch (TimeoutException e) {
+            meterRegistry.counter(METRIC_PREFIX + ".timeouts", "pair", pair).increment();
+            throw new ExchangeRateUnavailableException("환율 조회가 지연되고 있습니다: " + pair);
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof RuntimeException cause) {
+                throw cause;
+            }
+            throw new ExchangeRateUnavailableException("환율 조회에 실패했습니다: " + pair);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new ExchangeRateUnavailableException("환율 조회가 중단되었습니다: " + pair);
+        }
+    }
 
-        if (response == null || response.rates() == null) {
-            return null;
+    /**
+     * 환율 매트릭스 갱신
+     * 기준 통화별로 외부 API를 한 번씩 호출하여 매트릭스를 새로 만들고, 실패한 기준 통화의 환율은 KRW 교차 환율로 채웁니다.
+     * 모든 호출이 실패하면 기존 매트릭스를 유지하며, 최초 갱신이라면 DB의 최신 환율로 초기화합니다.
+     * DB로 초기화한 매트릭스의 기준 시각은 환율 행의 저장 시각이므로, 오래된 환율은 조회 시 사용되지 않습니다.
+     */
+    public void refreshMatrix() {
+        Map<Currency, Map<Currency, BigDecimal>> directRates = new EnumMap<>(Currency.class);
+        for (Currency baseCurrency : Currency.values()) {
+            Map<Currency, BigDecimal> rates = exchangeRateLoader.fetchRates(baseCurrency);
+            if (!rates.isEmpty()) {
+                directRates.put(baseCurrency, rates);
+            }
         }
 
-        return response.rates().get(toCurrency.name());
-    }
+        if (directRates.isEmpty()) {
+            if (matrix.isEmpty()) {
+                matrix = exchangeRateLoader.loadLatestMatrix();
+                log.warn("환율 API 호출 실패 - DB 최신 환율로 매트릭스 초기화 (asOf: {})", matrix.getAsOf());
+            } else {
+                log.warn("환율 API 호출 실패 - 기존 매트릭스 유지 (asOf: {})", matrix.getAsOf());
+            }
+            return;
+        }
+
+        ExchangeRateMatrix refreshed = ExchangeRateMatrix.of(directRates, TimeUtil.nowDateTime());
+        try {
+            exchangeRateLoader.saveSnapshot(refreshed);
+        } catch (RuntimeException e) {
+            // 저장 실패와 관계없이 새 환율은 적용
+            log.warn("환율 스냅샷 저장 실패: {}", e.getMessage());
+        }
+        matrix = refreshed;
 
-    private void saveExchangeRate(Currency fromCurrency, Currency toCurrency, BigDecimal rate) {
-        ExchangeRate exchangeRate = new ExchangeRate(fromCurrency, toCurrency, rate);
+        log.info("환율 매트릭스 갱신 - bases: {}", directRates.keySet());
+    }
 
-        exchangeRateRepository.save(exchangeRate);
+    public ExchangeRateMatrix getMatrix() {
+        return matrix;
     }
 
-    /** 금액 환전 계산 */
-    public BigDecimal convertAmount(BigDecimal amount, Currency fromCurrency, Currency toCurrency) {
-        BigDecimal rate = getExchangeRate(fromCurrency, toCurrency);
+    /**
+     * 금액 환전 계산 (대상 통화 소수점 자릿수로 반올림)
+     * 한도 검증처럼 기준 금액 초과 여부만 판단하는 경우 RoundingMode.UP을 사용하면 환전 전 금액 기준 비교와 결과가 같습니다.
+     */
+    public Money convertAmount(Money amount, Currency toCurrency, RoundingMode roundingMode) {
+        if (amount.currency() == toCurrency) {
+            return amount;
+        }
+        BigDecimal rate = getExchangeRate(amount.currency(), toCurrency);
 
-        return amount.multiply(rate);
+        return amount.convert(Money.Rate.of(rate), toCurrency, roundingMode);
     }
 }
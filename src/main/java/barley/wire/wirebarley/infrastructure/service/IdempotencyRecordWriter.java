@@ -0,0 +1,261 @@
+package barley.wire.wirebarley.infrastructure.service;
+
+import static barley.wire.wirebarley.common.constants.IdempotencyConstants.DEFAULT_TTL;
+
+import barley.wire.wirebarley.common.event.IdempotencyRecordedEvent;
+import barley.wire.wirebarley.infrastructure.config.IdempotencyProperties;
+import barley.wire.wirebarley.infrastructure.eventlog.IdempotencyEventCodec;
+import barley.wire.wirebarley.infrastructure.eventlog.IdempotencyEventCodec.LoggedEvent;
+import barley.wire.wirebarley.infrastructure.eventlog.SegmentedEventLog;
+import barley.wire.wirebarley.infrastructure.repository.IdempotencyRecordBatchRepository;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.TimeUnit;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.SmartLifecycle;
+import org.springframework.dao.DataAccessException;
+import org.springframework.stereotype.Component;
+
+/**
+ * 멱등성 레코드 비동기 기록기
+ * 커밋된 처리 결과를 크기가 정해진 대기열에 모으고, 전용 스레드가 batchSize건이 쌓이거나 flushInterval이 지나면 한 문장으로 기록합니다.
+ * 대기열이 가득 차면 offerTimeout 동안 기다린 뒤 요청 스레드에서 직접 기록하여 유입 속도를 DB 처리 속도에 맞춥니다.
+ * 배치 기록이 실패하면 건별로 다시 기록하며, 종료 시에는 웹 서버가 멈춘 뒤 남은 대기열을 모두 기록합니다.
+ * 이벤트 로그가 설정되어 있으면 대기열에 넣기 전에 로그에 먼저 기록하고 DB 기록 후 완료 처리하여,
+ * 기록 전에 프로세스가 종료된 건은 다음 기동 시 다시 기록합니다.
+ */
+@Component
+@Slf4j
+public class IdempotencyRecordWriter implements SmartLifecycle {
+
+    private static final String METRIC_PREFIX = "wirebarley.idempotency.writer";
+    // 웹 서버(요청 처리)가 멈춘 뒤에 종료
+    private static final int PHASE = SmartLifecycle.DEFAULT_PHASE - 4096;
+    // 이벤트 로그에 기록되지 않은 건
+    private static final long NOT_LOGGED = -1;
+
+    private final IdempotencyRecordBatchRepository batchRepository;
+    private final IdempotencyService idempotencyService;
+    private final IdempotencyProperties.Writer writerProperties;
+    private final SegmentedEventLog eventLog;
+    private final BlockingQueue<Pending> queue;
+    private final Counter writtenCounter;
+    private final Counter fallbackCounter;
+    private final Counter droppedCounter;
+    private final Counter replayedCounter;
+
+    private volatile boolean running;
+    private Thread worker;
+
+    public IdempotencyRecordWriter(IdempotencyRecordBatchRepository batchRepository,
+            IdempotencyService idempotencyService, IdempotencyProperties idempotencyProperties,
+            Optional<SegmentedEventLog> idempotencyEventLog, MeterRegistry meterRegistry) {
+        this.batchRepository = batchRepository;
+        this.idempotencyService = idempotencyService;
+        this.writerProperties = idempotencyProperties.writer();
+        this.eventLog = idempotencyEventLog.orElse(null);
+        this.queue = new ArrayBlockingQueue<>(writerProperties.capacity());
+        this.writtenCounter = meterRegistry.counter(METRIC_PREFIX + ".written");
+        this.fallbackCounter = meterRegistry.counter(METRIC_PREFIX + ".fallback");
+        this.droppedCounter = meterRegistry.counter(METRIC_PREFIX + ".dropped");
+        this.replayedCounter = meterRegistry.counter(METRIC_PREFIX + ".replayed");
+        Gauge.builder(METRIC_PREFIX + ".queue.depth", queue, BlockingQueue::size)
+                .description("기록 대기 중인 멱등성 레코드 수")
+                .register(meterRegistry);
+    }
+
+    /**
+     * 처리 결과 기록 요청 (대기열이 가득 찼거나 기록기가 멈춘 상태면 호출 스레드에서 직접 기록)
+     */
+    public void write(IdempotencyRecordedEvent event) {
+        Pending pending = new Pending(appendToLog(event), event);
+        if (running) {
+            try {
+                if (queue.offer(pending, writerProperties.offerTimeout().toNanos(), TimeUnit.NANOSECONDS)) {
+                    return;
+                }
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            fallbackCounter.increment();
+        }
+        writeOne(pending);
+    }
+
+    @Override
+    public synchronized void start() {
+        if (running) {
+            return;
+        }
+        replayEventLog();
+        running = true;
+        worker = new Thread(this::drainLoop, "idempotency-writer");
+        worker.setDaemon(true);
+        worker.start();
+    }
+
+    @Override
+    public synchronized void stop() {
+        if (!running) {
+            return;
+        }
+        // 이후 요청은 직접 기록하고, 작업 스레드는 남은 대기열을 비운 뒤 종료
+        running = false;
+        try {
+            worker.join();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        // 종료 직전에 대기열에 들어간 건
+        List<Pending> remaining = new ArrayList<>();
+        queue.drainTo(remaining);
+        remaining.forEach(this::writeOne);
+    }
+
+    @Override
+    public boolean isRunning() {
+        return running;
+    }
+
+    @Override
+    public int getPhase() {
+        return PHASE;
+    }
+
+    private long appendToLog(IdempotencyRecordedEvent event) {
+        if (eventLog == null) {
+            return NOT_LOGGED;
+        }
+        try {
+            return eventLog.append(IdempotencyEventCodec.encode(event, System.currentTimeMillis()));
+        } catch (IOException e) {
+            // 로그 기록 실패는 DB 기록에 영향을 주지 않음 (해당 건은 프로세스 종료 시 유실될 수 있음)
+            log.warn("멱등성 레코드 이벤트 로그 기록 실패 - 로그 없이 기록. key={}, cause={}",
+                    event.idempotencyKey(), e.getMessage());
+            return NOT_LOGGED;
+        }
+    }
+
+    /**
+     * 이전 실행에서 기록하지 못한 건을 요청 처리 시작 전에 기록 (보관 기간이 지난 건은 건너뜀)
+     */
+    private void replayEventLog() {
+        if (eventLog == null) {
+            return;
+        }
+        long expiredBefore = System.currentTimeMillis() - DEFAULT_TTL.toMillis();
+        List<Pending> batch = new ArrayList<>(writerProperties.batchSize());
+        try {
+            eventLog.replay((payload, sequence) -> {
+                LoggedEvent logged = decode(payload, sequence);
+                if (logged == null || logged.recordedAtMillis() < expiredBefore) {
+                    eventLog.acknowledge(sequence);
+                    return;
+                }
+                batch.add(new Pending(sequence, logged.event()));
+                if (batch.size() >= writerProperties.batchSize()) {
+                    replayedCounter.increment(batch.size());
+                    flush(batch);
+                    batch.clear();
+                }
+            });
+        } catch (IOException e) {
+            throw new UncheckedIOException("멱등성 레코드 이벤트 로그를 읽지 못했습니다.", e);
+        }
+        replayedCounter.increment(batch.size());
+        flush(batch);
+    }
+
+    private LoggedEvent decode(byte[] payload, long sequence) {
+        try {
+            return IdempotencyEventCodec.decode(payload);
+        } catch (IOException | RuntimeException e) {
+            log.warn("멱등성 레코드 이벤트 로그 항목을 읽지 못해 건너뜀. sequence={}, cause={}", sequence, e.getMessage());
+            return null;
+        }
+    }
+
+    private void drainLoop() {
+        int batchSize = writerProperties.batchSize();
+        long flushIntervalNanos = writerProperties.flushInterval().toNanos();
+
+        while (running || !queue.isEmpty()) {
+            List<Pending> batch = new ArrayList<>(batchSize);
+            try {
+                Pending first = queue.poll(flushIntervalNanos, TimeUnit.NANOSECONDS);
+                if (first == null) {
+                    continue;
+                }
+                batch.add(first);
+                // 첫 건부터 flushInterval 안에 도착한 건을 batchSize까지 모음
+                long deadline = System.nanoTime() + flushIntervalNanos;
+                while (batch.size() < batchSize) {
+                    if (queue.drainTo(batch, batchSize - batch.size()) > 0) {
+                        continue;
+                    }
+                    long remaining = deadline - System.nanoTime();
+                    Pending next = remaining > 0 ? queue.poll(remaining, TimeUnit.NANOSECONDS) : null;
+                    if (next == null) {
+                        break;
+                    }
+                    batch.add(next);
+                }
+            } catch (InterruptedException e) {
+                // 모은 건은 기록하고 남은 대기열은 다음 반복에서 처리
+                log.debug("멱등성 레코드 기록기 대기 중단 - 모은 건을 기록합니다. count={}", batch.size());
+            }
+            flush(batch);
+        }
+    }
+
+    private void flush(List<Pending> batch) {
+        if (batch.isEmpty()) {
+            return;
+        }
+        try {
+            batchRepository.upsertCompleted(batch.stream().map(Pending::event).toList());
+            writtenCounter.increment(batch.size());
+            batch.forEach(this::acknowledge);
+        } catch (DataAccessException e) {
+            log.warn("멱등성 레코드 일괄 저장 실패 - 건별 저장으로 재시도. count={}, cause={}", batch.size(), e.getMessage());
+            batch.forEach(this::writeOne);
+        }
+    }
+
+    private void writeOne(Pending pending) {
+        IdempotencyRecordedEvent event = pending.event();
+        try {
+            idempotencyService.saveRecord(
+                    event.idempotencyKey(),
+                    event.requestPath(),
+                    event.requestBodyHash(),
+                    event.response());
+            writtenCounter.increment();
+            acknowledge(pending);
+        } catch (RuntimeException e) {
+            // 이벤트 로그에 기록된 건은 완료 처리하지 않으므로 다음 기동 시 다시 기록
+            droppedCounter.increment();
+            log.error("멱등성 레코드 저장 실패 (메인 로직은 성공): key={}", event.idempotencyKey(), e);
+        }
+    }
+
+    private void acknowledge(Pending pending) {
+        if (eventLog != null && pending.sequence() != NOT_LOGGED) {
+            eventLog.acknowledge(pending.sequence());
+        }
+    }
+
+    /**
+     * @param sequence 이벤트 로그 순번 (로그에 기록하지 않았으면 {@link #NOT_LOGGED})
+     */
+    private record Pending(long sequence, IdempotencyRecordedEvent event) {
+    }
+}
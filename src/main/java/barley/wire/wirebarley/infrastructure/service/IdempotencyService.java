@@ -2,50 +2,185 @@ package barley.wire.wirebarley.infrastructure.service;
 
 import static barley.wire.wirebarley.common.constants.IdempotencyConstants.DEFAULT_TTL;
 
+import barley.wire.wirebarley.common.util.TimeUtil;
 import barley.wire.wirebarley.domain.idempotency.IdempotencyRecord;
+import barley.wire.wirebarley.domain.idempotency.IdempotencyResponse;
+import barley.wire.wirebarley.infrastructure.config.IdempotencyProperties;
 import barley.wire.wirebarley.infrastructure.repository.IdempotencyRecordRepository;
-import com.fasterxml.jackson.core.JsonProcessingException;
-import com.fasterxml.jackson.databind.ObjectMapper;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
 import java.time.LocalDateTime;
 import java.util.Optional;
-import lombok.RequiredArgsConstructor;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.zip.GZIPOutputStream;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
 
+/**
+ * 멱등성 레코드 저장소
+ * 최근 레코드는 메모리에 보관하고(1차), idempotency_records 테이블을 영구 저장소(2차)로 사용합니다.
+ * 요청 실행 전에 키를 IN_PROGRESS 행으로 선점하며, 같은 서버에서 동시에 도착한 요청은 선점한 요청의 완료 신호를 기다립니다.
+ */
 @Service
-@RequiredArgsConstructor
 @Slf4j
 public class IdempotencyService {
 
+    private static final int RESPONSE_BUFFER_SIZE = 256;
+
     private final IdempotencyRecordRepository idempotencyRecordRepository;
-    private final ObjectMapper objectMapper;
+    private final IdempotencyProperties.Reservation reservationProperties;
+    private final Cache<String, IdempotencyRecord> recentRecords;
+    // 이 서버에서 선점한 키별 완료 신호
+    private final ConcurrentMap<String, CompletableFuture<Void>> inFlight = new ConcurrentHashMap<>();
+
+    public IdempotencyService(IdempotencyRecordRepository idempotencyRecordRepository,
+            IdempotencyProperties idempotencyProperties) {
+        this.idempotencyRecordRepository = idempotencyRecordRepository;
+        this.reservationProperties = idempotencyProperties.reservation();
+        this.recentRecords = Caffeine.newBuilder()
+                .maximumSize(idempotencyProperties.memory().maxSize())
+                .expireAfterWrite(idempotencyProperties.memory().ttl())
+                .build();
+    }
 
+    /**
+     * 메모리에 없는 키만 DB에서 조회하며, 조회된 레코드는 이후 재시도를 위해 메모리에 보관합니다.
+     */
     @Transactional(readOnly = true)
     public Optional<IdempotencyRecord> findByKey(String key) {
         if (key == null || key.isBlank()) {
             return Optional.empty();
         }
-        return idempotencyRecordRepository.findByIdempotencyKey(key).filter(record -> !record.isExpired());
+
+        IdempotencyRecord recent = recentRecords.getIfPresent(key);
+        if (recent != null) {
+            return Optional.of(recent).filter(record -> !record.isExpired());
+        }
+
+        Optional<IdempotencyRecord> stored = idempotencyRecordRepository.findByIdempotencyKey(key)
+                .filter(record -> !record.isExpired());
+        stored.filter(IdempotencyRecord::isCompleted).ifPresent(record -> recentRecords.put(key, record));
+        return stored;
     }
 
-    @Transactional
-    public void saveRecord(String key, String path, String requestHash, String responseBody, int status) {
-        LocalDateTime expiresAt = LocalDateTime.now().plus(DEFAULT_TTL);
+    /**
+     * 요청 실행 전 키 선점
+     * 같은 서버에서 이미 처리 중이거나 DB에 유효한 행이 있으면 선점하지 않습니다.
+     * 호출 측 트랜잭션과 관계없이 즉시 커밋하여 다른 서버의 요청도 선점 여부를 확인할 수 있도록 합니다.
+     *
+     * @return 선점 성공 여부
+     */
+    @Transactional(propagation = Propagation.REQUIRES_NEW)
+    public boolean tryReserve(String key, String path, String requestHash) {
+        CompletableFuture<Void> completion = new CompletableFuture<>();
+        if (inFlight.putIfAbsent(key, completion) != null) {
+            return false;
+        }
 
-        IdempotencyRecord idempotencyRecord = new IdempotencyRecord(key, path, requestHash, responseBody, status,
-                expiresAt);
+        boolean reserved = false;
+        try {
+            LocalDateTime now = TimeUtil.nowDateTime();
+            LocalDateTime expiresAt = now.plus(reservationProperties.timeout());
+            reserved = idempotencyRecordRepository.insertInProgress(key, path, requestHash, now, expiresAt) > 0
+                    || idempotencyRecordRepository.reclaimExpired(key, path, requestHash, now, expiresAt) > 0;
+            return reserved;
+        } finally {
+            if (!reserved) {
+                signal(key, completion);
+            }
+        }
+    }
 
-        idempotencyRecordRepository.save(idempotencyRecord);
-        log.info("Saved idempotency record for key: {}", key);
+    /**
+     * 이 서버에서 같은 키를 선점한 요청이 끝날 때까지 대기 (폴링 없이 완료 신호 대기)
+     *
+     * @return 선점한 요청이 없거나 제한 시간 안에 끝난 경우 true
+     */
+    public boolean awaitInFlight(String key) {
+        CompletableFuture<Void> completion = inFlight.get(key);
+        if (completion == null) {
+            return true;
+        }
+        try {
+            completion.get(reservationProperties.waitTimeout().toMillis(), TimeUnit.MILLISECONDS);
+            return true;
+        } catch (TimeoutException e) {
+            return false;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return false;
+        } catch (ExecutionException e) {
+            return true;
+        }
     }
 
-    public String serializeResponse(Object response) {
+    /**
+     * 처리 결과를 메모리에 보관하고 대기 중인 요청에 완료 신호 전달 (커밋 직후 요청 스레드에서 호출, DB 저장은 비동기로 별도 수행)
+     */
+    public void remember(String key, String path, String requestHash, IdempotencyResponse response) {
+        recentRecords.put(key, newRecord(key, path, requestHash, response));
+        signal(key, inFlight.get(key));
+    }
+
+    /**
+     * 처리에 실패한 요청의 선점 해제 (같은 키로 다시 요청할 수 있음)
+     */
+    @Transactional(propagation = Propagation.REQUIRES_NEW)
+    public void release(String key) {
         try {
-            return objectMapper.writeValueAsString(response);
-        } catch (JsonProcessingException e) {
-            log.error("Failed to serialize response", e);
-            return null;
+            idempotencyRecordRepository.deleteInProgress(key);
+        } finally {
+            signal(key, inFlight.get(key));
+        }
+    }
+
+    /**
+     * 선점한 행에 처리 결과 기록 (선점 행이 없으면 새로 저장)
+     */
+    @Transactional
+    public void saveRecord(String key, String path, String requestHash, IdempotencyResponse response) {
+        LocalDateTime expiresAt = TimeUtil.nowDateTime().plus(DEFAULT_TTL);
+
+        idempotencyRecordRepository.findByIdempotencyKey(key).ifPresentOrElse(
+                record -> record.complete(response, expiresAt),
+                () -> idempotencyRecordRepository.save(newRecord(key, path, requestHash, response)));
+        log.info("Saved idempotency record for key: {}", key);
+    }
+
+    /**
+     * 응답 본문 gzip 압축
+     */
+    public byte[] compress(byte[] body) {
+        ByteArrayOutputStream buffer = new ByteArrayOutputStream(Math.max(body.length / 2, RESPONSE_BUFFER_SIZE));
+        try (GZIPOutputStream gzip = new GZIPOutputStream(buffer)) {
+            gzip.write(body);
+        } catch (IOException e) {
+            // 메모리 스트림이므로 발생하지 않음
+            throw new UncheckedIOException(e);
+        }
+        return buffer.toByteArray();
+    }
+
+    private IdempotencyRecord newRecord(String key, String path, String requestHash, IdempotencyResponse response) {
+        LocalDateTime expiresAt = TimeUtil.nowDateTime().plus(DEFAULT_TTL);
+
+        return new IdempotencyRecord(key, path, requestHash, response, expiresAt);
+    }
+
+    private void signal(String key, CompletableFuture<Void> completion) {
+        if (completion != null) {
+            inFlight.remove(key, completion);
+            completion.complete(null);
         }
     }
 }
@@ -0,0 +1,44 @@
+package barley.wire.wirebarley.infrastructure.service;
+
+import barley.wire.wirebarley.infrastructure.repository.AccountRepository;
+import barley.wire.wirebarley.infrastructure.repository.TransactionRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+/**
+ * DECIMAL 금액 컬럼을 최소 단위 BIGINT 컬럼으로 옮기는 백필
+ * ID 구간마다 별도 트랜잭션으로 처리하여 행 락을 짧게 유지하며, 이미 채워진 행은 건너뜁니다.
+ */
+@Service
+@RequiredArgsConstructor
+@Transactional(readOnly = true)
+public class MinorUnitBackfillService {
+
+    private final AccountRepository accountRepository;
+    private final TransactionRepository transactionRepository;
+
+    public long getMaxAccountId() {
+        return accountRepository.findMaxId();
+    }
+
+    public long getMaxTransactionId() {
+        return transactionRepository.findMaxId();
+    }
+
+    /**
+     * @return 채워진 행 수
+     */
+    @Transactional
+    public int backfillAccounts(long afterId, long toId) {
+        return accountRepository.backfillMinorUnits(afterId, toId);
+    }
+
+    /**
+     * @return 채워진 행 수
+     */
+    @Transactional
+    public int backfillTransactions(long afterId, long toId) {
+        return transactionRepository.backfillMinorUnits(afterId, toId);
+    }
+}
@@ -0,0 +1,55 @@
+package barley.wire.wirebarley.infrastructure.service;
+
+import barley.wire.wirebarley.common.util.TimeUtil;
+import barley.wire.wirebarley.domain.account.Currency;
+import barley.wire.wirebarley.infrastructure.repository.ExchangeQuoteRepository;
+import barley.wire.wirebarley.infrastructure.repository.ExchangeRateRepository;
+import barley.wire.wirebarley.infrastructure.repository.IdempotencyRecordRepository;
+import java.time.LocalDateTime;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+/**
+ * 만료 데이터 정리
+ * 호출 1회가 DELETE 1회이며 각각 별도 트랜잭션으로 커밋하여 행 락을 짧게 유지합니다.
+ */
+@Service
+@RequiredArgsConstructor
+public class RetentionService {
+
+    private final IdempotencyRecordRepository idempotencyRecordRepository;
+    private final ExchangeQuoteRepository exchangeQuoteRepository;
+    private final ExchangeRateRepository exchangeRateRepository;
+
+    /**
+     * @return 삭제된 행 수
+     */
+    @Transactional
+    public int purgeExpiredIdempotencyRecords(int limit) {
+        return idempotencyRecordRepository.deleteExpired(TimeUtil.nowDateTime(), limit);
+    }
+
+    /**
+     * @return 삭제된 행 수
+     */
+    @Transactional
+    public int purgeExpiredQuotes(int limit) {
+        return exchangeQuoteRepository.deleteExpired(TimeUtil.nowDateTime(), limit);
+    }
+
+    /**
+     * 통화 쌍의 기준 시각 이전 환율 삭제
+     * API 장애 시 DB 폴백으로 사용하는 최신 환율은 기준 시각이 지났더라도 남겨 둡니다.
+     *
+     * @return 삭제된 행 수
+     */
+    @Transactional
+    public int thinExchangeRates(Currency fromCurrency, Currency toCurrency, LocalDateTime before, int limit) {
+        return exchangeRateRepository.findLatestRate(fromCurrency, toCurrency)
+                .map(latest -> latest.getCreatedAt().isBefore(before) ? latest.getCreatedAt() : before)
+                .map(cutoff -> exchangeRateRepository.deleteOlderThan(fromCurrency.name(), toCurrency.name(), cutoff,
+                        limit))
+                .orElse(0);
+    }
+}
@@ -0,0 +1,81 @@
+package barley.wire.wirebarley.infrastructure.service;
+
+import barley.wire.wirebarley.common.util.TimeUtil;
+import barley.wire.wirebarley.domain.transaction.Transaction;
+import barley.wire.wirebarley.domain.transaction.TransactionOutbox;
+import barley.wire.wirebarley.infrastructure.repository.TransactionOutboxRepository;
+import barley.wire.wirebarley.infrastructure.repository.TransactionRepository;
+import java.time.Duration;
+import java.util.Comparator;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+/**
+ * 거래 내역 아웃박스 드레인
+ * 아웃박스 레코드를 잠근 뒤 transactions 행으로 옮기고 같은 트랜잭션에서 삭제합니다.
+ * 커밋 전 실패 시 레코드가 남아 다음 실행에서 다시 처리되며(at-least-once), 이미 옮겨진 레코드는 outbox_id로 걸러냅니다.
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+@Transactional(readOnly = true)
+public class TransactionOutboxService {
+
+    // 같은 계좌의 거래는 발생 시각(마이크로초) → 아웃박스 ID 순으로 저장 (풀링된 ID는 서버 간 발생 순서를 보장하지 않음)
+    private static final Comparator<TransactionOutbox> JOURNAL_ORDER = Comparator
+            .comparing(TransactionOutbox::getCreatedAt)
+            .thenComparing(TransactionOutbox::getId);
+
+    private final TransactionOutboxRepository outboxRepository;
+    private final TransactionRepository transactionRepository;
+
+    @Transactional
+    public DrainResult drain(int batchSize) {
+        List<TransactionOutbox> batch = outboxRepository.findBatchForUpdate(batchSize);
+        if (batch.isEmpty()) {
+            return DrainResult.EMPTY;
+        }
+
+        List<Long> outboxIds = batch.stream().map(TransactionOutbox::getId).toList();
+        Set<Long> drainedIds = new HashSet<>(transactionRepository.findOutboxIdsIn(outboxIds));
+
+        List<Transaction> transactions = batch.stream()
+                .filter(outbox -> !drainedIds.contains(outbox.getId()))
+                .sorted(JOURNAL_ORDER)
+                .map(Transaction::from)
+                .toList();
+        transactionRepository.saveAll(transactions);
+        outboxRepository.deleteAllByIdInBatch(outboxIds);
+
+        log.debug("아웃박스 드레인 - drained: {}, duplicates: {}", transactions.size(), drainedIds.size());
+        return new DrainResult(transactions.size(), drainedIds.size());
+    }
+
+    /**
+     * 가장 오래된 미처리 아웃박스 레코드의 대기 시간 (없으면 0)
+     */
+    public Duration getLag() {
+        return outboxRepository.findOldestCreatedAt()
+                .map(oldest -> Duration.between(oldest, TimeUtil.nowDateTime()))
+                .filter(lag -> !lag.isNegative())
+                .orElse(Duration.ZERO);
+    }
+
+    /**
+     * @param drained    새로 저장한 거래 내역 수
+     * @param duplicates 이미 저장되어 건너뛴 아웃박스 레코드 수
+     */
+    public record DrainResult(int drained, int duplicates) {
+
+        static final DrainResult EMPTY = new DrainResult(0, 0);
+
+        public int total() {
+            return drained + duplicates;
+        }
+    }
+}
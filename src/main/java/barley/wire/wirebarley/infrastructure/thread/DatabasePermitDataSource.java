@@ -0,0 +1,131 @@
+package barley.wire.wirebarley.infrastructure.thread;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Proxy;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.sql.SQLTransientConnectionException;
+import java.time.Duration;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import javax.sql.DataSource;
+import org.springframework.jdbc.datasource.DelegatingDataSource;
+
+/**
+ * DB 동시 작업 한도 DataSource
+ * 가상 스레드 모드에서는 요청 수만큼 스레드가 생기므로, 커넥션 풀 크기만큼의 허가(공정 세마포어)를 받은 스레드만 커넥션을 얻습니다.
+ * 나머지 요청은 풀 내부가 아닌 세마포어에서 도착 순서대로 최대 permitTimeout 동안 기다리고, 초과하면 커넥션 획득 실패로 처리합니다.
+ * 허가는 커넥션을 닫을 때 반환합니다.
+ * 한 스레드가 커넥션을 보유한 채 다른 커넥션을 요청하는 중첩 트랜잭션(REQUIRES_NEW 등)은 지원하지 않습니다.
+ * 모든 허가를 외부 트랜잭션이 보유하면 내부 트랜잭션이 허가를 얻지 못하고 permitTimeout 후 실패합니다.
+ */
+public class DatabasePermitDataSource extends DelegatingDataSource {
+
+    private static final String METRIC_PREFIX = "wirebarley.db.permits";
+
+    private final int maxPermits;
+    private final Duration permitTimeout;
+    private final Semaphore permits;
+    private final Timer waitTimer;
+    private final Counter rejectedCounter;
+
+    public DatabasePermitDataSource(DataSource targetDataSource, int maxPermits, Duration permitTimeout,
+            MeterRegistry meterRegistry) {
+        super(targetDataSource);
+        this.maxPermits = maxPermits;
+        this.permitTimeout = permitTimeout;
+        this.permits = new Semaphore(maxPermits, true);
+        this.waitTimer = Timer.builder(METRIC_PREFIX + ".wait")
+                .description("DB 동시 작업 허가를 기다린 시간")
+                .register(meterRegistry);
+        this.rejectedCounter = meterRegistry.counter(METRIC_PREFIX + ".rejected");
+        Gauge.builder(METRIC_PREFIX + ".waiting", permits, Semaphore::getQueueLength)
+                .description("DB 동시 작업 허가를 기다리는 스레드 수")
+                .register(meterRegistry);
+    }
+
+    /**
+     * 허가를 기다리는 스레드 수
+     * 허가를 얻은 스레드만 풀에서 커넥션을 요청하므로, 가상 스레드 모드의 대기는 풀이 아닌 여기에 쌓입니다.
+     */
+    public int getWaitingThreads() {
+        return permits.getQueueLength();
+    }
+
+    @Override
+    public Connection getConnection() throws SQLException {
+        acquire();
+        try {
+            return withPermit(super.getConnection());
+        } catch (SQLException | RuntimeException e) {
+            permits.release();
+            throw e;
+        }
+    }
+
+    @Override
+    public Connection getConnection(String username, String password) throws SQLException {
+        acquire();
+        try {
+            return withPermit(super.getConnection(username, password));
+        } catch (SQLException | RuntimeException e) {
+            permits.release();
+            throw e;
+        }
+    }
+
+    private void acquire() throws SQLException {
+        long startedAt = System.nanoTime();
+        try {
+            if (!permits.tryAcquire(permitTimeout.toNanos(), TimeUnit.NANOSECONDS)) {
+                rejectedCounter.increment();
+                throw new SQLTransientConnectionException(
+                        "DB 동시 작업 한도(" + maxPermits + ")에 도달하여 " + permitTimeout.toMillis()
+                                + "ms 안에 커넥션을 얻지 못했습니다.");
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new SQLTransientConnectionException("DB 동시 작업 허가 대기 중 인터럽트되었습니다.", e);
+        } finally {
+            waitTimer.record(System.nanoTime() - startedAt, TimeUnit.NANOSECONDS);
+        }
+    }
+
+    // close() 시 한 번만 허가 반환
+    private Connection withPermit(Connection connection) {
+        AtomicBoolean released = new AtomicBoolean();
+        return (Connection) Proxy.newProxyInstance(Connection.class.getClassLoader(),
+                new Class<?>[] {Connection.class}, (proxy, method, args) -> {
+                    switch (method.getName()) {
+                        case "close" -> {
+                            try {
+                                connection.close();
+                            } finally {
+                                if (released.compareAndSet(false, true)) {
+                                    permits.release();
+                                }
+                            }
+                            return null;
+                        }
+                        case "equals" -> {
+                            return proxy == args[0];
+                        }
+                        case "hashCode" -> {
+                            return System.identityHashCode(proxy);
+                        }
+                        default -> {
+                            try {
+                                return method.invoke(connection, args);
+                            } catch (InvocationTargetException e) {
+                                throw e.getTargetException();
+                            }
+                        }
+                    }
+                });
+    }
+}
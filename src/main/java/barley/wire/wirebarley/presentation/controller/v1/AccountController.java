@@ -1,9 +1,15 @@
 package barley.wire.wirebarley.presentation.controller.v1;
 
 import barley.wire.wirebarley.application.v1.AccountAppService;
+import barley.wire.wirebarley.application.v1.TransactionExportAppService;
 import barley.wire.wirebarley.application.v1.TransferAppService;
+import barley.wire.wirebarley.domain.transaction.TransactionType;
+import barley.wire.wirebarley.infrastructure.config.ExportProperties;
 import barley.wire.wirebarley.presentation.dto.request.AmountRequest;
+import barley.wire.wirebarley.presentation.dto.request.BalanceStripesRequest;
+import barley.wire.wirebarley.presentation.dto.request.BatchTransferRequest;
 import barley.wire.wirebarley.presentation.dto.request.CreateAccountRequest;
+import barley.wire.wirebarley.presentation.dto.request.TransactionExportFormat;
 import barley.wire.wirebarley.presentation.dto.request.TransferRequest;
 import barley.wire.wirebarley.presentation.dto.response.*;
 import io.swagger.v3.oas.annotations.Operation;
@@ -12,14 +18,23 @@ import io.swagger.v3.oas.annotations.media.Schema;
 import io.swagger.v3.oas.annotations.responses.ApiResponse;
 import io.swagger.v3.oas.annotations.responses.ApiResponses;
 import io.swagger.v3.oas.annotations.tags.Tag;
+import jakarta.servlet.http.HttpServletRequest;
 import jakarta.validation.Valid;
+import java.time.LocalDate;
+import java.util.concurrent.Callable;
 import lombok.RequiredArgsConstructor;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.domain.Sort;
 import org.springframework.data.web.PageableDefault;
+import org.springframework.format.annotation.DateTimeFormat;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.NativeWebRequest;
+import org.springframework.web.context.request.async.AsyncWebRequest;
+import org.springframework.web.context.request.async.CallableProcessingInterceptor;
+import org.springframework.web.context.request.async.WebAsyncUtils;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
 @RestController
 @RequestMapping("/api/v1")
@@ -27,8 +42,12 @@ import org.springframework.web.bind.annotation.*;
 @Tag(name = "1. 계좌 및 거래", description = "필수 과제: 계좌 관리, 입출금 및 국내 송금")
 public class AccountController {
 
+    private static final String EXPORT_TIMEOUT_INTERCEPTOR = AccountController.class.getName() + ".EXPORT_TIMEOUT";
+
     private final AccountAppService accountAppService;
     private final TransferAppService transferAppService;
+    private final TransactionExportAppService transactionExportAppService;
+    private final ExportProperties exportProperties;
 
     @Operation(summary = "계좌 생성", description = "새로운 계좌를 생성합니다.")
     @ApiResponses({
@@ -79,6 +98,19 @@ public class AccountController {
         return ResponseEntity.ok(response);
     }
 
+    @Operation(summary = "하위 잔액 행 개수 변경 (운영자용)", description = "입금이 몰리는 계좌의 이체 입금을 N개의 하위 잔액 행으로 분산합니다. 기존 하위 잔액은 계좌 잔액으로 통합되며, 0이면 일반 계좌로 전환합니다. (wirebarley.balance.striping.enabled가 켜져 있어야 분산 입금)")
+    @ApiResponses({
+            @ApiResponse(responseCode = "200", description = "변경 성공", content = @Content(schema = @Schema(implementation = BalanceStripesResponse.class))),
+            @ApiResponse(responseCode = "400", description = "잘못된 행 개수"),
+            @ApiResponse(responseCode = "404", description = "계좌를 찾을 수 없음") })
+    @PutMapping("/accounts/{accountId}/balance-stripes")
+    public ResponseEntity<BalanceStripesResponse> changeBalanceStripes(@PathVariable Long accountId,
+            @Valid @RequestBody BalanceStripesRequest request) {
+        BalanceStripesResponse response = accountAppService.changeBalanceStripes(accountId, request.stripes());
+
+        return ResponseEntity.ok(response);
+    }
+
     @Operation(summary = "이체", description = "계좌 간 송금을 실행합니다. (수수료: 1%, 일일 한도: 3,000,000원)")
     @ApiResponses({
             @ApiResponse(responseCode = "200", description = "이체 성공", content = @Content(schema = @Schema(implementation = TransferResponse.class))),
@@ -93,6 +125,17 @@ public class AccountController {
         return ResponseEntity.ok(response);
     }
 
+    @Operation(summary = "일괄 이체", description = "여러 건의 이체를 하나의 트랜잭션으로 처리합니다. (최대 100건, 건별 성공/실패 결과 반환)")
+    @ApiResponses({
+            @ApiResponse(responseCode = "200", description = "일괄 이체 처리 완료 (건별 결과 포함)", content = @Content(schema = @Schema(implementation = BatchTransferResponse.class))),
+            @ApiResponse(responseCode = "400", description = "잘못된 요청") })
+    @PostMapping("/transfers/batch")
+    public ResponseEntity<BatchTransferResponse> transferBatch(@Valid @RequestBody BatchTransferRequest request) {
+        BatchTransferResponse response = transferAppService.transferBatch(request);
+
+        return ResponseEntity.ok(response);
+    }
+
     @Operation(summary = "계좌 상세 조회", description = "ID를 기반으로 계좌의 상세 정보를 조회합니다.")
     @ApiResponses({
             @ApiResponse(responseCode = "200", description = "조회 성공", content = @Content(schema = @Schema(implementation = AccountResponse.class))),
@@ -123,4 +166,43 @@ public class AccountController {
         TransactionListResponse response = accountAppService.getTransactions(accountId, pageable);
         return ResponseEntity.ok(response);
     }
+
+    @Operation(summary = "거래 내역 커서 조회", description = "계좌의 거래 내역을 최신순으로 조회합니다. 응답의 nextCursor를 다음 요청의 cursor로 전달합니다 (전체 건수 미제공, 최대 100건).")
+    @ApiResponses({
+            @ApiResponse(responseCode = "200", description = "거래 내역 조회 성공", content = @Content(schema = @Schema(implementation = TransactionSliceResponse.class))),
+            @ApiResponse(responseCode = "400", description = "유효하지 않은 커서"),
+            @ApiResponse(responseCode = "404", description = "계좌를 찾을 수 없음") })
+    @GetMapping("/accounts/{accountId}/transactions/cursor")
+    public ResponseEntity<TransactionSliceResponse> getTransactionSlice(@PathVariable Long accountId,
+            @RequestParam(required = false) String cursor, @RequestParam(defaultValue = "20") int size) {
+        TransactionSliceResponse response = accountAppService.getTransactionSlice(accountId, cursor, size);
+        return ResponseEntity.ok(response);
+    }
+
+    @Operation(summary = "거래 내역 내보내기", description = "계좌의 거래 내역 전체를 오래된 순으로 NDJSON 또는 CSV 스트림으로 내려받습니다. 기간(from~to, 포함)과 거래 유형으로 필터링할 수 있습니다.")
+    @ApiResponses({
+            @ApiResponse(responseCode = "200", description = "내보내기 성공"),
+            @ApiResponse(responseCode = "404", description = "계좌를 찾을 수 없음") })
+    @GetMapping("/accounts/{accountId}/transactions/export")
+    public ResponseEntity<StreamingResponseBody> exportTransactions(@PathVariable Long accountId,
+            @RequestParam(defaultValue = "NDJSON") TransactionExportFormat format,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate from,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate to,
+            @RequestParam(required = false) TransactionType type, HttpServletRequest request) {
+        StreamingResponseBody body = transactionExportAppService.export(accountId, from, to, type, format);
+        applyExportTimeout(request);
+        return ResponseEntity.ok().contentType(format.getMediaType()).body(body);
+    }
+
+    // 내보내기 응답에만 긴 제한 시간 적용 (비동기 처리 시작 직전에 이 요청의 제한 시간을 변경)
+    private void applyExportTimeout(HttpServletRequest request) {
+        long timeoutMillis = exportProperties.timeout().toMillis();
+        WebAsyncUtils.getAsyncManager(request).registerCallableInterceptor(EXPORT_TIMEOUT_INTERCEPTOR,
+                new CallableProcessingInterceptor() {
+                    @Override
+                    public <T> void beforeConcurrentHandling(NativeWebRequest webRequest, Callable<T> task) {
+                        ((AsyncWebRequest) webRequest).setTimeout(timeoutMillis);
+                    }
+                });
+    }
 }
@@ -4,6 +4,7 @@ import barley.wire.wirebarley.application.v2.GlobalAccountAppService;
 import barley.wire.wirebarley.application.v2.GlobalTransferAppService;
 import barley.wire.wirebarley.presentation.dto.request.GlobalAmountRequest;
 import barley.wire.wirebarley.presentation.dto.request.CreateGlobalAccountRequest;
+import barley.wire.wirebarley.presentation.dto.request.GlobalTransferQuoteRequest;
 import barley.wire.wirebarley.presentation.dto.request.GlobalTransferRequest;
 import barley.wire.wirebarley.presentation.dto.response.*;
 import io.swagger.v3.oas.annotations.Operation;
@@ -79,12 +80,25 @@ public class GlobalAccountController {
         return ResponseEntity.ok(response);
     }
 
+    @Operation(summary = "글로벌 송금 환율 견적", description = "현재 환율과 수수료를 고정한 견적을 생성합니다. 송금 요청의 quoteId로 전달하면 유효 시간 내 1회 견적 금액으로 송금합니다.")
+    @ApiResponses({
+            @ApiResponse(responseCode = "201", description = "견적 생성 성공", content = @Content(schema = @Schema(implementation = GlobalTransferQuoteResponse.class))),
+            @ApiResponse(responseCode = "400", description = "잘못된 요청"),
+            @ApiResponse(responseCode = "404", description = "계좌를 찾을 수 없음"),
+            @ApiResponse(responseCode = "503", description = "환율 조회 불가")})
+    @PostMapping("/global-transfers/quotes")
+    public ResponseEntity<GlobalTransferQuoteResponse> quote(@Valid @RequestBody GlobalTransferQuoteRequest request) {
+        GlobalTransferQuoteResponse response = transferAppService.quote(request);
+
+        return ResponseEntity.status(HttpStatus.CREATED).body(response);
+    }
+
     @Operation(summary = "글로벌 송금 (자동 환전)", description = "다른 통화 계좌 간 자동 환전 송금을 실행합니다. (수수료: 이체 1% + 다른 통화 환전 0.5%)")
     @ApiResponses({
             @ApiResponse(responseCode = "200", description = "송금 성공", content = @Content(schema = @Schema(implementation = GlobalTransferResponse.class))),
-            @ApiResponse(responseCode = "400", description = "잘못된 요청 또는 통화 불일치"),
+            @ApiResponse(responseCode = "400", description = "잘못된 요청, 통화 불일치 또는 유효하지 않은 견적"),
             @ApiResponse(responseCode = "404", description = "계좌를 찾을 수 없음"),
-            @ApiResponse(responseCode = "409", description = "잔액 부족"),
+            @ApiResponse(responseCode = "409", description = "잔액 부족 또는 만료/사용된 견적"),
             @ApiResponse(responseCode = "422", description = "일일 한도 초과")})
     @PostMapping("/global-transfers")
     public ResponseEntity<GlobalTransferResponse> globalTransfer(@Valid @RequestBody GlobalTransferRequest request) {
@@ -123,4 +137,16 @@ public class GlobalAccountController {
         TransactionListResponse response = accountAppService.getTransactions(accountId, pageable);
         return ResponseEntity.ok(response);
     }
+
+    @Operation(summary = "거래 내역 커서 조회", description = "글로벌 계좌의 거래 내역을 최신순으로 조회합니다. 응답의 nextCursor를 다음 요청의 cursor로 전달합니다 (전체 건수 미제공, 최대 100건).")
+    @ApiResponses({
+            @ApiResponse(responseCode = "200", description = "거래 내역 조회 성공", content = @Content(schema = @Schema(implementation = TransactionSliceResponse.class))),
+            @ApiResponse(responseCode = "400", description = "유효하지 않은 커서"),
+            @ApiResponse(responseCode = "404", description = "계좌를 찾을 수 없음")})
+    @GetMapping("/global-accounts/{accountId}/transactions/cursor")
+    public ResponseEntity<TransactionSliceResponse> getTransactionSlice(@PathVariable Long accountId,
+            @RequestParam(required = false) String cursor, @RequestParam(defaultValue = "20") int size) {
+        TransactionSliceResponse response = accountAppService.getTransactionSlice(accountId, cursor, size);
+        return ResponseEntity.ok(response);
+    }
 }
@@ -0,0 +1,14 @@
+package barley.wire.wirebarley.presentation.dto.request;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import jakarta.validation.constraints.Max;
+import jakarta.validation.constraints.Min;
+import jakarta.validation.constraints.NotNull;
+
+@Schema(description = "하위 잔액 행 개수 변경 요청 (운영자용)")
+public record BalanceStripesRequest(
+    @Schema(description = "하위 잔액 행 개수 (0이면 일반 계좌로 전환)", example = "8")
+    @NotNull @Min(0) @Max(64)
+    Integer stripes
+) {
+}
@@ -0,0 +1,16 @@
+package barley.wire.wirebarley.presentation.dto.request;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import jakarta.validation.Valid;
+import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Size;
+import java.util.List;
+
+@Schema(description = "일괄 이체 요청")
+public record BatchTransferRequest(
+    @Schema(description = "이체 목록 (최대 100건, 요청 순서대로 처리)")
+    @NotEmpty @Size(max = 100)
+    List<@Valid @NotNull TransferRequest> transfers
+) {
+}
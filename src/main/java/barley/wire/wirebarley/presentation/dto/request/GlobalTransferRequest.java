@@ -17,6 +17,12 @@ public record GlobalTransferRequest(
 
     @Schema(description = "이체 금액", example = "100.00")
     @NotNull @DecimalMin(value = "0.0", inclusive = false)
-    BigDecimal amount
+    BigDecimal amount,
+
+    @Schema(description = "환율 견적 ID (지정 시 견적의 환율과 수수료로 송금, 생략 시 현재 환율 적용)")
+    String quoteId
 ) {
+    public GlobalTransferRequest(Long fromAccountId, Long toAccountId, BigDecimal amount) {
+        this(fromAccountId, toAccountId, amount, null);
+    }
 }
@@ -0,0 +1,22 @@
+package barley.wire.wirebarley.presentation.dto.request;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import org.springframework.http.MediaType;
+
+@Schema(description = "거래 내역 내보내기 형식")
+public enum TransactionExportFormat {
+    // 한 줄에 거래 내역 JSON 하나
+    NDJSON(MediaType.parseMediaType("application/x-ndjson")),
+    // 헤더 행 + 거래 내역 행
+    CSV(MediaType.parseMediaType("text/csv;charset=UTF-8"));
+
+    private final MediaType mediaType;
+
+    TransactionExportFormat(MediaType mediaType) {
+        this.mediaType = mediaType;
+    }
+
+    public MediaType getMediaType() {
+        return mediaType;
+    }
+}
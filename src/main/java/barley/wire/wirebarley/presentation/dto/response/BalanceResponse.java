@@ -1,6 +1,7 @@
 package barley.wire.wirebarley.presentation.dto.response;
 
 import barley.wire.wirebarley.domain.account.Account;
+import barley.wire.wirebarley.domain.account.AccountBalance;
 import barley.wire.wirebarley.domain.account.Currency;
 import io.swagger.v3.oas.annotations.media.Schema;
 import java.math.BigDecimal;
@@ -22,4 +23,11 @@ public record BalanceResponse(
                 account.getBalance(),
                 account.getCurrency());
     }
+
+    public static BalanceResponse from(AccountBalance accountBalance) {
+        return new BalanceResponse(
+                accountBalance.accountId(),
+                accountBalance.balance(),
+                accountBalance.currency());
+    }
 }
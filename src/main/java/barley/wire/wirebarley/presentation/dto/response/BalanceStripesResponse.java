@@ -0,0 +1,29 @@
+package barley.wire.wirebarley.presentation.dto.response;
+
+import barley.wire.wirebarley.domain.account.Account;
+import barley.wire.wirebarley.domain.account.Currency;
+import io.swagger.v3.oas.annotations.media.Schema;
+import java.math.BigDecimal;
+
+@Schema(description = "하위 잔액 행 개수 변경 응답")
+public record BalanceStripesResponse(
+    @Schema(description = "계좌 ID", example = "1")
+    Long accountId,
+
+    @Schema(description = "하위 잔액 행 개수", example = "8")
+    int balanceStripes,
+
+    @Schema(description = "기존 하위 잔액을 통합한 현재 잔액", example = "10000.00")
+    BigDecimal balance,
+
+    @Schema(description = "통화", example = "KRW")
+    Currency currency
+) {
+    public static BalanceStripesResponse from(Account account) {
+        return new BalanceStripesResponse(
+                account.getId(),
+                account.getBalanceStripes(),
+                account.getBalance(),
+                account.getCurrency());
+    }
+}
@@ -0,0 +1,67 @@
+package barley.wire.wirebarley.presentation.dto.response;
+
+import barley.wire.wirebarley.common.exception.BaseException;
+import barley.wire.wirebarley.presentation.dto.request.TransferRequest;
+import io.swagger.v3.oas.annotations.media.Schema;
+import java.math.BigDecimal;
+
+@Schema(description = "일괄 이체 건별 결과")
+public record BatchTransferItemResponse(
+    @Schema(description = "요청 목록 내 순번 (0부터 시작)")
+    int index,
+
+    @Schema(description = "성공 여부")
+    boolean success,
+
+    @Schema(description = "출금 계좌 ID")
+    Long fromAccountId,
+
+    @Schema(description = "수취 계좌 ID")
+    Long toAccountId,
+
+    @Schema(description = "이체 금액")
+    BigDecimal amount,
+
+    @Schema(description = "수수료 (성공 시)")
+    BigDecimal fee,
+
+    @Schema(description = "출금 후 잔액 (성공 시)")
+    BigDecimal fromBalance,
+
+    @Schema(description = "수취 후 잔액 (성공 시)")
+    BigDecimal toBalance,
+
+    @Schema(description = "에러 코드 (실패 시)")
+    String errorCode,
+
+    @Schema(description = "에러 메시지 (실패 시)")
+    String message) {
+
+    public static BatchTransferItemResponse success(int index, TransferResponse response) {
+        return new BatchTransferItemResponse(
+            index,
+            true,
+            response.fromAccountId(),
+            response.toAccountId(),
+            response.amount(),
+            response.fee(),
+            response.fromBalance(),
+            response.toBalance(),
+            null,
+            null);
+    }
+
+    public static BatchTransferItemResponse failure(int index, TransferRequest request, BaseException ex) {
+        return new BatchTransferItemResponse(
+            index,
+            false,
+            request.fromAccountId(),
+            request.toAccountId(),
+            request.amount(),
+            null,
+            null,
+            null,
+            ex.getErrorCode(),
+            ex.getMessage());
+    }
+}
@@ -0,0 +1,24 @@
+package barley.wire.wirebarley.presentation.dto.response;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import java.util.List;
+
+@Schema(description = "일괄 이체 결과 응답")
+public record BatchTransferResponse(
+    @Schema(description = "요청 건수")
+    int totalCount,
+
+    @Schema(description = "성공 건수")
+    int successCount,
+
+    @Schema(description = "실패 건수")
+    int failureCount,
+
+    @Schema(description = "건별 결과 (요청 순서)")
+    List<BatchTransferItemResponse> results
+) {
+    public static BatchTransferResponse from(List<BatchTransferItemResponse> results) {
+        int successCount = (int) results.stream().filter(BatchTransferItemResponse::success).count();
+        return new BatchTransferResponse(results.size(), successCount, results.size() - successCount, results);
+    }
+}
@@ -0,0 +1,63 @@
+package barley.wire.wirebarley.presentation.dto.response;
+
+import barley.wire.wirebarley.domain.account.Currency;
+import barley.wire.wirebarley.domain.exchange.ExchangeQuote;
+import io.swagger.v3.oas.annotations.media.Schema;
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+
+@Schema(description = "글로벌 송금 환율 견적 응답")
+public record GlobalTransferQuoteResponse(
+    @Schema(description = "견적 ID (송금 요청의 quoteId로 전달)")
+    String quoteId,
+
+    @Schema(description = "출금 계좌 ID")
+    Long fromAccountId,
+
+    @Schema(description = "수취 계좌 ID")
+    Long toAccountId,
+
+    @Schema(description = "이체 금액")
+    BigDecimal amount,
+
+    @Schema(description = "출금 통화")
+    Currency fromCurrency,
+
+    @Schema(description = "수취 통화")
+    Currency toCurrency,
+
+    @Schema(description = "고정 환율")
+    BigDecimal exchangeRate,
+
+    @Schema(description = "이체 수수료 (출금 통화)")
+    BigDecimal transferFee,
+
+    @Schema(description = "환전 수수료 (수취 통화)")
+    BigDecimal exchangeFee,
+
+    @Schema(description = "수수료를 포함한 총 출금 금액")
+    BigDecimal totalWithdrawAmount,
+
+    @Schema(description = "환전 수수료를 차감한 입금 금액")
+    BigDecimal depositAmount,
+
+    @Schema(description = "견적 만료 시각")
+    LocalDateTime expiresAt
+) {
+    public static GlobalTransferQuoteResponse from(ExchangeQuote quote) {
+        return new GlobalTransferQuoteResponse(
+            quote.getId(),
+            quote.getFromAccountId(),
+            quote.getToAccountId(),
+            quote.getAmount(),
+            quote.getFromCurrency(),
+            quote.getToCurrency(),
+            quote.getExchangeRate(),
+            quote.getTransferFee(),
+            quote.getExchangeFee(),
+            quote.getTotalWithdrawAmount(),
+            quote.getDepositAmount(),
+            quote.getExpiresAt()
+        );
+    }
+}
@@ -0,0 +1,37 @@
+package barley.wire.wirebarley.presentation.dto.response;
+
+import barley.wire.wirebarley.domain.transaction.Transaction;
+import barley.wire.wirebarley.domain.transaction.TransactionCursor;
+import io.swagger.v3.oas.annotations.media.Schema;
+
+import java.util.List;
+
+@Schema(description = "거래 내역 커서 목록 응답")
+public record TransactionSliceResponse(
+    @Schema(description = "거래 내역 목록")
+    List<TransactionResponse> items,
+
+    @Schema(description = "요청한 조회 건수")
+    int size,
+
+    @Schema(description = "다음 목록 존재 여부")
+    boolean hasNext,
+
+    @Schema(description = "다음 목록 조회용 커서 (마지막 목록이면 null)")
+    String nextCursor
+) {
+    // 한 번에 조회할 수 있는 최대 건수
+    public static final int MAX_SIZE = 100;
+
+    /**
+     * @param rows size + 1건까지 조회한 결과 (초과분으로 다음 목록 존재 여부 판단)
+     */
+    public static TransactionSliceResponse of(List<Transaction> rows, int size) {
+        boolean hasNext = rows.size() > size;
+        List<Transaction> content = hasNext ? rows.subList(0, size) : rows;
+        String nextCursor = hasNext ? TransactionCursor.from(content.get(content.size() - 1)).encode() : null;
+
+        return new TransactionSliceResponse(content.stream().map(TransactionResponse::from).toList(), size, hasNext,
+            nextCursor);
+    }
+}
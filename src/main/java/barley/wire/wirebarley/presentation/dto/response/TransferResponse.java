@@ -1,6 +1,7 @@
 package barley.wire.wirebarley.presentation.dto.response;
 
 import barley.wire.wirebarley.domain.account.Account;
+import barley.wire.wirebarley.domain.account.AccountBalance;
 import io.swagger.v3.oas.annotations.media.Schema;
 import java.math.BigDecimal;
 
@@ -38,4 +39,19 @@ public record TransferResponse(
             from.getBalance(),
             to.getBalance());
     }
+
+    public static TransferResponse of(
+        AccountBalance from,
+        AccountBalance to,
+        BigDecimal amount,
+        BigDecimal fee) {
+
+        return new TransferResponse(
+            from.accountId(),
+            to.accountId(),
+            amount,
+            fee,
+            from.balance(),
+            to.balance());
+    }
 }
@@ -0,0 +1,14 @@
+-- 금액을 통화 최소 단위(KRW 1원, 그 외 0.01) BIGINT로 저장하기 위한 컬럼 추가 (1단계: 이중 기록)
+-- 애플리케이션은 DECIMAL 컬럼과 함께 *_minor 컬럼을 기록하고, 조회 시 *_minor 값이 있으면 우선 사용
+-- 기존 행은 MinorUnitBackfiller가 ID 구간 단위로 채우며, 모든 행이 채워진 뒤 NOT NULL 전환 및 DECIMAL 컬럼 제거
+-- (컬럼 추가만 수행하므로 대용량 transactions 테이블도 INSTANT 알고리즘으로 즉시 반영)
+
+ALTER TABLE accounts
+    ADD COLUMN balance_minor BIGINT NULL AFTER balance,
+    ALGORITHM=INSTANT;
+
+ALTER TABLE transactions
+    ADD COLUMN amount_minor BIGINT NULL AFTER amount,
+    ADD COLUMN fee_minor BIGINT NULL AFTER fee,
+    ADD COLUMN balance_snapshot_minor BIGINT NULL AFTER balance_snapshot,
+    ALGORITHM=INSTANT;
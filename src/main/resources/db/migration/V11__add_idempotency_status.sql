@@ -0,0 +1,7 @@
+-- 멱등성 키 선점(IN_PROGRESS) 상태 추가
+-- 요청 실행 전에 키를 IN_PROGRESS 행으로 먼저 저장하여, 동시에 도착한 같은 키의 요청이 중복 실행되지 않도록 함
+-- 처리 완료 시 응답과 함께 COMPLETED로 변경되며, 처리 중 상태의 행은 응답 코드가 없음
+
+ALTER TABLE idempotency_records
+    ADD COLUMN status VARCHAR(20) NOT NULL DEFAULT 'COMPLETED' AFTER request_body_hash,
+    MODIFY response_status INT NULL;
@@ -0,0 +1,8 @@
+-- 멱등성 응답을 압축(gzip) 바이트와 Content-Type으로 저장
+-- 재처리 시 JSON 파싱/재직렬화 없이 저장된 바이트를 그대로 응답하며, 텍스트 대비 테이블 크기 감소
+-- 이전 형식 레코드(response_body)는 만료(10분)될 때까지 그대로 읽음
+
+ALTER TABLE idempotency_records
+    ADD COLUMN response_payload MEDIUMBLOB NULL AFTER response_body,
+    ADD COLUMN response_content_type VARCHAR(100) NULL AFTER response_payload,
+    ALGORITHM=INSTANT;
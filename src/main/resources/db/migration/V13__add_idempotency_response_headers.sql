@@ -0,0 +1,5 @@
+-- 멱등성 응답 헤더 저장 (HTTP 필터가 상태 코드, 헤더, 본문 바이트를 그대로 저장하고 재처리 시 그대로 응답)
+
+ALTER TABLE idempotency_records
+    ADD COLUMN response_headers TEXT NULL AFTER response_content_type,
+    ALGORITHM=INSTANT;
@@ -0,0 +1,5 @@
+-- 아웃박스 발생 시각을 마이크로초 단위로 저장
+-- 풀링된 아웃박스 ID는 서버별로 구간을 할당받아 발생 순서와 다를 수 있으므로, 같은 초에 발생한 거래도 드레인 시 발생 순서대로 정렬
+
+ALTER TABLE transaction_outbox
+    MODIFY created_at TIMESTAMP(6) NOT NULL DEFAULT CURRENT_TIMESTAMP(6);
@@ -0,0 +1,5 @@
+-- 견적 시점의 출금 통화 -> 원화 환율 저장
+-- 견적 송금 시 계좌 락 안에서 환율을 조회하지 않고 일일 한도를 원화로 환산
+
+ALTER TABLE exchange_quotes
+    ADD COLUMN krw_rate DECIMAL(19, 10) NULL AFTER exchange_rate;
@@ -0,0 +1,5 @@
+-- 아웃박스 드레인 배치를 발생 시각 → ID 순으로 잘라내기 위한 인덱스
+-- 풀링된 ID 순으로 배치를 자르면 다른 서버가 먼저 발생시킨 거래가 다음 배치로 밀려 계좌별 저장 순서가 뒤바뀔 수 있음
+-- 가장 오래된 미처리 레코드 조회(드레인 지연 시간)도 이 인덱스를 사용
+
+CREATE INDEX idx_transaction_outbox_created_at ON transaction_outbox (created_at, id);
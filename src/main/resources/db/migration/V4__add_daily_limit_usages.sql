@@ -0,0 +1,21 @@
+-- 일일 한도 누적 테이블 추가
+-- 계좌/일자/거래유형별 누적 금액을 보관하여 한도 검증 시 거래 내역 SUM 없이 단건 조회로 처리
+
+CREATE TABLE daily_limit_usages (
+    id BIGINT AUTO_INCREMENT PRIMARY KEY,
+    account_id BIGINT NOT NULL,
+    usage_date DATE NOT NULL,
+    type VARCHAR(20) NOT NULL,
+    amount DECIMAL(19, 4) NOT NULL DEFAULT 0,
+    updated_at TIMESTAMP NOT NULL DEFAULT CURRENT_TIMESTAMP ON UPDATE CURRENT_TIMESTAMP,
+    UNIQUE KEY uk_daily_limit_usage (account_id, usage_date, type),
+    FOREIGN KEY (account_id) REFERENCES accounts(id) ON DELETE CASCADE
+) ENGINE=InnoDB DEFAULT CHARSET=utf8mb4 COLLATE=utf8mb4_unicode_ci;
+
+-- 배포 당일 발생한 거래 내역으로 누적치 초기화
+INSERT INTO daily_limit_usages (account_id, usage_date, type, amount)
+SELECT account_id, DATE(created_at), type, SUM(amount)
+FROM transactions
+WHERE created_at >= CURDATE()
+  AND type IN ('WITHDRAW', 'TRANSFER_OUT')
+GROUP BY account_id, DATE(created_at), type;
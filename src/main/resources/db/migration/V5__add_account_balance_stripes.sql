@@ -0,0 +1,15 @@
+-- 핫 계좌 잔액 스트라이핑
+-- 입금이 몰리는 계좌는 이체 입금을 N개의 하위 잔액 행에 분산하여 계좌 행 락 경합을 줄임
+-- 계좌 잔액 = accounts.balance + SUM(account_balance_stripes.balance)
+
+ALTER TABLE accounts
+    ADD COLUMN balance_stripes INT NOT NULL DEFAULT 0 AFTER balance;
+
+CREATE TABLE account_balance_stripes (
+    id BIGINT AUTO_INCREMENT PRIMARY KEY,
+    account_id BIGINT NOT NULL,
+    stripe_no INT NOT NULL,
+    balance DECIMAL(19, 4) NOT NULL DEFAULT 0,
+    UNIQUE KEY uk_account_balance_stripe (account_id, stripe_no),
+    FOREIGN KEY (account_id) REFERENCES accounts(id) ON DELETE CASCADE
+) ENGINE=InnoDB DEFAULT CHARSET=utf8mb4 COLLATE=utf8mb4_unicode_ci;
@@ -0,0 +1,13 @@
+-- 거래 내역 ID를 IDENTITY에서 pooled 시퀀스(테이블 에뮬레이션)로 전환
+-- INSERT 전에 ID를 확보할 수 있어 한 작업의 거래 내역을 JDBC 배치 INSERT로 묶을 수 있음
+-- (MySQL은 시퀀스를 지원하지 않으므로 Hibernate가 transactions_seq 테이블로 ID 구간을 할당)
+
+CREATE TABLE transactions_seq (
+    next_val BIGINT NOT NULL
+) ENGINE=InnoDB DEFAULT CHARSET=utf8mb4 COLLATE=utf8mb4_unicode_ci;
+
+-- 기존 ID와 겹치지 않도록 현재 최대 ID + 할당 크기(100) 이후부터 시작
+INSERT INTO transactions_seq (next_val)
+SELECT COALESCE(MAX(id), 0) + 101 FROM transactions;
+
+ALTER TABLE transactions MODIFY id BIGINT NOT NULL;
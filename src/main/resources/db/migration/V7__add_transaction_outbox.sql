@@ -0,0 +1,26 @@
+-- 거래 내역 아웃박스 (OUTBOX 저널 모드)
+-- 비즈니스 트랜잭션은 인덱스/FK 없는 아웃박스에 이벤트만 추가하고, 백그라운드 드레이너가 transactions로 옮김
+
+CREATE TABLE transaction_outbox (
+    id BIGINT NOT NULL PRIMARY KEY,
+    account_id BIGINT NOT NULL,
+    type VARCHAR(20) NOT NULL,
+    amount DECIMAL(19, 4) NOT NULL,
+    fee DECIMAL(19, 4) NOT NULL DEFAULT 0,
+    currency VARCHAR(10) NOT NULL,
+    balance_snapshot DECIMAL(19, 4),
+    related_account_id BIGINT,
+    created_at TIMESTAMP NOT NULL DEFAULT CURRENT_TIMESTAMP
+) ENGINE=InnoDB DEFAULT CHARSET=utf8mb4 COLLATE=utf8mb4_unicode_ci;
+
+-- 아웃박스 ID 할당 테이블 (Hibernate pooled 시퀀스, 100개 단위)
+CREATE TABLE transaction_outbox_seq (
+    next_val BIGINT NOT NULL
+) ENGINE=InnoDB DEFAULT CHARSET=utf8mb4 COLLATE=utf8mb4_unicode_ci;
+
+INSERT INTO transaction_outbox_seq (next_val) VALUES (1);
+
+-- 드레이너 재시도 시 중복 저장 방지
+ALTER TABLE transactions
+    ADD COLUMN outbox_id BIGINT NULL,
+    ADD UNIQUE KEY uk_transactions_outbox_id (outbox_id);
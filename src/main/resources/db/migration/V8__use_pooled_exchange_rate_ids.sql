@@ -0,0 +1,12 @@
+-- 환율 ID를 IDENTITY에서 pooled 시퀀스(테이블 에뮬레이션)로 전환
+-- 환율 매트릭스 갱신 시 전체 통화 쌍 스냅샷을 JDBC 배치 INSERT 한 번으로 저장하기 위함
+
+CREATE TABLE exchange_rates_seq (
+    next_val BIGINT NOT NULL
+) ENGINE=InnoDB DEFAULT CHARSET=utf8mb4 COLLATE=utf8mb4_unicode_ci;
+
+-- 기존 ID와 겹치지 않도록 현재 최대 ID + 할당 크기(100) 이후부터 시작
+INSERT INTO exchange_rates_seq (next_val)
+SELECT COALESCE(MAX(id), 0) + 101 FROM exchange_rates;
+
+ALTER TABLE exchange_rates MODIFY id BIGINT NOT NULL;
@@ -0,0 +1,21 @@
+-- 글로벌 송금 환율 견적
+-- 견적 시점의 환율과 수수료를 고정해 두고, 송금 실행 시 환율 조회 없이 견적 금액으로 처리 (1회 사용)
+
+CREATE TABLE exchange_quotes (
+    id VARCHAR(36) NOT NULL PRIMARY KEY,
+    from_account_id BIGINT NOT NULL,
+    to_account_id BIGINT NOT NULL,
+    from_currency VARCHAR(10) NOT NULL,
+    to_currency VARCHAR(10) NOT NULL,
+    amount DECIMAL(19, 4) NOT NULL,
+    exchange_rate DECIMAL(19, 10) NOT NULL,
+    converted_amount DECIMAL(19, 4) NOT NULL,
+    exchange_fee DECIMAL(19, 4) NOT NULL,
+    deposit_amount DECIMAL(19, 4) NOT NULL,
+    transfer_fee DECIMAL(19, 4) NOT NULL,
+    total_withdraw_amount DECIMAL(19, 4) NOT NULL,
+    created_at TIMESTAMP NOT NULL DEFAULT CURRENT_TIMESTAMP,
+    expires_at TIMESTAMP NOT NULL,
+    used_at TIMESTAMP NULL,
+    INDEX idx_exchange_quotes_expires_at (expires_at)
+) ENGINE=InnoDB DEFAULT CHARSET=utf8mb4 COLLATE=utf8mb4_unicode_ci;
@@ -11,16 +11,22 @@ import barley.wire.wirebarley.common.exception.InvalidAmountException;
 import barley.wire.wirebarley.common.exception.LimitExceededException;
 import barley.wire.wirebarley.common.validator.AccountValidator;
 import barley.wire.wirebarley.domain.account.Account;
+import barley.wire.wirebarley.domain.account.AccountBalance;
 import barley.wire.wirebarley.domain.account.Currency;
 import barley.wire.wirebarley.domain.transaction.Transaction;
+import barley.wire.wirebarley.domain.transaction.TransactionCursor;
 import barley.wire.wirebarley.domain.transaction.TransactionType;
 import barley.wire.wirebarley.infrastructure.repository.TransactionRepository;
+import barley.wire.wirebarley.infrastructure.config.BalanceProperties;
 import barley.wire.wirebarley.infrastructure.service.AccountService;
 import barley.wire.wirebarley.presentation.dto.request.CreateAccountRequest;
 import barley.wire.wirebarley.presentation.dto.response.AccountResponse;
 import barley.wire.wirebarley.presentation.dto.response.BalanceResponse;
 import barley.wire.wirebarley.presentation.dto.response.TransactionListResponse;
+import barley.wire.wirebarley.presentation.dto.response.TransactionResponse;
+import barley.wire.wirebarley.presentation.dto.response.TransactionSliceResponse;
 import java.math.BigDecimal;
+import java.time.LocalDateTime;
 import java.util.List;
 
 import org.junit.jupiter.api.BeforeEach;
@@ -53,6 +59,9 @@ class AccountAppServiceTest {
     @Mock
     private ApplicationEventPublisher eventPublisher;
 
+    @Mock
+    private BalanceProperties balanceProperties;
+
     @InjectMocks
     private AccountAppService accountAppService;
 
@@ -158,6 +167,28 @@ class AccountAppServiceTest {
         verify(accountValidator).validateAccountExistence(1L);
     }
 
+    @Test
+    @DisplayName("거래내역 커서 조회 시 요청 건수보다 많이 조회되면 다음 커서를 반환한다")
+    void getTransactionSlice_HasNext() {
+        // [given]
+        LocalDateTime createdAt = LocalDateTime.of(2026, 1, 1, 12, 0);
+        Transaction tx3 = createTransaction(3L, createdAt);
+        Transaction tx2 = createTransaction(2L, createdAt);
+        Transaction tx1 = createTransaction(1L, createdAt.minusSeconds(1));
+        TransactionCursor cursor = new TransactionCursor(createdAt, 4L);
+
+        when(transactionRepository.findSlice(1L, cursor, 3)).thenReturn(List.of(tx3, tx2, tx1));
+
+        // [when]
+        TransactionSliceResponse response = accountAppService.getTransactionSlice(1L, cursor.encode(), 2);
+
+        // [then]
+        assertThat(response.items()).extracting(TransactionResponse::id).containsExactly(3L, 2L);
+        assertThat(response.hasNext()).isTrue();
+        assertThat(TransactionCursor.decode(response.nextCursor())).isEqualTo(new TransactionCursor(createdAt, 2L));
+        verify(accountValidator).validateAccountExistence(1L);
+    }
+
     @Test
     @DisplayName("계좌 삭제 성공")
     void deleteAccount_Success() {
@@ -209,4 +240,54 @@ class AccountAppServiceTest {
         assertThatThrownBy(() -> accountAppService.getTransactions(99L, PageRequest.of(0, 10)))
                 .isInstanceOf(barley.wire.wirebarley.common.exception.AccountNotFoundException.class);
     }
+
+    @Test
+    @DisplayName("ATOMIC_UPDATE 모드 출금 시 조건부 UPDATE 결과로 응답과 이벤트 스냅샷을 생성")
+    void withdraw_AtomicUpdate_Success() {
+        // [given]
+        BigDecimal amount = BigDecimal.valueOf(10000);
+        AccountBalance balance = new AccountBalance(1L, Currency.KRW, BigDecimal.valueOf(90000), 3L);
+
+        when(balanceProperties.isAtomicUpdate()).thenReturn(true);
+        when(accountService.debit(eq(1L), eq(amount), anyString())).thenReturn(balance);
+
+        // [when]
+        BalanceResponse response = accountAppService.withdraw(1L, amount);
+
+        // [then]
+        // 엔티티 락 조회 없이 UPDATE 결과 잔액이 응답/이벤트에 반영되는지 확인
+        assertThat(response.balance()).isEqualByComparingTo(BigDecimal.valueOf(90000));
+        verify(accountService, never()).getAccountWithLock(anyLong());
+        verify(accountValidator).checkWithdrawLimit(1L, Currency.KRW, amount);
+
+        ArgumentCaptor<TransactionEvent> eventCaptor = ArgumentCaptor.forClass(TransactionEvent.class);
+        verify(eventPublisher).publishEvent(eventCaptor.capture());
+        assertThat(eventCaptor.getValue().type()).isEqualTo(TransactionType.WITHDRAW);
+        assertThat(eventCaptor.getValue().balanceSnapshot()).isEqualByComparingTo(BigDecimal.valueOf(90000));
+    }
+
+    @Test
+    @DisplayName("OPTIMISTIC 모드 입금 시 락 없이 계좌를 조회")
+    void deposit_Optimistic_ReadsWithoutLock() {
+        // [given]
+        BigDecimal amount = BigDecimal.valueOf(50000);
+        when(balanceProperties.isOptimistic()).thenReturn(true);
+        when(accountService.getAccount(1L)).thenReturn(testAccount);
+
+        // [when]
+        BalanceResponse response = accountAppService.deposit(1L, amount);
+
+        // [then]
+        // 충돌 감지는 커밋 시점의 @Version 검사에 맡기므로 비관적 락 조회를 하지 않음
+        assertThat(response.balance()).isEqualByComparingTo(amount);
+        verify(accountService, never()).getAccountWithLock(anyLong());
+    }
+
+    private Transaction createTransaction(Long id, LocalDateTime createdAt) {
+        Transaction transaction = new Transaction(1L, TransactionType.DEPOSIT, BigDecimal.valueOf(10000),
+                BigDecimal.ZERO, BigDecimal.valueOf(10000), null, Currency.KRW);
+        ReflectionTestUtils.setField(transaction, "id", id);
+        ReflectionTestUtils.setField(transaction, "createdAt", createdAt);
+        return transaction;
+    }
 }
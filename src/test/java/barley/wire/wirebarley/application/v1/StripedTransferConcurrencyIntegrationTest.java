@@ -0,0 +1,90 @@
+package barley.wire.wirebarley.application.v1;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import barley.wire.wirebarley.IntegrationTestBase;
+import barley.wire.wirebarley.common.exception.LimitExceededException;
+import barley.wire.wirebarley.infrastructure.repository.AccountRepository;
+import barley.wire.wirebarley.infrastructure.service.AccountService;
+import barley.wire.wirebarley.presentation.dto.request.TransferRequest;
+import barley.wire.wirebarley.presentation.dto.response.AccountResponse;
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.TestPropertySource;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+@TestPropertySource(properties = "wirebarley.balance.striping.enabled=true")
+class StripedTransferConcurrencyIntegrationTest extends IntegrationTestBase {
+
+    private static final int THREADS = 10;
+
+    @Autowired
+    private TransferAppService transferAppService;
+
+    @Autowired
+    private AccountService accountService;
+
+    @Autowired
+    private AccountRepository accountRepository;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Test
+    @DisplayName("스트라이핑 활성화 시 같은 계좌의 동시 이체도 락 대기 중 커밋된 한도 사용액을 반영하여 일일 이체 한도를 넘지 않는다")
+    void concurrentTransfers_ToStripedAccount_RespectDailyLimit() throws Exception {
+        // [given]
+        AccountResponse from = fixture.createAccount("110-STRIPE-001", "Sender");
+        fixture.deposit(from.id(), BigDecimal.valueOf(10000000));
+        AccountResponse to = fixture.createAccount("220-STRIPE-002", "Merchant");
+        accountService.changeBalanceStripes(to.id(), 4);
+
+        TransferRequest request = new TransferRequest(from.id(), to.id(), BigDecimal.valueOf(500000));
+        ExecutorService executor = Executors.newFixedThreadPool(THREADS);
+        CountDownLatch start = new CountDownLatch(1);
+        AtomicInteger succeeded = new AtomicInteger();
+        AtomicInteger limited = new AtomicInteger();
+
+        // [when]
+        List<Future<?>> futures = new ArrayList<>();
+        for (int i = 0; i < THREADS; i++) {
+            futures.add(executor.submit(() -> {
+                start.await();
+                try {
+                    transferAppService.transfer(request);
+                    succeeded.incrementAndGet();
+                } catch (LimitExceededException e) {
+                    limited.incrementAndGet();
+                }
+                return null;
+            }));
+        }
+        start.countDown();
+        for (Future<?> future : futures) {
+            future.get(30, TimeUnit.SECONDS);
+        }
+        executor.shutdown();
+
+        // [then] 한도 300만원 / 건당 50만원 = 6건, 출금액은 수수료 1% 포함 건당 505,000원
+        assertThat(succeeded).hasValue(6);
+        assertThat(limited).hasValue(THREADS - 6);
+        assertThat(jdbcTemplate.queryForObject(
+                "SELECT amount FROM daily_limit_usages WHERE account_id = ? AND type = 'TRANSFER_OUT'",
+                BigDecimal.class, from.id())).isEqualByComparingTo("3000000");
+        assertThat(accountRepository.findById(from.id()).orElseThrow().getBalance())
+                .isEqualByComparingTo(new BigDecimal("6970000"));
+    }
+}
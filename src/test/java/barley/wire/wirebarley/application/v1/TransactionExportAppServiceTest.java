@@ -0,0 +1,131 @@
+package barley.wire.wirebarley.application.v1;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+import barley.wire.wirebarley.common.exception.AccountNotFoundException;
+import barley.wire.wirebarley.common.validator.AccountValidator;
+import barley.wire.wirebarley.domain.account.Currency;
+import barley.wire.wirebarley.domain.transaction.Transaction;
+import barley.wire.wirebarley.domain.transaction.TransactionType;
+import barley.wire.wirebarley.infrastructure.repository.TransactionRepository;
+import barley.wire.wirebarley.presentation.dto.request.TransactionExportFormat;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import jakarta.persistence.EntityManager;
+import java.io.ByteArrayOutputStream;
+import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.stream.Stream;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+
+@ExtendWith(MockitoExtension.class)
+class TransactionExportAppServiceTest {
+
+    @Mock
+    private TransactionRepository transactionRepository;
+
+    @Mock
+    private AccountValidator accountValidator;
+
+    @Mock
+    private EntityManager entityManager;
+
+    @Mock
+    private PlatformTransactionManager transactionManager;
+
+    private TransactionExportAppService transactionExportAppService;
+
+    @BeforeEach
+    void setUp() {
+        ObjectMapper objectMapper = new ObjectMapper().registerModule(new JavaTimeModule())
+                .disable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS);
+        transactionExportAppService = new TransactionExportAppService(transactionRepository, accountValidator,
+                entityManager, objectMapper, transactionManager);
+    }
+
+    @Test
+    @DisplayName("CSV 내보내기 시 헤더와 거래 내역 행을 기록하고 기록한 엔티티를 영속성 컨텍스트에서 제거한다")
+    void export_Csv() throws Exception {
+        // [given]
+        LocalDateTime createdAt = LocalDateTime.of(2026, 1, 12, 19, 34, 50);
+        Transaction deposit = createTransaction(1L, TransactionType.DEPOSIT, null, createdAt);
+        Transaction transferOut = createTransaction(2L, TransactionType.TRANSFER_OUT, 3L, createdAt.plusSeconds(5));
+        when(transactionRepository.streamForExport(eq(1L), any(), any(), isNull()))
+                .thenReturn(Stream.of(deposit, transferOut));
+
+        // [when]
+        String content = writeToString(
+                transactionExportAppService.export(1L, null, null, null, TransactionExportFormat.CSV));
+
+        // [then]
+        assertThat(content.split("\n")).containsExactly(
+                "id,type,amount,currency,fee,balanceSnapshot,relatedAccountId,createdAt",
+                "1,DEPOSIT,10000,KRW,0,50000,,2026-01-12T19:34:50",
+                "2,TRANSFER_OUT,10000,KRW,0,50000,3,2026-01-12T19:34:55");
+        verify(entityManager).detach(deposit);
+        verify(entityManager).detach(transferOut);
+        verify(transactionManager).commit(any());
+    }
+
+    @Test
+    @DisplayName("NDJSON 내보내기 시 기간을 종료일 포함 범위로 변환하고 거래 내역을 한 줄에 하나씩 기록한다")
+    void export_NdjsonWithFilter() throws Exception {
+        // [given]
+        LocalDate from = LocalDate.of(2026, 1, 1);
+        LocalDate to = LocalDate.of(2026, 1, 31);
+        Transaction deposit = createTransaction(1L, TransactionType.DEPOSIT, null,
+                LocalDateTime.of(2026, 1, 12, 19, 34, 50));
+        when(transactionRepository.streamForExport(1L, from.atStartOfDay(), LocalDate.of(2026, 2, 1).atStartOfDay(),
+                TransactionType.DEPOSIT)).thenReturn(Stream.of(deposit));
+
+        // [when]
+        String content = writeToString(transactionExportAppService.export(1L, from, to, TransactionType.DEPOSIT,
+                TransactionExportFormat.NDJSON));
+
+        // [then]
+        assertThat(content).endsWith("\n");
+        assertThat(content.split("\n")).hasSize(1);
+        assertThat(content).contains("\"id\":1", "\"type\":\"DEPOSIT\"", "\"createdAt\":\"2026-01-12T19:34:50\"");
+    }
+
+    @Test
+    @DisplayName("존재하지 않는 계좌는 스트림을 열기 전에 실패한다")
+    void export_AccountNotFound() {
+        // [given]
+        doThrow(new AccountNotFoundException("계좌를 찾을 수 없습니다: 99")).when(accountValidator).validateAccountExistence(99L);
+
+        // [when & then]
+        assertThatThrownBy(() -> transactionExportAppService.export(99L, null, null, null,
+                TransactionExportFormat.NDJSON)).isInstanceOf(AccountNotFoundException.class);
+        verify(transactionRepository, never()).streamForExport(anyLong(), any(), any(), any());
+    }
+
+    private String writeToString(StreamingResponseBody body) throws Exception {
+        ByteArrayOutputStream outputStream = new ByteArrayOutputStream();
+        body.writeTo(outputStream);
+        return outputStream.toString(StandardCharsets.UTF_8);
+    }
+
+    private Transaction createTransaction(Long id, TransactionType type, Long relatedAccountId,
+            LocalDateTime createdAt) {
+        Transaction transaction = new Transaction(1L, type, BigDecimal.valueOf(10000), BigDecimal.ZERO,
+                BigDecimal.valueOf(50000), relatedAccountId, Currency.KRW);
+        ReflectionTestUtils.setField(transaction, "id", id);
+        ReflectionTestUtils.setField(transaction, "createdAt", createdAt);
+        return transaction;
+    }
+}
@@ -6,6 +6,7 @@ import static org.mockito.ArgumentMatchers.*;
 import static org.mockito.Mockito.*;
 
 import barley.wire.wirebarley.application.v1.TransferAppService;
+import barley.wire.wirebarley.common.event.TransactionBatchEvent;
 import barley.wire.wirebarley.common.event.TransactionEvent;
 import barley.wire.wirebarley.common.exception.InsufficientBalanceException;
 import barley.wire.wirebarley.common.exception.InvalidAmountException;
@@ -13,17 +14,27 @@ import barley.wire.wirebarley.common.exception.LimitExceededException;
 import barley.wire.wirebarley.common.util.MoneyUtils;
 import barley.wire.wirebarley.common.validator.AccountValidator;
 import barley.wire.wirebarley.domain.account.Account;
+import barley.wire.wirebarley.domain.account.AccountBalance;
 import barley.wire.wirebarley.domain.account.Currency;
+import barley.wire.wirebarley.domain.transaction.TransactionType;
+import barley.wire.wirebarley.infrastructure.config.BalanceProperties;
 import barley.wire.wirebarley.infrastructure.service.AccountService;
+import barley.wire.wirebarley.infrastructure.service.DailyLimitService;
+import barley.wire.wirebarley.presentation.dto.request.BatchTransferRequest;
 import barley.wire.wirebarley.presentation.dto.request.TransferRequest;
+import barley.wire.wirebarley.presentation.dto.response.BatchTransferResponse;
 import barley.wire.wirebarley.presentation.dto.response.TransferResponse;
 
 import java.math.BigDecimal;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
 
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
@@ -43,6 +54,12 @@ class TransferAppServiceTest {
     @Mock
     private ApplicationEventPublisher eventPublisher;
 
+    @Mock
+    private BalanceProperties balanceProperties;
+
+    @Mock
+    private DailyLimitService dailyLimitService;
+
     @InjectMocks
     private TransferAppService transferAppService;
 
@@ -87,7 +104,10 @@ class TransferAppServiceTest {
         assertThat(fromAccount.getBalance()).isEqualByComparingTo(BigDecimal.valueOf(899000));
         assertThat(toAccount.getBalance()).isEqualByComparingTo(amount);
 
-        verify(eventPublisher, times(2)).publishEvent(any(TransactionEvent.class));
+        ArgumentCaptor<TransactionBatchEvent> eventCaptor = ArgumentCaptor.forClass(TransactionBatchEvent.class);
+        verify(eventPublisher).publishEvent(eventCaptor.capture());
+        assertThat(eventCaptor.getValue().events()).extracting(TransactionEvent::type)
+                .containsExactly(TransactionType.TRANSFER_OUT, TransactionType.TRANSFER_IN);
     }
 
     @Test
@@ -110,6 +130,27 @@ class TransferAppServiceTest {
                 .isInstanceOf(InvalidAmountException.class);
     }
 
+    @Test
+    @DisplayName("원화 최소 단위(1원) 미만 금액은 잔액 변경 없이 이체 실패")
+    void transfer_Fail_SubMinorKrwAmount() {
+        // [given]
+        // 0.4원은 반올림하면 출금 0원, 입금 0.4원이 되므로 받지 않음
+        TransferRequest request = new TransferRequest(1L, 2L, new BigDecimal("1000.4"));
+
+        when(accountService.getAccountsWithLockOrdered(1L, 2L)).thenReturn(Pair.of(fromAccount, toAccount));
+        doCallRealMethod().when(accountValidator).validateCurrencyScale(any(), any());
+
+        // [when & then]
+        assertThatThrownBy(() -> transferAppService.transfer(request))
+                .isInstanceOf(InvalidAmountException.class)
+                .hasMessageContaining("KRW 금액은 소수점 0자리까지");
+
+        assertThat(fromAccount.getBalance()).isEqualByComparingTo(BigDecimal.valueOf(1000000));
+        assertThat(toAccount.getBalance()).isZero();
+        verify(accountValidator, never()).checkTransferLimit(anyLong(), any());
+        verify(eventPublisher, never()).publishEvent(any());
+    }
+
     @Test
     @DisplayName("잔액 부족 시 이체 실패")
     void transfer_Fail_InsufficientBalance() {
@@ -143,4 +184,137 @@ class TransferAppServiceTest {
         assertThatThrownBy(() -> transferAppService.transfer(request))
                 .isInstanceOf(LimitExceededException.class);
     }
+
+    @Test
+    @DisplayName("ATOMIC_UPDATE 모드 이체 시 락 조회 없이 조건부 UPDATE로 처리")
+    void transfer_AtomicUpdate_Success() {
+        // [given]
+        BigDecimal amount = BigDecimal.valueOf(100000);
+        BigDecimal expectedFee = MoneyUtils.calculateTransferFee(amount, Currency.KRW);
+        TransferRequest request = new TransferRequest(1L, 2L, amount);
+
+        AccountBalance fromBalance = new AccountBalance(1L, Currency.KRW, BigDecimal.valueOf(899000), 1L);
+        AccountBalance toBalance = new AccountBalance(2L, Currency.KRW, amount, 1L);
+
+        when(balanceProperties.isAtomicUpdate()).thenReturn(true);
+        when(accountService.getAccounts(1L, 2L)).thenReturn(Pair.of(fromAccount, toAccount));
+        when(accountService.transferAtomically(eq(1L), eq(2L), eq(amount.add(expectedFee)), eq(amount), anyString()))
+                .thenReturn(Pair.of(fromBalance, toBalance));
+
+        // [when]
+        TransferResponse response = transferAppService.transfer(request);
+
+        // [then]
+        assertThat(response.fee()).isEqualByComparingTo(expectedFee);
+        assertThat(response.fromBalance()).isEqualByComparingTo(BigDecimal.valueOf(899000));
+        assertThat(response.toBalance()).isEqualByComparingTo(amount);
+
+        verify(accountService, never()).getAccountsWithLockOrdered(anyLong(), anyLong());
+        verify(accountValidator).checkTransferLimit(1L, Currency.KRW, amount);
+        ArgumentCaptor<TransactionBatchEvent> eventCaptor = ArgumentCaptor.forClass(TransactionBatchEvent.class);
+        verify(eventPublisher).publishEvent(eventCaptor.capture());
+        assertThat(eventCaptor.getValue().events()).extracting(TransactionEvent::type)
+                .containsExactly(TransactionType.TRANSFER_OUT, TransactionType.TRANSFER_IN);
+    }
+
+    @Test
+    @DisplayName("스트라이프 계좌로 이체 시 입금 계좌 행 대신 하위 잔액 행에 입금")
+    void transfer_StripedAccount_CreditsStripe() {
+        // [given]
+        BigDecimal amount = BigDecimal.valueOf(100000);
+        TransferRequest request = new TransferRequest(1L, 2L, amount);
+        toAccount.changeBalanceStripes(8);
+        toAccount.deposit(BigDecimal.valueOf(500000));
+
+        when(accountService.getAccountsWithLockOrdered(1L, 2L)).thenReturn(Pair.of(fromAccount, toAccount));
+        when(accountService.isStripeCredit(toAccount)).thenReturn(true);
+        doAnswer(invocation -> {
+            toAccount.addStripedCredit(amount);
+            return null;
+        }).when(accountService).creditStripe(toAccount, amount, 1L);
+
+        // [when]
+        TransferResponse response = transferAppService.transfer(request);
+
+        // [then]
+        // 기준 잔액은 변경되지 않고, 응답 잔액은 하위 잔액 입금분을 포함한 단일 잔액
+        verify(accountService).creditStripe(toAccount, amount, 1L);
+        assertThat(toAccount.getStripedBalance()).isEqualByComparingTo(amount);
+        assertThat(response.toBalance()).isEqualByComparingTo(BigDecimal.valueOf(600000));
+    }
+
+    @Test
+    @DisplayName("스트라이핑 비활성화 시 스트라이프 계좌도 계좌 행에 입금")
+    void transfer_StripingDisabled_CreditsAccountRow() {
+        // [given]
+        BigDecimal amount = BigDecimal.valueOf(100000);
+        TransferRequest request = new TransferRequest(1L, 2L, amount);
+        toAccount.changeBalanceStripes(8);
+
+        when(accountService.getAccountsWithLockOrdered(1L, 2L)).thenReturn(Pair.of(fromAccount, toAccount));
+        when(accountService.isStripeCredit(toAccount)).thenReturn(false);
+
+        // [when]
+        TransferResponse response = transferAppService.transfer(request);
+
+        // [then]
+        verify(accountService, never()).creditStripe(any(), any(), anyLong());
+        assertThat(response.toBalance()).isEqualByComparingTo(amount);
+    }
+
+    @Test
+    @DisplayName("일괄 이체 시 계좌 합집합을 한 번에 락 획득하고 건별 결과와 배치 이벤트를 반환")
+    void transferBatch_PartialFailure() {
+        // [given]
+        // 1 -> 2 (성공), 1 -> 99 (존재하지 않는 계좌), 1 -> 2 (잔액 부족)
+        BatchTransferRequest request = new BatchTransferRequest(List.of(
+                new TransferRequest(1L, 2L, BigDecimal.valueOf(100000)),
+                new TransferRequest(1L, 99L, BigDecimal.valueOf(100000)),
+                new TransferRequest(1L, 2L, BigDecimal.valueOf(900000))));
+
+        when(accountService.getAccountsWithLockOrdered(anyCollection()))
+                .thenReturn(Map.of(1L, fromAccount, 2L, toAccount));
+        when(dailyLimitService.getTodayUsage(1L, TransactionType.TRANSFER_OUT)).thenReturn(BigDecimal.ZERO);
+        doCallRealMethod().when(accountValidator).validateBalance(any(), any(), anyString());
+
+        // [when]
+        BatchTransferResponse response = transferAppService.transferBatch(request);
+
+        // [then]
+        assertThat(response.totalCount()).isEqualTo(3);
+        assertThat(response.successCount()).isEqualTo(1);
+        assertThat(response.results().get(0).success()).isTrue();
+        assertThat(response.results().get(1).errorCode()).isEqualTo("ACCOUNT_NOT_FOUND");
+        assertThat(response.results().get(2).errorCode()).isEqualTo("INSUFFICIENT_BALANCE");
+
+        // 실패 건은 잔액을 변경하지 않음
+        assertThat(fromAccount.getBalance()).isEqualByComparingTo(BigDecimal.valueOf(899000));
+        assertThat(toAccount.getBalance()).isEqualByComparingTo(BigDecimal.valueOf(100000));
+
+        verify(accountService).getAccountsWithLockOrdered(Set.of(1L, 2L, 99L));
+        verify(dailyLimitService, times(1)).getTodayUsage(1L, TransactionType.TRANSFER_OUT);
+        verify(eventPublisher).publishEvent(argThat((Object event) -> event instanceof TransactionBatchEvent batch
+                && batch.events().size() == 2));
+    }
+
+    @Test
+    @DisplayName("일괄 이체 시 같은 출금 계좌의 누적 금액으로 이체 한도를 검증")
+    void transferBatch_AccumulatesLimitWithinBatch() {
+        // [given]
+        BatchTransferRequest request = new BatchTransferRequest(List.of(
+                new TransferRequest(1L, 2L, BigDecimal.valueOf(100000)),
+                new TransferRequest(1L, 2L, BigDecimal.valueOf(200000))));
+
+        when(accountService.getAccountsWithLockOrdered(anyCollection()))
+                .thenReturn(Map.of(1L, fromAccount, 2L, toAccount));
+        when(dailyLimitService.getTodayUsage(1L, TransactionType.TRANSFER_OUT))
+                .thenReturn(BigDecimal.valueOf(50000));
+
+        // [when]
+        transferAppService.transferBatch(request);
+
+        // [then]
+        verify(accountValidator).validateTransferLimit(Currency.KRW, BigDecimal.valueOf(150000));
+        verify(accountValidator).validateTransferLimit(Currency.KRW, BigDecimal.valueOf(350000));
+    }
 }
@@ -15,6 +15,7 @@ import barley.wire.wirebarley.domain.account.Currency;
 import barley.wire.wirebarley.domain.transaction.Transaction;
 import barley.wire.wirebarley.domain.transaction.TransactionType;
 import barley.wire.wirebarley.infrastructure.repository.TransactionRepository;
+import barley.wire.wirebarley.infrastructure.config.BalanceProperties;
 import barley.wire.wirebarley.infrastructure.service.AccountService;
 import barley.wire.wirebarley.presentation.dto.request.CreateGlobalAccountRequest;
 import barley.wire.wirebarley.presentation.dto.response.AccountResponse;
@@ -54,6 +55,9 @@ class GlobalAccountAppServiceTest {
     @Mock
     private ApplicationEventPublisher eventPublisher;
 
+    @Mock
+    private BalanceProperties balanceProperties;
+
     @InjectMocks
     private GlobalAccountAppService globalAccountAppService;
 
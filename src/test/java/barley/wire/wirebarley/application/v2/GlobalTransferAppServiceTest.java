@@ -6,16 +6,24 @@ import static org.mockito.ArgumentMatchers.*;
 import static org.mockito.Mockito.*;
 
 import barley.wire.wirebarley.application.v2.GlobalTransferAppService;
+import barley.wire.wirebarley.common.event.TransactionBatchEvent;
 import barley.wire.wirebarley.common.event.TransactionEvent;
 import barley.wire.wirebarley.common.exception.InsufficientBalanceException;
+import barley.wire.wirebarley.common.exception.InvalidQuoteException;
 import barley.wire.wirebarley.common.exception.LimitExceededException;
 import barley.wire.wirebarley.common.util.MoneyUtils;
+import barley.wire.wirebarley.common.util.TimeUtil;
 import barley.wire.wirebarley.common.validator.AccountValidator;
 import barley.wire.wirebarley.domain.account.Account;
 import barley.wire.wirebarley.domain.account.Currency;
+import barley.wire.wirebarley.domain.exchange.ExchangeQuote;
+import barley.wire.wirebarley.domain.transaction.TransactionType;
 import barley.wire.wirebarley.infrastructure.service.AccountService;
+import barley.wire.wirebarley.infrastructure.service.ExchangeQuoteService;
 import barley.wire.wirebarley.infrastructure.service.ExchangeRateService;
+import barley.wire.wirebarley.presentation.dto.request.GlobalTransferQuoteRequest;
 import barley.wire.wirebarley.presentation.dto.request.GlobalTransferRequest;
+import barley.wire.wirebarley.presentation.dto.response.GlobalTransferQuoteResponse;
 import barley.wire.wirebarley.presentation.dto.response.GlobalTransferResponse;
 
 import java.math.BigDecimal;
@@ -24,6 +32,8 @@ import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.InOrder;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
@@ -40,6 +50,9 @@ class GlobalTransferAppServiceTest {
     @Mock
     private ExchangeRateService exchangeRateService;
 
+    @Mock
+    private ExchangeQuoteService exchangeQuoteService;
+
     @Mock
     private AccountValidator accountValidator;
 
@@ -76,10 +89,6 @@ class GlobalTransferAppServiceTest {
 
         when(accountService.getAccountsWithLockOrdered(1L, 2L)).thenReturn(Pair.of(fromAccount, toAccount));
         when(exchangeRateService.getExchangeRate(Currency.KRW, Currency.USD)).thenReturn(exchangeRate);
-        // 실제 ExchangeRateService.convertAmount 로직을 시뮬레이션
-        when(exchangeRateService.convertAmount(any(BigDecimal.class), eq(Currency.KRW), eq(Currency.USD)))
-                .thenAnswer(invocation -> ((BigDecimal) invocation.getArgument(0))
-                        .multiply(exchangeRate));
 
         // [when]
         GlobalTransferResponse response = globalTransferAppService.globalTransfer(request);
@@ -111,7 +120,10 @@ class GlobalTransferAppServiceTest {
         assertThat(response.convertedAmount()).isEqualByComparingTo(expectedFinalConverted);
         assertThat(toAccount.getBalance()).isEqualByComparingTo(expectedFinalConverted);
 
-        verify(eventPublisher, times(2)).publishEvent(any(TransactionEvent.class));
+        ArgumentCaptor<TransactionBatchEvent> eventCaptor = ArgumentCaptor.forClass(TransactionBatchEvent.class);
+        verify(eventPublisher).publishEvent(eventCaptor.capture());
+        assertThat(eventCaptor.getValue().events()).extracting(TransactionEvent::type)
+                .containsExactly(TransactionType.TRANSFER_OUT, TransactionType.TRANSFER_IN);
     }
 
     @Test
@@ -133,15 +145,6 @@ class GlobalTransferAppServiceTest {
 
         when(accountService.getAccountsWithLockOrdered(1L, 2L)).thenReturn(Pair.of(fromAccount, toAccount));
         when(exchangeRateService.getExchangeRate(Currency.USD, Currency.KRW)).thenReturn(exchangeRate);
-        when(exchangeRateService.convertAmount(any(BigDecimal.class), any(Currency.class), any(Currency.class)))
-                .thenAnswer(invocation -> {
-                    BigDecimal a = invocation.getArgument(0);
-                    Currency from = invocation.getArgument(1);
-                    Currency to = invocation.getArgument(2);
-                    if (from == Currency.USD && to == Currency.KRW)
-                        return a.multiply(exchangeRate);
-                    return a;
-                });
 
         // [when]
         GlobalTransferResponse response = globalTransferAppService.globalTransfer(request);
@@ -184,8 +187,6 @@ class GlobalTransferAppServiceTest {
         when(accountService.getAccountsWithLockOrdered(1L, 3L)).thenReturn(Pair.of(fromAccount, toAccount));
         when(exchangeRateService.getExchangeRate(any(Currency.class), any(Currency.class)))
                 .thenReturn(exchangeRate);
-        when(exchangeRateService.convertAmount(any(BigDecimal.class), any(Currency.class), any(Currency.class)))
-                .thenAnswer(inv -> ((BigDecimal) inv.getArgument(0)).multiply(exchangeRate));
 
         // [when]
         GlobalTransferResponse response = globalTransferAppService.globalTransfer(request);
@@ -216,8 +217,6 @@ class GlobalTransferAppServiceTest {
 
         when(accountService.getAccountsWithLockOrdered(1L, 2L)).thenReturn(Pair.of(fromAccount, toAccount));
         when(exchangeRateService.getExchangeRate(Currency.KRW, Currency.KRW)).thenReturn(BigDecimal.ONE);
-        when(exchangeRateService.convertAmount(any(BigDecimal.class), any(Currency.class), any(Currency.class)))
-                .thenAnswer(i -> i.getArgument(0));
 
         // [when]
         GlobalTransferResponse response = globalTransferAppService.globalTransfer(request);
@@ -241,7 +240,6 @@ class GlobalTransferAppServiceTest {
 
         when(accountService.getAccountsWithLockOrdered(1L, 2L)).thenReturn(Pair.of(fromAccount, toAccount));
         when(exchangeRateService.getExchangeRate(any(), any())).thenReturn(BigDecimal.ONE);
-        when(exchangeRateService.convertAmount(any(), any(), any())).thenAnswer(i -> i.getArgument(0));
 
         doThrow(new InsufficientBalanceException("잔액이 부족합니다"))
                 .when(accountValidator).validateBalance(any(), any(), anyString());
@@ -300,18 +298,13 @@ class GlobalTransferAppServiceTest {
         when(accountService.getAccountsWithLockOrdered(1L, 2L)).thenReturn(Pair.of(fromAccount, toAccount));
         when(exchangeRateService.getExchangeRate(any(), any())).thenReturn(BigDecimal.ONE);
 
-        // 1. 송금액 환전 (USD -> USD)
-        // AppService에서 amount(2500)를 그대로 전달함
-        doReturn(amount).when(exchangeRateService).convertAmount(eq(amount), eq(Currency.USD),
-                eq(Currency.USD));
-
         // 3. 출금 한도 체크를 위한 KRW 환산 (수수료 포함)
         // 2500 USD + 1% fee(25.00) = 2525.00 USD
 
         // Validator에서 KRW로 환산된 금액이 아니라 전달된 원본 금액(2,500)으로 호출되는지 확인
         doThrow(new LimitExceededException("이체 한도 초과"))
                 .when(accountValidator)
-                .checkGlobalTransferLimit(eq(1L), eq(amount));
+                .checkGlobalTransferLimit(eq(fromAccount), eq(amount), isNull());
 
         // [when & then]
         assertThatThrownBy(() -> globalTransferAppService.globalTransfer(request))
@@ -339,13 +332,9 @@ class GlobalTransferAppServiceTest {
         when(accountService.getAccountsWithLockOrdered(1L, 2L)).thenReturn(Pair.of(fromAccount, toAccount));
         when(exchangeRateService.getExchangeRate(any(), any())).thenReturn(BigDecimal.ONE);
 
-        // 다양한 환산 케이스 stubbing
-        doReturn(amount).when(exchangeRateService).convertAmount(eq(amount), eq(Currency.USD),
-                eq(Currency.USD));
-
         // Validator에서 환산된 총 출금액이 아니라 전달된 원본 금액(707.00)으로 호출되는지 검증
         doThrow(new LimitExceededException("출금 한도 초과"))
-                .when(accountValidator).checkWithdrawLimit(eq(fromAccount), eq(totalWithdrawUSD));
+                .when(accountValidator).checkWithdrawLimit(eq(fromAccount), eq(totalWithdrawUSD), isNull());
 
         // [when & then]
         assertThatThrownBy(() -> globalTransferAppService.globalTransfer(request))
@@ -373,20 +362,89 @@ class GlobalTransferAppServiceTest {
 
         // EUR -> USD 환율 (한도와 무관하게 1.1 가정)
         when(exchangeRateService.getExchangeRate(Currency.EUR, Currency.USD)).thenReturn(new BigDecimal("1.1"));
-        doReturn(amount.multiply(new BigDecimal("1.1"))).when(exchangeRateService).convertAmount(amount,
-                Currency.EUR, Currency.USD);
 
         // 수수료 포함 출금액 환산 (2000 EUR + 1%(20.00) = 2020.00 EUR)
 
         // 300만 이체 한도 초과 시뮬레이션
         doThrow(new LimitExceededException("이체 한도 초과"))
-                .when(accountValidator).checkGlobalTransferLimit(eq(1L), eq(amount));
+                .when(accountValidator).checkGlobalTransferLimit(eq(fromAccount), eq(amount), isNull());
 
         // [when & then]
         assertThatThrownBy(() -> globalTransferAppService.globalTransfer(request))
                 .isInstanceOf(LimitExceededException.class);
 
         // Validator 호출 시 원본 EUR 금액(2000)이 사용되었는지 검증
-        verify(accountValidator).checkGlobalTransferLimit(eq(1L), eq(amount));
+        verify(accountValidator).checkGlobalTransferLimit(eq(fromAccount), eq(amount), isNull());
+    }
+
+    @Test
+    @DisplayName("환율 견적 생성 시 계좌 락 없이 조회한 계좌 통화로 견적을 만든다")
+    void quote_Success() {
+        // [given]
+        BigDecimal amount = BigDecimal.valueOf(100000);
+        ExchangeQuote quote = new ExchangeQuote(1L, 2L, Currency.KRW, Currency.USD, amount,
+                new BigDecimal("0.00075"), BigDecimal.ONE, TimeUtil.nowDateTime().plusSeconds(30));
+
+        when(accountService.getAccounts(1L, 2L)).thenReturn(Pair.of(fromAccount, toAccount));
+        when(exchangeQuoteService.createQuote(fromAccount, toAccount, amount)).thenReturn(quote);
+
+        // [when]
+        GlobalTransferQuoteResponse response = globalTransferAppService.quote(
+                new GlobalTransferQuoteRequest(1L, 2L, amount));
+
+        // [then]
+        assertThat(response.quoteId()).isEqualTo(quote.getId());
+        assertThat(response.transferFee()).isEqualByComparingTo("1000");
+        assertThat(response.depositAmount()).isEqualByComparingTo("74.62"); // 75.00 - 0.38
+        verify(accountService, never()).getAccountsWithLockOrdered(anyLong(), anyLong());
+    }
+
+    @Test
+    @DisplayName("견적 ID로 송금 시 락 획득 전에 견적을 사용 처리하고, 환율 조회 없이 견적 금액으로 송금한다")
+    void globalTransfer_Success_WithQuote() {
+        // [given]
+        BigDecimal amount = BigDecimal.valueOf(100000);
+        ExchangeQuote quote = new ExchangeQuote(1L, 2L, Currency.KRW, Currency.USD, amount,
+                new BigDecimal("0.00075"), BigDecimal.ONE, TimeUtil.nowDateTime().plusSeconds(30));
+        GlobalTransferRequest request = new GlobalTransferRequest(1L, 2L, amount, quote.getId());
+
+        when(exchangeQuoteService.useQuote(quote.getId(), 1L, 2L, amount)).thenReturn(quote);
+        when(accountService.getAccountsWithLockOrdered(1L, 2L)).thenReturn(Pair.of(fromAccount, toAccount));
+
+        // [when]
+        GlobalTransferResponse response = globalTransferAppService.globalTransfer(request);
+
+        // [then]
+        assertThat(response.exchangeRate()).isEqualByComparingTo("0.00075");
+        assertThat(response.convertedAmount()).isEqualByComparingTo(quote.getDepositAmount());
+        assertThat(response.fee()).isEqualByComparingTo(quote.getTransferFee());
+        assertThat(fromAccount.getBalance())
+                .isEqualByComparingTo(BigDecimal.valueOf(1000000).subtract(quote.getTotalWithdrawAmount()));
+        assertThat(toAccount.getBalance()).isEqualByComparingTo(quote.getDepositAmount());
+
+        InOrder inOrder = inOrder(exchangeQuoteService, accountService);
+        inOrder.verify(exchangeQuoteService).useQuote(quote.getId(), 1L, 2L, amount);
+        inOrder.verify(accountService).getAccountsWithLockOrdered(1L, 2L);
+        verify(accountValidator).checkGlobalTransferLimit(fromAccount, amount, quote.getKrwRate());
+        verify(accountValidator).checkWithdrawLimit(fromAccount, quote.getTotalWithdrawAmount(), quote.getKrwRate());
+        verify(exchangeRateService, never()).getExchangeRate(any(), any());
+    }
+
+    @Test
+    @DisplayName("견적 통화가 계좌 통화와 다르면 글로벌 송금 실패")
+    void globalTransfer_Fail_QuoteCurrencyMismatch() {
+        // [given]
+        BigDecimal amount = BigDecimal.valueOf(100000);
+        ExchangeQuote quote = new ExchangeQuote(1L, 2L, Currency.KRW, Currency.EUR, amount,
+                new BigDecimal("0.00068"), BigDecimal.ONE, TimeUtil.nowDateTime().plusSeconds(30));
+        GlobalTransferRequest request = new GlobalTransferRequest(1L, 2L, amount, quote.getId());
+
+        when(exchangeQuoteService.useQuote(quote.getId(), 1L, 2L, amount)).thenReturn(quote);
+        when(accountService.getAccountsWithLockOrdered(1L, 2L)).thenReturn(Pair.of(fromAccount, toAccount));
+
+        // [when & then]
+        assertThatThrownBy(() -> globalTransferAppService.globalTransfer(request))
+                .isInstanceOf(InvalidQuoteException.class);
+        assertThat(toAccount.getBalance()).isEqualByComparingTo(BigDecimal.ZERO);
     }
 }
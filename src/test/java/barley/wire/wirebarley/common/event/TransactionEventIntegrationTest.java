@@ -5,12 +5,17 @@ import static org.assertj.core.api.Assertions.assertThat;
 import barley.wire.wirebarley.IntegrationTestBase;
 import barley.wire.wirebarley.application.v1.AccountAppService;
 import barley.wire.wirebarley.application.v1.TransferAppService;
+import barley.wire.wirebarley.domain.account.Currency;
 import barley.wire.wirebarley.domain.transaction.Transaction;
+import barley.wire.wirebarley.domain.transaction.TransactionOutbox;
 import barley.wire.wirebarley.domain.transaction.TransactionType;
 import barley.wire.wirebarley.presentation.dto.request.CreateAccountRequest;
 import barley.wire.wirebarley.presentation.dto.request.TransferRequest;
 import barley.wire.wirebarley.presentation.dto.response.AccountResponse;
+import barley.wire.wirebarley.infrastructure.repository.TransactionOutboxRepository;
 import barley.wire.wirebarley.infrastructure.repository.TransactionRepository;
+import barley.wire.wirebarley.infrastructure.service.DailyLimitService;
+import barley.wire.wirebarley.common.util.TimeUtil;
 
 import java.math.BigDecimal;
 import java.util.List;
@@ -31,6 +36,12 @@ public class TransactionEventIntegrationTest extends IntegrationTestBase {
     @Autowired
     private TransactionRepository transactionRepository;
 
+    @Autowired
+    private TransactionOutboxRepository transactionOutboxRepository;
+
+    @Autowired
+    private DailyLimitService dailyLimitService;
+
     @Test
     @DisplayName("입금 및 출금 시 이벤트 발행을 통해 거래내역이 DB에 저장되는지 검증")
     void verifyTransactionEventPersistence_DepositAndWithdraw() {
@@ -116,4 +127,52 @@ public class TransactionEventIntegrationTest extends IntegrationTestBase {
         assertThat(receiverTx.getAmount()).isEqualByComparingTo(transferAmount);
         assertThat(receiverTx.getBalanceSnapshot()).isEqualByComparingTo(transferAmount);
     }
+
+    @Test
+    @DisplayName("출금/이체 거래 저장 시 일일 한도 누적치가 함께 갱신되고, 재계산 시 거래 내역과 일치하는지 검증")
+    void verifyDailyLimitUsageAccumulation() {
+        AccountResponse fromAccount = accountAppService
+                .createAccount(new CreateAccountRequest("LIMIT-SEND-001", "Sender"));
+        AccountResponse toAccount = accountAppService
+                .createAccount(new CreateAccountRequest("LIMIT-RECV-001", "Receiver"));
+
+        accountAppService.deposit(fromAccount.id(), BigDecimal.valueOf(500000));
+        accountAppService.withdraw(fromAccount.id(), BigDecimal.valueOf(10000));
+        accountAppService.withdraw(fromAccount.id(), BigDecimal.valueOf(20000));
+        transferAppService.transfer(new TransferRequest(fromAccount.id(), toAccount.id(), BigDecimal.valueOf(50000)));
+
+        // 입금/이체 입금은 한도 누적 대상이 아님
+        assertThat(dailyLimitService.getTodayUsage(fromAccount.id(), TransactionType.WITHDRAW))
+                .isEqualByComparingTo(BigDecimal.valueOf(30000));
+        assertThat(dailyLimitService.getTodayUsage(fromAccount.id(), TransactionType.TRANSFER_OUT))
+                .isEqualByComparingTo(BigDecimal.valueOf(50000));
+        assertThat(dailyLimitService.getTodayUsage(toAccount.id(), TransactionType.TRANSFER_OUT))
+                .isEqualByComparingTo(BigDecimal.ZERO);
+
+        // 재계산 후에도 동일한 누적치 유지
+        dailyLimitService.rebuild(TimeUtil.nowDate());
+
+        assertThat(dailyLimitService.getTodayUsage(fromAccount.id(), TransactionType.WITHDRAW))
+                .isEqualByComparingTo(BigDecimal.valueOf(30000));
+        assertThat(dailyLimitService.getTodayUsage(fromAccount.id(), TransactionType.TRANSFER_OUT))
+                .isEqualByComparingTo(BigDecimal.valueOf(50000));
+    }
+
+    @Test
+    @DisplayName("한도 재계산 시 아직 드레인되지 않은 아웃박스 거래도 합산하는지 검증")
+    void rebuildDailyLimitUsage_IncludesPendingOutbox() {
+        AccountResponse account = accountAppService
+                .createAccount(new CreateAccountRequest("LIMIT-OUTBOX-001", "Sender"));
+
+        accountAppService.deposit(account.id(), BigDecimal.valueOf(500000));
+        accountAppService.withdraw(account.id(), BigDecimal.valueOf(10000));
+        // OUTBOX 모드에서 커밋되었지만 드레이너가 아직 옮기지 않은 출금
+        transactionOutboxRepository.saveAndFlush(new TransactionOutbox(account.id(), TransactionType.WITHDRAW,
+                BigDecimal.valueOf(20000), BigDecimal.ZERO, BigDecimal.valueOf(470000), null, Currency.KRW));
+
+        dailyLimitService.rebuild(TimeUtil.nowDate());
+
+        assertThat(dailyLimitService.getTodayUsage(account.id(), TransactionType.WITHDRAW))
+                .isEqualByComparingTo(BigDecimal.valueOf(30000));
+    }
 }
@@ -1,19 +1,20 @@
 package barley.wire.wirebarley.common.validator;
 
+import static org.assertj.core.api.Assertions.assertThatCode;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
-import static org.mockito.ArgumentMatchers.any;
-import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.when;
 
+import barley.wire.wirebarley.common.exception.InvalidAmountException;
 import barley.wire.wirebarley.common.exception.LimitExceededException;
 import barley.wire.wirebarley.domain.account.Account;
 import barley.wire.wirebarley.domain.account.Currency;
+import barley.wire.wirebarley.domain.account.Money;
 import barley.wire.wirebarley.domain.transaction.TransactionType;
-import barley.wire.wirebarley.infrastructure.repository.TransactionRepository;
 import barley.wire.wirebarley.infrastructure.service.AccountService;
+import barley.wire.wirebarley.infrastructure.service.DailyLimitService;
 import barley.wire.wirebarley.infrastructure.service.ExchangeRateService;
 import java.math.BigDecimal;
-import java.time.LocalDateTime;
+import java.math.RoundingMode;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
@@ -27,7 +28,7 @@ import org.springframework.test.util.ReflectionTestUtils;
 class AccountValidatorTest {
 
     @Mock
-    private TransactionRepository transactionRepository;
+    private DailyLimitService dailyLimitService;
 
     @Mock
     private AccountService accountService;
@@ -53,8 +54,7 @@ class AccountValidatorTest {
     @Test
     @DisplayName("원화 계좌 출금 한도 초과 테스트 (100만원 초과)")
     void checkWithdrawLimit_KRW_Exceeded() {
-        when(transactionRepository.sumAmountByAccountIdAndTypeAndCreatedAtAfter(eq(1L),
-                eq(TransactionType.WITHDRAW), any(LocalDateTime.class)))
+        when(dailyLimitService.getTodayUsage(1L, TransactionType.WITHDRAW))
                 .thenReturn(new BigDecimal("500000"));
 
         assertThatThrownBy(() -> accountValidator.checkWithdrawLimit(krwAccount, new BigDecimal("500001")))
@@ -66,8 +66,7 @@ class AccountValidatorTest {
     @DisplayName("외화(USD) 계좌 출금 한도 초과 테스트 (환산 시 100만원 초과)")
     void checkWithdrawLimit_USD_Exceeded() {
         // 오늘 이미 200 USD 출금 (환율 1400 가정 시 28만원)
-        when(transactionRepository.sumAmountByAccountIdAndTypeAndCreatedAtAfter(eq(2L),
-                eq(TransactionType.WITHDRAW), any(LocalDateTime.class)))
+        when(dailyLimitService.getTodayUsage(2L, TransactionType.WITHDRAW))
                 .thenReturn(new BigDecimal("200"));
 
         // 현재 600 USD 추가 출금 시도 (총 800 USD = 112만원)
@@ -75,8 +74,8 @@ class AccountValidatorTest {
         BigDecimal totalUSD = new BigDecimal("800");
         BigDecimal totalKRW = new BigDecimal("1120000");
 
-        when(exchangeRateService.convertAmount(totalUSD, Currency.USD, Currency.KRW))
-                .thenReturn(totalKRW);
+        when(exchangeRateService.convertAmount(Money.of(totalUSD, Currency.USD), Currency.KRW, RoundingMode.UP))
+                .thenReturn(Money.of(totalKRW, Currency.KRW));
 
         assertThatThrownBy(() -> accountValidator.checkWithdrawLimit(usdAccount, amount))
                 .isInstanceOf(LimitExceededException.class)
@@ -87,8 +86,7 @@ class AccountValidatorTest {
     @DisplayName("원화 계좌 이체 한도 초과 테스트 (300만원 초과)")
     void checkTransferLimit_KRW_Exceeded() {
         when(accountService.getAccount(1L)).thenReturn(krwAccount);
-        when(transactionRepository.sumAmountByAccountIdAndTypeAndCreatedAtAfter(eq(1L),
-                eq(TransactionType.TRANSFER_OUT), any(LocalDateTime.class)))
+        when(dailyLimitService.getTodayUsage(1L, TransactionType.TRANSFER_OUT))
                 .thenReturn(new BigDecimal("2000000"));
 
         assertThatThrownBy(() -> accountValidator.checkTransferLimit(1L, new BigDecimal("1000001")))
@@ -101,8 +99,7 @@ class AccountValidatorTest {
     void checkTransferLimit_USD_Exceeded() {
         when(accountService.getAccount(2L)).thenReturn(usdAccount);
         // 오늘 이미 1500 USD 이체 (210만원)
-        when(transactionRepository.sumAmountByAccountIdAndTypeAndCreatedAtAfter(eq(2L),
-                eq(TransactionType.TRANSFER_OUT), any(LocalDateTime.class)))
+        when(dailyLimitService.getTodayUsage(2L, TransactionType.TRANSFER_OUT))
                 .thenReturn(new BigDecimal("1500"));
 
         // 추가로 1000 USD 이체 시도 (총 2500 USD = 350만원)
@@ -110,11 +107,31 @@ class AccountValidatorTest {
         BigDecimal totalUSD = new BigDecimal("2500");
         BigDecimal totalKRW = new BigDecimal("3500000");
 
-        when(exchangeRateService.convertAmount(totalUSD, Currency.USD, Currency.KRW))
-                .thenReturn(totalKRW);
+        when(exchangeRateService.convertAmount(Money.of(totalUSD, Currency.USD), Currency.KRW, RoundingMode.UP))
+                .thenReturn(Money.of(totalKRW, Currency.KRW));
 
         assertThatThrownBy(() -> accountValidator.checkTransferLimit(2L, amount))
                 .isInstanceOf(LimitExceededException.class)
                 .hasMessageContaining("일일 이체 한도를 초과했습니다 (한도: 300만원)");
     }
+
+    @Test
+    @DisplayName("통화 소수점 자릿수를 넘는 금액은 거부 (KRW 0.4원, USD 0.001달러)")
+    void validateCurrencyScale_SubMinorAmount() {
+        assertThatThrownBy(() -> accountValidator.validateCurrencyScale(new BigDecimal("1000.4"), Currency.KRW))
+                .isInstanceOf(InvalidAmountException.class)
+                .hasMessageContaining("KRW 금액은 소수점 0자리까지");
+        assertThatThrownBy(() -> accountValidator.validateCurrencyScale(new BigDecimal("10.001"), Currency.USD))
+                .isInstanceOf(InvalidAmountException.class)
+                .hasMessageContaining("USD 금액은 소수점 2자리까지");
+    }
+
+    @Test
+    @DisplayName("소수점 뒤가 0뿐이면 통화 자릿수를 넘어도 허용")
+    void validateCurrencyScale_TrailingZeros() {
+        assertThatCode(() -> accountValidator.validateCurrencyScale(new BigDecimal("1000.00"), Currency.KRW))
+                .doesNotThrowAnyException();
+        assertThatCode(() -> accountValidator.validateCurrencyScale(new BigDecimal("10.500"), Currency.USD))
+                .doesNotThrowAnyException();
+    }
 }
@@ -0,0 +1,107 @@
+package barley.wire.wirebarley.domain.account;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import barley.wire.wirebarley.common.constants.TransferConstants;
+import barley.wire.wirebarley.common.util.MoneyUtils;
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.CsvSource;
+
+class MoneyTest {
+
+    @ParameterizedTest
+    @CsvSource({ "100000, KRW", "12345, KRW", "1, KRW", "123.45, USD", "0.01, USD", "99999.99, EUR", "-100.01, USD" })
+    @DisplayName("이체 수수료는 MoneyUtils와 같은 결과를 낸다 (올림)")
+    void transferFee_MatchesMoneyUtils(String amount, Currency currency) {
+        // [given]
+        BigDecimal value = new BigDecimal(amount);
+
+        // [when]
+        Money fee = Money.of(value, currency).multiply(TransferConstants.TRANSFER_FEE, RoundingMode.UP);
+
+        // [then]
+        assertThat(fee.toBigDecimal()).isEqualTo(MoneyUtils.calculateTransferFee(value, currency));
+    }
+
+    @ParameterizedTest
+    @CsvSource({ "100000, KRW, USD, 0.00075", "1000, USD, KRW, 1333.333333", "12345, KRW, JPY, 0.1107",
+            "10.01, EUR, USD, 1.0857142857" })
+    @DisplayName("환전 금액은 MoneyUtils와 같은 결과를 낸다 (반올림)")
+    void convert_MatchesMoneyUtils(String amount, Currency from, Currency to, String rate) {
+        // [given]
+        BigDecimal value = new BigDecimal(amount);
+        BigDecimal exchangeRate = new BigDecimal(rate);
+
+        // [when]
+        Money converted = Money.of(value, from).convert(Money.Rate.of(exchangeRate), to, RoundingMode.HALF_UP);
+
+        // [then]
+        assertThat(converted.toBigDecimal()).isEqualTo(MoneyUtils.scale(value.multiply(exchangeRate), to));
+    }
+
+    @Test
+    @DisplayName("통화 소수점 자릿수를 넘는 금액은 반올림하여 최소 단위로 변환한다")
+    void of_RoundsToCurrencyScale() {
+        assertThat(Money.of(new BigDecimal("10.005"), Currency.USD).minorUnits()).isEqualTo(1001L);
+        assertThat(Money.of(new BigDecimal("-10.005"), Currency.USD).minorUnits()).isEqualTo(-1001L);
+        assertThat(Money.of(new BigDecimal("1000.4"), Currency.KRW).minorUnits()).isEqualTo(1000L);
+    }
+
+    @Test
+    @DisplayName("음수 금액의 올림은 0에서 멀어지는 방향으로 처리한다")
+    void multiply_NegativeRoundsAwayFromZero() {
+        // [given]
+        Money refund = Money.ofMinor(-101L, Currency.USD);
+
+        // [when]
+        Money fee = refund.multiply(TransferConstants.TRANSFER_FEE, RoundingMode.UP);
+
+        // [then]
+        assertThat(fee.minorUnits()).isEqualTo(-2L);
+    }
+
+    @Test
+    @DisplayName("long 범위를 넘는 중간 곱셈은 BigDecimal로 계산하여 정확한 결과를 낸다")
+    void scaleProduct_FallsBackOnOverflow() {
+        // [given]
+        long value = Long.MAX_VALUE / 10;
+
+        // [when]
+        long result = Money.scaleProduct(value, 1_000L, 3, RoundingMode.UP);
+
+        // [then]
+        assertThat(result).isEqualTo(value);
+    }
+
+    @Test
+    @DisplayName("덧셈 결과가 long 범위를 넘으면 예외가 발생한다")
+    void add_Fail_Overflow() {
+        Money max = Money.ofMinor(Long.MAX_VALUE, Currency.KRW);
+
+        assertThatThrownBy(() -> max.add(Money.ofMinor(1L, Currency.KRW)))
+                .isInstanceOf(ArithmeticException.class);
+    }
+
+    @Test
+    @DisplayName("통화가 다른 금액끼리는 연산할 수 없다")
+    void add_Fail_CurrencyMismatch() {
+        Money krw = Money.ofMinor(1000L, Currency.KRW);
+
+        assertThatThrownBy(() -> krw.add(Money.ofMinor(1000L, Currency.USD)))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    @Test
+    @DisplayName("배율은 불필요한 0을 제거하고, 18자리를 넘는 정밀도는 반올림한다")
+    void rate_Normalizes() {
+        assertThat(Money.Rate.of(new BigDecimal("0.0100"))).isEqualTo(new Money.Rate(1L, 2));
+        assertThat(Money.Rate.of(new BigDecimal("1300"))).isEqualTo(new Money.Rate(1300L, 0));
+        assertThat(Money.Rate.of(new BigDecimal("1.23456789012345678901")))
+                .isEqualTo(new Money.Rate(123456789012345679L, 17));
+    }
+}
@@ -0,0 +1,99 @@
+package barley.wire.wirebarley.infrastructure.aop;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.Mockito.*;
+
+import barley.wire.wirebarley.infrastructure.config.BalanceProperties;
+import barley.wire.wirebarley.infrastructure.config.BalanceProperties.Mode;
+import barley.wire.wirebarley.infrastructure.config.BalanceProperties.Retry;
+import barley.wire.wirebarley.infrastructure.config.BalanceProperties.Striping;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.time.Duration;
+import org.aspectj.lang.ProceedingJoinPoint;
+import org.aspectj.lang.Signature;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.orm.ObjectOptimisticLockingFailureException;
+
+@ExtendWith(MockitoExtension.class)
+class OptimisticRetryAspectTest {
+
+    @Mock
+    private ProceedingJoinPoint joinPoint;
+
+    @Mock
+    private Signature signature;
+
+    @Mock
+    private OptimisticRetry optimisticRetry;
+
+    private SimpleMeterRegistry meterRegistry;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+    }
+
+    private OptimisticRetryAspect aspect(Mode mode) {
+        BalanceProperties properties = new BalanceProperties(mode,
+                new Retry(3, Duration.ofMillis(1), Duration.ofMillis(2)), new Striping(false));
+        return new OptimisticRetryAspect(properties, meterRegistry);
+    }
+
+    @Test
+    @DisplayName("버전 충돌 발생 시 재시도하여 성공하고 충돌/재시도 횟수를 기록한다")
+    void retryOnConflict_SucceedsAfterRetry() throws Throwable {
+        // [given]
+        when(joinPoint.getSignature()).thenReturn(signature);
+        when(signature.toShortString()).thenReturn("AccountAppService.withdraw(..)");
+        when(joinPoint.proceed())
+                .thenThrow(new ObjectOptimisticLockingFailureException("Account", 1L))
+                .thenReturn("ok");
+
+        // [when]
+        Object result = aspect(Mode.OPTIMISTIC).retryOnConflict(joinPoint, optimisticRetry);
+
+        // [then]
+        assertThat(result).isEqualTo("ok");
+        verify(joinPoint, times(2)).proceed();
+        assertThat(meterRegistry.counter("wirebarley.balance.optimistic.conflicts", "method",
+                "AccountAppService.withdraw(..)").count()).isEqualTo(1);
+        assertThat(meterRegistry.counter("wirebarley.balance.optimistic.retries", "method",
+                "AccountAppService.withdraw(..)").count()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("최대 시도 횟수를 초과하면 마지막 충돌 예외를 그대로 던진다")
+    void retryOnConflict_ExhaustedThrows() throws Throwable {
+        // [given]
+        when(joinPoint.getSignature()).thenReturn(signature);
+        when(signature.toShortString()).thenReturn("TransferAppService.transfer(..)");
+        when(joinPoint.proceed()).thenThrow(new ObjectOptimisticLockingFailureException("Account", 1L));
+
+        // [when & then]
+        assertThatThrownBy(() -> aspect(Mode.OPTIMISTIC).retryOnConflict(joinPoint, optimisticRetry))
+                .isInstanceOf(ObjectOptimisticLockingFailureException.class);
+
+        verify(joinPoint, times(3)).proceed();
+        assertThat(meterRegistry.counter("wirebarley.balance.optimistic.exhausted", "method",
+                "TransferAppService.transfer(..)").count()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("OPTIMISTIC 모드가 아니면 재시도 없이 그대로 실행한다")
+    void retryOnConflict_PessimisticModeBypasses() throws Throwable {
+        // [given]
+        when(joinPoint.proceed()).thenThrow(new ObjectOptimisticLockingFailureException("Account", 1L));
+
+        // [when & then]
+        assertThatThrownBy(() -> aspect(Mode.PESSIMISTIC).retryOnConflict(joinPoint, optimisticRetry))
+                .isInstanceOf(ObjectOptimisticLockingFailureException.class);
+
+        verify(joinPoint, times(1)).proceed();
+    }
+}
@@ -0,0 +1,234 @@
+package barley.wire.wirebarley.infrastructure.client;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import barley.wire.wirebarley.domain.account.Currency;
+import barley.wire.wirebarley.infrastructure.config.ExchangeRateProperties;
+import barley.wire.wirebarley.presentation.dto.response.ExchangeRateApiResponse;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.sun.net.httpserver.HttpServer;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.math.BigDecimal;
+import java.net.InetSocketAddress;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.SynchronousQueue;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+class ExchangeRateFetcherTest {
+
+    private static final ObjectMapper OBJECT_MAPPER = new ObjectMapper();
+
+    private final HttpClient httpClient = HttpClient.newHttpClient();
+    private final List<HttpServer> servers = new ArrayList<>();
+    private ExecutorService executor;
+    private SimpleMeterRegistry meterRegistry;
+
+    @BeforeEach
+    void setUp() {
+        executor = Executors.newCachedThreadPool();
+        meterRegistry = new SimpleMeterRegistry();
+    }
+
+    @AfterEach
+    void tearDown() {
+        servers.forEach(server -> server.stop(0));
+        executor.shutdownNow();
+    }
+
+    @Test
+    @DisplayName("우선 API 응답이 늦으면 hedge 대기 후 보조 API에 요청하여 먼저 도착한 응답을 사용한다")
+    void fetchRates_HedgesSlowPrimary() {
+        // [given]
+        StubProvider primary = startProvider(Duration.ofSeconds(1), 200, "0.00070");
+        StubProvider fallback = startProvider(Duration.ZERO, 200, "0.00075");
+        ExchangeRateFetcher fetcher = createFetcher(primary, fallback, Duration.ofSeconds(2),
+                Duration.ofMillis(100), 5);
+
+        // [when]
+        long startedAt = System.nanoTime();
+        Map<Currency, BigDecimal> rates = fetcher.fetchRates(Currency.KRW);
+        Duration elapsed = Duration.ofNanos(System.nanoTime() - startedAt);
+
+        // [then]
+        assertThat(rates.get(Currency.USD)).isEqualByComparingTo("0.00075");
+        assertThat(elapsed).isLessThan(Duration.ofMillis(800));
+        assertThat(fallback.hits()).isEqualTo(1);
+        assertThat(meterRegistry.get("wirebarley.exchange-rate.provider.latency")
+                .tag("provider", "ExchangeRateFallbackClient").timer().count()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("연속 실패가 기준 횟수에 도달한 API는 차단되어 호출하지 않고 보조 API를 사용한다")
+    void fetchRates_SkipsOpenCircuit() {
+        // [given]
+        StubProvider primary = startProvider(Duration.ZERO, 500, null);
+        StubProvider fallback = startProvider(Duration.ZERO, 200, "0.00075");
+        ExchangeRateFetcher fetcher = createFetcher(primary, fallback, Duration.ofSeconds(2),
+                Duration.ofMillis(300), 2);
+
+        // [when]
+        for (int i = 0; i < 3; i++) {
+            assertThat(fetcher.fetchRates(Currency.KRW).get(Currency.USD)).isEqualByComparingTo("0.00075");
+        }
+
+        // [then]
+        assertThat(primary.hits()).isEqualTo(2);
+        assertThat(fallback.hits()).isEqualTo(3);
+        assertThat(meterRegistry.get("wirebarley.exchange-rate.provider.skipped")
+                .tag("provider", "ExchangeRateClient").counter().count()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("모든 API가 제한 시간 안에 응답하지 않으면 기다리지 않고 빈 결과를 반환한다")
+    void fetchRates_DeadlineExceeded() {
+        // [given]
+        StubProvider primary = startProvider(Duration.ofSeconds(1), 200, "0.00070");
+        StubProvider fallback = startProvider(Duration.ofSeconds(1), 200, "0.00075");
+        ExchangeRateFetcher fetcher = createFetcher(primary, fallback, Duration.ofMillis(300),
+                Duration.ofMillis(50), 5);
+
+        // [when]
+        long startedAt = System.nanoTime();
+        Map<Currency, BigDecimal> rates = fetcher.fetchRates(Currency.KRW);
+        Duration elapsed = Duration.ofNanos(System.nanoTime() - startedAt);
+
+        // [then]
+        assertThat(rates).isEmpty();
+        assertThat(elapsed).isLessThan(Duration.ofMillis(900));
+        assertThat(meterRegistry.get("wirebarley.exchange-rate.provider.deadline-exceeded").counter().count())
+                .isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("조회 스레드 풀이 가득 차 호출이 거부되면 API 실패로 처리하고 기다리지 않고 빈 결과를 반환한다")
+    void fetchRates_ExecutorSaturated() {
+        // [given]
+        StubProvider primary = startProvider(Duration.ZERO, 200, "0.00070");
+        StubProvider fallback = startProvider(Duration.ZERO, 200, "0.00075");
+        ThreadPoolExecutor saturated = new ThreadPoolExecutor(1, 1, 0, TimeUnit.MILLISECONDS,
+                new SynchronousQueue<>());
+        CountDownLatch release = new CountDownLatch(1);
+        saturated.execute(() -> {
+            try {
+                release.await();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        });
+        ExchangeRateFetcher fetcher = createFetcher(primary, fallback, Duration.ofSeconds(2),
+                Duration.ofMillis(100), 1, saturated);
+
+        try {
+            // [when]
+            long startedAt = System.nanoTime();
+            Map<Currency, BigDecimal> rates = fetcher.fetchRates(Currency.KRW);
+            Duration elapsed = Duration.ofNanos(System.nanoTime() - startedAt);
+            fetcher.fetchRates(Currency.KRW);
+
+            // [then]
+            assertThat(rates).isEmpty();
+            assertThat(elapsed).isLessThan(Duration.ofMillis(500));
+            assertThat(primary.hits()).isZero();
+            assertThat(fallback.hits()).isZero();
+            assertThat(meterRegistry.get("wirebarley.exchange-rate.provider.rejected")
+                    .tag("provider", "ExchangeRateClient").counter().count()).isEqualTo(1);
+            assertThat(meterRegistry.get("wirebarley.exchange-rate.provider.skipped")
+                    .tag("provider", "ExchangeRateClient").counter().count()).isEqualTo(1);
+        } finally {
+            release.countDown();
+            saturated.shutdownNow();
+        }
+    }
+
+    private ExchangeRateFetcher createFetcher(StubProvider primary, StubProvider fallback, Duration deadline,
+            Duration hedgeDelay, int failureThreshold) {
+        return createFetcher(primary, fallback, deadline, hedgeDelay, failureThreshold, executor);
+    }
+
+    private ExchangeRateFetcher createFetcher(StubProvider primary, StubProvider fallback, Duration deadline,
+            Duration hedgeDelay, int failureThreshold, Executor fetchExecutor) {
+        ExchangeRateProperties properties = new ExchangeRateProperties(
+                new ExchangeRateProperties.Refresh(false, Duration.ofMinutes(10), Duration.ofMinutes(30)),
+                Duration.ofSeconds(3),
+                new ExchangeRateProperties.Provider(deadline, hedgeDelay,
+                        new ExchangeRateProperties.CircuitBreaker(true, failureThreshold, Duration.ofMinutes(1))),
+                new ExchangeRateProperties.Quote(Duration.ofSeconds(30), 100));
+
+        ExchangeRateClient primaryClient = baseCurrency -> get(primary, baseCurrency);
+        ExchangeRateFallbackClient fallbackClient = baseCurrency -> get(fallback, baseCurrency);
+        return new ExchangeRateFetcher(List.of(primaryClient, fallbackClient), properties, meterRegistry,
+                fetchExecutor);
+    }
+
+    private ExchangeRateApiResponse get(StubProvider provider, String baseCurrency) {
+        HttpRequest request = HttpRequest.newBuilder(provider.uri().resolve("/" + baseCurrency)).GET().build();
+        try {
+            HttpResponse<String> response = httpClient.send(request, HttpResponse.BodyHandlers.ofString());
+            if (response.statusCode() != 200) {
+                throw new IllegalStateException("status " + response.statusCode());
+            }
+            return OBJECT_MAPPER.readValue(response.body(), ExchangeRateApiResponse.class);
+        } catch (IOException e) {
+            throw new IllegalStateException(e);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException(e);
+        }
+    }
+
+    // 지연 시간과 응답 코드를 지정할 수 있는 로컬 환율 API 스텁
+    private StubProvider startProvider(Duration delay, int status, String usdRate) {
+        try {
+            HttpServer server = HttpServer.create(new InetSocketAddress("127.0.0.1", 0), 0);
+            AtomicInteger hits = new AtomicInteger();
+            server.createContext("/", exchange -> {
+                hits.incrementAndGet();
+                try {
+                    Thread.sleep(delay.toMillis());
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+                byte[] body = usdRate == null
+                        ? new byte[0]
+                        : ("{\"base\":\"KRW\",\"rates\":{\"USD\":" + usdRate + "}}").getBytes(StandardCharsets.UTF_8);
+                exchange.sendResponseHeaders(status, body.length == 0 ? -1 : body.length);
+                try (OutputStream out = exchange.getResponseBody()) {
+                    out.write(body);
+                }
+            });
+            server.setExecutor(executor);
+            server.start();
+            servers.add(server);
+            return new StubProvider(URI.create("http://127.0.0.1:" + server.getAddress().getPort()), hits);
+        } catch (IOException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    private record StubProvider(URI uri, AtomicInteger counter) {
+
+        int hits() {
+            return counter.get();
+        }
+    }
+}
@@ -0,0 +1,85 @@
+package barley.wire.wirebarley.infrastructure.config;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.*;
+
+import barley.wire.wirebarley.common.exception.ExchangeRateUnavailableException;
+import barley.wire.wirebarley.domain.account.Currency;
+import barley.wire.wirebarley.infrastructure.service.ExchangeRateLoader;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.LoadingCache;
+import com.github.benmanes.caffeine.cache.Ticker;
+import java.math.BigDecimal;
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicLong;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.beans.factory.ObjectProvider;
+
+@ExtendWith(MockitoExtension.class)
+class CacheConfigTest {
+
+    private static final Duration REFRESH_AFTER = Duration.ofMinutes(10);
+
+    @Mock
+    private ExchangeRateLoader exchangeRateLoader;
+
+    @Mock
+    private ObjectProvider<ExchangeRateLoader> exchangeRateLoaderProvider;
+
+    private final AtomicLong nanos = new AtomicLong();
+
+    private LoadingCache<Object, Object> cache;
+
+    @BeforeEach
+    void setUp() {
+        when(exchangeRateLoaderProvider.getObject()).thenReturn(exchangeRateLoader);
+        // 갱신을 호출 스레드에서 바로 실행하고 시간을 직접 제어
+        cache = Caffeine.newBuilder()
+                .refreshAfterWrite(REFRESH_AFTER)
+                .expireAfterWrite(Duration.ofHours(1))
+                .executor(Runnable::run)
+                .ticker((Ticker) nanos::get)
+                .build(new CacheConfig().exchangeRateCacheLoader(exchangeRateLoaderProvider));
+    }
+
+    @Test
+    @DisplayName("갱신 주기가 지나면 기존 값을 응답하고 외부 API에서 새 환율로 갱신한다")
+    void refreshAhead() {
+        // [given]
+        when(exchangeRateLoader.fetchRate(Currency.KRW, Currency.USD)).thenReturn(new BigDecimal("0.000686"));
+        when(exchangeRateLoader.refreshRate(Currency.KRW, Currency.USD)).thenReturn(new BigDecimal("0.000700"));
+        cache.get("KRW_USD");
+        nanos.addAndGet(REFRESH_AFTER.plusSeconds(1).toNanos());
+
+        // [when]
+        Object served = cache.get("KRW_USD");
+
+        // [then]
+        assertThat((BigDecimal) served).isEqualByComparingTo("0.000686");
+        assertThat((BigDecimal) cache.get("KRW_USD")).isEqualByComparingTo("0.000700");
+    }
+
+    @Test
+    @DisplayName("갱신이 실패하면 만료 전까지 기존 환율로 계속 응답한다")
+    void staleWhileRevalidate() {
+        // [given]
+        when(exchangeRateLoader.fetchRate(Currency.KRW, Currency.USD)).thenReturn(new BigDecimal("0.000686"));
+        when(exchangeRateLoader.refreshRate(Currency.KRW, Currency.USD))
+                .thenThrow(new ExchangeRateUnavailableException("환율 갱신 실패: KRW_USD"));
+        cache.get("KRW_USD");
+        nanos.addAndGet(REFRESH_AFTER.plusSeconds(1).toNanos());
+
+        // [when]
+        cache.get("KRW_USD");
+        Object served = cache.get("KRW_USD");
+
+        // [then]
+        assertThat((BigDecimal) served).isEqualByComparingTo("0.000686");
+        verify(exchangeRateLoader, times(1)).fetchRate(Currency.KRW, Currency.USD);
+    }
+}
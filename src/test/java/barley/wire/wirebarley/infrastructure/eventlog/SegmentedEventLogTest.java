@@ -0,0 +1,109 @@
+package barley.wire.wirebarley.infrastructure.eventlog;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.stream.Stream;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+class SegmentedEventLogTest {
+
+    private static final int SEGMENT_SIZE = 64;
+
+    @TempDir
+    private Path directory;
+
+    @Test
+    @DisplayName("완료 처리하지 않은 항목은 다시 열 때 순번 순으로 전달된다")
+    void reopen_ReplaysUnacknowledgedEntries() throws Exception {
+        // [given]
+        try (SegmentedEventLog eventLog = SegmentedEventLog.open(directory, SEGMENT_SIZE)) {
+            eventLog.append(bytes("first"));
+            eventLog.append(bytes("second"));
+        }
+
+        // [when]
+        List<String> replayed = new ArrayList<>();
+        try (SegmentedEventLog eventLog = SegmentedEventLog.open(directory, SEGMENT_SIZE)) {
+            eventLog.replay((payload, sequence) -> replayed.add(sequence + ":" + text(payload)));
+        }
+
+        // [then]
+        assertThat(replayed).containsExactly("0:first", "1:second");
+    }
+
+    @Test
+    @DisplayName("기록 중 종료되어 잘린 마지막 항목은 버리고 이전 항목까지 복구한다")
+    void reopen_TruncatesTornTail() throws Exception {
+        // [given]
+        try (SegmentedEventLog eventLog = SegmentedEventLog.open(directory, SEGMENT_SIZE)) {
+            eventLog.append(bytes("complete"));
+        }
+        Path segment = segmentFiles().get(0);
+        long validSize = Files.size(segment);
+        Files.write(segment, new byte[] {0, 0, 0, 20, 1, 2, 3}, StandardOpenOption.APPEND);
+
+        // [when]
+        List<String> replayed = new ArrayList<>();
+        try (SegmentedEventLog eventLog = SegmentedEventLog.open(directory, SEGMENT_SIZE)) {
+            eventLog.replay((payload, sequence) -> replayed.add(text(payload)));
+        }
+
+        // [then]
+        assertThat(replayed).containsExactly("complete");
+        assertThat(Files.size(segment)).isEqualTo(validSize);
+    }
+
+    @Test
+    @DisplayName("동시에 추가한 항목은 모두 서로 다른 순번을 받고, 모든 항목이 완료된 이전 세그먼트는 삭제된다")
+    void acknowledge_DeletesCompletedSegments() throws Exception {
+        // [given]
+        List<Long> sequences = new ArrayList<>();
+        try (SegmentedEventLog eventLog = SegmentedEventLog.open(directory, SEGMENT_SIZE)) {
+            ExecutorService executor = Executors.newFixedThreadPool(4);
+            List<Future<Long>> appends = new ArrayList<>();
+            for (int i = 0; i < 20; i++) {
+                byte[] payload = bytes("event-" + i);
+                appends.add(executor.submit(() -> eventLog.append(payload)));
+            }
+            for (Future<Long> append : appends) {
+                sequences.add(append.get());
+            }
+            executor.shutdown();
+            int segmentsBeforeAck = eventLog.segmentCount();
+
+            // [when]
+            sequences.forEach(eventLog::acknowledge);
+
+            // [then]
+            assertThat(sequences).doesNotHaveDuplicates().hasSize(20);
+            assertThat(segmentsBeforeAck).isGreaterThan(1);
+            assertThat(eventLog.segmentCount()).isEqualTo(1);
+            assertThat(segmentFiles()).hasSize(1);
+        }
+    }
+
+    private List<Path> segmentFiles() throws Exception {
+        try (Stream<Path> files = Files.list(directory)) {
+            return files.sorted().toList();
+        }
+    }
+
+    private static byte[] bytes(String text) {
+        return text.getBytes(StandardCharsets.UTF_8);
+    }
+
+    private static String text(byte[] payload) {
+        return new String(payload, StandardCharsets.UTF_8);
+    }
+}
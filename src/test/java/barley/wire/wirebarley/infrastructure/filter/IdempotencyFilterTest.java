@@ -0,0 +1,300 @@
+package barley.wire.wirebarley.infrastructure.filter;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.ArgumentMatchers.isNull;
+import static org.mockito.Mockito.*;
+
+import barley.wire.wirebarley.common.event.IdempotencyRecordedEvent;
+import barley.wire.wirebarley.common.exception.DuplicateIdempotencyKeyException;
+import barley.wire.wirebarley.common.exception.IdempotencyInProgressException;
+import barley.wire.wirebarley.common.util.TimeUtil;
+import barley.wire.wirebarley.domain.idempotency.IdempotencyRecord;
+import barley.wire.wirebarley.domain.idempotency.IdempotencyResponse;
+import barley.wire.wirebarley.infrastructure.service.IdempotencyService;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.http.HttpServletResponse;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.zip.GZIPOutputStream;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.web.servlet.HandlerExceptionResolver;
+
+@ExtendWith(MockitoExtension.class)
+class IdempotencyFilterTest {
+
+    private static final String KEY = "550e8400-e29b-41d4-a716-446655440000";
+    private static final String PATH = "/api/v1/transfers";
+    private static final String HASH = "hash";
+    private static final String BODY = "{\"fromBalance\":899000}";
+
+    @Mock
+    private IdempotencyService idempotencyService;
+
+    @Mock
+    private ApplicationEventPublisher eventPublisher;
+
+    @Mock
+    private HandlerExceptionResolver exceptionResolver;
+
+    private IdempotencyFilter filter;
+    private MockHttpServletRequest request;
+    private MockHttpServletResponse response;
+    private AtomicInteger executions;
+
+    @BeforeEach
+    void setUp() {
+        filter = new IdempotencyFilter(idempotencyService, eventPublisher, exceptionResolver);
+        request = new MockHttpServletRequest("POST", PATH);
+        request.addHeader("Idempotency-Key", KEY);
+        request.setAttribute(IdempotencyFingerprintFilter.FINGERPRINT_ATTRIBUTE, HASH);
+        response = new MockHttpServletResponse();
+        executions = new AtomicInteger();
+    }
+
+    @Test
+    @DisplayName("최초 요청은 키를 선점한 뒤 실행하고, 상태 코드·헤더·압축된 본문을 기록 이벤트로 발행한다")
+    void doFilter_FirstRequest_RecordsResponse() throws Exception {
+        // [given]
+        when(idempotencyService.findByKey(KEY)).thenReturn(Optional.empty());
+        when(idempotencyService.tryReserve(KEY, PATH, HASH)).thenReturn(true);
+        when(idempotencyService.compress(any())).thenReturn(new byte[] { 1, 2, 3 });
+
+        // [when]
+        filter.doFilter(request, response, handler(200, BODY));
+
+        // [then]
+        ArgumentCaptor<IdempotencyRecordedEvent> event = ArgumentCaptor.forClass(IdempotencyRecordedEvent.class);
+        verify(eventPublisher).publishEvent(event.capture());
+        verify(idempotencyService).compress(BODY.getBytes(StandardCharsets.UTF_8));
+        assertThat(event.getValue().requestBodyHash()).isEqualTo(HASH);
+        assertThat(event.getValue().response().status()).isEqualTo(200);
+        assertThat(event.getValue().response().contentType()).isEqualTo("application/json");
+        assertThat(event.getValue().response().headers()).isEqualTo("X-Request-Id: abc\n");
+        assertThat(response.getContentAsString()).isEqualTo(BODY);
+        assertThat(executions).hasValue(1);
+        verify(idempotencyService, never()).release(any());
+    }
+
+    @Test
+    @DisplayName("중복 요청은 실행하지 않고 저장된 상태 코드·헤더·본문을 그대로 응답한다")
+    void doFilter_Duplicate_ReplaysStoredResponse() throws Exception {
+        // [given]
+        when(idempotencyService.findByKey(KEY)).thenReturn(Optional.of(completed(HASH)));
+
+        // [when]
+        filter.doFilter(request, response, handler(200, BODY));
+
+        // [then]
+        assertThat(executions).hasValue(0);
+        assertThat(response.getStatus()).isEqualTo(200);
+        assertThat(response.getContentAsString()).isEqualTo(BODY);
+        assertThat(response.getContentType()).isEqualTo("application/json");
+        assertThat(response.getHeader("X-Request-Id")).isEqualTo("abc");
+        assertThat(response.getHeader(IdempotencyFilter.REPLAYED_HEADER)).isEqualTo("true");
+        assertThat(response.getHeader("Vary")).isEqualTo("Accept-Encoding");
+        verify(idempotencyService, never()).tryReserve(any(), any(), any());
+    }
+
+    @Test
+    @DisplayName("gzip을 받는 클라이언트에는 저장된 압축 바이트를 그대로 응답한다")
+    void doFilter_Duplicate_GzipPassthrough() throws Exception {
+        // [given]
+        IdempotencyRecord record = completed(HASH);
+        when(idempotencyService.findByKey(KEY)).thenReturn(Optional.of(record));
+        request.addHeader("Accept-Encoding", "gzip, deflate");
+
+        // [when]
+        filter.doFilter(request, response, handler(200, BODY));
+
+        // [then]
+        assertThat(response.getHeader("Content-Encoding")).isEqualTo("gzip");
+        assertThat(response.getHeader("Vary")).isEqualTo("Accept-Encoding");
+        assertThat(response.getContentAsByteArray()).isEqualTo(record.getResponsePayload());
+    }
+
+    @Test
+    @DisplayName("gzip을 q=0으로 거부한 클라이언트에는 압축을 풀어 응답한다")
+    void doFilter_Duplicate_GzipRejectedByQuality() throws Exception {
+        // [given]
+        when(idempotencyService.findByKey(KEY)).thenReturn(Optional.of(completed(HASH)));
+        request.addHeader("Accept-Encoding", "gzip;q=0, identity");
+
+        // [when]
+        filter.doFilter(request, response, handler(200, BODY));
+
+        // [then]
+        assertThat(response.getHeader("Content-Encoding")).isNull();
+        assertThat(response.getHeader("Vary")).isEqualTo("Accept-Encoding");
+        assertThat(response.getContentAsString()).isEqualTo(BODY);
+    }
+
+    @Test
+    @DisplayName("Accept-Encoding의 gzip 수락 여부는 q 값과 * 항목으로 판단한다")
+    void acceptsGzip_Quality() {
+        assertThat(IdempotencyFilter.acceptsGzip("gzip, deflate")).isTrue();
+        assertThat(IdempotencyFilter.acceptsGzip("deflate, gzip;q=0.5")).isTrue();
+        assertThat(IdempotencyFilter.acceptsGzip("GZIP; Q=1.0")).isTrue();
+        assertThat(IdempotencyFilter.acceptsGzip("*")).isTrue();
+        assertThat(IdempotencyFilter.acceptsGzip("gzip;q=0")).isFalse();
+        assertThat(IdempotencyFilter.acceptsGzip("gzip;q=0.000, *")).isFalse();
+        assertThat(IdempotencyFilter.acceptsGzip("*;q=0")).isFalse();
+        assertThat(IdempotencyFilter.acceptsGzip("deflate, br")).isFalse();
+        assertThat(IdempotencyFilter.acceptsGzip(null)).isFalse();
+    }
+
+    @Test
+    @DisplayName("같은 키로 다른 본문이 전달되면 실행하지 않고 DuplicateIdempotencyKeyException으로 응답한다")
+    void doFilter_HashMismatch_Conflict() throws Exception {
+        // [given]
+        when(idempotencyService.findByKey(KEY)).thenReturn(Optional.of(completed("different_hash")));
+
+        // [when]
+        filter.doFilter(request, response, handler(200, BODY));
+
+        // [then]
+        assertThat(executions).hasValue(0);
+        verify(exceptionResolver).resolveException(eq(request), eq(response), isNull(),
+                any(DuplicateIdempotencyKeyException.class));
+    }
+
+    @Test
+    @DisplayName("같은 키가 다른 경로에 사용되면 본문이 같아도 실행하지 않고 DuplicateIdempotencyKeyException으로 응답한다")
+    void doFilter_PathMismatch_Conflict() throws Exception {
+        // [given]
+        when(idempotencyService.findByKey(KEY)).thenReturn(Optional.of(completed(HASH)));
+        request.setRequestURI("/api/v1/accounts/1/withdraw");
+
+        // [when]
+        filter.doFilter(request, response, handler(200, BODY));
+
+        // [then]
+        assertThat(executions).hasValue(0);
+        assertThat(response.getHeader(IdempotencyFilter.REPLAYED_HEADER)).isNull();
+        verify(exceptionResolver).resolveException(eq(request), eq(response), isNull(),
+                any(DuplicateIdempotencyKeyException.class));
+    }
+
+    @Test
+    @DisplayName("같은 키의 요청이 처리 중이면 완료를 기다린 뒤 저장된 응답을 반환한다")
+    void doFilter_ConcurrentDuplicate_WaitsAndReplays() throws Exception {
+        // [given]
+        when(idempotencyService.findByKey(KEY)).thenReturn(Optional.empty(), Optional.of(completed(HASH)));
+        when(idempotencyService.tryReserve(KEY, PATH, HASH)).thenReturn(false);
+        when(idempotencyService.awaitInFlight(KEY)).thenReturn(true);
+
+        // [when]
+        filter.doFilter(request, response, handler(200, BODY));
+
+        // [then]
+        assertThat(executions).hasValue(0);
+        assertThat(response.getContentAsString()).isEqualTo(BODY);
+    }
+
+    @Test
+    @DisplayName("같은 키의 요청이 대기 시간 안에 끝나지 않으면 IdempotencyInProgressException으로 응답한다")
+    void doFilter_ConcurrentDuplicate_WaitTimeout() throws Exception {
+        // [given]
+        when(idempotencyService.findByKey(KEY)).thenReturn(Optional.empty());
+        when(idempotencyService.tryReserve(KEY, PATH, HASH)).thenReturn(false);
+        when(idempotencyService.awaitInFlight(KEY)).thenReturn(false);
+
+        // [when]
+        filter.doFilter(request, response, handler(200, BODY));
+
+        // [then]
+        assertThat(executions).hasValue(0);
+        verify(exceptionResolver).resolveException(eq(request), eq(response), isNull(),
+                any(IdempotencyInProgressException.class));
+    }
+
+    @Test
+    @DisplayName("실패 응답은 기록하지 않고 선점을 해제한다")
+    void doFilter_ErrorResponse_ReleasesReservation() throws Exception {
+        // [given]
+        when(idempotencyService.findByKey(KEY)).thenReturn(Optional.empty());
+        when(idempotencyService.tryReserve(KEY, PATH, HASH)).thenReturn(true);
+
+        // [when]
+        filter.doFilter(request, response, handler(409, "{\"code\":\"INSUFFICIENT_BALANCE\"}"));
+
+        // [then]
+        assertThat(response.getStatus()).isEqualTo(409);
+        assertThat(response.getContentAsString()).contains("INSUFFICIENT_BALANCE");
+        verify(idempotencyService).release(KEY);
+        verify(eventPublisher, never()).publishEvent(any());
+    }
+
+    @Test
+    @DisplayName("처리 중 예외가 발생하면 선점을 해제하고 예외를 그대로 전달한다")
+    void doFilter_Exception_ReleasesReservation() throws Exception {
+        // [given]
+        when(idempotencyService.findByKey(KEY)).thenReturn(Optional.empty());
+        when(idempotencyService.tryReserve(KEY, PATH, HASH)).thenReturn(true);
+        FilterChain failing = (req, res) -> {
+            throw new IllegalStateException("DB 연결 실패");
+        };
+
+        // [when & then]
+        assertThatThrownBy(() -> filter.doFilter(request, response, failing))
+                .isInstanceOf(IllegalStateException.class);
+        verify(idempotencyService).release(KEY);
+        verify(eventPublisher, never()).publishEvent(any());
+    }
+
+    @Test
+    @DisplayName("멱등성 대상이 아닌 경로나 키가 없는 요청은 그대로 실행한다")
+    void doFilter_NotCovered_PassesThrough() throws Exception {
+        // [given]
+        MockHttpServletRequest batch = new MockHttpServletRequest("POST", "/api/v1/transfers/batch");
+        batch.addHeader("Idempotency-Key", KEY);
+        MockHttpServletRequest withoutKey = new MockHttpServletRequest("POST", PATH);
+
+        // [when]
+        filter.doFilter(batch, new MockHttpServletResponse(), handler(200, BODY));
+        filter.doFilter(withoutKey, new MockHttpServletResponse(), handler(200, BODY));
+
+        // [then]
+        assertThat(executions).hasValue(2);
+        verifyNoInteractions(idempotencyService, eventPublisher);
+    }
+
+    private FilterChain handler(int status, String body) {
+        return (req, res) -> {
+            executions.incrementAndGet();
+            HttpServletResponse http = (HttpServletResponse) res;
+            http.setStatus(status);
+            http.setContentType("application/json");
+            http.setHeader("X-Request-Id", "abc");
+            http.getOutputStream().write(body.getBytes(StandardCharsets.UTF_8));
+        };
+    }
+
+    private static IdempotencyRecord completed(String requestHash) throws IOException {
+        IdempotencyResponse stored = new IdempotencyResponse(200, "application/json", "X-Request-Id: abc\n",
+                gzip(BODY));
+        return new IdempotencyRecord(KEY, PATH, requestHash, stored, TimeUtil.nowDateTime().plusMinutes(10));
+    }
+
+    private static byte[] gzip(String body) throws IOException {
+        ByteArrayOutputStream buffer = new ByteArrayOutputStream();
+        try (GZIPOutputStream gzip = new GZIPOutputStream(buffer)) {
+            gzip.write(body.getBytes(StandardCharsets.UTF_8));
+        }
+        return buffer.toByteArray();
+    }
+}
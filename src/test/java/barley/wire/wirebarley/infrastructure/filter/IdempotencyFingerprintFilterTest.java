@@ -0,0 +1,142 @@
+package barley.wire.wirebarley.infrastructure.filter;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import barley.wire.wirebarley.common.util.HashUtil;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.servlet.ReadListener;
+import jakarta.servlet.ServletInputStream;
+import jakarta.servlet.http.HttpServletRequest;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockFilterChain;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+
+class IdempotencyFingerprintFilterTest {
+
+    private static final String JSON = "application/json";
+
+    private final IdempotencyFingerprintFilter filter = new IdempotencyFingerprintFilter(new ObjectMapper());
+
+    @Test
+    @DisplayName("필드 순서, 공백, 숫자 표기가 달라도 같은 JSON 요청은 같은 지문을 가진다")
+    void fingerprint_CanonicalJson() {
+        // [given]
+        String compact = "{\"fromAccountId\":1,\"toAccountId\":2,\"amount\":1000}";
+        String reordered = "{ \"amount\": 1000.00,\n  \"toAccountId\": 2, \"fromAccountId\": 1 }";
+        String different = "{\"fromAccountId\":1,\"toAccountId\":2,\"amount\":1000.01}";
+
+        // [when]
+        String first = filter.fingerprint(bytes(compact), JSON);
+        String second = filter.fingerprint(bytes(reordered), JSON);
+        String third = filter.fingerprint(bytes(different), JSON);
+
+        // [then]
+        assertThat(first).hasSize(64).isEqualTo(second);
+        assertThat(third).isNotEqualTo(first);
+    }
+
+    @Test
+    @DisplayName("JSON이 아니거나 파싱할 수 없는 본문은 원본 바이트로 지문을 계산한다")
+    void fingerprint_RawBytes() {
+        // [given]
+        String broken = "{\"amount\":";
+
+        // [when & then]
+        assertThat(filter.fingerprint(bytes(broken), JSON)).isEqualTo(HashUtil.calculateSHA256(broken));
+        assertThat(filter.fingerprint(bytes("a=1"), "application/x-www-form-urlencoded"))
+                .isEqualTo(HashUtil.calculateSHA256("a=1"));
+    }
+
+    @Test
+    @DisplayName("멱등성 키가 있는 요청은 지문을 요청 속성으로 전달하고, 이후 단계에서 본문을 다시 읽을 수 있다")
+    void doFilter_SetsFingerprintAndKeepsBody() throws Exception {
+        // [given]
+        String body = "{\"amount\":1000}";
+        MockHttpServletRequest request = new MockHttpServletRequest("POST", "/api/v3/global-transfers");
+        request.addHeader("Idempotency-Key", "550e8400-e29b-41d4-a716-446655440000");
+        request.setContentType(JSON);
+        request.setContent(bytes(body));
+        MockFilterChain chain = new MockFilterChain();
+
+        // [when]
+        filter.doFilter(request, new MockHttpServletResponse(), chain);
+
+        // [then]
+        HttpServletRequest forwarded = (HttpServletRequest) chain.getRequest();
+        assertThat(request.getAttribute(IdempotencyFingerprintFilter.FINGERPRINT_ATTRIBUTE))
+                .isEqualTo(filter.fingerprint(bytes(body), JSON));
+        assertThat(forwarded.getInputStream().readAllBytes()).isEqualTo(bytes(body));
+    }
+
+    @Test
+    @DisplayName("다시 제공하는 본문은 비동기 읽기 리스너로도 모두 읽을 수 있다")
+    void doFilter_KeepsBodyForReadListener() throws Exception {
+        // [given]
+        String body = "{\"amount\":1000}";
+        MockHttpServletRequest request = new MockHttpServletRequest("POST", "/api/v3/global-transfers");
+        request.addHeader("Idempotency-Key", "550e8400-e29b-41d4-a716-446655440000");
+        request.setContentType(JSON);
+        request.setContent(bytes(body));
+        MockFilterChain chain = new MockFilterChain();
+        filter.doFilter(request, new MockHttpServletResponse(), chain);
+        ServletInputStream input = chain.getRequest().getInputStream();
+        ByteArrayOutputStream read = new ByteArrayOutputStream();
+        List<String> events = new ArrayList<>();
+
+        // [when]
+        input.setReadListener(new ReadListener() {
+            @Override
+            public void onDataAvailable() throws IOException {
+                byte[] buffer = new byte[4];
+                int count;
+                while (input.isReady() && (count = input.read(buffer)) >= 0) {
+                    read.write(buffer, 0, count);
+                }
+                events.add("available");
+            }
+
+            @Override
+            public void onAllDataRead() {
+                events.add("done");
+            }
+
+            @Override
+            public void onError(Throwable t) {
+                events.add("error");
+            }
+        });
+
+        // [then]
+        assertThat(read.toByteArray()).isEqualTo(bytes(body));
+        assertThat(input.isFinished()).isTrue();
+        assertThat(events).containsExactly("available", "done");
+    }
+
+    @Test
+    @DisplayName("멱등성 키가 없는 요청은 본문을 읽지 않고 그대로 전달한다")
+    void doFilter_WithoutKey_Skips() throws Exception {
+        // [given]
+        MockHttpServletRequest request = new MockHttpServletRequest("POST", "/api/v1/transfers");
+        request.setContentType(JSON);
+        request.setContent(bytes("{\"amount\":1000}"));
+        MockFilterChain chain = new MockFilterChain();
+
+        // [when]
+        filter.doFilter(request, new MockHttpServletResponse(), chain);
+
+        // [then]
+        assertThat(chain.getRequest()).isSameAs(request);
+        assertThat(request.getAttribute(IdempotencyFingerprintFilter.FINGERPRINT_ATTRIBUTE)).isNull();
+    }
+
+    private static byte[] bytes(String value) {
+        return value.getBytes(StandardCharsets.UTF_8);
+    }
+}
@@ -0,0 +1,65 @@
+package barley.wire.wirebarley.infrastructure.scheduler;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.*;
+
+import barley.wire.wirebarley.infrastructure.thread.DatabasePermitDataSource;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.sql.Connection;
+import java.time.Duration;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import javax.sql.DataSource;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+@ExtendWith(MockitoExtension.class)
+class DatabaseLoadMonitorTest {
+
+    @Mock
+    private DataSource targetDataSource;
+
+    @Mock
+    private Connection connection;
+
+    @Test
+    @DisplayName("DB 동시 작업 허가를 기다리는 스레드가 있으면 커넥션 풀 사용량과 관계없이 부하 상태로 판단한다")
+    void isBusy_ThreadsAwaitingPermit() throws Exception {
+        // [given] 허가 1개를 사용 중인 상태
+        DatabasePermitDataSource dataSource = new DatabasePermitDataSource(targetDataSource, 1, Duration.ofSeconds(5),
+                new SimpleMeterRegistry());
+        DatabaseLoadMonitor monitor = new DatabaseLoadMonitor(dataSource);
+        when(targetDataSource.getConnection()).thenReturn(connection);
+        Connection first = dataSource.getConnection();
+        assertThat(monitor.isBusy(1.0)).isFalse();
+
+        ExecutorService executor = Executors.newSingleThreadExecutor();
+        try {
+            // [when] 다른 스레드가 허가를 기다림
+            Future<Connection> second = executor.submit(() -> dataSource.getConnection());
+            awaitWaitingThreads(dataSource, 1);
+
+            // [then]
+            assertThat(dataSource.getWaitingThreads()).isEqualTo(1);
+            assertThat(monitor.isBusy(1.0)).isTrue();
+
+            first.close();
+            assertThat(second.get(5, TimeUnit.SECONDS)).isNotNull();
+            assertThat(monitor.isBusy(1.0)).isFalse();
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    private void awaitWaitingThreads(DatabasePermitDataSource dataSource, int expected) throws InterruptedException {
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+        while (dataSource.getWaitingThreads() < expected && System.nanoTime() < deadline) {
+            Thread.sleep(10);
+        }
+    }
+}
@@ -0,0 +1,91 @@
+package barley.wire.wirebarley.infrastructure.scheduler;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyDouble;
+import static org.mockito.Mockito.*;
+
+import barley.wire.wirebarley.infrastructure.config.RetentionProperties;
+import barley.wire.wirebarley.infrastructure.service.RetentionService;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.time.Duration;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+@ExtendWith(MockitoExtension.class)
+class RetentionPurgerTest {
+
+    private static final int BATCH_SIZE = 100;
+
+    @Mock
+    private RetentionService retentionService;
+
+    @Mock
+    private DatabaseLoadMonitor databaseLoadMonitor;
+
+    private SimpleMeterRegistry meterRegistry;
+    private RetentionPurger retentionPurger;
+
+    @BeforeEach
+    void setUp() {
+        RetentionProperties properties = new RetentionProperties(true, Duration.ofMinutes(1), BATCH_SIZE, 3,
+                Duration.ZERO, 0.7, Duration.ofDays(7));
+        meterRegistry = new SimpleMeterRegistry();
+        retentionPurger = new RetentionPurger(retentionService, properties, databaseLoadMonitor, meterRegistry);
+    }
+
+    @Test
+    @DisplayName("배치가 가득 차면 다음 배치를 삭제하고, 가득 차지 않으면 해당 테이블 정리를 끝낸다")
+    void purge_ContinuesWhileBatchIsFull() {
+        // [given]
+        when(retentionService.purgeExpiredIdempotencyRecords(BATCH_SIZE)).thenReturn(BATCH_SIZE, 30);
+        when(retentionService.purgeExpiredQuotes(BATCH_SIZE)).thenReturn(5);
+
+        // [when]
+        retentionPurger.purge();
+
+        // [then]
+        verify(retentionService, times(2)).purgeExpiredIdempotencyRecords(BATCH_SIZE);
+        verify(retentionService, times(1)).purgeExpiredQuotes(BATCH_SIZE);
+        assertThat(deleted("idempotency_records")).isEqualTo(130);
+        assertThat(deleted("exchange_quotes")).isEqualTo(5);
+    }
+
+    @Test
+    @DisplayName("1회 실행의 배치 횟수 상한에 도달하면 남은 행은 다음 주기로 미룬다")
+    void purge_StopsAtMaxBatchesPerRun() {
+        // [given]
+        when(retentionService.purgeExpiredIdempotencyRecords(BATCH_SIZE)).thenReturn(BATCH_SIZE);
+
+        // [when]
+        retentionPurger.purge();
+
+        // [then]
+        verify(retentionService, times(3)).purgeExpiredIdempotencyRecords(BATCH_SIZE);
+        assertThat(deleted("idempotency_records")).isEqualTo(300);
+    }
+
+    @Test
+    @DisplayName("DB 커넥션 풀이 바쁘면 삭제를 멈추고 이후 테이블도 다음 주기로 미룬다")
+    void purge_PausesWhenDatabaseIsBusy() {
+        // [given]
+        when(databaseLoadMonitor.isBusy(anyDouble())).thenReturn(false, true);
+        when(retentionService.purgeExpiredIdempotencyRecords(BATCH_SIZE)).thenReturn(BATCH_SIZE);
+
+        // [when]
+        retentionPurger.purge();
+
+        // [then]
+        verify(retentionService, times(1)).purgeExpiredIdempotencyRecords(BATCH_SIZE);
+        verify(retentionService, never()).purgeExpiredQuotes(anyInt());
+        verify(retentionService, never()).thinExchangeRates(any(), any(), any(), anyInt());
+        assertThat(deleted("idempotency_records")).isEqualTo(BATCH_SIZE);
+    }
+
+    private double deleted(String table) {
+        return meterRegistry.get("wirebarley.retention.deleted").tag("table", table).summary().totalAmount();
+    }
+}
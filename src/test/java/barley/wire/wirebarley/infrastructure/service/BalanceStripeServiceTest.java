@@ -0,0 +1,86 @@
+package barley.wire.wirebarley.infrastructure.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+import barley.wire.wirebarley.infrastructure.repository.AccountBalanceStripeRepository;
+import java.math.BigDecimal;
+import java.util.HashSet;
+import java.util.Set;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+@ExtendWith(MockitoExtension.class)
+class BalanceStripeServiceTest {
+
+    @Mock
+    private AccountBalanceStripeRepository stripeRepository;
+
+    @InjectMocks
+    private BalanceStripeService balanceStripeService;
+
+    @Test
+    @DisplayName("같은 송금 계좌는 항상 같은 하위 잔액 행을 선택하고, 여러 송금 계좌는 행에 분산된다")
+    void selectStripe_StableAndSpread() {
+        // [given]
+        int stripes = 8;
+        Set<Integer> selected = new HashSet<>();
+
+        // [when]
+        for (long sourceAccountId = 1; sourceAccountId <= 64; sourceAccountId++) {
+            int stripeNo = BalanceStripeService.selectStripe(sourceAccountId, stripes);
+            assertThat(stripeNo).isBetween(0, stripes - 1);
+            assertThat(BalanceStripeService.selectStripe(sourceAccountId, stripes)).isEqualTo(stripeNo);
+            selected.add(stripeNo);
+        }
+
+        // [then]
+        assertThat(selected).hasSize(stripes);
+    }
+
+    @Test
+    @DisplayName("하위 잔액 통합 시 하위 잔액을 0으로 초기화하고 합계를 반환한다")
+    void consolidate_ReturnsPending() {
+        // [given]
+        BigDecimal pending = BigDecimal.valueOf(300000);
+        when(stripeRepository.sumBalanceForUpdate(1L)).thenReturn(pending);
+
+        // [when]
+        BigDecimal consolidated = balanceStripeService.consolidate(1L);
+
+        // [then]
+        assertThat(consolidated).isEqualByComparingTo(pending);
+        verify(stripeRepository).resetBalances(1L);
+    }
+
+    @Test
+    @DisplayName("통합할 하위 잔액이 없으면 하위 잔액 행을 변경하지 않는다")
+    void consolidate_NothingPending() {
+        // [given]
+        when(stripeRepository.sumBalanceForUpdate(1L)).thenReturn(BigDecimal.ZERO);
+
+        // [when]
+        BigDecimal consolidated = balanceStripeService.consolidate(1L);
+
+        // [then]
+        assertThat(consolidated).isZero();
+        verify(stripeRepository, never()).resetBalances(anyLong());
+    }
+
+    @Test
+    @DisplayName("하위 잔액 행이 없으면 입금에 실패한다")
+    void credit_Fail_MissingStripe() {
+        // [given]
+        when(stripeRepository.credit(eq(1L), anyInt(), any())).thenReturn(0);
+
+        // [when & then]
+        assertThatThrownBy(() -> balanceStripeService.credit(1L, 8, 2L, BigDecimal.TEN))
+                .isInstanceOf(IllegalStateException.class);
+    }
+}
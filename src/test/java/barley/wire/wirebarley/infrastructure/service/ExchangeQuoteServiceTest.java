@@ -0,0 +1,155 @@
+package barley.wire.wirebarley.infrastructure.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+import barley.wire.wirebarley.common.exception.InvalidQuoteException;
+import barley.wire.wirebarley.common.exception.QuoteExpiredException;
+import barley.wire.wirebarley.common.util.TimeUtil;
+import barley.wire.wirebarley.domain.account.Account;
+import barley.wire.wirebarley.domain.account.Currency;
+import barley.wire.wirebarley.domain.exchange.ExchangeQuote;
+import barley.wire.wirebarley.infrastructure.config.ExchangeRateProperties;
+import barley.wire.wirebarley.infrastructure.repository.ExchangeQuoteRepository;
+import java.math.BigDecimal;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.Optional;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.test.util.ReflectionTestUtils;
+
+@ExtendWith(MockitoExtension.class)
+class ExchangeQuoteServiceTest {
+
+    private static final BigDecimal AMOUNT = BigDecimal.valueOf(100000);
+
+    @Mock
+    private ExchangeQuoteRepository exchangeQuoteRepository;
+
+    @Mock
+    private ExchangeRateService exchangeRateService;
+
+    private ExchangeQuoteService exchangeQuoteService;
+
+    @BeforeEach
+    void setUp() {
+        ExchangeRateProperties properties = new ExchangeRateProperties(
+                new ExchangeRateProperties.Refresh(false, Duration.ofMinutes(10), Duration.ofMinutes(30)), Duration.ofSeconds(3),
+                new ExchangeRateProperties.Provider(Duration.ofSeconds(2), Duration.ofMillis(300),
+                        new ExchangeRateProperties.CircuitBreaker(false, 5, Duration.ofSeconds(30))),
+                new ExchangeRateProperties.Quote(Duration.ofSeconds(30), 100));
+        exchangeQuoteService = new ExchangeQuoteService(exchangeQuoteRepository, exchangeRateService, properties);
+    }
+
+    @Test
+    @DisplayName("견적 생성 시 현재 환율로 수수료를 고정하고, 사용 시 DB 조회 없이 메모리의 견적을 사용한다")
+    void createQuote_ThenUseFromMemory() {
+        // [given]
+        Account from = account(1L, Currency.KRW);
+        Account to = account(2L, Currency.USD);
+        when(exchangeRateService.getExchangeRate(Currency.KRW, Currency.USD)).thenReturn(new BigDecimal("0.00075"));
+        when(exchangeQuoteRepository.markUsed(anyString(), any())).thenReturn(1);
+
+        // [when]
+        ExchangeQuote created = exchangeQuoteService.createQuote(from, to, AMOUNT);
+        ExchangeQuote used = exchangeQuoteService.useQuote(created.getId(), 1L, 2L, AMOUNT);
+
+        // [then]
+        assertThat(created.getDepositAmount()).isEqualByComparingTo("74.62");
+        assertThat(created.getTotalWithdrawAmount()).isEqualByComparingTo("101000");
+        assertThat(created.getKrwRate()).isEqualByComparingTo(BigDecimal.ONE);
+        assertThat(created.getExpiresAt()).isAfter(TimeUtil.nowDateTime());
+        assertThat(used).isSameAs(created);
+        verify(exchangeQuoteRepository).save(created);
+        verify(exchangeQuoteRepository, never()).findByIdForUpdate(anyString());
+    }
+
+    @Test
+    @DisplayName("원화가 아닌 계좌의 견적은 한도 환산용 원화 환율도 견적 시점에 고정한다")
+    void createQuote_FixesKrwRate_ForForeignSender() {
+        // [given]
+        Account from = account(1L, Currency.USD);
+        Account to = account(2L, Currency.EUR);
+        when(exchangeRateService.getExchangeRate(Currency.USD, Currency.EUR)).thenReturn(new BigDecimal("0.92"));
+        when(exchangeRateService.getExchangeRate(Currency.USD, Currency.KRW)).thenReturn(new BigDecimal("1400"));
+
+        // [when]
+        ExchangeQuote created = exchangeQuoteService.createQuote(from, to, BigDecimal.valueOf(100));
+
+        // [then]
+        assertThat(created.getKrwRate()).isEqualByComparingTo("1400");
+        assertThat(created.getExchangeRate()).isEqualByComparingTo("0.92");
+    }
+
+    @Test
+    @DisplayName("메모리에 없는 견적은 DB에서 락 조회하여 사용한다")
+    void useQuote_FallsBackToDatabase() {
+        // [given]
+        ExchangeQuote quote = quote(TimeUtil.nowDateTime().plusSeconds(30));
+        when(exchangeQuoteRepository.findByIdForUpdate(quote.getId())).thenReturn(Optional.of(quote));
+        when(exchangeQuoteRepository.markUsed(eq(quote.getId()), any())).thenReturn(1);
+
+        // [when]
+        ExchangeQuote used = exchangeQuoteService.useQuote(quote.getId(), 1L, 2L, AMOUNT);
+
+        // [then]
+        assertThat(used).isSameAs(quote);
+    }
+
+    @Test
+    @DisplayName("견적의 계좌 또는 금액이 요청과 다르면 사용 처리하지 않는다")
+    void useQuote_Fail_Mismatch() {
+        // [given]
+        ExchangeQuote quote = quote(TimeUtil.nowDateTime().plusSeconds(30));
+        when(exchangeQuoteRepository.findByIdForUpdate(quote.getId())).thenReturn(Optional.of(quote));
+
+        // [when & then]
+        assertThatThrownBy(() -> exchangeQuoteService.useQuote(quote.getId(), 1L, 2L, BigDecimal.valueOf(200000)))
+                .isInstanceOf(InvalidQuoteException.class);
+        verify(exchangeQuoteRepository, never()).markUsed(anyString(), any());
+    }
+
+    @Test
+    @DisplayName("만료된 견적은 사용할 수 없다")
+    void useQuote_Fail_Expired() {
+        // [given]
+        ExchangeQuote quote = quote(TimeUtil.nowDateTime().minusSeconds(1));
+        when(exchangeQuoteRepository.findByIdForUpdate(quote.getId())).thenReturn(Optional.of(quote));
+
+        // [when & then]
+        assertThatThrownBy(() -> exchangeQuoteService.useQuote(quote.getId(), 1L, 2L, AMOUNT))
+                .isInstanceOf(QuoteExpiredException.class);
+        verify(exchangeQuoteRepository, never()).markUsed(anyString(), any());
+    }
+
+    @Test
+    @DisplayName("이미 사용된 견적은 다시 사용할 수 없다")
+    void useQuote_Fail_AlreadyUsed() {
+        // [given]
+        ExchangeQuote quote = quote(TimeUtil.nowDateTime().plusSeconds(30));
+        when(exchangeQuoteRepository.findByIdForUpdate(quote.getId())).thenReturn(Optional.of(quote));
+        when(exchangeQuoteRepository.markUsed(eq(quote.getId()), any())).thenReturn(0);
+
+        // [when & then]
+        assertThatThrownBy(() -> exchangeQuoteService.useQuote(quote.getId(), 1L, 2L, AMOUNT))
+                .isInstanceOf(QuoteExpiredException.class);
+    }
+
+    private static ExchangeQuote quote(LocalDateTime expiresAt) {
+        return new ExchangeQuote(1L, 2L, Currency.KRW, Currency.USD, AMOUNT, new BigDecimal("0.00075"), BigDecimal.ONE,
+                expiresAt);
+    }
+
+    private static Account account(Long id, Currency currency) {
+        Account account = new Account("110-000-00000" + id, "owner", currency);
+        ReflectionTestUtils.setField(account, "id", id);
+        return account;
+    }
+}
@@ -7,14 +7,20 @@ import static org.mockito.Mockito.*;
 import barley.wire.wirebarley.domain.account.Currency;
 import barley.wire.wirebarley.infrastructure.client.ExchangeRateClient;
 import barley.wire.wirebarley.infrastructure.client.ExchangeRateFallbackClient;
+import barley.wire.wirebarley.infrastructure.client.ExchangeRateFetcher;
+import barley.wire.wirebarley.infrastructure.config.ExchangeRateProperties;
 import barley.wire.wirebarley.infrastructure.repository.ExchangeRateRepository;
 import barley.wire.wirebarley.presentation.dto.response.ExchangeRateApiResponse;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
 import java.math.BigDecimal;
 import java.util.Map;
 import java.util.Optional;
+import java.util.concurrent.Executor;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
 import org.springframework.boot.test.context.SpringBootTest;
 import org.springframework.boot.test.context.TestConfiguration;
 import org.springframework.cache.CacheManager;
@@ -27,7 +33,7 @@ import org.springframework.test.annotation.DirtiesContext.ClassMode;
 import org.springframework.test.context.ActiveProfiles;
 import org.springframework.test.context.bean.override.mockito.MockitoBean;
 
-@SpringBootTest(classes = { ExchangeRateService.class })
+@SpringBootTest(classes = { ExchangeRateService.class, ExchangeRateLoader.class, ExchangeRateFetcher.class })
 @Import(ExchangeRateCachingTest.CachingConfig.class)
 @ActiveProfiles("test")
 @DirtiesContext(classMode = ClassMode.AFTER_EACH_TEST_METHOD)
@@ -50,11 +56,22 @@ class ExchangeRateCachingTest {
 
     @TestConfiguration
     @EnableCaching
+    @EnableConfigurationProperties(ExchangeRateProperties.class)
     static class CachingConfig {
         @Bean
         public CacheManager cacheManager() {
             return new ConcurrentMapCacheManager("exchangeRates");
         }
+
+        @Bean
+        public MeterRegistry meterRegistry() {
+            return new SimpleMeterRegistry();
+        }
+
+        @Bean
+        public Executor exchangeRateFetchExecutor() {
+            return Runnable::run;
+        }
     }
 
     @Test
@@ -0,0 +1,210 @@
+package barley.wire.wirebarley.infrastructure.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+import barley.wire.wirebarley.common.exception.ExchangeRateUnavailableException;
+import barley.wire.wirebarley.common.util.TimeUtil;
+import barley.wire.wirebarley.domain.account.Currency;
+import barley.wire.wirebarley.domain.exchange.ExchangeRateMatrix;
+import barley.wire.wirebarley.infrastructure.config.ExchangeRateProperties;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.math.BigDecimal;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.Map;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+@ExtendWith(MockitoExtension.class)
+class ExchangeRateServiceTest {
+
+    @Mock
+    private ExchangeRateLoader exchangeRateLoader;
+
+    private final MeterRegistry meterRegistry = new SimpleMeterRegistry();
+
+    private ExchangeRateService exchangeRateService;
+
+    @BeforeEach
+    void setUp() {
+        ExchangeRateProperties properties = new ExchangeRateProperties(
+                new ExchangeRateProperties.Refresh(true, Duration.ofMinutes(10), Duration.ofMinutes(30)), Duration.ofMillis(200),
+                new ExchangeRateProperties.Provider(Duration.ofSeconds(2), Duration.ofMillis(300),
+                        new ExchangeRateProperties.CircuitBreaker(false, 5, Duration.ofSeconds(30))),
+                new ExchangeRateProperties.Quote(Duration.ofSeconds(30), 100));
+        exchangeRateService = new ExchangeRateService(exchangeRateLoader, properties, meterRegistry);
+    }
+
+    @Test
+    @DisplayName("매트릭스 갱신 후 환율 조회는 외부 API나 DB를 호출하지 않는다")
+    void getExchangeRate_FromMatrix() {
+        // [given]
+        when(exchangeRateLoader.fetchRates(any())).thenReturn(Map.of());
+        when(exchangeRateLoader.fetchRates(Currency.KRW)).thenReturn(
+                Map.of(Currency.USD, new BigDecimal("0.000686"), Currency.JPY, new BigDecimal("0.108158")));
+        exchangeRateService.refreshMatrix();
+        clearInvocations(exchangeRateLoader);
+
+        // [when]
+        BigDecimal rate = exchangeRateService.getExchangeRate(Currency.KRW, Currency.USD);
+
+        // [then]
+        assertThat(rate).isEqualByComparingTo("0.000686");
+        verifyNoInteractions(exchangeRateLoader);
+    }
+
+    @Test
+    @DisplayName("직접 환율이 없는 통화 쌍은 KRW 교차 환율로 계산한다")
+    void refreshMatrix_CrossRates() {
+        // [given]
+        when(exchangeRateLoader.fetchRates(any())).thenReturn(Map.of());
+        when(exchangeRateLoader.fetchRates(Currency.USD)).thenReturn(Map.of(Currency.KRW, new BigDecimal("1400")));
+        when(exchangeRateLoader.fetchRates(Currency.JPY)).thenReturn(Map.of(Currency.KRW, new BigDecimal("9.1")));
+
+        // [when]
+        exchangeRateService.refreshMatrix();
+
+        // [then]
+        ExchangeRateMatrix matrix = exchangeRateService.getMatrix();
+        // USD → JPY = USD → KRW × KRW → JPY = 1400 / 9.1
+        assertThat(matrix.getRate(Currency.USD, Currency.JPY)).isEqualByComparingTo("153.846154");
+        // KRW → USD = 1 / (USD → KRW)
+        assertThat(matrix.getRate(Currency.KRW, Currency.USD)).isEqualByComparingTo("0.000714");
+        // EUR은 KRW 환율이 없어 계산할 수 없음
+        assertThat(matrix.getRate(Currency.EUR, Currency.USD)).isNull();
+        verify(exchangeRateLoader).saveSnapshot(matrix);
+    }
+
+    @Test
+    @DisplayName("최초 갱신에서 모든 API 호출이 실패하면 DB의 최신 환율로 매트릭스를 초기화한다")
+    void refreshMatrix_AllApisFailed_LoadsFromDb() {
+        // [given]
+        when(exchangeRateLoader.fetchRates(any())).thenReturn(Map.of());
+        LocalDateTime storedAt = TimeUtil.nowDateTime().minusMinutes(5);
+        when(exchangeRateLoader.loadLatestMatrix()).thenReturn(ExchangeRateMatrix.of(
+                Map.of(Currency.USD, Map.of(Currency.KRW, new BigDecimal("1457.72"))), storedAt));
+
+        // [when]
+        exchangeRateService.refreshMatrix();
+
+        // [then]
+        assertThat(exchangeRateService.getExchangeRate(Currency.USD, Currency.KRW)).isEqualByComparingTo("1457.72");
+        assertThat(exchangeRateService.getMatrix().getAsOf()).isEqualTo(storedAt);
+        verify(exchangeRateLoader, never()).saveSnapshot(any());
+        verify(exchangeRateLoader, never()).loadRate(any(), any());
+    }
+
+    @Test
+    @DisplayName("매트릭스 기준 시각이 최대 사용 기간을 넘으면 단일 통화 쌍 조회로 위임한다")
+    void getExchangeRate_StaleMatrix_DelegatesToLoad() {
+        // [given] 갱신이 계속 실패하여 DB의 1시간 전 환율로만 초기화된 상태
+        when(exchangeRateLoader.fetchRates(any())).thenReturn(Map.of());
+        when(exchangeRateLoader.loadLatestMatrix()).thenReturn(ExchangeRateMatrix.of(
+                Map.of(Currency.USD, Map.of(Currency.KRW, new BigDecimal("1457.72"))),
+                TimeUtil.nowDateTime().minusHours(1)));
+        when(exchangeRateLoader.loadRate(Currency.USD, Currency.KRW)).thenReturn(new BigDecimal("1390.50"));
+        exchangeRateService.refreshMatrix();
+
+        // [when]
+        BigDecimal rate = exchangeRateService.getExchangeRate(Currency.USD, Currency.KRW);
+
+        // [then]
+        assertThat(rate).isEqualByComparingTo("1390.50");
+        assertThat(meterRegistry.counter("wirebarley.exchange-rate.matrix.stale").count()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("매트릭스가 준비되지 않았으면 단일 통화 쌍 조회로 위임한다")
+    void getExchangeRate_MatrixNotReady() {
+        // [given]
+        when(exchangeRateLoader.loadRate(Currency.KRW, Currency.USD)).thenReturn(new BigDecimal("0.0007"));
+
+        // [when]
+        BigDecimal rate = exchangeRateService.getExchangeRate(Currency.KRW, Currency.USD);
+
+        // [then]
+        assertThat(rate).isEqualByComparingTo("0.0007");
+    }
+
+    @Test
+    @DisplayName("같은 통화 쌍을 동시에 조회하면 먼저 들어온 요청만 조회하고 나머지는 결과를 공유한다")
+    void getExchangeRate_CoalescesConcurrentLoads() throws Exception {
+        // [given]
+        CountDownLatch loading = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        when(exchangeRateLoader.loadRate(Currency.KRW, Currency.USD)).thenAnswer(invocation -> {
+            loading.countDown();
+            release.await(5, TimeUnit.SECONDS);
+            return new BigDecimal("0.0007");
+        });
+        ExecutorService executor = Executors.newFixedThreadPool(2);
+
+        try {
+            // [when]
+            Future<BigDecimal> leader = executor.submit(
+                    () -> exchangeRateService.getExchangeRate(Currency.KRW, Currency.USD));
+            loading.await(5, TimeUnit.SECONDS);
+            Future<BigDecimal> follower = executor.submit(
+                    () -> exchangeRateService.getExchangeRate(Currency.KRW, Currency.USD));
+            awaitCollapsed(1);
+            release.countDown();
+
+            // [then]
+            assertThat(leader.get(5, TimeUnit.SECONDS)).isEqualByComparingTo("0.0007");
+            assertThat(follower.get(5, TimeUnit.SECONDS)).isEqualByComparingTo("0.0007");
+            verify(exchangeRateLoader, times(1)).loadRate(Currency.KRW, Currency.USD);
+        } finally {
+            release.countDown();
+            executor.shutdownNow();
+        }
+    }
+
+    @Test
+    @DisplayName("먼저 들어온 조회가 대기 시간 안에 끝나지 않으면 환율 조회 불가 예외가 발생한다")
+    void getExchangeRate_CoalescedLoadTimeout() throws Exception {
+        // [given]
+        CountDownLatch loading = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        when(exchangeRateLoader.loadRate(Currency.KRW, Currency.USD)).thenAnswer(invocation -> {
+            loading.countDown();
+            release.await(5, TimeUnit.SECONDS);
+            return new BigDecimal("0.0007");
+        });
+        ExecutorService executor = Executors.newSingleThreadExecutor();
+
+        try {
+            executor.submit(() -> exchangeRateService.getExchangeRate(Currency.KRW, Currency.USD));
+            loading.await(5, TimeUnit.SECONDS);
+
+            // [when & then]
+            assertThatThrownBy(() -> exchangeRateService.getExchangeRate(Currency.KRW, Currency.USD))
+                    .isInstanceOf(ExchangeRateUnavailableException.class);
+            assertThat(meterRegistry.counter("wirebarley.exchange-rate.load.timeouts", "pair", "KRW_USD").count())
+                    .isEqualTo(1);
+        } finally {
+            release.countDown();
+            executor.shutdownNow();
+        }
+    }
+
+    private void awaitCollapsed(int expected) throws InterruptedException {
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+        while (meterRegistry.counter("wirebarley.exchange-rate.load.collapsed", "pair", "KRW_USD").count() < expected
+                && System.nanoTime() < deadline) {
+            Thread.sleep(10);
+        }
+    }
+}
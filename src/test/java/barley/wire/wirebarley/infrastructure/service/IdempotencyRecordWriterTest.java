@@ -0,0 +1,210 @@
+package barley.wire.wirebarley.infrastructure.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.argThat;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+import barley.wire.wirebarley.common.event.IdempotencyRecordedEvent;
+import barley.wire.wirebarley.domain.idempotency.IdempotencyResponse;
+import barley.wire.wirebarley.infrastructure.config.IdempotencyProperties;
+import barley.wire.wirebarley.infrastructure.eventlog.IdempotencyEventCodec;
+import barley.wire.wirebarley.infrastructure.eventlog.SegmentedEventLog;
+import barley.wire.wirebarley.infrastructure.repository.IdempotencyRecordBatchRepository;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.junit.jupiter.api.io.TempDir;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.dao.QueryTimeoutException;
+
+@ExtendWith(MockitoExtension.class)
+class IdempotencyRecordWriterTest {
+
+    private static final String PATH = "/api/v3/global-transfers";
+
+    @Mock
+    private IdempotencyRecordBatchRepository batchRepository;
+
+    @Mock
+    private IdempotencyService idempotencyService;
+
+    @TempDir
+    private Path logDirectory;
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private SegmentedEventLog eventLog;
+    private IdempotencyRecordWriter writer;
+
+    @AfterEach
+    void tearDown() throws Exception {
+        if (writer != null) {
+            writer.stop();
+        }
+        if (eventLog != null) {
+            eventLog.close();
+        }
+    }
+
+    @Test
+    @DisplayName("대기열에 batchSize건이 모이면 한 문장으로 기록한다")
+    void write_FlushesFullBatchAtOnce() {
+        // [given]
+        writer = writer(100, 3, Duration.ofSeconds(5));
+        writer.start();
+
+        // [when]
+        writer.write(event("key-1"));
+        writer.write(event("key-2"));
+        writer.write(event("key-3"));
+
+        // [then]
+        verify(batchRepository, timeout(1000)).upsertCompleted(argThat(batch -> batch.size() == 3));
+        verifyNoInteractions(idempotencyService);
+        assertThat(meterRegistry.counter("wirebarley.idempotency.writer.written").count()).isEqualTo(3);
+    }
+
+    @Test
+    @DisplayName("종료 시 배치가 차지 않았어도 대기열에 남은 건을 모두 기록한다")
+    void stop_FlushesRemainingEvents() {
+        // [given]
+        writer = writer(100, 10, Duration.ofMillis(200));
+        writer.start();
+        writer.write(event("key-1"));
+        writer.write(event("key-2"));
+
+        // [when]
+        writer.stop();
+
+        // [then]
+        verify(batchRepository).upsertCompleted(argThat(batch -> batch.size() == 2));
+        assertThat(writer.isRunning()).isFalse();
+    }
+
+    @Test
+    @DisplayName("대기열이 가득 차면 요청 스레드에서 직접 기록한다")
+    void write_QueueFull_WritesInCallerThread() throws Exception {
+        // [given]
+        writer = writer(1, 1, Duration.ofMillis(10));
+        CountDownLatch flushing = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        doAnswer(invocation -> {
+            flushing.countDown();
+            release.await(1, TimeUnit.SECONDS);
+            return null;
+        }).when(batchRepository).upsertCompleted(anyList());
+        writer.start();
+        writer.write(event("key-1"));
+        assertThat(flushing.await(1, TimeUnit.SECONDS)).isTrue();
+        writer.write(event("key-2"));
+
+        // [when]
+        writer.write(event("key-3"));
+
+        // [then]
+        verify(idempotencyService).saveRecord(eq("key-3"), eq(PATH), eq("hash"), any());
+        assertThat(meterRegistry.counter("wirebarley.idempotency.writer.fallback").count()).isEqualTo(1);
+        release.countDown();
+    }
+
+    @Test
+    @DisplayName("일괄 기록이 실패하면 건별로 다시 기록하고, 건별 기록도 실패한 건은 유실로 집계한다")
+    void flush_BatchFailure_RetriesOneByOne() {
+        // [given]
+        writer = writer(100, 2, Duration.ofSeconds(5));
+        doThrow(new QueryTimeoutException("timeout")).when(batchRepository).upsertCompleted(anyList());
+        doThrow(new IllegalStateException("db down")).when(idempotencyService)
+                .saveRecord(eq("key-2"), anyString(), anyString(), any());
+        writer.start();
+
+        // [when]
+        writer.write(event("key-1"));
+        writer.write(event("key-2"));
+
+        // [then]
+        verify(idempotencyService, timeout(1000)).saveRecord(eq("key-1"), eq(PATH), eq("hash"), any());
+        verify(idempotencyService, timeout(1000)).saveRecord(eq("key-2"), eq(PATH), eq("hash"), any());
+        writer.stop();
+        assertThat(meterRegistry.counter("wirebarley.idempotency.writer.written").count()).isEqualTo(1);
+        assertThat(meterRegistry.counter("wirebarley.idempotency.writer.dropped").count()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("이벤트 로그에 남은 미기록 건은 기동 시 다시 기록하고, 기록한 세그먼트는 정리한다")
+    void start_ReplaysUnacknowledgedEvents() throws Exception {
+        // [given] 이전 실행에서 로그에만 기록되고 DB 기록 전에 종료
+        try (SegmentedEventLog previous = SegmentedEventLog.open(logDirectory, 1024 * 1024)) {
+            previous.append(IdempotencyEventCodec.encode(event("key-1"), System.currentTimeMillis()));
+            previous.append(IdempotencyEventCodec.encode(event("key-2"), System.currentTimeMillis()));
+        }
+        eventLog = SegmentedEventLog.open(logDirectory, 1024 * 1024);
+        writer = writer(100, 10, Duration.ofMillis(10));
+
+        // [when]
+        writer.start();
+
+        // [then]
+        verify(batchRepository).upsertCompleted(argThat(batch -> batch.size() == 2
+                && batch.get(0).idempotencyKey().equals("key-1")));
+        assertThat(eventLog.segmentCount()).isEqualTo(1);
+        assertThat(meterRegistry.counter("wirebarley.idempotency.writer.replayed").count()).isEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("DB 기록에 실패한 건은 이벤트 로그에 남아 다음 기동 시 다시 전달된다")
+    void write_Dropped_RemainsInEventLog() throws Exception {
+        // [given]
+        eventLog = SegmentedEventLog.open(logDirectory, 1024 * 1024);
+        writer = writer(100, 10, Duration.ofMillis(10));
+        doThrow(new IllegalStateException("db down")).when(idempotencyService)
+                .saveRecord(anyString(), anyString(), anyString(), any());
+
+        // [when] 기록기가 멈춘 상태에서는 호출 스레드에서 직접 기록
+        writer.write(event("key-1"));
+        eventLog.close();
+
+        // [then]
+        List<String> replayed = new ArrayList<>();
+        try (SegmentedEventLog reopened = SegmentedEventLog.open(logDirectory, 1024 * 1024)) {
+            reopened.replay((payload, sequence) -> replayed.add(decodeKey(payload)));
+        }
+        eventLog = null;
+        assertThat(replayed).containsExactly("key-1");
+    }
+
+    private IdempotencyRecordWriter writer(int capacity, int batchSize, Duration flushInterval) {
+        IdempotencyProperties properties = new IdempotencyProperties(
+                new IdempotencyProperties.Memory(100, Duration.ofMinutes(1)),
+                new IdempotencyProperties.Reservation(Duration.ofSeconds(2), Duration.ofSeconds(30)),
+                new IdempotencyProperties.Writer(capacity, batchSize, flushInterval, Duration.ofMillis(10)));
+        return new IdempotencyRecordWriter(batchRepository, idempotencyService, properties, Optional.ofNullable(eventLog),
+                meterRegistry);
+    }
+
+    private static String decodeKey(byte[] payload) {
+        try {
+            return IdempotencyEventCodec.decode(payload).event().idempotencyKey();
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    private static IdempotencyRecordedEvent event(String key) {
+        return new IdempotencyRecordedEvent(key, PATH, "hash",
+                new IdempotencyResponse(200, "application/json", null, new byte[] {1, 2, 3}));
+    }
+}
@@ -0,0 +1,171 @@
+package barley.wire.wirebarley.infrastructure.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+import barley.wire.wirebarley.common.util.TimeUtil;
+import barley.wire.wirebarley.domain.idempotency.IdempotencyRecord;
+import barley.wire.wirebarley.domain.idempotency.IdempotencyResponse;
+import barley.wire.wirebarley.infrastructure.config.IdempotencyProperties;
+import barley.wire.wirebarley.infrastructure.repository.IdempotencyRecordRepository;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+@ExtendWith(MockitoExtension.class)
+class IdempotencyServiceTest {
+
+    private static final String KEY = "550e8400-e29b-41d4-a716-446655440000";
+
+    @Mock
+    private IdempotencyRecordRepository idempotencyRecordRepository;
+
+    private IdempotencyService idempotencyService;
+
+    @BeforeEach
+    void setUp() {
+        IdempotencyProperties properties = new IdempotencyProperties(
+                new IdempotencyProperties.Memory(100, Duration.ofMinutes(1)),
+                new IdempotencyProperties.Reservation(Duration.ofSeconds(2), Duration.ofSeconds(30)),
+                new IdempotencyProperties.Writer(100, 10, Duration.ofMillis(50), Duration.ofMillis(10)));
+        idempotencyService = new IdempotencyService(idempotencyRecordRepository, properties);
+    }
+
+    @Test
+    @DisplayName("커밋 직후 메모리에 보관한 레코드는 DB 조회 없이 반환한다")
+    void findByKey_FromMemory() {
+        // [given]
+        idempotencyService.remember(KEY, "/api/v3/global-transfers", "hash", response("{\"ok\":true}"));
+
+        // [when]
+        Optional<IdempotencyRecord> found = idempotencyService.findByKey(KEY);
+
+        // [then]
+        assertThat(found).isPresent();
+        assertThat(found.get().getRequestBodyHash()).isEqualTo("hash");
+        assertThat(found.get().openResponseBody()).hasContent("{\"ok\":true}");
+        verify(idempotencyRecordRepository, never()).findByIdempotencyKey(anyString());
+    }
+
+    @Test
+    @DisplayName("메모리에 없는 키는 DB에서 조회하고, 이후 조회는 메모리에서 응답한다")
+    void findByKey_FallsBackToDatabaseOnce() {
+        // [given]
+        IdempotencyRecord stored = new IdempotencyRecord(KEY, "/api/v3/global-transfers", "hash", response("{}"),
+                TimeUtil.nowDateTime().plusMinutes(10));
+        when(idempotencyRecordRepository.findByIdempotencyKey(KEY)).thenReturn(Optional.of(stored));
+
+        // [when]
+        Optional<IdempotencyRecord> first = idempotencyService.findByKey(KEY);
+        Optional<IdempotencyRecord> second = idempotencyService.findByKey(KEY);
+
+        // [then]
+        assertThat(first).containsSame(stored);
+        assertThat(second).containsSame(stored);
+        verify(idempotencyRecordRepository, times(1)).findByIdempotencyKey(KEY);
+    }
+
+    @Test
+    @DisplayName("만료된 레코드는 반환하지 않고 메모리에도 보관하지 않는다")
+    void findByKey_IgnoresExpired() {
+        // [given]
+        IdempotencyRecord expired = new IdempotencyRecord(KEY, "/api/v3/global-transfers", "hash", response("{}"),
+                TimeUtil.nowDateTime().minusSeconds(1));
+        when(idempotencyRecordRepository.findByIdempotencyKey(KEY)).thenReturn(Optional.of(expired));
+
+        // [when]
+        Optional<IdempotencyRecord> first = idempotencyService.findByKey(KEY);
+        Optional<IdempotencyRecord> second = idempotencyService.findByKey(KEY);
+
+        // [then]
+        assertThat(first).isEmpty();
+        assertThat(second).isEmpty();
+        verify(idempotencyRecordRepository, times(2)).findByIdempotencyKey(KEY);
+    }
+
+    @Test
+    @DisplayName("응답은 gzip으로 압축하여 저장하고, 읽을 때 원래 본문으로 복원한다")
+    void compress_RestoresOriginalBody() {
+        // [given]
+        String json = "{\"memo\":\"" + "a".repeat(1000) + "\"}";
+
+        // [when]
+        IdempotencyResponse response = response(json);
+        IdempotencyRecord record = new IdempotencyRecord(KEY, "/api/v3/global-transfers", "hash", response,
+                TimeUtil.nowDateTime().plusMinutes(10));
+
+        // [then]
+        assertThat(response.payload().length).isLessThan(json.length());
+        assertThat(record.isCompressed()).isTrue();
+        assertThat(record.openResponseBody()).hasContent(json);
+    }
+
+    @Test
+    @DisplayName("같은 서버에서 선점한 키는 DB 조회 없이 선점에 실패하고, 완료 신호를 받으면 대기가 끝난다")
+    void tryReserve_ConcurrentDuplicate_WaitsForCompletion() throws Exception {
+        // [given]
+        when(idempotencyRecordRepository.insertInProgress(eq(KEY), anyString(), anyString(), any(), any()))
+                .thenReturn(1);
+        assertThat(idempotencyService.tryReserve(KEY, "/api/v3/global-transfers", "hash")).isTrue();
+
+        // [when]
+        boolean reservedAgain = idempotencyService.tryReserve(KEY, "/api/v3/global-transfers", "hash");
+        CompletableFuture<Boolean> waiter = CompletableFuture.supplyAsync(() -> idempotencyService.awaitInFlight(KEY));
+        idempotencyService.remember(KEY, "/api/v3/global-transfers", "hash", response("{}"));
+
+        // [then]
+        assertThat(reservedAgain).isFalse();
+        assertThat(waiter.get(1, TimeUnit.SECONDS)).isTrue();
+        assertThat(idempotencyService.findByKey(KEY)).isPresent();
+        verify(idempotencyRecordRepository, times(1)).insertInProgress(eq(KEY), anyString(), anyString(), any(), any());
+    }
+
+    @Test
+    @DisplayName("다른 서버가 선점한 유효한 키는 선점에 실패하고, 대기 없이 결과를 다시 조회할 수 있다")
+    void tryReserve_ReservedElsewhere() {
+        // [given]
+        when(idempotencyRecordRepository.insertInProgress(eq(KEY), anyString(), anyString(), any(), any()))
+                .thenReturn(0);
+        when(idempotencyRecordRepository.reclaimExpired(eq(KEY), anyString(), anyString(), any(), any()))
+                .thenReturn(0);
+
+        // [when]
+        boolean reserved = idempotencyService.tryReserve(KEY, "/api/v3/global-transfers", "hash");
+
+        // [then]
+        assertThat(reserved).isFalse();
+        assertThat(idempotencyService.awaitInFlight(KEY)).isTrue();
+    }
+
+    @Test
+    @DisplayName("선점 해제 시 IN_PROGRESS 행을 삭제하고 같은 키로 다시 선점할 수 있다")
+    void release_AllowsReservationAgain() {
+        // [given]
+        when(idempotencyRecordRepository.insertInProgress(eq(KEY), anyString(), anyString(), any(), any()))
+                .thenReturn(1);
+        idempotencyService.tryReserve(KEY, "/api/v3/global-transfers", "hash");
+
+        // [when]
+        idempotencyService.release(KEY);
+
+        // [then]
+        verify(idempotencyRecordRepository).deleteInProgress(KEY);
+        assertThat(idempotencyService.tryReserve(KEY, "/api/v3/global-transfers", "hash")).isTrue();
+    }
+
+    private IdempotencyResponse response(String body) {
+        return new IdempotencyResponse(200, "application/json", null,
+                idempotencyService.compress(body.getBytes(StandardCharsets.UTF_8)));
+    }
+}
@@ -0,0 +1,148 @@
+package barley.wire.wirebarley.infrastructure.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import barley.wire.wirebarley.IntegrationTestBase;
+import barley.wire.wirebarley.domain.account.Account;
+import barley.wire.wirebarley.domain.account.Currency;
+import barley.wire.wirebarley.domain.transaction.Transaction;
+import barley.wire.wirebarley.domain.transaction.TransactionType;
+import barley.wire.wirebarley.infrastructure.repository.AccountRepository;
+import barley.wire.wirebarley.infrastructure.repository.TransactionRepository;
+import jakarta.persistence.EntityManager;
+import java.math.BigDecimal;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+class MinorUnitStorageIntegrationTest extends IntegrationTestBase {
+
+    @Autowired
+    private AccountRepository accountRepository;
+
+    @Autowired
+    private TransactionRepository transactionRepository;
+
+    @Autowired
+    private MinorUnitBackfillService backfillService;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private EntityManager entityManager;
+
+    @Test
+    @DisplayName("엔티티 변경과 단일 UPDATE 모두 DECIMAL 컬럼과 최소 단위 컬럼에 같은 잔액을 기록한다")
+    void balanceChange_DualWrites() {
+        // [given]
+        Account account = accountRepository.save(new Account("110-100-000001", "owner", Currency.USD));
+        account.deposit(new BigDecimal("12.34"));
+        entityManager.flush();
+
+        // [when]
+        accountRepository.credit(account.getId(), new BigDecimal("0.66"));
+
+        // [then]
+        assertThat(jdbcTemplate.queryForObject("SELECT balance FROM accounts WHERE id = ?", BigDecimal.class,
+                account.getId())).isEqualByComparingTo("13.00");
+        assertThat(jdbcTemplate.queryForObject("SELECT balance_minor FROM accounts WHERE id = ?", Long.class,
+                account.getId())).isEqualTo(1300L);
+    }
+
+    @Test
+    @DisplayName("백필은 최소 단위 금액이 없는 행만 반올림하여 채운다")
+    void backfill_FillsOnlyMissingRows() {
+        // [given]
+        Account legacy = accountRepository.save(new Account("110-100-000002", "legacy", Currency.USD));
+        Account migrated = accountRepository.save(new Account("110-100-000003", "migrated", Currency.KRW));
+        transactionRepository.save(new Transaction(legacy.getId(), TransactionType.DEPOSIT, new BigDecimal("10.125"),
+                BigDecimal.ZERO, new BigDecimal("10.125"), null, Currency.USD));
+        entityManager.flush();
+        jdbcTemplate.update("UPDATE accounts SET balance = 10.125, balance_minor = NULL WHERE id = ?", legacy.getId());
+        jdbcTemplate.update("UPDATE transactions SET amount_minor = NULL, fee_minor = NULL, "
+                + "balance_snapshot_minor = NULL");
+
+        // [when]
+        int accounts = backfillService.backfillAccounts(0, backfillService.getMaxAccountId());
+        int transactions = backfillService.backfillTransactions(0, backfillService.getMaxTransactionId());
+
+        // [then]
+        assertThat(accounts).isEqualTo(1);
+        assertThat(transactions).isEqualTo(1);
+        assertThat(jdbcTemplate.queryForObject("SELECT balance_minor FROM accounts WHERE id = ?", Long.class,
+                legacy.getId())).isEqualTo(1013L);
+        assertThat(jdbcTemplate.queryForObject("SELECT balance_minor FROM accounts WHERE id = ?", Long.class,
+                migrated.getId())).isZero();
+        assertThat(jdbcTemplate.queryForObject("SELECT amount_minor FROM transactions", Long.class)).isEqualTo(1013L);
+    }
+
+    @Test
+    @DisplayName("최소 단위 금액이 있는 행은 해당 값을 잔액으로 읽고, 없는 행은 DECIMAL 컬럼을 읽는다")
+    void load_PrefersMinorUnits() {
+        // [given]
+        Account minor = accountRepository.save(new Account("110-100-000004", "minor", Currency.USD));
+        Account legacy = accountRepository.save(new Account("110-100-000005", "legacy", Currency.USD));
+        entityManager.flush();
+        jdbcTemplate.update("UPDATE accounts SET balance = 10, balance_minor = 2000 WHERE id = ?", minor.getId());
+        jdbcTemplate.update("UPDATE accounts SET balance = 30, balance_minor = NULL WHERE id = ?", legacy.getId());
+        entityManager.clear();
+
+        // [when & then]
+        assertThat(accountRepository.findById(minor.getId()).orElseThrow().getBalance())
+                .isEqualByComparingTo("20.00");
+        assertThat(accountRepository.findById(legacy.getId()).orElseThrow().getBalance())
+                .isEqualByComparingTo("30");
+    }
+
+    @Test
+    @DisplayName("조회만 한 계좌와 거래 내역 행은 최소 단위 금액과 DECIMAL 금액이 달라도 다시 기록하지 않는다")
+    void load_DoesNotRewriteRows() {
+        // [given]
+        Account account = accountRepository.save(new Account("110-100-000006", "legacy", Currency.USD));
+        Transaction transaction = transactionRepository.save(new Transaction(account.getId(), TransactionType.DEPOSIT,
+                new BigDecimal("10.13"), BigDecimal.ZERO, new BigDecimal("10.13"), null, Currency.USD));
+        entityManager.flush();
+        jdbcTemplate.update("UPDATE accounts SET balance = 10.125, balance_minor = 1013 WHERE id = ?",
+                account.getId());
+        jdbcTemplate.update("UPDATE transactions SET amount = 10.125 WHERE id = ?", transaction.getId());
+        entityManager.clear();
+
+        // [when]
+        Account loaded = accountRepository.findById(account.getId()).orElseThrow();
+        Transaction loadedTransaction = transactionRepository.findById(transaction.getId()).orElseThrow();
+        entityManager.flush();
+
+        // [then]
+        assertThat(loaded.getBalance()).isEqualByComparingTo("10.13");
+        assertThat(loadedTransaction.getAmount()).isEqualByComparingTo("10.13");
+        assertThat(jdbcTemplate.queryForObject("SELECT balance FROM accounts WHERE id = ?", BigDecimal.class,
+                account.getId())).isEqualByComparingTo("10.125");
+        assertThat(jdbcTemplate.queryForObject("SELECT amount FROM transactions WHERE id = ?", BigDecimal.class,
+                transaction.getId())).isEqualByComparingTo("10.125");
+    }
+
+    @Test
+    @DisplayName("조건부 출금 UPDATE와 잔액 스냅샷 조회는 엔티티와 같은 최소 단위 잔액을 기준으로 한다")
+    void debitIfSufficient_UsesMinorUnits() {
+        // [given]
+        // DECIMAL 잔액(10)만 보면 잔액 부족이지만 최소 단위 잔액(20.00)으로는 출금 가능
+        Account account = accountRepository.save(new Account("110-100-000007", "minor", Currency.USD));
+        entityManager.flush();
+        jdbcTemplate.update("UPDATE accounts SET balance = 10, balance_minor = 2000 WHERE id = ?", account.getId());
+
+        // [when]
+        int updated = accountRepository.debitIfSufficient(account.getId(), new BigDecimal("15"));
+
+        // [then]
+        assertThat(updated).isEqualTo(1);
+        assertThat(accountRepository.findBalanceById(account.getId()).orElseThrow().balance())
+                .isEqualByComparingTo("5.00");
+        assertThat(jdbcTemplate.queryForObject("SELECT balance_minor FROM accounts WHERE id = ?", Long.class,
+                account.getId())).isEqualTo(500L);
+        assertThat(jdbcTemplate.queryForObject("SELECT balance FROM accounts WHERE id = ?", BigDecimal.class,
+                account.getId())).isEqualByComparingTo("5");
+        assertThat(accountRepository.debitIfSufficient(account.getId(), new BigDecimal("5.01"))).isZero();
+    }
+}
@@ -0,0 +1,113 @@
+package barley.wire.wirebarley.infrastructure.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+import barley.wire.wirebarley.domain.account.Currency;
+import barley.wire.wirebarley.domain.transaction.Transaction;
+import barley.wire.wirebarley.domain.transaction.TransactionOutbox;
+import barley.wire.wirebarley.domain.transaction.TransactionType;
+import barley.wire.wirebarley.infrastructure.repository.TransactionOutboxRepository;
+import barley.wire.wirebarley.infrastructure.repository.TransactionRepository;
+import barley.wire.wirebarley.infrastructure.service.TransactionOutboxService.DrainResult;
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.List;
+import org.assertj.core.groups.Tuple;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.test.util.ReflectionTestUtils;
+
+@ExtendWith(MockitoExtension.class)
+class TransactionOutboxServiceTest {
+
+    @Mock
+    private TransactionOutboxRepository outboxRepository;
+
+    @Mock
+    private TransactionRepository transactionRepository;
+
+    @InjectMocks
+    private TransactionOutboxService outboxService;
+
+    @Test
+    @DisplayName("아웃박스 레코드를 발생 시각 순으로 거래 내역에 저장하고 아웃박스에서 삭제한다")
+    void drain_MovesRecordsInOrder() {
+        // [given]
+        LocalDateTime now = LocalDateTime.of(2026, 1, 1, 12, 0);
+        TransactionOutbox later = createOutbox(2L, TransactionType.TRANSFER_IN, now.plusSeconds(1));
+        TransactionOutbox earlier = createOutbox(1L, TransactionType.TRANSFER_OUT, now);
+        when(outboxRepository.findBatchForUpdate(500)).thenReturn(List.of(later, earlier));
+        when(transactionRepository.findOutboxIdsIn(List.of(2L, 1L))).thenReturn(List.of());
+
+        // [when]
+        DrainResult result = outboxService.drain(500);
+
+        // [then]
+        assertThat(result.drained()).isEqualTo(2);
+        assertThat(result.duplicates()).isZero();
+
+        @SuppressWarnings("unchecked")
+        ArgumentCaptor<List<Transaction>> captor = ArgumentCaptor.forClass(List.class);
+        verify(transactionRepository).saveAll(captor.capture());
+        assertThat(captor.getValue())
+                .extracting(Transaction::getOutboxId, Transaction::getCreatedAt)
+                .containsExactly(
+                        Tuple.tuple(1L, now),
+                        Tuple.tuple(2L, now.plusSeconds(1)));
+        verify(outboxRepository).deleteAllByIdInBatch(List.of(2L, 1L));
+    }
+
+    @Test
+    @DisplayName("이미 거래 내역으로 옮겨진 아웃박스 레코드는 다시 저장하지 않고 삭제만 한다")
+    void drain_SkipsAlreadyDrained() {
+        // [given]
+        LocalDateTime now = LocalDateTime.of(2026, 1, 1, 12, 0);
+        TransactionOutbox drained = createOutbox(1L, TransactionType.DEPOSIT, now);
+        TransactionOutbox pending = createOutbox(2L, TransactionType.WITHDRAW, now.plusSeconds(1));
+        when(outboxRepository.findBatchForUpdate(500)).thenReturn(List.of(drained, pending));
+        when(transactionRepository.findOutboxIdsIn(List.of(1L, 2L))).thenReturn(List.of(1L));
+
+        // [when]
+        DrainResult result = outboxService.drain(500);
+
+        // [then]
+        assertThat(result.drained()).isEqualTo(1);
+        assertThat(result.duplicates()).isEqualTo(1);
+
+        @SuppressWarnings("unchecked")
+        ArgumentCaptor<List<Transaction>> captor = ArgumentCaptor.forClass(List.class);
+        verify(transactionRepository).saveAll(captor.capture());
+        assertThat(captor.getValue()).extracting(Transaction::getOutboxId).containsExactly(2L);
+        verify(outboxRepository).deleteAllByIdInBatch(List.of(1L, 2L));
+    }
+
+    @Test
+    @DisplayName("처리할 아웃박스 레코드가 없으면 아무것도 저장하지 않는다")
+    void drain_Empty() {
+        // [given]
+        when(outboxRepository.findBatchForUpdate(500)).thenReturn(List.of());
+
+        // [when]
+        DrainResult result = outboxService.drain(500);
+
+        // [then]
+        assertThat(result.total()).isZero();
+        verify(transactionRepository, never()).saveAll(any());
+        verify(outboxRepository, never()).deleteAllByIdInBatch(any());
+    }
+
+    private TransactionOutbox createOutbox(Long id, TransactionType type, LocalDateTime createdAt) {
+        TransactionOutbox outbox = new TransactionOutbox(1L, type, BigDecimal.valueOf(10000), BigDecimal.ZERO,
+                BigDecimal.valueOf(50000), null, Currency.KRW);
+        ReflectionTestUtils.setField(outbox, "id", id);
+        ReflectionTestUtils.setField(outbox, "createdAt", createdAt);
+        return outbox;
+    }
+}
@@ -0,0 +1,83 @@
+package barley.wire.wirebarley.infrastructure.thread;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.Mockito.*;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.sql.SQLTransientConnectionException;
+import java.time.Duration;
+import javax.sql.DataSource;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+@ExtendWith(MockitoExtension.class)
+class DatabasePermitDataSourceTest {
+
+    @Mock
+    private DataSource targetDataSource;
+
+    @Mock
+    private Connection connection;
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private DatabasePermitDataSource dataSource;
+
+    @BeforeEach
+    void setUp() {
+        dataSource = new DatabasePermitDataSource(targetDataSource, 1, Duration.ofMillis(50), meterRegistry);
+    }
+
+    @Test
+    @DisplayName("허가를 모두 사용 중이면 대기 시간 후 커넥션 획득에 실패하고, 커넥션을 닫으면 다시 얻을 수 있다")
+    void getConnection_WaitsForPermit() throws Exception {
+        // [given]
+        when(targetDataSource.getConnection()).thenReturn(connection);
+        Connection first = dataSource.getConnection();
+
+        // [when & then]
+        assertThatThrownBy(() -> dataSource.getConnection())
+                .isInstanceOf(SQLTransientConnectionException.class)
+                .hasMessageContaining("DB 동시 작업 한도(1)");
+        assertThat(meterRegistry.counter("wirebarley.db.permits.rejected").count()).isEqualTo(1);
+
+        first.close();
+        assertThat(dataSource.getConnection()).isNotNull();
+        verify(connection).close();
+        verify(targetDataSource, times(2)).getConnection();
+    }
+
+    @Test
+    @DisplayName("같은 커넥션을 여러 번 닫아도 허가는 한 번만 반환한다")
+    void close_ReleasesPermitOnce() throws Exception {
+        // [given]
+        when(targetDataSource.getConnection()).thenReturn(connection);
+        Connection first = dataSource.getConnection();
+
+        // [when]
+        first.close();
+        first.close();
+        Connection second = dataSource.getConnection();
+
+        // [then] 허가가 1개뿐이므로 두 번째 커넥션을 닫기 전에는 더 얻을 수 없음
+        assertThat(second).isNotEqualTo(first);
+        assertThatThrownBy(() -> dataSource.getConnection()).isInstanceOf(SQLTransientConnectionException.class);
+    }
+
+    @Test
+    @DisplayName("커넥션 풀에서 커넥션을 얻지 못하면 허가를 반환한다")
+    void getConnection_TargetFailure_ReleasesPermit() throws Exception {
+        // [given]
+        when(targetDataSource.getConnection()).thenThrow(new SQLException("pool timeout")).thenReturn(connection);
+
+        // [when & then]
+        assertThatThrownBy(() -> dataSource.getConnection()).hasMessage("pool timeout");
+        assertThat(dataSource.getConnection()).isNotNull();
+    }
+}
@@ -0,0 +1,56 @@
+package barley.wire.wirebarley.infrastructure.thread;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.time.Duration;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+class VirtualThreadPinningMonitorTest {
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private final VirtualThreadPinningMonitor monitor =
+            new VirtualThreadPinningMonitor(Duration.ofMillis(5), meterRegistry);
+
+    @AfterEach
+    void tearDown() {
+        monitor.stop();
+    }
+
+    @Test
+    @DisplayName("synchronized 블록 안에서 대기한 가상 스레드의 고정 시간을 기록한다")
+    void start_RecordsPinnedVirtualThread() throws Exception {
+        // [given]
+        monitor.start();
+        Object lock = new Object();
+
+        // [when]
+        Thread.ofVirtual().start(() -> {
+            synchronized (lock) {
+                sleep(50);
+            }
+        }).join();
+
+        // [then] JFR 이벤트는 주기적으로 전달되므로 최대 10초 대기
+        long deadline = System.nanoTime() + Duration.ofSeconds(10).toNanos();
+        while (pinnedCount() == 0 && System.nanoTime() < deadline) {
+            Thread.sleep(100);
+        }
+        assertThat(pinnedCount()).isPositive();
+        assertThat(monitor.isRunning()).isTrue();
+    }
+
+    private long pinnedCount() {
+        return meterRegistry.timer("wirebarley.virtual-threads.pinned").count();
+    }
+
+    private static void sleep(long millis) {
+        try {
+            Thread.sleep(millis);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
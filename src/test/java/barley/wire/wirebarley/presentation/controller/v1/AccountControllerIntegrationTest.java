@@ -9,9 +9,11 @@ import barley.wire.wirebarley.domain.account.Currency;
 import barley.wire.wirebarley.domain.transaction.TransactionType;
 
 import java.math.BigDecimal;
+import java.util.List;
 import java.util.Map;
 
 import barley.wire.wirebarley.presentation.dto.request.AmountRequest;
+import barley.wire.wirebarley.presentation.dto.request.BatchTransferRequest;
 import barley.wire.wirebarley.presentation.dto.request.CreateAccountRequest;
 import barley.wire.wirebarley.presentation.dto.request.GlobalTransferRequest;
 import barley.wire.wirebarley.presentation.dto.request.TransferRequest;
@@ -153,6 +155,37 @@ class AccountControllerIntegrationTest extends IntegrationTestBase {
         assertThat(response.body().code()).isEqualTo("LIMIT_EXCEEDED");
     }
 
+    @Test
+    @DisplayName("일괄 이체 API 테스트 - 건별 결과 및 거래 내역 저장 확인")
+    void transferBatch() throws Exception {
+        AccountResponse account1 = fixture.createAccount("110-123-456789", "kim");
+        fixture.deposit(account1.id(), BigDecimal.valueOf(300000));
+
+        AccountResponse account2 = fixture.createAccount("220-987-654321", "lee");
+        AccountResponse account3 = fixture.createAccount("330-555-555555", "park");
+
+        BatchTransferRequest request = new BatchTransferRequest(List.of(
+                new TransferRequest(account1.id(), account2.id(), BigDecimal.valueOf(100000)),
+                new TransferRequest(account1.id(), account3.id(), BigDecimal.valueOf(100000)),
+                new TransferRequest(account1.id(), account2.id(), BigDecimal.valueOf(100000))));
+
+        ApiResponse<BatchTransferResponse> response = postAction("/api/v1/transfers/batch", request,
+                BatchTransferResponse.class);
+
+        // 잔액 300,000 → 101,000씩 두 건 성공 후 세 번째 건은 잔액 부족
+        assertThat(response.status()).isEqualTo(HttpStatus.OK.value());
+        assertThat(response.body().successCount()).isEqualTo(2);
+        assertThat(response.body().failureCount()).isEqualTo(1);
+        assertThat(response.body().results().get(1).fromBalance()).isEqualByComparingTo(BigDecimal.valueOf(98000));
+        assertThat(response.body().results().get(2).errorCode()).isEqualTo("INSUFFICIENT_BALANCE");
+
+        ApiResponse<TransactionListResponse> history = getAction(
+                "/api/v1/accounts/" + account1.id() + "/transactions", TransactionListResponse.class);
+        assertThat(history.body().items())
+                .filteredOn(item -> item.type() == TransactionType.TRANSFER_OUT)
+                .hasSize(2);
+    }
+
     @Test
     @DisplayName("글로벌 이체 API 테스트")
     void globalTransfer() throws Exception {
@@ -233,6 +266,50 @@ class AccountControllerIntegrationTest extends IntegrationTestBase {
         assertThat(response.body().totalPages()).isEqualTo(2);
     }
 
+    @Test
+    @DisplayName("거래내역 커서 조회 테스트")
+    void getTransactionSlice() throws Exception {
+        AccountResponse accountResponse = fixture.createAccount("110-123-456789", "kim");
+
+        for (int i = 1; i <= 15; i++) {
+            fixture.deposit(accountResponse.id(), BigDecimal.valueOf(1000 * i));
+        }
+
+        String url = "/api/v1/accounts/" + accountResponse.id() + "/transactions/cursor";
+        ApiResponse<TransactionSliceResponse> first = performAction(get(url).param("size", "10"),
+                TransactionSliceResponse.class);
+
+        assertThat(first.status()).isEqualTo(HttpStatus.OK.value());
+        assertThat(first.body().items()).hasSize(10);
+        assertThat(first.body().items().get(0).amount()).isEqualByComparingTo(BigDecimal.valueOf(15000));
+        assertThat(first.body().hasNext()).isTrue();
+
+        ApiResponse<TransactionSliceResponse> second = performAction(
+                get(url).param("size", "10").param("cursor", first.body().nextCursor()),
+                TransactionSliceResponse.class);
+
+        assertThat(second.status()).isEqualTo(HttpStatus.OK.value());
+        assertThat(second.body().items()).extracting(TransactionResponse::amount)
+                .usingElementComparator(BigDecimal::compareTo)
+                .containsExactly(BigDecimal.valueOf(5000), BigDecimal.valueOf(4000), BigDecimal.valueOf(3000),
+                        BigDecimal.valueOf(2000), BigDecimal.valueOf(1000));
+        assertThat(second.body().hasNext()).isFalse();
+        assertThat(second.body().nextCursor()).isNull();
+    }
+
+    @Test
+    @DisplayName("유효하지 않은 커서로 거래내역 조회 시 실패 테스트")
+    void getTransactionSlice_InvalidCursor() throws Exception {
+        AccountResponse accountResponse = fixture.createAccount("110-123-456789", "kim");
+
+        ApiResponse<ErrorResponse> response = performAction(
+                get("/api/v1/accounts/" + accountResponse.id() + "/transactions/cursor").param("cursor", "invalid"),
+                ErrorResponse.class);
+
+        assertThat(response.status()).isEqualTo(HttpStatus.BAD_REQUEST.value());
+        assertThat(response.body().code()).isEqualTo("INVALID_CURSOR");
+    }
+
     @Test
     @DisplayName("잘못된 요청 시 validation 에러 테스트")
     void createAccount_ValidationError() throws Exception {
@@ -0,0 +1,91 @@
+package barley.wire.wirebarley.presentation.controller.v1;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.put;
+
+import barley.wire.wirebarley.IntegrationTestBase;
+import barley.wire.wirebarley.presentation.dto.request.BalanceStripesRequest;
+import barley.wire.wirebarley.presentation.dto.request.TransferRequest;
+import barley.wire.wirebarley.presentation.dto.response.AccountResponse;
+import barley.wire.wirebarley.presentation.dto.response.BalanceResponse;
+import barley.wire.wirebarley.presentation.dto.response.BalanceStripesResponse;
+import barley.wire.wirebarley.presentation.dto.response.ErrorResponse;
+import barley.wire.wirebarley.presentation.dto.response.TransferResponse;
+import java.math.BigDecimal;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.TestPropertySource;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+// 요청마다 별도 트랜잭션으로 실행하여 락 조회와 락 없는 조회의 잔액 표시를 실제와 같게 검증
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+@TestPropertySource(properties = "wirebarley.balance.striping.enabled=true")
+class BalanceStripesIntegrationTest extends IntegrationTestBase {
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Test
+    @DisplayName("하위 잔액 행을 생성하면 이체 입금이 하위 잔액에 쌓이고, 0으로 변경하면 계좌 잔액으로 통합된다")
+    void changeBalanceStripes_StripeAndConsolidate() throws Exception {
+        // [given]
+        AccountResponse from = fixture.createAccount("110-STRIPE-101", "Sender");
+        fixture.deposit(from.id(), BigDecimal.valueOf(1000000));
+        AccountResponse to = fixture.createAccount("220-STRIPE-102", "Merchant");
+
+        // [when] 하위 잔액 행 4개 생성 후 이체 입금
+        ApiResponse<BalanceStripesResponse> striped = changeStripes(to.id(), 4, BalanceStripesResponse.class);
+        ApiResponse<TransferResponse> transfer = postAction("/api/v1/transfers",
+                new TransferRequest(from.id(), to.id(), BigDecimal.valueOf(100000)), TransferResponse.class);
+
+        // [then] 계좌 행 잔액은 그대로이고 조회 잔액은 하위 잔액을 합산
+        assertThat(striped.status()).isEqualTo(HttpStatus.OK.value());
+        assertThat(striped.body().balanceStripes()).isEqualTo(4);
+        assertThat(transfer.status()).isEqualTo(HttpStatus.OK.value());
+        assertThat(countStripes(to.id())).isEqualTo(4);
+        assertThat(jdbcTemplate.queryForObject("SELECT balance FROM accounts WHERE id = ?", BigDecimal.class,
+                to.id())).isEqualByComparingTo(BigDecimal.ZERO);
+        assertThat(getAction("/api/v1/accounts/" + to.id() + "/balance", BalanceResponse.class).body().balance())
+                .isEqualByComparingTo("100000");
+
+        // [when] 일반 계좌로 전환
+        ApiResponse<BalanceStripesResponse> restored = changeStripes(to.id(), 0, BalanceStripesResponse.class);
+
+        // [then] 하위 잔액 행을 삭제하고 합계를 계좌 잔액으로 통합
+        assertThat(restored.body().balanceStripes()).isZero();
+        assertThat(restored.body().balance()).isEqualByComparingTo("100000");
+        assertThat(countStripes(to.id())).isZero();
+        assertThat(getAction("/api/v1/accounts/" + to.id() + "/balance", BalanceResponse.class).body().balance())
+                .isEqualByComparingTo("100000");
+    }
+
+    @Test
+    @DisplayName("하위 잔액 행 개수가 음수이면 400으로 실패한다")
+    void changeBalanceStripes_Negative() throws Exception {
+        // [given]
+        AccountResponse account = fixture.createAccount("220-STRIPE-103", "Merchant");
+
+        // [when]
+        ApiResponse<ErrorResponse> response = changeStripes(account.id(), -1, ErrorResponse.class);
+
+        // [then]
+        assertThat(response.status()).isEqualTo(HttpStatus.BAD_REQUEST.value());
+        assertThat(countStripes(account.id())).isZero();
+    }
+
+    private <T> ApiResponse<T> changeStripes(Long accountId, int stripes, Class<T> responseType) throws Exception {
+        return performAction(put("/api/v1/accounts/" + accountId + "/balance-stripes")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(objectMapper.writeValueAsString(new BalanceStripesRequest(stripes))), responseType);
+    }
+
+    private int countStripes(Long accountId) {
+        return jdbcTemplate.queryForObject("SELECT COUNT(*) FROM account_balance_stripes WHERE account_id = ?",
+                Integer.class, accountId);
+    }
+}
@@ -8,6 +8,7 @@ import barley.wire.wirebarley.domain.account.Currency;
 import barley.wire.wirebarley.domain.transaction.TransactionType;
 import barley.wire.wirebarley.presentation.dto.request.CreateGlobalAccountRequest;
 import barley.wire.wirebarley.presentation.dto.request.GlobalAmountRequest;
+import barley.wire.wirebarley.presentation.dto.request.GlobalTransferQuoteRequest;
 import barley.wire.wirebarley.presentation.dto.request.GlobalTransferRequest;
 import barley.wire.wirebarley.presentation.dto.response.*;
 import barley.wire.wirebarley.infrastructure.repository.ExchangeRateRepository;
@@ -104,6 +105,43 @@ class GlobalAccountControllerIntegrationTest extends IntegrationTestBase {
         assertThat(response.body().toBalance()).isEqualByComparingTo(BigDecimal.valueOf(139300));
     }
 
+    @Test
+    @DisplayName("환율 견적으로 글로벌 송금 시 견적 금액으로 송금되고, 같은 견적은 다시 사용할 수 없다")
+    void globalTransfer_WithQuote() throws Exception {
+        // [given]
+        AccountResponse usdAccount = fixture.createGlobalAccount("220-USD-Q01", "Sender", Currency.USD);
+        postAction("/api/v2/global-accounts/" + usdAccount.id() + "/deposit",
+                new GlobalAmountRequest(BigDecimal.valueOf(1000)), BalanceResponse.class);
+        AccountResponse krwAccount = fixture.createAccount("110-KRW-Q01", "Receiver");
+
+        when(exchangeRateClient.getExchangeRates("USD"))
+                .thenReturn(new ExchangeRateApiResponse("USD", Map.of("KRW", BigDecimal.valueOf(1400))));
+
+        ApiResponse<GlobalTransferQuoteResponse> quote = postAction("/api/v2/global-transfers/quotes",
+                new GlobalTransferQuoteRequest(usdAccount.id(), krwAccount.id(), BigDecimal.valueOf(100)),
+                GlobalTransferQuoteResponse.class);
+        GlobalTransferRequest request = new GlobalTransferRequest(usdAccount.id(), krwAccount.id(),
+                BigDecimal.valueOf(100), quote.body().quoteId());
+
+        // [when]
+        ApiResponse<GlobalTransferResponse> response = postAction("/api/v2/global-transfers", request,
+                GlobalTransferResponse.class);
+        ApiResponse<ErrorResponse> reused = postAction("/api/v2/global-transfers", request, ErrorResponse.class);
+
+        // [then]
+        assertThat(quote.status()).isEqualTo(HttpStatus.CREATED.value());
+        assertThat(quote.body().totalWithdrawAmount()).isEqualByComparingTo(BigDecimal.valueOf(101));
+        assertThat(quote.body().depositAmount()).isEqualByComparingTo(BigDecimal.valueOf(139300));
+
+        assertThat(response.status()).isEqualTo(HttpStatus.OK.value());
+        assertThat(response.body().exchangeRate()).isEqualByComparingTo(BigDecimal.valueOf(1400));
+        assertThat(response.body().convertedAmount()).isEqualByComparingTo(BigDecimal.valueOf(139300));
+        assertThat(response.body().fromBalance()).isEqualByComparingTo(BigDecimal.valueOf(899));
+
+        assertThat(reused.status()).isEqualTo(HttpStatus.CONFLICT.value());
+        assertThat(reused.body().code()).isEqualTo("QUOTE_EXPIRED");
+    }
+
     @Test
     @DisplayName("글로벌 계좌 거래 내역 조회 및 정렬 확인")
     void getTransactions_Global() throws Exception {
@@ -5,14 +5,23 @@ import static org.mockito.Mockito.when;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
 
 import barley.wire.wirebarley.IntegrationTestBase;
+import barley.wire.wirebarley.common.event.IdempotencyRecordedEvent;
 import barley.wire.wirebarley.domain.account.Currency;
+import barley.wire.wirebarley.domain.idempotency.IdempotencyRecord;
+import barley.wire.wirebarley.domain.idempotency.IdempotencyResponse;
+import barley.wire.wirebarley.infrastructure.repository.AccountRepository;
+import barley.wire.wirebarley.infrastructure.repository.IdempotencyRecordBatchRepository;
 import barley.wire.wirebarley.infrastructure.repository.IdempotencyRecordRepository;
+import barley.wire.wirebarley.infrastructure.service.IdempotencyService;
 import barley.wire.wirebarley.presentation.dto.request.GlobalTransferRequest;
+import barley.wire.wirebarley.presentation.dto.request.TransferRequest;
 import barley.wire.wirebarley.presentation.dto.response.AccountResponse;
 import barley.wire.wirebarley.presentation.dto.response.ExchangeRateApiResponse;
 import barley.wire.wirebarley.presentation.dto.response.GlobalTransferResponse;
 
 import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
 import java.util.Map;
 import java.util.UUID;
 
@@ -31,6 +40,15 @@ class IdempotencyIntegrationTest extends IntegrationTestBase {
     @Autowired
     private IdempotencyRecordRepository recordRepository;
 
+    @Autowired
+    private AccountRepository accountRepository;
+
+    @Autowired
+    private IdempotencyRecordBatchRepository batchRepository;
+
+    @Autowired
+    private IdempotencyService idempotencyService;
+
     @Test
     @DisplayName("멱등성 헤더를 포함한 송금 요청이 성공하고, 재요청 시 캐시된 응답을 반환한다")
     void idempotentGlobalTransfer_Success_And_Replay() throws Exception {
@@ -60,7 +78,7 @@ class IdempotencyIntegrationTest extends IntegrationTestBase {
 
         // [then] DB에 기록되었는지 확인 (Async이므로 약간의 대기가 필요할 수 있음)
         // 여기서는 Not_Supported 이므로 실제 DB에 들어감.
-        Thread.sleep(500); // Async 저장을 위한 대기
+        Thread.sleep(500); // 기록기 일괄 저장을 위한 대기
         assertThat(recordRepository.findByIdempotencyKey(idempotencyKey)).isPresent();
 
         // [when] 2차 요청 (동일 키, 동일 바디)
@@ -81,6 +99,65 @@ class IdempotencyIntegrationTest extends IntegrationTestBase {
         assertThat(response2.fromBalance()).isEqualByComparingTo(new BigDecimal("899000"));
     }
 
+    @Test
+    @DisplayName("v1 이체를 같은 멱등성 키로 재시도하면 한 번만 출금하고 같은 응답을 반환한다")
+    void idempotentTransfer_V1Retry_DebitsOnce() throws Exception {
+        // [given]
+        AccountResponse from = fixture.createAccount("110-IDEM-005", "Sender");
+        fixture.deposit(from.id(), BigDecimal.valueOf(1000000));
+        AccountResponse to = fixture.createAccount("220-IDEM-006", "Receiver");
+
+        String body = objectMapper.writeValueAsString(
+                new TransferRequest(from.id(), to.id(), BigDecimal.valueOf(100000)));
+        String idempotencyKey = UUID.randomUUID().toString();
+
+        // [when]
+        MvcResult first = mockMvc.perform(post("/api/v1/transfers")
+                        .header("Idempotency-Key", idempotencyKey)
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(body))
+                .andReturn();
+        MvcResult retry = mockMvc.perform(post("/api/v1/transfers")
+                        .header("Idempotency-Key", idempotencyKey)
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(body))
+                .andReturn();
+
+        // [then] 1,000,000 - (100,000 + 1,000 fee) = 899,000
+        assertThat(first.getResponse().getStatus()).isEqualTo(HttpStatus.OK.value());
+        assertThat(retry.getResponse().getStatus()).isEqualTo(HttpStatus.OK.value());
+        assertThat(retry.getResponse().getHeader("Idempotent-Replayed")).isEqualTo("true");
+        assertThat(retry.getResponse().getContentAsString()).isEqualTo(first.getResponse().getContentAsString());
+        assertThat(accountRepository.findById(from.id()).orElseThrow().getBalance())
+                .isEqualByComparingTo(new BigDecimal("899000"));
+    }
+
+    @Test
+    @DisplayName("일괄 기록은 선점 행의 요청 정보를 유지한 채 완료 처리하고, 선점 행이 없는 키는 새로 저장한다")
+    void batchUpsert_CompletesReservedAndInsertsMissing() {
+        // [given]
+        String reservedKey = UUID.randomUUID().toString();
+        String missingKey = UUID.randomUUID().toString();
+        assertThat(idempotencyService.tryReserve(reservedKey, "/api/v1/transfers", "reserved-hash")).isTrue();
+        IdempotencyResponse response = new IdempotencyResponse(200, MediaType.APPLICATION_JSON_VALUE, null,
+                idempotencyService.compress("{\"ok\":true}".getBytes(StandardCharsets.UTF_8)));
+
+        // [when]
+        batchRepository.upsertCompleted(List.of(
+                new IdempotencyRecordedEvent(reservedKey, "/api/v1/transfers", "reserved-hash", response),
+                new IdempotencyRecordedEvent(missingKey, "/api/v3/global-transfers", "missing-hash", response)));
+
+        // [then]
+        IdempotencyRecord reserved = recordRepository.findByIdempotencyKey(reservedKey).orElseThrow();
+        IdempotencyRecord inserted = recordRepository.findByIdempotencyKey(missingKey).orElseThrow();
+        assertThat(reserved.isCompleted()).isTrue();
+        assertThat(reserved.getRequestBodyHash()).isEqualTo("reserved-hash");
+        assertThat(reserved.openResponseBody()).hasContent("{\"ok\":true}");
+        assertThat(inserted.isCompleted()).isTrue();
+        assertThat(inserted.getRequestPath()).isEqualTo("/api/v3/global-transfers");
+        assertThat(inserted.getResponseStatus()).isEqualTo(200);
+    }
+
     @Test
     @DisplayName("멱등성 키가 동일하지만 바디가 다를 경우 409 Conflict를 반환한다")
     void idempotentGlobalTransfer_HashMismatch_Conflict() throws Exception {